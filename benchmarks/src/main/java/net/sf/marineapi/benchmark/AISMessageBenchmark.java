@@ -0,0 +1,137 @@
+/*
+ * AISMessageBenchmark.java
+ * Copyright (C) 2026 Kimmo Tuukkanen
+ *
+ * This file is part of Java Marine API.
+ * <http://ktuukkan.github.io/marine-api/>
+ *
+ * Java Marine API is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * Java Marine API is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Java Marine API. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sf.marineapi.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import net.sf.marineapi.ais.event.AbstractAISMessageListener;
+import net.sf.marineapi.ais.message.AISMessage;
+import net.sf.marineapi.ais.parser.AISMessageFactory;
+import net.sf.marineapi.nmea.parser.SentenceFactory;
+import net.sf.marineapi.nmea.sentence.AISSentence;
+import net.sf.marineapi.nmea.sentence.Checksum;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * AIS message decoding by message type and reassembly of fragmented
+ * messages.
+ *
+ * @author Kimmo Tuukkanen
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AISMessageBenchmark {
+
+	@Param({ "1", "4", "5", "6", "8", "18", "24" })
+	public int messageType;
+
+	private AISMessageFactory factory;
+	private AISSentence[] sentences;
+	private AbstractAISMessageListener<AISMessage> listener;
+	private Blackhole blackhole;
+
+	@Setup
+	public void setUp(Blackhole bh) {
+		factory = AISMessageFactory.getInstance();
+		SentenceFactory sf = SentenceFactory.getInstance();
+		String[] nmea = example(messageType);
+		sentences = new AISSentence[nmea.length];
+		for (int i = 0; i < nmea.length; i++) {
+			// some of the recorded sentences have stale checksums
+			sentences[i] = (AISSentence) sf.createParser(Checksum.add(nmea[i]));
+		}
+		blackhole = bh;
+		listener = new AbstractAISMessageListener<AISMessage>(AISMessage.class) {
+			@Override
+			public void onMessage(AISMessage msg) {
+				blackhole.consume(msg);
+			}
+		};
+	}
+
+	/**
+	 * Creates the message; fields are decoded lazily when read.
+	 */
+	@Benchmark
+	public AISMessage create() {
+		return factory.create(sentences);
+	}
+
+	/**
+	 * Creates the message and decodes all fields to compact record.
+	 */
+	@Benchmark
+	public AISMessage createAndDecode() {
+		return factory.create(sentences).toRecord();
+	}
+
+	/**
+	 * Dispatches the sentences to listener, including reassembly of
+	 * fragmented messages.
+	 */
+	@Benchmark
+	public void dispatch() {
+		for (AISSentence s : sentences) {
+			listener.sentenceRead(s);
+		}
+	}
+
+	static String[] example(int type) {
+		switch (type) {
+			case 1:
+				return new String[] { "!AIVDM,1,1,,A,13u?etPv2;0n:dDPwUM1U1Cb069D,0*23" };
+			case 4:
+				return new String[] { "!AIVDM,1,1,,A,400TcdiuiT7VDR>3nIfr6>i00000,0*78" };
+			case 5:
+				return new String[] {
+					"!AIVDM,2,1,0,A,58wt8Ui`g??r21`7S=:22058<v05Htp000000015>8OA;0sk,0*7B",
+					"!AIVDM,2,2,0,A,eQ8823mDm3kP00000000000,2*5D" };
+			case 6:
+				return new String[] {
+					"!AIVDM,2,1,9,B,61c2;qLPH1m@wsm6ARhp<ji6ATHd<C8f=Bhk>34k;S8i=3To,0*2C",
+					"!AIVDM,2,2,9,B,Djhi=3Di<2pp=34k>4D,2*03" };
+			case 8:
+				return new String[] { "!AIVDM,1,1,1,B,8>h8nkP0Glr=<hFI0D6??wvlFR06EuOwgwl?wnSwe7wvlOw?sAwwnSGmwvh0,0*17" };
+			case 18:
+				return new String[] { "!AIVDM,1,1,,A,B6CdCm0t3`tba35f@V9faHi7kP06,0*58" };
+			case 24:
+				return new String[] { "!AIVDO,1,1,,B,H1c2;qA@PU>0U>060<h5=>0:1Dp,2*7D" };
+			default:
+				throw new IllegalArgumentException("No example for type " + type);
+		}
+	}
+}
@@ -0,0 +1,98 @@
+/*
+ * CPAEngineBenchmark.java
+ * Copyright (C) 2026 Kimmo Tuukkanen
+ *
+ * This file is part of Java Marine API.
+ * <http://ktuukkan.github.io/marine-api/>
+ *
+ * Java Marine API is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * Java Marine API is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Java Marine API. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sf.marineapi.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import net.sf.marineapi.ais.vessel.CPAEngine;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Incremental CPA/TCPA evaluation of a single target update, by the number
+ * of tracked targets. Targets are placed on a grid of constant density, so
+ * once the grid is wider than the range, the number of pairs evaluated per
+ * update stays about the same and the difference in scores shows the cost of
+ * the spatial lookup.
+ *
+ * @author Kimmo Tuukkanen
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CPAEngineBenchmark {
+
+	// grid spacing in degrees, about 1.1 km of latitude
+	private static final double SPACING = 0.01;
+
+	@Param({ "100", "1000", "10000" })
+	public int targets;
+
+	private CPAEngine engine;
+	private double[] lat;
+	private double[] lon;
+	private double[] cog;
+	private int next;
+	private long time;
+
+	@Setup
+	public void setUp() {
+		engine = new CPAEngine(5000, 1852, 1800);
+		int side = (int) Math.ceil(Math.sqrt(targets));
+		lat = new double[targets];
+		lon = new double[targets];
+		cog = new double[targets];
+		for (int i = 0; i < targets; i++) {
+			lat[i] = 60 + (i / side) * SPACING;
+			lon[i] = 25 + (i % side) * SPACING * 2;
+			cog[i] = (i * 37) % 360;
+			engine.update(i + 1, lat[i], lon[i], 12, cog[i], 0);
+		}
+		next = 0;
+		time = 0;
+	}
+
+	/**
+	 * Updates one target with unchanged position, re-evaluating the pairs it
+	 * forms with its neighbours. Targets are updated in turn.
+	 */
+	@Benchmark
+	public int update() {
+		int i = next;
+		next = (i + 1) % targets;
+		time += 10;
+		engine.update(i + 1, lat[i], lon[i], 12, cog[i], time);
+		return engine.size();
+	}
+}
@@ -0,0 +1,78 @@
+/*
+ * Recordings.java
+ * Copyright (C) 2026 Kimmo Tuukkanen
+ *
+ * This file is part of Java Marine API.
+ * <http://ktuukkan.github.io/marine-api/>
+ *
+ * Java Marine API is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * Java Marine API is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Java Marine API. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sf.marineapi.benchmark;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Loads the recorded NMEA data used by benchmarks. Recordings are read from
+ * the test resources of the main project, or from the directory given in
+ * system property <code>marineapi.data</code>.
+ *
+ * @author Kimmo Tuukkanen
+ */
+final class Recordings {
+
+	static final String DIRECTORY = System.getProperty("marineapi.data",
+		"../src/test/resources/data");
+
+	private Recordings() {
+	}
+
+	/**
+	 * Returns the recording file.
+	 *
+	 * @param name File name
+	 * @return File in recordings directory
+	 */
+	static File file(String name) {
+		return new File(DIRECTORY, name);
+	}
+
+	/**
+	 * Reads the recording as lines.
+	 *
+	 * @param name File name
+	 * @return Lines of file
+	 * @throws IOException If file cannot be read.
+	 */
+	static List<String> lines(String name) throws IOException {
+		List<String> lines = new ArrayList<String>();
+		BufferedReader in = new BufferedReader(new InputStreamReader(
+			new FileInputStream(file(name)), StandardCharsets.US_ASCII));
+		try {
+			String line;
+			while ((line = in.readLine()) != null) {
+				lines.add(line);
+			}
+		} finally {
+			in.close();
+		}
+		return lines;
+	}
+}
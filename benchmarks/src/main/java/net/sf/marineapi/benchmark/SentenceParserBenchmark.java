@@ -0,0 +1,111 @@
+/*
+ * SentenceParserBenchmark.java
+ * Copyright (C) 2026 Kimmo Tuukkanen
+ *
+ * This file is part of Java Marine API.
+ * <http://ktuukkan.github.io/marine-api/>
+ *
+ * Java Marine API is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * Java Marine API is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Java Marine API. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sf.marineapi.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import net.sf.marineapi.nmea.parser.SentenceFactory;
+import net.sf.marineapi.nmea.sentence.Checksum;
+import net.sf.marineapi.nmea.sentence.Sentence;
+import net.sf.marineapi.nmea.sentence.SentenceValidator;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Parsing and validation of single sentences by sentence type.
+ *
+ * @author Kimmo Tuukkanen
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SentenceParserBenchmark {
+
+	@Param({ "GGA", "RMC", "GSV", "GSA", "VTG", "GLL", "HDT", "ZDA", "MWV", "DBT" })
+	public String type;
+
+	private SentenceFactory factory;
+	private String nmea;
+
+	@Setup
+	public void setUp() {
+		factory = SentenceFactory.getInstance();
+		nmea = Checksum.add(example(type));
+	}
+
+	@Benchmark
+	public Sentence createParser() {
+		return factory.createParser(nmea);
+	}
+
+	@Benchmark
+	public boolean isValid() {
+		return SentenceValidator.isValid(nmea);
+	}
+
+	@Benchmark
+	public boolean isSentence() {
+		return SentenceValidator.isSentence(nmea);
+	}
+
+	@Benchmark
+	public String calculateChecksum() {
+		return Checksum.calculate(nmea);
+	}
+
+	static String example(String type) {
+		if ("GGA".equals(type)) {
+			return "$GPGGA,120044.567,6011.552,N,02501.941,E,1,00,2.0,28.0,M,19.6,M,,";
+		} else if ("RMC".equals(type)) {
+			return "$GPRMC,120044.567,A,6011.552,N,02501.941,E,000.0,360.0,160705,006.1,E,A";
+		} else if ("GSV".equals(type)) {
+			return "$GPGSV,3,2,12,15,56,182,51,17,38,163,47,18,63,058,50,21,53,329,47";
+		} else if ("GSA".equals(type)) {
+			return "$GPGSA,A,3,02,,,07,,09,24,26,,,,,1.6,1.6,1.0";
+		} else if ("VTG".equals(type)) {
+			return "$GPVTG,360.0,T,348.7,M,16.89,N,31.28,K,A";
+		} else if ("GLL".equals(type)) {
+			return "$GPGLL,6011.552,N,02501.941,E,120045,A";
+		} else if ("HDT".equals(type)) {
+			return "$HCHDT,90.1,T";
+		} else if ("ZDA".equals(type)) {
+			return "$GPZDA,032915,07,08,2004,00,00";
+		} else if ("MWV".equals(type)) {
+			return "$IIMWV,125.1,T,5.5,M,A";
+		} else if ("DBT".equals(type)) {
+			return "$IIDBT,013.4,f,04.1,M,02.2,F";
+		}
+		throw new IllegalArgumentException("No example for " + type);
+	}
+}
@@ -0,0 +1,109 @@
+/*
+ * SentenceReaderBenchmark.java
+ * Copyright (C) 2026 Kimmo Tuukkanen
+ *
+ * This file is part of Java Marine API.
+ * <http://ktuukkan.github.io/marine-api/>
+ *
+ * Java Marine API is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * Java Marine API is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Java Marine API. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sf.marineapi.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import net.sf.marineapi.nmea.event.SentenceEvent;
+import net.sf.marineapi.nmea.event.SentenceListener;
+import net.sf.marineapi.nmea.io.SentenceReader;
+import net.sf.marineapi.nmea.parser.SentenceFactory;
+import net.sf.marineapi.nmea.sentence.SentenceId;
+import net.sf.marineapi.nmea.sentence.SentenceValidator;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * End-to-end throughput of {@link SentenceReader}, from input stream to
+ * listener, using the recordings of test data. One operation reads the whole
+ * recording, excluding the sentences that have no parser.
+ *
+ * @author Kimmo Tuukkanen
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SentenceReaderBenchmark {
+
+	@Param({ "Garmin-GPS15H.txt", "Navibe-GM720.txt", "AIS-VDM-VDO.txt" })
+	public String recording;
+
+	private byte[] data;
+	private int sentences;
+
+	@Setup
+	public void setUp() throws Exception {
+		SentenceFactory factory = SentenceFactory.getInstance();
+		List<String> lines = Recordings.lines(recording);
+		StringBuilder sb = new StringBuilder();
+		for (String line : lines) {
+			// reader pauses on sentences without parser, leave them out
+			if (SentenceValidator.isValid(line)
+				&& factory.hasParser(SentenceId.parseStr(line))) {
+				sb.append(line).append("\r\n");
+				sentences++;
+			}
+		}
+		data = sb.toString().getBytes(StandardCharsets.US_ASCII);
+	}
+
+	@Benchmark
+	public void read() throws InterruptedException {
+		final CountDownLatch done = new CountDownLatch(sentences);
+		SentenceReader reader = new SentenceReader(new ByteArrayInputStream(data));
+		reader.addSentenceListener(new SentenceListener() {
+			public void readingPaused() {
+			}
+			public void readingStarted() {
+			}
+			public void readingStopped() {
+			}
+			public void sentenceRead(SentenceEvent event) {
+				done.countDown();
+			}
+		});
+		reader.start();
+		try {
+			if (!done.await(1, TimeUnit.MINUTES)) {
+				throw new IllegalStateException("Reader did not complete");
+			}
+		} finally {
+			reader.stop();
+		}
+	}
+}
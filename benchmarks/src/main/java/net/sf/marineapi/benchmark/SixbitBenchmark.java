@@ -0,0 +1,92 @@
+/*
+ * SixbitBenchmark.java
+ * Copyright (C) 2026 Kimmo Tuukkanen
+ *
+ * This file is part of Java Marine API.
+ * <http://ktuukkan.github.io/marine-api/>
+ *
+ * Java Marine API is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * Java Marine API is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Java Marine API. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sf.marineapi.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import net.sf.marineapi.ais.util.BitVector;
+import net.sf.marineapi.ais.util.Sixbit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Field extraction from 6-bit AIS payload.
+ *
+ * @author Kimmo Tuukkanen
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SixbitBenchmark {
+
+	// message 5, static and voyage related data
+	static final String PAYLOAD = "58wt8Ui`g??r21`7S=:22058<v05Htp000000015>8OA;0sk"
+		+ "eQ8823mDm3kP00000000000";
+
+	private Sixbit sixbit;
+	private BitVector vector;
+
+	@Setup
+	public void setUp() {
+		sixbit = new Sixbit(PAYLOAD, 2);
+		vector = sixbit.get(0, sixbit.length() - 1);
+	}
+
+	@Benchmark
+	public Sixbit create() {
+		return new Sixbit(PAYLOAD, 2);
+	}
+
+	@Benchmark
+	public int getInt() {
+		// MMSI
+		return sixbit.getInt(8, 38);
+	}
+
+	@Benchmark
+	public int getSignedInt() {
+		// dimension to bow, as signed for comparison
+		return sixbit.getSignedInt(240, 249);
+	}
+
+	@Benchmark
+	public String getString() {
+		// vessel name
+		return sixbit.getString(112, 232);
+	}
+
+	@Benchmark
+	public int getBitVectorUInt() {
+		return vector.getUInt(8, 38);
+	}
+}
@@ -0,0 +1,275 @@
+/*
+ * AISConflationQueue.java
+ * Copyright (C) 2026 Kimmo Tuukkanen
+ *
+ * This file is part of Java Marine API.
+ * <http://ktuukkan.github.io/marine-api/>
+ *
+ * Java Marine API is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * Java Marine API is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Java Marine API. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sf.marineapi.ais.event;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import net.sf.marineapi.ais.message.AISMessage;
+import net.sf.marineapi.ais.message.AISMessage24;
+
+/**
+ * <p>
+ * Conflating queue of AIS messages for consumers that may fall behind the
+ * feed, e.g. map displays or remote subscribers. Pending messages are kept
+ * per MMSI and category; a new message replaces the pending message of the
+ * same vessel and category, so that only the latest value is delivered and
+ * the memory used is bounded by the number of active vessels regardless of
+ * the input rate.</p>
+ * <p>
+ * Position reports of all kinds (types 1, 2, 3, 9, 18, 19 and 27) form one
+ * category, while base station reports (4), static data (5), aid to
+ * navigation reports (21) and both parts of message 24 are kept separately,
+ * so that frequent position reports never replace static data. A replaced
+ * message keeps its place in the queue; vessels are thus served in order of
+ * their first pending update and a frequently reporting vessel cannot starve
+ * the others.</p>
+ * <p>
+ * Other message types, such as safety related messages, acknowledgements
+ * and binary messages, carry distinct content rather than updates of vessel
+ * state. They are never conflated but queued in order of arrival, up to the
+ * given capacity; when the capacity is reached, the oldest of them is
+ * dropped to make room.</p>
+ * <p>
+ * The queue is fed by the listener returned by {@link #getListener()} or by
+ * calling {@link #offer(AISMessage)}, and drained by one or more consumer
+ * threads. All methods are thread-safe.</p>
+ *
+ * @author Kimmo Tuukkanen
+ */
+public class AISConflationQueue {
+
+	/** Default maximum number of pending messages that are not conflated */
+	public static final int DEFAULT_CAPACITY = 1000;
+
+	// category of position reports
+	private static final int POSITION = 0;
+
+	// category of message 24 part B
+	private static final int STATIC_B = 28;
+
+	// category of messages that are not conflated
+	private static final int NONE = -1;
+
+	private final LinkedHashMap<Long, AISMessage> pending = new LinkedHashMap<Long, AISMessage>();
+	private final AbstractAISMessageListener<AISMessage> listener;
+	private final int capacity;
+	private long offered;
+	private long conflated;
+	private long dropped;
+
+	// keys of messages that are not conflated, counting down from -1; the
+	// pending ones are those from head down to sequence
+	private long sequence;
+	private long head = -1;
+
+	/**
+	 * Creates an empty queue with {@link #DEFAULT_CAPACITY}.
+	 */
+	public AISConflationQueue() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * Creates an empty queue with given capacity for messages that are not
+	 * conflated.
+	 *
+	 * @param capacity Maximum number of pending messages that are not
+	 *            conflated.
+	 * @throws IllegalArgumentException If capacity is less than one.
+	 */
+	public AISConflationQueue(int capacity) {
+		if (capacity < 1) {
+			throw new IllegalArgumentException("Capacity must be positive");
+		}
+		this.capacity = capacity;
+		listener = new AbstractAISMessageListener<AISMessage>(AISMessage.class) {
+			@Override
+			public void onMessage(AISMessage msg) {
+				offer(msg);
+			}
+		};
+	}
+
+	/**
+	 * Returns the listener that offers all received messages to this queue.
+	 * Register it in {@link net.sf.marineapi.nmea.io.SentenceReader} for
+	 * VDM/VDO sentences.
+	 *
+	 * @return Listener feeding the queue
+	 */
+	public AbstractAISMessageListener<AISMessage> getListener() {
+		return listener;
+	}
+
+	/**
+	 * Adds a message, replacing the pending message of same vessel and
+	 * category if any. Messages of types that are not conflated are always
+	 * added, dropping the oldest of them if the capacity is reached.
+	 *
+	 * @param msg Message to add
+	 * @return <code>true</code> if a pending message was replaced, otherwise
+	 *         <code>false</code>.
+	 */
+	public synchronized boolean offer(AISMessage msg) {
+		offered++;
+		final int category = category(msg);
+		final Long key = category == NONE ? Long.valueOf(--sequence)
+			: Long.valueOf(((long) msg.getMMSI() << 8) | category);
+		boolean replaced = pending.put(key, msg) != null;
+		if (head - sequence >= capacity) {
+			pending.remove(Long.valueOf(head--));
+			dropped++;
+		}
+		if (replaced) {
+			conflated++;
+		} else {
+			notifyAll();
+		}
+		return replaced;
+	}
+
+	/**
+	 * Removes the message at the head of queue.
+	 *
+	 * @return Message or <code>null</code> if queue is empty.
+	 */
+	public synchronized AISMessage poll() {
+		Iterator<Map.Entry<Long, AISMessage>> it = pending.entrySet().iterator();
+		if (!it.hasNext()) {
+			return null;
+		}
+		Map.Entry<Long, AISMessage> e = it.next();
+		it.remove();
+		if (e.getKey().longValue() < 0) {
+			head--;
+		}
+		return e.getValue();
+	}
+
+	/**
+	 * Removes the message at the head of queue, waiting for a message if the
+	 * queue is empty.
+	 *
+	 * @param timeout Maximum time to wait
+	 * @param unit Unit of timeout
+	 * @return Message or <code>null</code> if timeout elapsed.
+	 * @throws InterruptedException If interrupted while waiting.
+	 */
+	public synchronized AISMessage poll(long timeout, TimeUnit unit) throws InterruptedException {
+		long deadline = System.nanoTime() + unit.toNanos(timeout);
+		while (pending.isEmpty()) {
+			long left = deadline - System.nanoTime();
+			if (left <= 0) {
+				return null;
+			}
+			TimeUnit.NANOSECONDS.timedWait(this, left);
+		}
+		return poll();
+	}
+
+	/**
+	 * Removes all pending messages and adds them to given list in queue
+	 * order.
+	 *
+	 * @param list List to add to
+	 * @return Number of messages added
+	 */
+	public synchronized int drainTo(List<? super AISMessage> list) {
+		int n = pending.size();
+		list.addAll(pending.values());
+		clear();
+		return n;
+	}
+
+	/**
+	 * Removes all pending messages.
+	 */
+	public synchronized void clear() {
+		pending.clear();
+		head = sequence - 1;
+	}
+
+	/**
+	 * Returns the number of pending messages.
+	 */
+	public synchronized int size() {
+		return pending.size();
+	}
+
+	/**
+	 * Returns the number of messages offered to queue.
+	 */
+	public synchronized long getOfferedCount() {
+		return offered;
+	}
+
+	/**
+	 * Returns the number of pending messages replaced by a newer message,
+	 * i.e. the number of updates not delivered.
+	 */
+	public synchronized long getConflatedCount() {
+		return conflated;
+	}
+
+	/**
+	 * Returns the number of messages that are not conflated and were dropped
+	 * due to full capacity.
+	 */
+	public synchronized long getDroppedCount() {
+		return dropped;
+	}
+
+	/**
+	 * Resets the counters.
+	 */
+	public synchronized void resetStatistics() {
+		offered = 0;
+		conflated = 0;
+		dropped = 0;
+	}
+
+	private static int category(AISMessage msg) {
+		final int type = msg.getMessageType();
+		switch (type) {
+			case 1:
+			case 2:
+			case 3:
+			case 9:
+			case 18:
+			case 19:
+			case 27:
+				return POSITION;
+			case 4:
+			case 5:
+			case 21:
+				return type;
+			case 24:
+				return msg instanceof AISMessage24 && ((AISMessage24) msg).getPartNumber() == 1
+					? STATIC_B : type;
+			default:
+				return NONE;
+		}
+	}
+}
@@ -21,10 +21,15 @@
 package net.sf.marineapi.ais.event;
 
 import net.sf.marineapi.ais.parser.AISMessageFactory;
+import net.sf.marineapi.ais.parser.AISMessageFilter;
+import net.sf.marineapi.ais.parser.AISPlausibilityFilter;
 import net.sf.marineapi.ais.message.AISMessage;
+import net.sf.marineapi.jfr.AISDecodeEvent;
+import net.sf.marineapi.jfr.FlightRecording;
 import net.sf.marineapi.nmea.event.AbstractSentenceListener;
 import net.sf.marineapi.nmea.event.SentenceListener;
 import net.sf.marineapi.nmea.sentence.AISSentence;
+import net.sf.marineapi.nmea.sentence.TagBlock;
 import net.sf.marineapi.util.GenericTypeResolver;
 
 import java.util.LinkedList;
@@ -57,6 +62,9 @@ public abstract class AbstractAISMessageListener<T extends AISMessage>
     protected final Class<?> messageType;
     private final Queue<AISSentence> queue = new LinkedList<>();
     private final AISMessageFactory factory = AISMessageFactory.getInstance();
+    private volatile AISMessageFilter filter;
+    private volatile AISPlausibilityFilter plausibilityFilter;
+    private boolean skip;
 
     /**
      * Default constructor with automatic generic type resolving. Notice that
@@ -99,6 +107,12 @@ public abstract class AbstractAISMessageListener<T extends AISMessage>
 
         if (sentence.isFirstFragment()) {
             queue.clear();
+            AISMessageFilter f = filter;
+            skip = f != null && !f.accept(sentence);
+        }
+
+        if (skip) {
+            return;
         }
 
         queue.add(sentence);
@@ -106,8 +120,13 @@ public abstract class AbstractAISMessageListener<T extends AISMessage>
         if (sentence.isLastFragment()) {
             AISSentence[] sentences = queue.toArray(new AISSentence[queue.size()]);
             try {
+                AISDecodeEvent event = FlightRecording.ENABLED ? AISDecodeEvent.start() : null;
                 AISMessage message = factory.create(sentences);
-                if (messageType.isAssignableFrom(message.getClass())) {
+                if (event != null) {
+                    event.finish(message, sentences.length);
+                }
+                if (messageType.isAssignableFrom(message.getClass())
+                    && isPlausible(message, sentences[0])) {
                     onMessage((T) message);
                 }
             } catch (IllegalArgumentException iae) {
@@ -116,6 +135,55 @@ public abstract class AbstractAISMessageListener<T extends AISMessage>
         }
     }
 
+    /**
+     * Sets the filter for rejecting messages by type or MMSI before they are
+     * reassembled and decoded.
+     *
+     * @param filter Filter to set or <code>null</code> to accept all.
+     */
+    public void setFilter(AISMessageFilter filter) {
+        this.filter = filter;
+    }
+
+    /**
+     * Returns the current pre-decode filter.
+     *
+     * @return Filter or <code>null</code> if not set.
+     */
+    public AISMessageFilter getFilter() {
+        return filter;
+    }
+
+    /**
+     * Sets the filter for rejecting implausible messages after decoding. The
+     * reception time is taken from the tag block of sentence, or the current
+     * time if not available. Filter may be shared by several listeners.
+     *
+     * @param filter Filter to set or <code>null</code> to accept all.
+     */
+    public void setPlausibilityFilter(AISPlausibilityFilter filter) {
+        this.plausibilityFilter = filter;
+    }
+
+    /**
+     * Returns the current plausibility filter.
+     *
+     * @return Filter or <code>null</code> if not set.
+     */
+    public AISPlausibilityFilter getPlausibilityFilter() {
+        return plausibilityFilter;
+    }
+
+    private boolean isPlausible(AISMessage message, AISSentence first) {
+        AISPlausibilityFilter f = plausibilityFilter;
+        if (f == null) {
+            return true;
+        }
+        TagBlock tb = first.getTagBlock();
+        long time = tb != null && tb.hasTime() ? tb.getTime() : System.currentTimeMillis();
+        return f.accept(message, time);
+    }
+
     /**
      * Invoked when AIS message has been received.
      * @param msg AISMessage of type <code>T</code>
@@ -0,0 +1,56 @@
+/*
+ * AISAcknowledgement.java
+ * Copyright (C) 2026 Kimmo Tuukkanen
+ *
+ * This file is part of Java Marine API.
+ * <http://ktuukkan.github.io/marine-api/>
+ *
+ * Java Marine API is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * Java Marine API is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Java Marine API. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sf.marineapi.ais.message;
+
+/**
+ * Common interface for acknowledgement messages, i.e. Binary Acknowledge and
+ * Safety Related Acknowledge. Message may acknowledge one to four addressed
+ * messages.
+ *
+ * @author Kimmo Tuukkanen
+ */
+public interface AISAcknowledgement extends AISMessage {
+
+	/**
+	 * Returns the number of acknowledged messages.
+	 *
+	 * @return Number of acknowledgements 1..4
+	 */
+	int getNumberOfAcknowledgements();
+
+	/**
+	 * Returns the MMSI of acknowledged station.
+	 *
+	 * @param index Acknowledgement index, from 0 to count - 1
+	 * @return MMSI identifier
+	 * @throws IndexOutOfBoundsException If index is out of range.
+	 */
+	int getDestinationMMSI(int index);
+
+	/**
+	 * Returns the sequence number of acknowledged message.
+	 *
+	 * @param index Acknowledgement index, from 0 to count - 1
+	 * @return Sequence number 0..3
+	 * @throws IndexOutOfBoundsException If index is out of range.
+	 */
+	int getSequenceNumber(int index);
+}
@@ -0,0 +1,61 @@
+/*
+ * AISApplicationMessage.java
+ * Copyright (C) 2026 Kimmo Tuukkanen
+ *
+ * This file is part of Java Marine API.
+ * <http://ktuukkan.github.io/marine-api/>
+ *
+ * Java Marine API is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * Java Marine API is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Java Marine API. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sf.marineapi.ais.message;
+
+/**
+ * Common interface for decoded application specific content of binary
+ * messages, identified by Designated Area Code (DAC) and Function Identifier
+ * (FI). Applications without a registered decoder are provided in this raw
+ * form.
+ *
+ * @author Kimmo Tuukkanen
+ * @see AISBinaryMessage#getApplicationMessage()
+ */
+public interface AISApplicationMessage {
+
+	/**
+	 * Returns the Designated Area Code of the application.
+	 *
+	 * @return DAC, or 0 if message is not structured
+	 */
+	int getDAC();
+
+	/**
+	 * Returns the Function Identifier of the application.
+	 *
+	 * @return FI, or 0 if message is not structured
+	 */
+	int getFI();
+
+	/**
+	 * Returns the application data.
+	 *
+	 * @return Data bits packed in bytes, MSB first
+	 */
+	byte[] getData();
+
+	/**
+	 * Returns the length of application data.
+	 *
+	 * @return Number of data bits
+	 */
+	int getDataLength();
+}
@@ -0,0 +1,68 @@
+/*
+ * AISBinaryMessage.java
+ * Copyright (C) 2026 Kimmo Tuukkanen
+ *
+ * This file is part of Java Marine API.
+ * <http://ktuukkan.github.io/marine-api/>
+ *
+ * Java Marine API is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * Java Marine API is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Java Marine API. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sf.marineapi.ais.message;
+
+/**
+ * Common interface for messages carrying application specific binary data,
+ * identified by Designated Area Code (DAC) and Function Identifier (FI).
+ *
+ * @author Kimmo Tuukkanen
+ */
+public interface AISBinaryMessage extends AISMessage {
+
+	/**
+	 * Returns the Designated Area Code of the application.
+	 *
+	 * @return DAC, or 0 if message is not structured
+	 */
+	int getDAC();
+
+	/**
+	 * Returns the Function Identifier of the application.
+	 *
+	 * @return FI, or 0 if message is not structured
+	 */
+	int getFI();
+
+	/**
+	 * Returns the application data.
+	 *
+	 * @return Data bits packed in bytes, MSB first
+	 */
+	byte[] getData();
+
+	/**
+	 * Returns the length of application data.
+	 *
+	 * @return Number of data bits
+	 */
+	int getDataLength();
+
+	/**
+	 * Returns the application data decoded by the decoder registered for the
+	 * DAC and FI of message. If there is no decoder or it fails to decode the
+	 * data, the data is returned in raw form.
+	 *
+	 * @return Application content
+	 * @see net.sf.marineapi.ais.parser.AISMessageFactory#registerDecoder(int, int, net.sf.marineapi.ais.parser.AISApplicationDecoder)
+	 */
+	AISApplicationMessage getApplicationMessage();
+}
@@ -48,4 +48,17 @@ public interface AISMessage {
 	 * @return MMSI identifier
 	 */
 	int getMMSI();
+
+	/**
+	 * Returns a compact immutable copy of the message. The copy holds the
+	 * decoded field values only, without reference to the six-bit payload,
+	 * and is thus suited for retaining messages in memory for long periods.
+	 * Compact form is provided for message types 1 - 5, 9, 11, 18, 19, 21,
+	 * 24 and 27; other types return the message itself.
+	 *
+	 * @return Compact copy of message, or this message.
+	 */
+	default AISMessage toRecord() {
+		return this;
+	}
 }
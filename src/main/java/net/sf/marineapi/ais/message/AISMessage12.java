@@ -0,0 +1,57 @@
+/*
+ * AISMessage12.java
+ * Copyright (C) 2026 Kimmo Tuukkanen
+ *
+ * This file is part of Java Marine API.
+ * <http://ktuukkan.github.io/marine-api/>
+ *
+ * Java Marine API is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * Java Marine API is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Java Marine API. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sf.marineapi.ais.message;
+
+/**
+ * Addressed Safety Related Message.
+ *
+ * @author Kimmo Tuukkanen
+ */
+public interface AISMessage12 extends AISMessage {
+
+	/**
+	 * Returns the sequence number of addressed message.
+	 *
+	 * @return Sequence number 0..3
+	 */
+	int getSequenceNumber();
+
+	/**
+	 * Returns the MMSI of destination station.
+	 *
+	 * @return MMSI identifier
+	 */
+	int getDestinationMMSI();
+
+	/**
+	 * Tells if the message has been retransmitted.
+	 *
+	 * @return true if retransmitted, otherwise false
+	 */
+	boolean getRetransmitFlag();
+
+	/**
+	 * Returns the safety related text.
+	 *
+	 * @return Text, up to 156 characters
+	 */
+	String getText();
+}
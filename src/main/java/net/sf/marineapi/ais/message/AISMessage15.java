@@ -0,0 +1,65 @@
+/*
+ * AISMessage15.java
+ * Copyright (C) 2026 Kimmo Tuukkanen
+ *
+ * This file is part of Java Marine API.
+ * <http://ktuukkan.github.io/marine-api/>
+ *
+ * Java Marine API is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * Java Marine API is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Java Marine API. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sf.marineapi.ais.message;
+
+/**
+ * Interrogation. Requests one or two stations to transmit specific messages.
+ * Message contains one to three requests; the first two are addressed to the
+ * first station and the third one to the second station.
+ *
+ * @author Kimmo Tuukkanen
+ */
+public interface AISMessage15 extends AISMessage {
+
+	/**
+	 * Returns the number of requests in message.
+	 *
+	 * @return Number of requests 1..3
+	 */
+	int getNumberOfRequests();
+
+	/**
+	 * Returns the MMSI of interrogated station.
+	 *
+	 * @param index Request index, from 0 to count - 1
+	 * @return MMSI identifier
+	 * @throws IndexOutOfBoundsException If index is out of range.
+	 */
+	int getInterrogatedMMSI(int index);
+
+	/**
+	 * Returns the requested message type.
+	 *
+	 * @param index Request index, from 0 to count - 1
+	 * @return Message type
+	 * @throws IndexOutOfBoundsException If index is out of range.
+	 */
+	int getRequestedMessageType(int index);
+
+	/**
+	 * Returns the response slot offset.
+	 *
+	 * @param index Request index, from 0 to count - 1
+	 * @return Slot offset
+	 * @throws IndexOutOfBoundsException If index is out of range.
+	 */
+	int getSlotOffset(int index);
+}
@@ -0,0 +1,64 @@
+/*
+ * AISMessage16.java
+ * Copyright (C) 2026 Kimmo Tuukkanen
+ *
+ * This file is part of Java Marine API.
+ * <http://ktuukkan.github.io/marine-api/>
+ *
+ * Java Marine API is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * Java Marine API is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Java Marine API. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sf.marineapi.ais.message;
+
+/**
+ * Assignment Mode Command. Assigns one or two stations to transmit
+ * their reports with specified schedule.
+ *
+ * @author Kimmo Tuukkanen
+ */
+public interface AISMessage16 extends AISMessage {
+
+	/**
+	 * Returns the number of assignments in message.
+	 *
+	 * @return Number of assignments 1..2
+	 */
+	int getNumberOfAssignments();
+
+	/**
+	 * Returns the MMSI of assigned station.
+	 *
+	 * @param index Assignment index, from 0 to count - 1
+	 * @return MMSI identifier
+	 * @throws IndexOutOfBoundsException If index is out of range.
+	 */
+	int getDestinationMMSI(int index);
+
+	/**
+	 * Returns the slot offset of assignment.
+	 *
+	 * @param index Assignment index, from 0 to count - 1
+	 * @return Slot offset
+	 * @throws IndexOutOfBoundsException If index is out of range.
+	 */
+	int getOffset(int index);
+
+	/**
+	 * Returns the slot increment of assignment.
+	 *
+	 * @param index Assignment index, from 0 to count - 1
+	 * @return Increment
+	 * @throws IndexOutOfBoundsException If index is out of range.
+	 */
+	int getIncrement(int index);
+}
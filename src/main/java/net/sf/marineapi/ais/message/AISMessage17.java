@@ -0,0 +1,57 @@
+/*
+ * AISMessage17.java
+ * Copyright (C) 2026 Kimmo Tuukkanen
+ *
+ * This file is part of Java Marine API.
+ * <http://ktuukkan.github.io/marine-api/>
+ *
+ * Java Marine API is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * Java Marine API is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Java Marine API. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sf.marineapi.ais.message;
+
+/**
+ * DGNSS Broadcast Binary Message.
+ *
+ * @author Kimmo Tuukkanen
+ */
+public interface AISMessage17 extends AISMessage {
+
+	/**
+	 * Returns the longitude of the reference station.
+	 *
+	 * @return Longitude in degrees, 181 if not available
+	 */
+	double getLongitudeInDegrees();
+
+	/**
+	 * Returns the latitude of the reference station.
+	 *
+	 * @return Latitude in degrees, 91 if not available
+	 */
+	double getLatitudeInDegrees();
+
+	/**
+	 * Returns the DGNSS correction data.
+	 *
+	 * @return Data bits packed in bytes, MSB first
+	 */
+	byte[] getData();
+
+	/**
+	 * Returns the length of correction data.
+	 *
+	 * @return Number of data bits
+	 */
+	int getDataLength();
+}
@@ -0,0 +1,73 @@
+/*
+ * AISMessage20.java
+ * Copyright (C) 2026 Kimmo Tuukkanen
+ *
+ * This file is part of Java Marine API.
+ * <http://ktuukkan.github.io/marine-api/>
+ *
+ * Java Marine API is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * Java Marine API is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Java Marine API. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sf.marineapi.ais.message;
+
+/**
+ * Data Link Management Message. Reserves one to four slot blocks for
+ * base station use.
+ *
+ * @author Kimmo Tuukkanen
+ */
+public interface AISMessage20 extends AISMessage {
+
+	/**
+	 * Returns the number of reservations in message.
+	 *
+	 * @return Number of reservations 1..4
+	 */
+	int getNumberOfReservations();
+
+	/**
+	 * Returns the reserved slot offset.
+	 *
+	 * @param index Reservation index, from 0 to count - 1
+	 * @return Offset number
+	 * @throws IndexOutOfBoundsException If index is out of range.
+	 */
+	int getOffset(int index);
+
+	/**
+	 * Returns the number of reserved consecutive slots.
+	 *
+	 * @param index Reservation index, from 0 to count - 1
+	 * @return Number of slots 1..15
+	 * @throws IndexOutOfBoundsException If index is out of range.
+	 */
+	int getNumberOfSlots(int index);
+
+	/**
+	 * Returns the reservation timeout.
+	 *
+	 * @param index Reservation index, from 0 to count - 1
+	 * @return Timeout in minutes
+	 * @throws IndexOutOfBoundsException If index is out of range.
+	 */
+	int getTimeout(int index);
+
+	/**
+	 * Returns the reservation increment.
+	 *
+	 * @param index Reservation index, from 0 to count - 1
+	 * @return Increment
+	 * @throws IndexOutOfBoundsException If index is out of range.
+	 */
+	int getIncrement(int index);
+}
@@ -0,0 +1,134 @@
+/*
+ * AISMessage22.java
+ * Copyright (C) 2026 Kimmo Tuukkanen
+ *
+ * This file is part of Java Marine API.
+ * <http://ktuukkan.github.io/marine-api/>
+ *
+ * Java Marine API is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * Java Marine API is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Java Marine API. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sf.marineapi.ais.message;
+
+/**
+ * Channel Management. Message is either addressed to one or two stations,
+ * or broadcast to a geographical area.
+ *
+ * @author Kimmo Tuukkanen
+ */
+public interface AISMessage22 extends AISMessage {
+
+	/**
+	 * Returns the channel number of channel A.
+	 *
+	 * @return Channel number
+	 */
+	int getChannelA();
+
+	/**
+	 * Returns the channel number of channel B.
+	 *
+	 * @return Channel number
+	 */
+	int getChannelB();
+
+	/**
+	 * Returns the transmit/receive mode.
+	 *
+	 * @return Mode 0..3
+	 */
+	int getTxRxMode();
+
+	/**
+	 * Tells if low power is commanded.
+	 *
+	 * @return true for low power, false for high power
+	 */
+	boolean getPowerFlag();
+
+	/**
+	 * Tells if the message is addressed to stations instead of an area.
+	 *
+	 * @return true if addressed, otherwise false
+	 */
+	boolean getAddressedFlag();
+
+	/**
+	 * Returns the longitude of north-east corner of the area.
+	 * Available only when not addressed.
+	 *
+	 * @return Longitude in degrees
+	 */
+	double getNorthEastLongitude();
+
+	/**
+	 * Returns the latitude of north-east corner of the area.
+	 * Available only when not addressed.
+	 *
+	 * @return Latitude in degrees
+	 */
+	double getNorthEastLatitude();
+
+	/**
+	 * Returns the longitude of south-west corner of the area.
+	 * Available only when not addressed.
+	 *
+	 * @return Longitude in degrees
+	 */
+	double getSouthWestLongitude();
+
+	/**
+	 * Returns the latitude of south-west corner of the area.
+	 * Available only when not addressed.
+	 *
+	 * @return Latitude in degrees
+	 */
+	double getSouthWestLatitude();
+
+	/**
+	 * Returns the MMSI of first addressed station. Available only when
+	 * addressed.
+	 *
+	 * @return MMSI identifier
+	 */
+	int getFirstDestinationMMSI();
+
+	/**
+	 * Returns the MMSI of second addressed station. Available only when
+	 * addressed.
+	 *
+	 * @return MMSI identifier
+	 */
+	int getSecondDestinationMMSI();
+
+	/**
+	 * Returns the bandwidth flag of channel A.
+	 *
+	 * @return true for 12.5 kHz, false for default
+	 */
+	boolean getChannelABandwidthFlag();
+
+	/**
+	 * Returns the bandwidth flag of channel B.
+	 *
+	 * @return true for 12.5 kHz, false for default
+	 */
+	boolean getChannelBBandwidthFlag();
+
+	/**
+	 * Returns the size of transitional zone.
+	 *
+	 * @return Zone size in nautical miles
+	 */
+	int getZoneSize();
+}
@@ -0,0 +1,93 @@
+/*
+ * AISMessage23.java
+ * Copyright (C) 2026 Kimmo Tuukkanen
+ *
+ * This file is part of Java Marine API.
+ * <http://ktuukkan.github.io/marine-api/>
+ *
+ * Java Marine API is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * Java Marine API is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Java Marine API. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sf.marineapi.ais.message;
+
+/**
+ * Group Assignment Command. Assigns reporting schedule to stations within
+ * the specified area and station/ship type.
+ *
+ * @author Kimmo Tuukkanen
+ */
+public interface AISMessage23 extends AISMessage {
+
+	/**
+	 * Returns the longitude of north-east corner of the area.
+	 *
+	 * @return Longitude in degrees
+	 */
+	double getNorthEastLongitude();
+
+	/**
+	 * Returns the latitude of north-east corner of the area.
+	 *
+	 * @return Latitude in degrees
+	 */
+	double getNorthEastLatitude();
+
+	/**
+	 * Returns the longitude of south-west corner of the area.
+	 *
+	 * @return Longitude in degrees
+	 */
+	double getSouthWestLongitude();
+
+	/**
+	 * Returns the latitude of south-west corner of the area.
+	 *
+	 * @return Latitude in degrees
+	 */
+	double getSouthWestLatitude();
+
+	/**
+	 * Returns the type of stations to which the command applies.
+	 *
+	 * @return Station type 0..15
+	 */
+	int getStationType();
+
+	/**
+	 * Returns the type of ship and cargo to which the command applies.
+	 *
+	 * @return Ship and cargo type, 0 for all types
+	 */
+	int getTypeOfShipAndCargoType();
+
+	/**
+	 * Returns the transmit/receive mode.
+	 *
+	 * @return Mode 0..3
+	 */
+	int getTxRxMode();
+
+	/**
+	 * Returns the commanded reporting interval.
+	 *
+	 * @return Interval code 0..15
+	 */
+	int getReportingInterval();
+
+	/**
+	 * Returns the quiet time.
+	 *
+	 * @return Quiet time in minutes, 0 for none
+	 */
+	int getQuietTime();
+}
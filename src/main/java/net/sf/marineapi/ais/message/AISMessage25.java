@@ -0,0 +1,50 @@
+/*
+ * AISMessage25.java
+ * Copyright (C) 2026 Kimmo Tuukkanen
+ *
+ * This file is part of Java Marine API.
+ * <http://ktuukkan.github.io/marine-api/>
+ *
+ * Java Marine API is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * Java Marine API is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Java Marine API. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sf.marineapi.ais.message;
+
+/**
+ * Single Slot Binary Message.
+ *
+ * @author Kimmo Tuukkanen
+ */
+public interface AISMessage25 extends AISBinaryMessage {
+
+	/**
+	 * Tells if the message is addressed to a specific station.
+	 *
+	 * @return true if addressed, false if broadcast
+	 */
+	boolean getAddressedFlag();
+
+	/**
+	 * Tells if the data is structured, i.e. contains application identifier.
+	 *
+	 * @return true if structured, otherwise false
+	 */
+	boolean getStructuredFlag();
+
+	/**
+	 * Returns the MMSI of destination station.
+	 *
+	 * @return MMSI identifier, or 0 if message is not addressed
+	 */
+	int getDestinationMMSI();
+}
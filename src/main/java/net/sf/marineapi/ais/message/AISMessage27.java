@@ -0,0 +1,60 @@
+/*
+ * AISMessage27.java
+ * Copyright (C) 2026 Kimmo Tuukkanen
+ *
+ * This file is part of Java Marine API.
+ * <http://ktuukkan.github.io/marine-api/>
+ *
+ * Java Marine API is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * Java Marine API is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Java Marine API. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sf.marineapi.ais.message;
+
+/**
+ * Position Report For Long-Range Applications.
+ *
+ * @author Kimmo Tuukkanen
+ */
+public interface AISMessage27 extends AISPositionInfo {
+
+	/**
+	 * Returns the RAIM flag.
+	 */
+	boolean getRAIMFlag();
+
+	/**
+	 * Returns the navigational status.
+	 */
+	int getNavigationalStatus();
+
+	/**
+	 * Returns the speed over ground.
+	 *
+	 * @return Speed in knots, 63 if not available
+	 */
+	int getSpeedOverGround();
+
+	/**
+	 * Returns the course over ground.
+	 *
+	 * @return Course in degrees, 511 if not available
+	 */
+	int getCourseOverGround();
+
+	/**
+	 * Tells if the position latency is more than five seconds.
+	 *
+	 * @return true if latency exceeds five seconds, otherwise false
+	 */
+	boolean getPositionLatency();
+}
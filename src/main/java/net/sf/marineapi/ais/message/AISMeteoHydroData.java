@@ -0,0 +1,310 @@
+/*
+ * AISMeteoHydroData.java
+ * Copyright (C) 2026 Kimmo Tuukkanen
+ *
+ * This file is part of Java Marine API.
+ * <http://ktuukkan.github.io/marine-api/>
+ *
+ * Java Marine API is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * Java Marine API is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Java Marine API. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sf.marineapi.ais.message;
+
+/**
+ * Meteorological and hydrological data (IMO Circular 289), DAC 1 and FI 31.
+ * Measured values are provided in units of measurement, or
+ * <code>Double.NaN</code> when not available. Coded values are provided as
+ * received, including the value for "not available".
+ *
+ * @author Kimmo Tuukkanen
+ */
+public interface AISMeteoHydroData extends AISApplicationMessage {
+
+	/** Designated Area Code of message */
+	int DAC = 1;
+
+	/** Function Identifier of message */
+	int FI = 31;
+
+	/**
+	 * Returns the longitude of station.
+	 *
+	 * @return Degrees, 181 if not available.
+	 */
+	double getLongitudeInDegrees();
+
+	/**
+	 * Returns the latitude of station.
+	 *
+	 * @return Degrees, 91 if not available.
+	 */
+	double getLatitudeInDegrees();
+
+	/**
+	 * Returns the position accuracy.
+	 *
+	 * @return true if high accuracy, otherwise false
+	 */
+	boolean getPositionAccuracy();
+
+	/**
+	 * Returns the UTC day of observation.
+	 *
+	 * @return Day 1..31, 0 if not available.
+	 */
+	int getUtcDay();
+
+	/**
+	 * Returns the UTC hour of observation.
+	 *
+	 * @return Hour 0..23, 24 if not available.
+	 */
+	int getUtcHour();
+
+	/**
+	 * Returns the UTC minute of observation.
+	 *
+	 * @return Minute 0..59, 60 if not available.
+	 */
+	int getUtcMinute();
+
+	/**
+	 * Returns the average wind speed of last 10 minutes.
+	 *
+	 * @return Knots, 127 if not available.
+	 */
+	int getWindSpeed();
+
+	/**
+	 * Returns the wind gust speed of last 10 minutes.
+	 *
+	 * @return Knots, 127 if not available.
+	 */
+	int getWindGust();
+
+	/**
+	 * Returns the wind direction.
+	 *
+	 * @return Degrees 0..359, 360 if not available.
+	 */
+	int getWindDirection();
+
+	/**
+	 * Returns the wind gust direction.
+	 *
+	 * @return Degrees 0..359, 360 if not available.
+	 */
+	int getWindGustDirection();
+
+	/**
+	 * Returns the dry bulb air temperature.
+	 *
+	 * @return Degrees Celsius
+	 */
+	double getAirTemperature();
+
+	/**
+	 * Returns the relative humidity.
+	 *
+	 * @return Percent, 101 if not available.
+	 */
+	int getRelativeHumidity();
+
+	/**
+	 * Returns the dew point.
+	 *
+	 * @return Degrees Celsius
+	 */
+	double getDewPoint();
+
+	/**
+	 * Returns the air pressure. Values below 800 hPa are reported as 799 and
+	 * values above 1200 hPa as 1201.
+	 *
+	 * @return Hectopascals
+	 */
+	double getAirPressure();
+
+	/**
+	 * Returns the air pressure tendency.
+	 *
+	 * @return 0 steady, 1 decreasing, 2 increasing, 3 not available.
+	 */
+	int getAirPressureTendency();
+
+	/**
+	 * Returns the horizontal visibility.
+	 *
+	 * @return Nautical miles
+	 * @see #isVisibilityGreaterThan()
+	 */
+	double getVisibility();
+
+	/**
+	 * Tells if the visibility exceeds the reported value, i.e. the maximum
+	 * range of sensor.
+	 *
+	 * @return true if visibility is greater, otherwise false.
+	 */
+	boolean isVisibilityGreaterThan();
+
+	/**
+	 * Returns the water level including tide, deviation from local chart
+	 * datum.
+	 *
+	 * @return Meters
+	 */
+	double getWaterLevel();
+
+	/**
+	 * Returns the water level trend.
+	 *
+	 * @return 0 steady, 1 decreasing, 2 increasing, 3 not available.
+	 */
+	int getWaterLevelTrend();
+
+	/**
+	 * Returns the surface current speed.
+	 *
+	 * @return Knots
+	 */
+	double getSurfaceCurrentSpeed();
+
+	/**
+	 * Returns the surface current direction.
+	 *
+	 * @return Degrees 0..359, 360 if not available.
+	 */
+	int getSurfaceCurrentDirection();
+
+	/**
+	 * Returns the speed of current at the level of {@link #getCurrent2Level()}.
+	 *
+	 * @return Knots
+	 */
+	double getCurrent2Speed();
+
+	/**
+	 * Returns the direction of current at the level of
+	 * {@link #getCurrent2Level()}.
+	 *
+	 * @return Degrees 0..359, 360 if not available.
+	 */
+	int getCurrent2Direction();
+
+	/**
+	 * Returns the measuring level of second current.
+	 *
+	 * @return Meters below surface, 31 if not available.
+	 */
+	int getCurrent2Level();
+
+	/**
+	 * Returns the speed of current at the level of {@link #getCurrent3Level()}.
+	 *
+	 * @return Knots
+	 */
+	double getCurrent3Speed();
+
+	/**
+	 * Returns the direction of current at the level of
+	 * {@link #getCurrent3Level()}.
+	 *
+	 * @return Degrees 0..359, 360 if not available.
+	 */
+	int getCurrent3Direction();
+
+	/**
+	 * Returns the measuring level of third current.
+	 *
+	 * @return Meters below surface, 31 if not available.
+	 */
+	int getCurrent3Level();
+
+	/**
+	 * Returns the significant wave height.
+	 *
+	 * @return Meters
+	 */
+	double getWaveHeight();
+
+	/**
+	 * Returns the wave period.
+	 *
+	 * @return Seconds, 63 if not available.
+	 */
+	int getWavePeriod();
+
+	/**
+	 * Returns the wave direction.
+	 *
+	 * @return Degrees 0..359, 360 if not available.
+	 */
+	int getWaveDirection();
+
+	/**
+	 * Returns the swell height.
+	 *
+	 * @return Meters
+	 */
+	double getSwellHeight();
+
+	/**
+	 * Returns the swell period.
+	 *
+	 * @return Seconds, 63 if not available.
+	 */
+	int getSwellPeriod();
+
+	/**
+	 * Returns the swell direction.
+	 *
+	 * @return Degrees 0..359, 360 if not available.
+	 */
+	int getSwellDirection();
+
+	/**
+	 * Returns the sea state.
+	 *
+	 * @return Beaufort scale 0..12, 13 if not available.
+	 */
+	int getSeaState();
+
+	/**
+	 * Returns the water temperature.
+	 *
+	 * @return Degrees Celsius
+	 */
+	double getWaterTemperature();
+
+	/**
+	 * Returns the precipitation type (WMO).
+	 *
+	 * @return Type code 0..6, 7 if not available.
+	 */
+	int getPrecipitationType();
+
+	/**
+	 * Returns the salinity.
+	 *
+	 * @return Parts per thousand
+	 */
+	double getSalinity();
+
+	/**
+	 * Tells if there is ice.
+	 *
+	 * @return 0 no, 1 yes, 3 not available.
+	 */
+	int getIce();
+}
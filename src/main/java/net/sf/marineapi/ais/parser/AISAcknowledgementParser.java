@@ -0,0 +1,75 @@
+/*
+ * AISAcknowledgementParser.java
+ * Copyright (C) 2026 Kimmo Tuukkanen
+ *
+ * This file is part of Java Marine API.
+ * <http://ktuukkan.github.io/marine-api/>
+ *
+ * Java Marine API is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * Java Marine API is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Java Marine API. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sf.marineapi.ais.parser;
+
+import net.sf.marineapi.ais.message.AISAcknowledgement;
+import net.sf.marineapi.ais.util.AISField;
+import net.sf.marineapi.ais.util.AISLayout;
+import net.sf.marineapi.ais.util.Sixbit;
+
+/**
+ * Parser for acknowledgement messages 7 and 13, carrying one to four
+ * acknowledged MMSI and sequence number pairs.
+ *
+ * @author Kimmo Tuukkanen
+ */
+class AISAcknowledgementParser extends AISLayoutParser implements AISAcknowledgement {
+
+	private static final int[] MMSI = {0, 2, 4, 6};
+	private static final int[] SEQUENCE = {1, 3, 5, 7};
+	private static final AISLayout LAYOUT = new AISLayout(70, 168,
+		new AISField("MMSI 1", 40, 30, AISField.Type.UINT),
+		new AISField("Sequence 1", 70, 2, AISField.Type.UINT),
+		new AISField("MMSI 2", 72, 30, AISField.Type.UINT),
+		new AISField("Sequence 2", 102, 2, AISField.Type.UINT),
+		new AISField("MMSI 3", 104, 30, AISField.Type.UINT),
+		new AISField("Sequence 3", 134, 2, AISField.Type.UINT),
+		new AISField("MMSI 4", 136, 30, AISField.Type.UINT),
+		new AISField("Sequence 4", 166, 2, AISField.Type.UINT));
+
+	private final int fCount;
+
+	public AISAcknowledgementParser(Sixbit content) {
+		super(content, LAYOUT);
+		int count = 0;
+		while (count < MMSI.length && isPresent(MMSI[count])) {
+			count++;
+		}
+		fCount = count;
+	}
+
+	public int getNumberOfAcknowledgements() { return fCount; }
+
+	public int getDestinationMMSI(int index) {
+		return getInt(MMSI[checkIndex(index)]);
+	}
+
+	public int getSequenceNumber(int index) {
+		return getInt(SEQUENCE[checkIndex(index)]);
+	}
+
+	private int checkIndex(int index) {
+		if (index < 0 || index >= fCount) {
+			throw new IndexOutOfBoundsException("Acknowledgement index: " + index);
+		}
+		return index;
+	}
+}
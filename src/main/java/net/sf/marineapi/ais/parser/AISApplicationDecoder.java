@@ -0,0 +1,49 @@
+/*
+ * AISApplicationDecoder.java
+ * Copyright (C) 2026 Kimmo Tuukkanen
+ *
+ * This file is part of Java Marine API.
+ * <http://ktuukkan.github.io/marine-api/>
+ *
+ * Java Marine API is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * Java Marine API is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Java Marine API. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sf.marineapi.ais.parser;
+
+import net.sf.marineapi.ais.message.AISApplicationMessage;
+import net.sf.marineapi.ais.util.Sixbit;
+
+/**
+ * Decoder of application specific content of binary messages. Decoders are
+ * registered in {@link AISMessageFactory} for a DAC and FI, and they read the
+ * application data directly from the six-bit content of message.
+ *
+ * @author Kimmo Tuukkanen
+ * @see AISApplicationParser
+ */
+public interface AISApplicationDecoder {
+
+	/**
+	 * Decodes the application data of message.
+	 *
+	 * @param dac Designated Area Code
+	 * @param fi Function Identifier
+	 * @param content Message content
+	 * @param from Offset of first application data bit, following the FI.
+	 * @param to End of application data (exclusive)
+	 * @return Decoded application content
+	 * @throws IllegalArgumentException If data cannot be decoded, e.g. due
+	 *             to wrong length.
+	 */
+	AISApplicationMessage decode(int dac, int fi, Sixbit content, int from, int to);
+}
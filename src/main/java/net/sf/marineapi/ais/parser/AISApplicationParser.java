@@ -0,0 +1,119 @@
+/*
+ * AISApplicationParser.java
+ * Copyright (C) 2026 Kimmo Tuukkanen
+ *
+ * This file is part of Java Marine API.
+ * <http://ktuukkan.github.io/marine-api/>
+ *
+ * Java Marine API is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * Java Marine API is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Java Marine API. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sf.marineapi.ais.parser;
+
+import net.sf.marineapi.ais.message.AISApplicationMessage;
+import net.sf.marineapi.ais.util.Sixbit;
+
+/**
+ * Base class for application content parsers, also used for applications
+ * without a registered decoder. Fields are read on demand from the six-bit
+ * content of message, thus no data is copied when parsing. Offsets of
+ * fields are relative to the beginning of application data.
+ *
+ * @author Kimmo Tuukkanen
+ * @see AISApplicationDecoder
+ */
+public class AISApplicationParser implements AISApplicationMessage {
+
+	private final int dac;
+	private final int fi;
+	private final Sixbit content;
+	private final int from;
+	private final int to;
+
+	/**
+	 * Creates a new parser.
+	 *
+	 * @param dac Designated Area Code
+	 * @param fi Function Identifier
+	 * @param content Message content
+	 * @param from Offset of first application data bit
+	 * @param to End of application data (exclusive)
+	 * @throws IllegalArgumentException If data range is not within message.
+	 */
+	public AISApplicationParser(int dac, int fi, Sixbit content, int from, int to) {
+		if (from < 0 || to < from || to > content.length()) {
+			throw new IllegalArgumentException("Invalid application data range");
+		}
+		this.dac = dac;
+		this.fi = fi;
+		this.content = content;
+		this.from = from;
+		this.to = to;
+	}
+
+	public int getDAC() { return dac; }
+
+	public int getFI() { return fi; }
+
+	public byte[] getData() { return content.getBytes(from, to); }
+
+	public int getDataLength() { return to - from; }
+
+	/**
+	 * Returns unsigned integer field.
+	 *
+	 * @param offset Offset relative to application data
+	 * @param width Number of bits
+	 * @return Unsigned value
+	 */
+	protected final int getInt(int offset, int width) {
+		return content.getInt(from + offset, from + offset + width);
+	}
+
+	/**
+	 * Returns two's complement signed integer field.
+	 *
+	 * @param offset Offset relative to application data
+	 * @param width Number of bits
+	 * @return Signed value
+	 */
+	protected final int getSignedInt(int offset, int width) {
+		return content.getSignedInt(from + offset, from + offset + width);
+	}
+
+	/**
+	 * Returns single bit field.
+	 *
+	 * @param offset Offset relative to application data
+	 * @return true if bit is set, otherwise false
+	 */
+	protected final boolean getBit(int offset) {
+		return content.getBit(from + offset);
+	}
+
+	/**
+	 * Returns 6-bit text field.
+	 *
+	 * @param offset Offset relative to application data
+	 * @param width Number of bits, multiple of six.
+	 * @return Text without trailing '@' signs
+	 */
+	protected final String getString(int offset, int width) {
+		return content.getString(from + offset, from + offset + width);
+	}
+
+	@Override
+	public String toString() {
+		return "DAC: " + dac + ", FI: " + fi + ", " + getDataLength() + " bits";
+	}
+}
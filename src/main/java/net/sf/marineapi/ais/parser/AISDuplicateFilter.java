@@ -0,0 +1,269 @@
+/*
+ * AISDuplicateFilter.java
+ * Copyright (C) 2026 Kimmo Tuukkanen
+ *
+ * This file is part of Java Marine API.
+ * <http://ktuukkan.github.io/marine-api/>
+ *
+ * Java Marine API is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * Java Marine API is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Java Marine API. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sf.marineapi.ais.parser;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+import net.sf.marineapi.ais.message.AISMessage;
+import net.sf.marineapi.nmea.sentence.AISSentence;
+
+/**
+ * <p>
+ * Decoding stage in front of {@link AISMessageFactory} for feeds aggregated
+ * from several receivers. The same message is often received by many base
+ * stations and thus delivered several times within a short period; copies of
+ * an already seen payload are dropped if they arrive within the duplicate
+ * window.</p>
+ * <p>
+ * In addition, decoded static and voyage related messages (types 5, 21 and
+ * 24) are memoized by payload, because they are repeated unchanged every few
+ * minutes. When such payload is received again after the duplicate window,
+ * the previously decoded instance is returned instead of decoding it again.</p>
+ * <p>
+ * Unique and duplicate messages are counted per receiver, which may be used
+ * for comparing the coverage of receivers. All methods are synchronized.</p>
+ *
+ * @author Kimmo Tuukkanen
+ * @see AISMessageFactory
+ */
+public class AISDuplicateFilter {
+
+	/** Default duplicate window in milliseconds */
+	public static final long DEFAULT_WINDOW = 5000;
+
+	/** Default number of memoized messages */
+	public static final int DEFAULT_CACHE_SIZE = 10000;
+
+	private final AISMessageFactory factory = AISMessageFactory.getInstance();
+	private final long window;
+	private final int cacheSize;
+
+	// first reception time by payload, in order of reception
+	private final LinkedHashMap<String, Long> seen = new LinkedHashMap<String, Long>();
+
+	// decoded static messages by payload, in order of access
+	private final LinkedHashMap<String, AISMessage> cache;
+
+	// unique and duplicate counts by receiver
+	private final Map<String, long[]> counts = new HashMap<String, long[]>();
+
+	// returned for unknown receivers, never modified
+	private static final long[] NO_COUNTS = new long[2];
+
+	private long cacheHits;
+
+	/**
+	 * Creates a filter with default window and cache size.
+	 */
+	public AISDuplicateFilter() {
+		this(DEFAULT_WINDOW, DEFAULT_CACHE_SIZE);
+	}
+
+	/**
+	 * Creates a new filter.
+	 *
+	 * @param window Duplicate window in milliseconds
+	 * @param cacheSize Maximum number of memoized messages, zero to disable.
+	 * @throws IllegalArgumentException If window or cache size is negative.
+	 */
+	public AISDuplicateFilter(long window, final int cacheSize) {
+		if (window < 0 || cacheSize < 0) {
+			throw new IllegalArgumentException("Window and cache size cannot be negative");
+		}
+		this.window = window;
+		this.cacheSize = cacheSize;
+		this.cache = new LinkedHashMap<String, AISMessage>(16, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, AISMessage> eldest) {
+				return size() > cacheSize;
+			}
+		};
+	}
+
+	/**
+	 * Decodes the message of given sentences, unless it is a duplicate.
+	 *
+	 * @param receiver Identifier of receiving station, e.g. source of tag
+	 *            block or address of the feed. May be <code>null</code>.
+	 * @param time Time of reception in milliseconds
+	 * @param sentences One or more AIS sentences in correct sequence order.
+	 * @return Decoded message or <code>null</code> if message is a duplicate.
+	 * @throws IllegalArgumentException If message type is not supported or
+	 *             sequence order is incorrect.
+	 * @throws IllegalStateException If message cannot be decoded.
+	 * @see AISMessageFactory#create(AISSentence...)
+	 */
+	public synchronized AISMessage create(String receiver, long time, AISSentence... sentences) {
+
+		final String key = getKey(sentences);
+		final long[] count = createCounts(receiver);
+
+		expire(time);
+		if (seen.containsKey(key)) {
+			count[1]++;
+			return null;
+		}
+		seen.put(key, time);
+		count[0]++;
+
+		AISMessage msg = cache.get(key);
+		if (msg != null) {
+			cacheHits++;
+			return msg;
+		}
+		msg = factory.create(sentences);
+		if (cacheSize > 0 && isStatic(msg.getMessageType())) {
+			cache.put(key, msg);
+		}
+		return msg;
+	}
+
+	/**
+	 * Returns the number of unique messages received from given receiver.
+	 *
+	 * @param receiver Receiver identifier
+	 * @return Number of messages
+	 */
+	public synchronized long getUniqueCount(String receiver) {
+		return getCounts(receiver)[0];
+	}
+
+	/**
+	 * Returns the number of duplicates received from given receiver.
+	 *
+	 * @param receiver Receiver identifier
+	 * @return Number of messages
+	 */
+	public synchronized long getDuplicateCount(String receiver) {
+		return getCounts(receiver)[1];
+	}
+
+	/**
+	 * Returns the ratio of duplicates in messages received from given
+	 * receiver.
+	 *
+	 * @param receiver Receiver identifier
+	 * @return Ratio between 0.0 and 1.0, or 0.0 if nothing received.
+	 */
+	public synchronized double getDuplicateRatio(String receiver) {
+		long[] c = getCounts(receiver);
+		long total = c[0] + c[1];
+		return total == 0 ? 0.0 : (double) c[1] / total;
+	}
+
+	/**
+	 * Returns the identifiers of receivers seen so far.
+	 *
+	 * @return Sorted set of identifiers
+	 */
+	public synchronized Set<String> getReceivers() {
+		return new TreeSet<String>(counts.keySet());
+	}
+
+	/**
+	 * Returns the number of messages returned from cache instead of decoding.
+	 */
+	public synchronized long getCacheHits() {
+		return cacheHits;
+	}
+
+	/**
+	 * Resets the receiver statistics.
+	 */
+	public synchronized void resetStatistics() {
+		counts.clear();
+		cacheHits = 0;
+	}
+
+	/**
+	 * Returns the duplicate window.
+	 *
+	 * @return Milliseconds
+	 */
+	public long getWindow() {
+		return window;
+	}
+
+	/**
+	 * Tells if given message type is memoized.
+	 */
+	private static boolean isStatic(int type) {
+		return type == 5 || type == 21 || type == 24;
+	}
+
+	/**
+	 * Removes payloads that are older than the window.
+	 */
+	private void expire(long time) {
+		Iterator<Long> it = seen.values().iterator();
+		while (it.hasNext() && time - it.next() > window) {
+			it.remove();
+		}
+	}
+
+	/**
+	 * Returns the counts of given receiver, or zeros if not seen.
+	 */
+	private long[] getCounts(String receiver) {
+		long[] c = counts.get(receiver == null ? "" : receiver);
+		return c == null ? NO_COUNTS : c;
+	}
+
+	/**
+	 * Returns the counts of given receiver, adding it if not seen.
+	 */
+	private long[] createCounts(String receiver) {
+		String id = receiver == null ? "" : receiver;
+		long[] c = counts.get(id);
+		if (c == null) {
+			c = new long[2];
+			counts.put(id, c);
+		}
+		return c;
+	}
+
+	/**
+	 * Returns the assembled payload and fill bits of message. The payload of
+	 * single sentence without fill bits is used as such, which covers most
+	 * of position reports without copying. Other keys contain a comma and
+	 * thus never equal to a plain payload.
+	 */
+	private static String getKey(AISSentence... sentences) {
+		if (sentences.length == 1) {
+			final String payload = sentences[0].getPayload();
+			final int fillBits = sentences[0].getFillBits();
+			return fillBits == 0 ? payload : payload + "," + fillBits;
+		}
+		StringBuilder sb = new StringBuilder(64 * sentences.length);
+		for (AISSentence s : sentences) {
+			sb.append(s.getPayload());
+		}
+		sb.append(',').append(sentences[sentences.length - 1].getFillBits());
+		return sb.toString();
+	}
+}
@@ -0,0 +1,185 @@
+/*
+ * AISLayoutParser.java
+ * Copyright (C) 2026 Kimmo Tuukkanen
+ *
+ * This file is part of Java Marine API.
+ * <http://ktuukkan.github.io/marine-api/>
+ *
+ * Java Marine API is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * Java Marine API is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Java Marine API. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sf.marineapi.ais.parser;
+
+import net.sf.marineapi.ais.util.AISField;
+import net.sf.marineapi.ais.util.AISLayout;
+import net.sf.marineapi.ais.util.Sixbit;
+
+/**
+ * Base class for parsers that decode the message according to a declarative
+ * {@link AISLayout} table. Extending parsers only define the layout and the
+ * getters that map layout fields to message interface.
+ *
+ * @author Kimmo Tuukkanen
+ * @see AISLayout
+ * @see AISField
+ */
+abstract class AISLayoutParser extends AISMessageParser {
+
+	private final static String SEPARATOR = "\n\t";
+
+	private final AISLayout layout;
+	private final int[] values;
+	private final String[] texts;
+	private final int length;
+
+	/**
+	 * Creates a new parser and decodes the given content.
+	 *
+	 * @param content Message content
+	 * @param layout Message layout
+	 * @throws IllegalArgumentException If message length does not match the
+	 *             layout.
+	 */
+	protected AISLayoutParser(Sixbit content, AISLayout layout) {
+		super(content);
+		this.layout = layout;
+		this.length = content.length();
+		this.values = new int[layout.size()];
+		layout.decode(content, values);
+
+		String[] t = null;
+		for (int i = 0; i < values.length; i++) {
+			AISField f = layout.getField(i);
+			if (f.getType() == AISField.Type.TEXT) {
+				if (t == null) {
+					t = new String[values.length];
+				}
+				t[i] = content.getString(f.getOffset(), values[i]);
+			}
+		}
+		this.texts = t;
+	}
+
+	/**
+	 * Returns the decoded value of given field.
+	 *
+	 * @param field Field index in layout
+	 * @return Integer value, 0 or 1 for booleans.
+	 */
+	protected final int getInt(int field) {
+		return values[field];
+	}
+
+	/**
+	 * Returns the decoded value of given boolean field.
+	 *
+	 * @param field Field index in layout
+	 * @return Boolean value
+	 */
+	protected final boolean getBoolean(int field) {
+		return values[field] != 0;
+	}
+
+	/**
+	 * Returns the decoded value of given field multiplied by field scale.
+	 *
+	 * @param field Field index in layout
+	 * @return Scaled value
+	 */
+	protected final double getDouble(int field) {
+		return values[field] * layout.getField(field).getScale();
+	}
+
+	/**
+	 * Returns the decoded text of given field.
+	 *
+	 * @param field Field index in layout
+	 * @return Text or <code>null</code> if not a text field.
+	 */
+	protected final String getText(int field) {
+		return texts == null ? null : texts[field];
+	}
+
+	/**
+	 * Returns the content of given binary data field.
+	 *
+	 * @param field Field index in layout
+	 * @return Bytes, MSB first
+	 */
+	protected final byte[] getData(int field) {
+		return getSixbit().getBytes(layout.getField(field).getOffset(), values[field]);
+	}
+
+	/**
+	 * Returns the length of given binary data or text field in bits.
+	 *
+	 * @param field Field index in layout
+	 * @return Number of bits
+	 */
+	protected final int getDataLength(int field) {
+		return Math.max(0, values[field] - layout.getField(field).getOffset());
+	}
+
+	/**
+	 * Tells if the given field is contained in the message. Variable length
+	 * messages may omit fields at the end of the layout.
+	 *
+	 * @param field Field index in layout
+	 * @return true if present, otherwise false
+	 */
+	protected final boolean isPresent(int field) {
+		return layout.getField(field).isPresent(length);
+	}
+
+	/**
+	 * Returns the message length in bits.
+	 */
+	protected final int getLength() {
+		return length;
+	}
+
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < values.length; i++) {
+			AISField f = layout.getField(i);
+			if (!isPresent(i)) {
+				continue;
+			}
+			if (sb.length() > 0) {
+				sb.append(SEPARATOR);
+			} else {
+				sb.append('\t');
+			}
+			sb.append(f.getName()).append(": ");
+			switch (f.getType()) {
+				case BOOLEAN:
+					sb.append(getBoolean(i) ? "yes" : "no");
+					break;
+				case TEXT:
+					sb.append(getText(i));
+					break;
+				case DATA:
+					sb.append(getDataLength(i)).append(" bits");
+					break;
+				default:
+					if (f.getScale() == 1.0) {
+						sb.append(getInt(i));
+					} else {
+						sb.append(getDouble(i));
+					}
+			}
+		}
+		return sb.toString();
+	}
+}
@@ -20,6 +20,7 @@
  */
 package net.sf.marineapi.ais.parser;
 
+import net.sf.marineapi.ais.message.AISMessage;
 import net.sf.marineapi.ais.message.AISMessage01;
 import net.sf.marineapi.ais.util.Sixbit;
 
@@ -56,4 +57,9 @@ class AISMessage01Parser extends AISPositionReportParser implements AISMessage01
 	public AISMessage01Parser(Sixbit content) {
 		super(content);
 	}
+
+	@Override
+	public AISMessage toRecord() {
+		return new AISPositionReportRecord.Message01(this);
+	}
 }
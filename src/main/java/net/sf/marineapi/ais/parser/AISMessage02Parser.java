@@ -20,6 +20,7 @@
  */
 package net.sf.marineapi.ais.parser;
 
+import net.sf.marineapi.ais.message.AISMessage;
 import net.sf.marineapi.ais.message.AISMessage02;
 import net.sf.marineapi.ais.util.Sixbit;
 
@@ -56,4 +57,9 @@ class AISMessage02Parser extends AISPositionReportParser implements AISMessage02
 	public AISMessage02Parser(Sixbit content) {
 		super(content);
 	}
+
+	@Override
+	public AISMessage toRecord() {
+		return new AISPositionReportRecord.Message02(this);
+	}
 }
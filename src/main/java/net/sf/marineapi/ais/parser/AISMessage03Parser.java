@@ -20,6 +20,7 @@
  */
 package net.sf.marineapi.ais.parser;
 
+import net.sf.marineapi.ais.message.AISMessage;
 import net.sf.marineapi.ais.message.AISMessage03;
 import net.sf.marineapi.ais.util.Sixbit;
 
@@ -56,4 +57,9 @@ class AISMessage03Parser extends AISPositionReportParser implements AISMessage03
 	public AISMessage03Parser(Sixbit content) {
 		super(content);
 	}
+
+	@Override
+	public AISMessage toRecord() {
+		return new AISPositionReportRecord.Message03(this);
+	}
 }
@@ -20,6 +20,7 @@
  */
 package net.sf.marineapi.ais.parser;
 
+import net.sf.marineapi.ais.message.AISMessage;
 import net.sf.marineapi.ais.message.AISMessage04;
 import net.sf.marineapi.ais.util.Sixbit;
 
@@ -57,4 +58,9 @@ class AISMessage04Parser extends AISUTCParser implements AISMessage04 {
 	public AISMessage04Parser(Sixbit content) {
 		super(content);
 	}
+
+	@Override
+	public AISMessage toRecord() {
+		return new AISUTCRecord.Message04(this);
+	}
 }
@@ -20,6 +20,7 @@
  */
 package net.sf.marineapi.ais.parser;
 
+import net.sf.marineapi.ais.message.AISMessage;
 import net.sf.marineapi.ais.message.AISMessage05;
 import net.sf.marineapi.ais.util.PositioningDevice;
 import net.sf.marineapi.ais.util.ShipType;
@@ -75,7 +76,7 @@ class AISMessage05Parser extends AISMessageParser implements AISMessage05 {
 	private static final int 	DRAUGHT				= 14;
 	private static final int 	DESTINATION			= 15;
 	private final static int[]	FROM				= {
-		30, 40,  70, 112, 232, 240, 249, 258, 264, 270, 274, 278, 283, 288, 294, 302};
+		38, 40,  70, 112, 232, 240, 249, 258, 264, 270, 274, 278, 283, 288, 294, 302};
 	private final static int[]	TO   				= {
 		40, 70, 112, 232, 240, 249, 258, 264, 270, 274, 278, 283, 288, 294, 302, 422};
 
@@ -102,7 +103,7 @@ class AISMessage05Parser extends AISMessageParser implements AISMessage05 {
 			throw new IllegalArgumentException("Wrong message length");
 		
 		fAISVersion = content.getInt(FROM[AISVERSION], TO[AISVERSION]);
-		fIMONumber = content.getInt(FROM[IMONUMBER],IMONUMBER);
+		fIMONumber = content.getInt(FROM[IMONUMBER], TO[IMONUMBER]);
 		fCallSign = content.getString(FROM[CALLSIGN], TO[CALLSIGN]);
 		fName = content.getString(FROM[NAME], TO[NAME]);
 		fShipAndCargoType = content.getInt(FROM[TYPEOFSHIPANDCARGO], TO[TYPEOFSHIPANDCARGO]);
@@ -170,4 +171,9 @@ class AISMessage05Parser extends AISMessageParser implements AISMessage05 {
 		result += SEPARATOR + "Dest:      " + fDestination;
 		return result;
 	}
+
+	@Override
+	public AISMessage toRecord() {
+		return new AISMessage05Record(this);
+	}
 }
@@ -0,0 +1,101 @@
+/*
+ * AISMessage05Record.java
+ * Copyright (C) 2026 Kimmo Tuukkanen
+ *
+ * This file is part of Java Marine API.
+ * <http://ktuukkan.github.io/marine-api/>
+ *
+ * Java Marine API is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * Java Marine API is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Java Marine API. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sf.marineapi.ais.parser;
+
+import net.sf.marineapi.ais.message.AISMessage05;
+
+/**
+ * Compact immutable static and voyage related data, message type 5.
+ *
+ * @author Kimmo Tuukkanen
+ * @see AISMessage05Parser
+ */
+final class AISMessage05Record extends AISRecord implements AISMessage05 {
+
+	private final byte aisVersion;
+	private final int imoNumber;
+	private final String callSign;
+	private final String name;
+	private final short shipAndCargoType;
+	private final short bow;
+	private final short stern;
+	private final byte port;
+	private final byte starboard;
+	private final byte typeOfEPFD;
+	private final byte etaMonth;
+	private final byte etaDay;
+	private final byte etaHour;
+	private final byte etaMinute;
+	private final short maximumDraught;
+	private final String destination;
+
+	AISMessage05Record(AISMessage05 msg) {
+		super(msg);
+		this.aisVersion = (byte) msg.getAISVersionIndicator();
+		this.imoNumber = msg.getIMONumber();
+		this.callSign = msg.getCallSign();
+		this.name = msg.getName();
+		this.shipAndCargoType = (short) msg.getTypeOfShipAndCargoType();
+		this.bow = (short) msg.getBow();
+		this.stern = (short) msg.getStern();
+		this.port = (byte) msg.getPort();
+		this.starboard = (byte) msg.getStarboard();
+		this.typeOfEPFD = (byte) msg.getTypeOfEPFD();
+		this.etaMonth = (byte) msg.getETAMonth();
+		this.etaDay = (byte) msg.getETADay();
+		this.etaHour = (byte) msg.getETAHour();
+		this.etaMinute = (byte) msg.getETAMinute();
+		this.maximumDraught = (short) msg.getMaximumDraught();
+		this.destination = msg.getDestination();
+	}
+
+	public int getAISVersionIndicator() { return aisVersion; }
+
+	public int getIMONumber() { return imoNumber; }
+
+	public String getCallSign() { return callSign; }
+
+	public String getName() { return name; }
+
+	public int getTypeOfShipAndCargoType() { return shipAndCargoType; }
+
+	public int getBow() { return bow; }
+
+	public int getStern() { return stern; }
+
+	public int getPort() { return port; }
+
+	public int getStarboard() { return starboard; }
+
+	public int getTypeOfEPFD() { return typeOfEPFD; }
+
+	public int getETAMonth() { return etaMonth; }
+
+	public int getETADay() { return etaDay; }
+
+	public int getETAHour() { return etaHour; }
+
+	public int getETAMinute() { return etaMinute; }
+
+	public int getMaximumDraught() { return maximumDraught; }
+
+	public String getDestination() { return destination; }
+}
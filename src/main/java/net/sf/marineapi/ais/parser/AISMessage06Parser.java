@@ -0,0 +1,72 @@
+/*
+ * AISMessage06Parser.java
+ * Copyright (C) 2026 Kimmo Tuukkanen
+ *
+ * This file is part of Java Marine API.
+ * <http://ktuukkan.github.io/marine-api/>
+ *
+ * Java Marine API is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * Java Marine API is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Java Marine API. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sf.marineapi.ais.parser;
+
+import net.sf.marineapi.ais.message.AISApplicationMessage;
+import net.sf.marineapi.ais.message.AISMessage06;
+import net.sf.marineapi.ais.util.AISField;
+import net.sf.marineapi.ais.util.AISLayout;
+import net.sf.marineapi.ais.util.Sixbit;
+
+/**
+ * AIS Message 6 implementation: Binary Addressed Message.
+ *
+ * @author Kimmo Tuukkanen
+ */
+class AISMessage06Parser extends AISLayoutParser implements AISMessage06 {
+
+	private static final int SEQUENCE = 0;
+	private static final int DESTINATION = 1;
+	private static final int RETRANSMIT = 2;
+	private static final int DAC = 3;
+	private static final int FI = 4;
+	private static final int DATA = 5;
+	private static final AISLayout LAYOUT = new AISLayout(88, 1008,
+		new AISField("Sequence", 38, 2, AISField.Type.UINT),
+		new AISField("Destination", 40, 30, AISField.Type.UINT),
+		new AISField("Retransmit", 70, 1, AISField.Type.BOOLEAN),
+		new AISField("DAC", 72, 10, AISField.Type.UINT),
+		new AISField("FI", 82, 6, AISField.Type.UINT),
+		new AISField("Data", 88, AISField.TO_END, AISField.Type.DATA));
+
+	public AISMessage06Parser(Sixbit content) {
+		super(content, LAYOUT);
+	}
+
+	public int getSequenceNumber() { return getInt(SEQUENCE); }
+
+	public int getDestinationMMSI() { return getInt(DESTINATION); }
+
+	public boolean getRetransmitFlag() { return getBoolean(RETRANSMIT); }
+
+	public int getDAC() { return getInt(DAC); }
+
+	public int getFI() { return getInt(FI); }
+
+	public byte[] getData() { return getData(DATA); }
+
+	public int getDataLength() { return getDataLength(DATA); }
+
+	public AISApplicationMessage getApplicationMessage() {
+		return AISMessageFactory.getInstance().decodeApplication(
+			getDAC(), getFI(), getSixbit(), LAYOUT.getField(DATA).getOffset(), getLength());
+	}
+}
@@ -0,0 +1,60 @@
+/*
+ * AISMessage08Parser.java
+ * Copyright (C) 2026 Kimmo Tuukkanen
+ *
+ * This file is part of Java Marine API.
+ * <http://ktuukkan.github.io/marine-api/>
+ *
+ * Java Marine API is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * Java Marine API is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Java Marine API. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sf.marineapi.ais.parser;
+
+import net.sf.marineapi.ais.message.AISApplicationMessage;
+import net.sf.marineapi.ais.message.AISMessage08;
+import net.sf.marineapi.ais.util.AISField;
+import net.sf.marineapi.ais.util.AISLayout;
+import net.sf.marineapi.ais.util.Sixbit;
+
+/**
+ * AIS Message 8 implementation: Binary Broadcast Message.
+ *
+ * @author Kimmo Tuukkanen
+ */
+class AISMessage08Parser extends AISLayoutParser implements AISMessage08 {
+
+	private static final int DAC = 0;
+	private static final int FI = 1;
+	private static final int DATA = 2;
+	private static final AISLayout LAYOUT = new AISLayout(56, 1008,
+		new AISField("DAC", 40, 10, AISField.Type.UINT),
+		new AISField("FI", 50, 6, AISField.Type.UINT),
+		new AISField("Data", 56, AISField.TO_END, AISField.Type.DATA));
+
+	public AISMessage08Parser(Sixbit content) {
+		super(content, LAYOUT);
+	}
+
+	public int getDAC() { return getInt(DAC); }
+
+	public int getFI() { return getInt(FI); }
+
+	public byte[] getData() { return getData(DATA); }
+
+	public int getDataLength() { return getDataLength(DATA); }
+
+	public AISApplicationMessage getApplicationMessage() {
+		return AISMessageFactory.getInstance().decodeApplication(
+			getDAC(), getFI(), getSixbit(), LAYOUT.getField(DATA).getOffset(), getLength());
+	}
+}
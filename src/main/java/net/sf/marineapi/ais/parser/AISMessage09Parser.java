@@ -20,6 +20,7 @@
  */
 package net.sf.marineapi.ais.parser;
 
+import net.sf.marineapi.ais.message.AISMessage;
 import net.sf.marineapi.ais.message.AISMessage09;
 import net.sf.marineapi.ais.util.AISRuleViolation;
 import net.sf.marineapi.ais.util.Angle12;
@@ -180,4 +181,9 @@ class AISMessage09Parser extends AISMessageParser implements AISMessage09 {
         result += SEPARATOR + "RadioStatus:     " + getRadioStatus();
         return result;
     }
+
+    @Override
+    public AISMessage toRecord() {
+        return new AISMessage09Record(this);
+    }
 }
@@ -0,0 +1,81 @@
+/*
+ * AISMessage09Record.java
+ * Copyright (C) 2026 Kimmo Tuukkanen
+ *
+ * This file is part of Java Marine API.
+ * <http://ktuukkan.github.io/marine-api/>
+ *
+ * Java Marine API is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * Java Marine API is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Java Marine API. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sf.marineapi.ais.parser;
+
+import net.sf.marineapi.ais.message.AISMessage09;
+
+/**
+ * Compact immutable SAR aircraft position report, message type 9.
+ *
+ * @author Kimmo Tuukkanen
+ * @see AISMessage09Parser
+ */
+final class AISMessage09Record extends AISRecord implements AISMessage09 {
+
+	private final short altitude;
+	private final short sog;
+	private final boolean positionAccuracy;
+	private final int longitude;
+	private final int latitude;
+	private final short cog;
+	private final byte timeStamp;
+	private final boolean dte;
+	private final boolean assignedMode;
+	private final boolean raim;
+	private final int radioStatus;
+
+	AISMessage09Record(AISMessage09 msg) {
+		super(msg);
+		this.altitude = (short) msg.getAltitude();
+		this.sog = (short) msg.getSpeedOverGround();
+		this.positionAccuracy = msg.getPositionAccuracy();
+		this.longitude = toFixed(msg.getLongitudeInDegrees());
+		this.latitude = toFixed(msg.getLatitudeInDegrees());
+		this.cog = (short) msg.getCourseOverGround();
+		this.timeStamp = (byte) msg.getTimeStamp();
+		this.dte = msg.getDTEFlag();
+		this.assignedMode = msg.getAssignedModeFlag();
+		this.raim = msg.getRAIMFlag();
+		this.radioStatus = msg.getRadioStatus();
+	}
+
+	public int getAltitude() { return altitude; }
+
+	public int getSpeedOverGround() { return sog; }
+
+	public boolean getPositionAccuracy() { return positionAccuracy; }
+
+	public double getLongitudeInDegrees() { return toLongitude(longitude); }
+
+	public double getLatitudeInDegrees() { return toLatitude(latitude); }
+
+	public int getCourseOverGround() { return cog; }
+
+	public int getTimeStamp() { return timeStamp; }
+
+	public boolean getDTEFlag() { return dte; }
+
+	public boolean getAssignedModeFlag() { return assignedMode; }
+
+	public boolean getRAIMFlag() { return raim; }
+
+	public int getRadioStatus() { return radioStatus; }
+}
@@ -0,0 +1,44 @@
+/*
+ * AISMessage10Parser.java
+ * Copyright (C) 2026 Kimmo Tuukkanen
+ *
+ * This file is part of Java Marine API.
+ * <http://ktuukkan.github.io/marine-api/>
+ *
+ * Java Marine API is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * Java Marine API is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Java Marine API. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sf.marineapi.ais.parser;
+
+import net.sf.marineapi.ais.message.AISMessage10;
+import net.sf.marineapi.ais.util.AISField;
+import net.sf.marineapi.ais.util.AISLayout;
+import net.sf.marineapi.ais.util.Sixbit;
+
+/**
+ * AIS Message 10 implementation: UTC/Date Inquiry.
+ *
+ * @author Kimmo Tuukkanen
+ */
+class AISMessage10Parser extends AISLayoutParser implements AISMessage10 {
+
+	private static final int DESTINATION = 0;
+	private static final AISLayout LAYOUT = new AISLayout(70, 72,
+		new AISField("Destination", 40, 30, AISField.Type.UINT));
+
+	public AISMessage10Parser(Sixbit content) {
+		super(content, LAYOUT);
+	}
+
+	public int getDestinationMMSI() { return getInt(DESTINATION); }
+}
@@ -0,0 +1,43 @@
+/*
+ * AISMessage11Parser.java
+ * Copyright (C) 2026 Kimmo Tuukkanen
+ *
+ * This file is part of Java Marine API.
+ * <http://ktuukkan.github.io/marine-api/>
+ *
+ * Java Marine API is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * Java Marine API is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Java Marine API. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sf.marineapi.ais.parser;
+
+import net.sf.marineapi.ais.message.AISMessage;
+import net.sf.marineapi.ais.message.AISMessage11;
+import net.sf.marineapi.ais.util.Sixbit;
+
+/**
+ * AIS Message 11 implementation: UTC/Date Response. Layout is identical to
+ * message 4, Base Station Report.
+ *
+ * @author Kimmo Tuukkanen
+ */
+class AISMessage11Parser extends AISUTCParser implements AISMessage11 {
+
+	public AISMessage11Parser(Sixbit content) {
+		super(content);
+	}
+
+	@Override
+	public AISMessage toRecord() {
+		return new AISUTCRecord.Message11(this);
+	}
+}
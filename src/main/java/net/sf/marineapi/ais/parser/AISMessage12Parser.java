@@ -0,0 +1,56 @@
+/*
+ * AISMessage12Parser.java
+ * Copyright (C) 2026 Kimmo Tuukkanen
+ *
+ * This file is part of Java Marine API.
+ * <http://ktuukkan.github.io/marine-api/>
+ *
+ * Java Marine API is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * Java Marine API is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Java Marine API. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sf.marineapi.ais.parser;
+
+import net.sf.marineapi.ais.message.AISMessage12;
+import net.sf.marineapi.ais.util.AISField;
+import net.sf.marineapi.ais.util.AISLayout;
+import net.sf.marineapi.ais.util.Sixbit;
+
+/**
+ * AIS Message 12 implementation: Addressed Safety Related Message.
+ *
+ * @author Kimmo Tuukkanen
+ */
+class AISMessage12Parser extends AISLayoutParser implements AISMessage12 {
+
+	private static final int SEQUENCE = 0;
+	private static final int DESTINATION = 1;
+	private static final int RETRANSMIT = 2;
+	private static final int TEXT = 3;
+	private static final AISLayout LAYOUT = new AISLayout(72, 1008,
+		new AISField("Sequence", 38, 2, AISField.Type.UINT),
+		new AISField("Destination", 40, 30, AISField.Type.UINT),
+		new AISField("Retransmit", 70, 1, AISField.Type.BOOLEAN),
+		new AISField("Text", 72, AISField.TO_END, AISField.Type.TEXT));
+
+	public AISMessage12Parser(Sixbit content) {
+		super(content, LAYOUT);
+	}
+
+	public int getSequenceNumber() { return getInt(SEQUENCE); }
+
+	public int getDestinationMMSI() { return getInt(DESTINATION); }
+
+	public boolean getRetransmitFlag() { return getBoolean(RETRANSMIT); }
+
+	public String getText() { return getText(TEXT); }
+}
@@ -0,0 +1,79 @@
+/*
+ * AISMessage15Parser.java
+ * Copyright (C) 2026 Kimmo Tuukkanen
+ *
+ * This file is part of Java Marine API.
+ * <http://ktuukkan.github.io/marine-api/>
+ *
+ * Java Marine API is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * Java Marine API is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Java Marine API. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sf.marineapi.ais.parser;
+
+import net.sf.marineapi.ais.message.AISMessage15;
+import net.sf.marineapi.ais.util.AISField;
+import net.sf.marineapi.ais.util.AISLayout;
+import net.sf.marineapi.ais.util.Sixbit;
+
+/**
+ * AIS Message 15 implementation: Interrogation.
+ *
+ * @author Kimmo Tuukkanen
+ */
+class AISMessage15Parser extends AISLayoutParser implements AISMessage15 {
+
+	private static final int[] MMSI = {0, 0, 5};
+	private static final int[] TYPE = {1, 3, 6};
+	private static final int[] OFFSET = {2, 4, 7};
+	private static final AISLayout LAYOUT = new AISLayout(88, 160,
+		new AISField("MMSI 1", 40, 30, AISField.Type.UINT),
+		new AISField("Type 1.1", 70, 6, AISField.Type.UINT),
+		new AISField("Offset 1.1", 76, 12, AISField.Type.UINT),
+		new AISField("Type 1.2", 90, 6, AISField.Type.UINT),
+		new AISField("Offset 1.2", 96, 12, AISField.Type.UINT),
+		new AISField("MMSI 2", 110, 30, AISField.Type.UINT),
+		new AISField("Type 2.1", 140, 6, AISField.Type.UINT),
+		new AISField("Offset 2.1", 146, 12, AISField.Type.UINT));
+
+	private final int fCount;
+
+	public AISMessage15Parser(Sixbit content) {
+		super(content, LAYOUT);
+		int count = 0;
+		while (count < OFFSET.length && isPresent(OFFSET[count])) {
+			count++;
+		}
+		fCount = count;
+	}
+
+	public int getNumberOfRequests() { return fCount; }
+
+	public int getInterrogatedMMSI(int index) {
+		return getInt(MMSI[checkIndex(index)]);
+	}
+
+	public int getRequestedMessageType(int index) {
+		return getInt(TYPE[checkIndex(index)]);
+	}
+
+	public int getSlotOffset(int index) {
+		return getInt(OFFSET[checkIndex(index)]);
+	}
+
+	private int checkIndex(int index) {
+		if (index < 0 || index >= fCount) {
+			throw new IndexOutOfBoundsException("Request index: " + index);
+		}
+		return index;
+	}
+}
@@ -0,0 +1,73 @@
+/*
+ * AISMessage16Parser.java
+ * Copyright (C) 2026 Kimmo Tuukkanen
+ *
+ * This file is part of Java Marine API.
+ * <http://ktuukkan.github.io/marine-api/>
+ *
+ * Java Marine API is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * Java Marine API is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Java Marine API. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sf.marineapi.ais.parser;
+
+import net.sf.marineapi.ais.message.AISMessage16;
+import net.sf.marineapi.ais.util.AISField;
+import net.sf.marineapi.ais.util.AISLayout;
+import net.sf.marineapi.ais.util.Sixbit;
+
+/**
+ * AIS Message 16 implementation: Assignment Mode Command.
+ *
+ * @author Kimmo Tuukkanen
+ */
+class AISMessage16Parser extends AISLayoutParser implements AISMessage16 {
+
+	private static final int[] MMSI = {0, 3};
+	private static final int[] OFFSET = {1, 4};
+	private static final int[] INCREMENT = {2, 5};
+	private static final AISLayout LAYOUT = new AISLayout(92, 144,
+		new AISField("MMSI 1", 40, 30, AISField.Type.UINT),
+		new AISField("Offset 1", 70, 12, AISField.Type.UINT),
+		new AISField("Increment 1", 82, 10, AISField.Type.UINT),
+		new AISField("MMSI 2", 92, 30, AISField.Type.UINT),
+		new AISField("Offset 2", 122, 12, AISField.Type.UINT),
+		new AISField("Increment 2", 134, 10, AISField.Type.UINT));
+
+	private final int fCount;
+
+	public AISMessage16Parser(Sixbit content) {
+		super(content, LAYOUT);
+		fCount = isPresent(INCREMENT[1]) ? 2 : 1;
+	}
+
+	public int getNumberOfAssignments() { return fCount; }
+
+	public int getDestinationMMSI(int index) {
+		return getInt(MMSI[checkIndex(index)]);
+	}
+
+	public int getOffset(int index) {
+		return getInt(OFFSET[checkIndex(index)]);
+	}
+
+	public int getIncrement(int index) {
+		return getInt(INCREMENT[checkIndex(index)]);
+	}
+
+	private int checkIndex(int index) {
+		if (index < 0 || index >= fCount) {
+			throw new IndexOutOfBoundsException("Assignment index: " + index);
+		}
+		return index;
+	}
+}
@@ -0,0 +1,54 @@
+/*
+ * AISMessage17Parser.java
+ * Copyright (C) 2026 Kimmo Tuukkanen
+ *
+ * This file is part of Java Marine API.
+ * <http://ktuukkan.github.io/marine-api/>
+ *
+ * Java Marine API is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * Java Marine API is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Java Marine API. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sf.marineapi.ais.parser;
+
+import net.sf.marineapi.ais.message.AISMessage17;
+import net.sf.marineapi.ais.util.AISField;
+import net.sf.marineapi.ais.util.AISLayout;
+import net.sf.marineapi.ais.util.Sixbit;
+
+/**
+ * AIS Message 17 implementation: DGNSS Broadcast Binary Message.
+ *
+ * @author Kimmo Tuukkanen
+ */
+class AISMessage17Parser extends AISLayoutParser implements AISMessage17 {
+
+	private static final int LONGITUDE = 0;
+	private static final int LATITUDE = 1;
+	private static final int DATA = 2;
+	private static final AISLayout LAYOUT = new AISLayout(80, 816,
+		new AISField("Longitude", 40, 18, AISField.Type.INT, 1 / 600.0),
+		new AISField("Latitude", 58, 17, AISField.Type.INT, 1 / 600.0),
+		new AISField("Data", 80, AISField.TO_END, AISField.Type.DATA));
+
+	public AISMessage17Parser(Sixbit content) {
+		super(content, LAYOUT);
+	}
+
+	public double getLongitudeInDegrees() { return getDouble(LONGITUDE); }
+
+	public double getLatitudeInDegrees() { return getDouble(LATITUDE); }
+
+	public byte[] getData() { return getData(DATA); }
+
+	public int getDataLength() { return getDataLength(DATA); }
+}
@@ -20,6 +20,7 @@
  */
 package net.sf.marineapi.ais.parser;
 
+import net.sf.marineapi.ais.message.AISMessage;
 import net.sf.marineapi.ais.message.AISMessage18;
 import net.sf.marineapi.ais.util.Sixbit;
 
@@ -32,4 +33,9 @@ class AISMessage18Parser extends AISPositionReportBParser implements AISMessage1
 	public AISMessage18Parser(Sixbit content) {
 		super(content);
 	}
+
+	@Override
+	public AISMessage toRecord() {
+		return new AISPositionReportBRecord.Message18(this);
+	}
 }
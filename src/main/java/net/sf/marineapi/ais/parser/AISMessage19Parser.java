@@ -20,6 +20,7 @@
  */
 package net.sf.marineapi.ais.parser;
 
+import net.sf.marineapi.ais.message.AISMessage;
 import net.sf.marineapi.ais.message.AISMessage19;
 import net.sf.marineapi.ais.util.PositioningDevice;
 import net.sf.marineapi.ais.util.ShipType;
@@ -110,4 +111,9 @@ class AISMessage19Parser extends AISPositionReportBParser implements AISMessage1
 		result += SEPARATOR + "EPFD:    " + PositioningDevice.toString(fTypeOfEPFD);
 		return result;		
 	}
+
+	@Override
+	public AISMessage toRecord() {
+		return new AISPositionReportBRecord.Message19(this);
+	}
 }
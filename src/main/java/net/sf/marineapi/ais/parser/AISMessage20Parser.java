@@ -0,0 +1,81 @@
+/*
+ * AISMessage20Parser.java
+ * Copyright (C) 2026 Kimmo Tuukkanen
+ *
+ * This file is part of Java Marine API.
+ * <http://ktuukkan.github.io/marine-api/>
+ *
+ * Java Marine API is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * Java Marine API is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Java Marine API. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sf.marineapi.ais.parser;
+
+import net.sf.marineapi.ais.message.AISMessage20;
+import net.sf.marineapi.ais.util.AISField;
+import net.sf.marineapi.ais.util.AISLayout;
+import net.sf.marineapi.ais.util.Sixbit;
+
+/**
+ * AIS Message 20 implementation: Data Link Management Message.
+ *
+ * @author Kimmo Tuukkanen
+ */
+class AISMessage20Parser extends AISLayoutParser implements AISMessage20 {
+
+	private static final int FIELDS = 4;
+	private static final AISLayout LAYOUT = new AISLayout(70, 160,
+		new AISField("Offset 1", 40, 12, AISField.Type.UINT),
+		new AISField("Slots 1", 52, 4, AISField.Type.UINT),
+		new AISField("Timeout 1", 56, 3, AISField.Type.UINT),
+		new AISField("Increment 1", 59, 11, AISField.Type.UINT),
+		new AISField("Offset 2", 70, 12, AISField.Type.UINT),
+		new AISField("Slots 2", 82, 4, AISField.Type.UINT),
+		new AISField("Timeout 2", 86, 3, AISField.Type.UINT),
+		new AISField("Increment 2", 89, 11, AISField.Type.UINT),
+		new AISField("Offset 3", 100, 12, AISField.Type.UINT),
+		new AISField("Slots 3", 112, 4, AISField.Type.UINT),
+		new AISField("Timeout 3", 116, 3, AISField.Type.UINT),
+		new AISField("Increment 3", 119, 11, AISField.Type.UINT),
+		new AISField("Offset 4", 130, 12, AISField.Type.UINT),
+		new AISField("Slots 4", 142, 4, AISField.Type.UINT),
+		new AISField("Timeout 4", 146, 3, AISField.Type.UINT),
+		new AISField("Increment 4", 149, 11, AISField.Type.UINT));
+
+	private final int fCount;
+
+	public AISMessage20Parser(Sixbit content) {
+		super(content, LAYOUT);
+		int count = 0;
+		while (count < LAYOUT.size() / FIELDS && isPresent(count * FIELDS + 3)) {
+			count++;
+		}
+		fCount = count;
+	}
+
+	public int getNumberOfReservations() { return fCount; }
+
+	public int getOffset(int index) { return getInt(checkIndex(index) * FIELDS); }
+
+	public int getNumberOfSlots(int index) { return getInt(checkIndex(index) * FIELDS + 1); }
+
+	public int getTimeout(int index) { return getInt(checkIndex(index) * FIELDS + 2); }
+
+	public int getIncrement(int index) { return getInt(checkIndex(index) * FIELDS + 3); }
+
+	private int checkIndex(int index) {
+		if (index < 0 || index >= fCount) {
+			throw new IndexOutOfBoundsException("Reservation index: " + index);
+		}
+		return index;
+	}
+}
@@ -20,6 +20,7 @@
  */
 package net.sf.marineapi.ais.parser;
 
+import net.sf.marineapi.ais.message.AISMessage;
 import net.sf.marineapi.ais.message.AISMessage21;
 import net.sf.marineapi.ais.util.AISRuleViolation;
 import net.sf.marineapi.ais.util.Latitude27;
@@ -212,4 +213,9 @@ class AISMessage21Parser extends AISMessageParser implements AISMessage21 {
         result += SEPARATOR + "Name Extension:      " + this.fNameExtension;
         return result;
     }
+
+    @Override
+    public AISMessage toRecord() {
+        return new AISMessage21Record(this);
+    }
 }
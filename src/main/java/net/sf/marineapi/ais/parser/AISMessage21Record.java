@@ -0,0 +1,105 @@
+/*
+ * AISMessage21Record.java
+ * Copyright (C) 2026 Kimmo Tuukkanen
+ *
+ * This file is part of Java Marine API.
+ * <http://ktuukkan.github.io/marine-api/>
+ *
+ * Java Marine API is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * Java Marine API is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Java Marine API. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sf.marineapi.ais.parser;
+
+import net.sf.marineapi.ais.message.AISMessage21;
+
+/**
+ * Compact immutable aid-to-navigation report, message type 21.
+ *
+ * @author Kimmo Tuukkanen
+ * @see AISMessage21Parser
+ */
+final class AISMessage21Record extends AISRecord implements AISMessage21 {
+
+	private final byte aidType;
+	private final String name;
+	private final boolean positionAccuracy;
+	private final int longitude;
+	private final int latitude;
+	private final short bow;
+	private final short stern;
+	private final byte port;
+	private final byte starboard;
+	private final byte typeOfEPFD;
+	private final byte utcSecond;
+	private final boolean offPosition;
+	private final short regional;
+	private final boolean raim;
+	private final boolean virtualAid;
+	private final boolean assignedMode;
+	private final String nameExtension;
+
+	AISMessage21Record(AISMessage21 msg) {
+		super(msg);
+		this.aidType = (byte) msg.getAidType();
+		this.name = msg.getName();
+		this.positionAccuracy = msg.getPositionAccuracy();
+		this.longitude = toFixed(msg.getLongitudeInDegrees());
+		this.latitude = toFixed(msg.getLatitudeInDegrees());
+		this.bow = (short) msg.getBow();
+		this.stern = (short) msg.getStern();
+		this.port = (byte) msg.getPort();
+		this.starboard = (byte) msg.getStarboard();
+		this.typeOfEPFD = (byte) msg.getTypeOfEPFD();
+		this.utcSecond = (byte) msg.getUtcSecond();
+		this.offPosition = msg.getOffPositionIndicator();
+		this.regional = (short) msg.getRegional();
+		this.raim = msg.getRAIMFlag();
+		this.virtualAid = msg.getVirtualAidFlag();
+		this.assignedMode = msg.getAssignedModeFlag();
+		this.nameExtension = msg.getNameExtension();
+	}
+
+	public int getAidType() { return aidType; }
+
+	public String getName() { return name; }
+
+	public boolean getPositionAccuracy() { return positionAccuracy; }
+
+	public double getLongitudeInDegrees() { return toLongitude(longitude); }
+
+	public double getLatitudeInDegrees() { return toLatitude(latitude); }
+
+	public int getBow() { return bow; }
+
+	public int getStern() { return stern; }
+
+	public int getPort() { return port; }
+
+	public int getStarboard() { return starboard; }
+
+	public int getTypeOfEPFD() { return typeOfEPFD; }
+
+	public int getUtcSecond() { return utcSecond; }
+
+	public boolean getOffPositionIndicator() { return offPosition; }
+
+	public int getRegional() { return regional; }
+
+	public boolean getRAIMFlag() { return raim; }
+
+	public boolean getVirtualAidFlag() { return virtualAid; }
+
+	public boolean getAssignedModeFlag() { return assignedMode; }
+
+	public String getNameExtension() { return nameExtension; }
+}
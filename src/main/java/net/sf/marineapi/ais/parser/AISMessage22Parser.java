@@ -0,0 +1,98 @@
+/*
+ * AISMessage22Parser.java
+ * Copyright (C) 2026 Kimmo Tuukkanen
+ *
+ * This file is part of Java Marine API.
+ * <http://ktuukkan.github.io/marine-api/>
+ *
+ * Java Marine API is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * Java Marine API is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Java Marine API. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sf.marineapi.ais.parser;
+
+import net.sf.marineapi.ais.message.AISMessage22;
+import net.sf.marineapi.ais.util.AISField;
+import net.sf.marineapi.ais.util.AISLayout;
+import net.sf.marineapi.ais.util.Sixbit;
+
+/**
+ * AIS Message 22 implementation: Channel Management. The area corners and
+ * destination MMSIs occupy the same bits; both are decoded and the addressed
+ * flag tells which of them is valid.
+ *
+ * @author Kimmo Tuukkanen
+ */
+class AISMessage22Parser extends AISLayoutParser implements AISMessage22 {
+
+	private static final int CHANNEL_A = 0;
+	private static final int CHANNEL_B = 1;
+	private static final int TXRX = 2;
+	private static final int POWER = 3;
+	private static final int NE_LON = 4;
+	private static final int NE_LAT = 5;
+	private static final int SW_LON = 6;
+	private static final int SW_LAT = 7;
+	private static final int DEST_1 = 8;
+	private static final int DEST_2 = 9;
+	private static final int ADDRESSED = 10;
+	private static final int BAND_A = 11;
+	private static final int BAND_B = 12;
+	private static final int ZONE_SIZE = 13;
+	private static final AISLayout LAYOUT = new AISLayout(168,
+		new AISField("Channel A", 40, 12, AISField.Type.UINT),
+		new AISField("Channel B", 52, 12, AISField.Type.UINT),
+		new AISField("Tx/Rx mode", 64, 4, AISField.Type.UINT),
+		new AISField("Power", 68, 1, AISField.Type.BOOLEAN),
+		new AISField("NE longitude", 69, 18, AISField.Type.INT, 1 / 600.0),
+		new AISField("NE latitude", 87, 17, AISField.Type.INT, 1 / 600.0),
+		new AISField("SW longitude", 104, 18, AISField.Type.INT, 1 / 600.0),
+		new AISField("SW latitude", 122, 17, AISField.Type.INT, 1 / 600.0),
+		new AISField("MMSI 1", 69, 30, AISField.Type.UINT),
+		new AISField("MMSI 2", 104, 30, AISField.Type.UINT),
+		new AISField("Addressed", 139, 1, AISField.Type.BOOLEAN),
+		new AISField("Band A", 140, 1, AISField.Type.BOOLEAN),
+		new AISField("Band B", 141, 1, AISField.Type.BOOLEAN),
+		new AISField("Zone size", 142, 3, AISField.Type.UINT));
+
+	public AISMessage22Parser(Sixbit content) {
+		super(content, LAYOUT);
+	}
+
+	public int getChannelA() { return getInt(CHANNEL_A); }
+
+	public int getChannelB() { return getInt(CHANNEL_B); }
+
+	public int getTxRxMode() { return getInt(TXRX); }
+
+	public boolean getPowerFlag() { return getBoolean(POWER); }
+
+	public boolean getAddressedFlag() { return getBoolean(ADDRESSED); }
+
+	public double getNorthEastLongitude() { return getDouble(NE_LON); }
+
+	public double getNorthEastLatitude() { return getDouble(NE_LAT); }
+
+	public double getSouthWestLongitude() { return getDouble(SW_LON); }
+
+	public double getSouthWestLatitude() { return getDouble(SW_LAT); }
+
+	public int getFirstDestinationMMSI() { return getInt(DEST_1); }
+
+	public int getSecondDestinationMMSI() { return getInt(DEST_2); }
+
+	public boolean getChannelABandwidthFlag() { return getBoolean(BAND_A); }
+
+	public boolean getChannelBBandwidthFlag() { return getBoolean(BAND_B); }
+
+	public int getZoneSize() { return getInt(ZONE_SIZE); }
+}
@@ -0,0 +1,76 @@
+/*
+ * AISMessage23Parser.java
+ * Copyright (C) 2026 Kimmo Tuukkanen
+ *
+ * This file is part of Java Marine API.
+ * <http://ktuukkan.github.io/marine-api/>
+ *
+ * Java Marine API is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * Java Marine API is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Java Marine API. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sf.marineapi.ais.parser;
+
+import net.sf.marineapi.ais.message.AISMessage23;
+import net.sf.marineapi.ais.util.AISField;
+import net.sf.marineapi.ais.util.AISLayout;
+import net.sf.marineapi.ais.util.Sixbit;
+
+/**
+ * AIS Message 23 implementation: Group Assignment Command.
+ *
+ * @author Kimmo Tuukkanen
+ */
+class AISMessage23Parser extends AISLayoutParser implements AISMessage23 {
+
+	private static final int NE_LON = 0;
+	private static final int NE_LAT = 1;
+	private static final int SW_LON = 2;
+	private static final int SW_LAT = 3;
+	private static final int STATION_TYPE = 4;
+	private static final int SHIP_TYPE = 5;
+	private static final int TXRX = 6;
+	private static final int INTERVAL = 7;
+	private static final int QUIET = 8;
+	private static final AISLayout LAYOUT = new AISLayout(160,
+		new AISField("NE longitude", 40, 18, AISField.Type.INT, 1 / 600.0),
+		new AISField("NE latitude", 58, 17, AISField.Type.INT, 1 / 600.0),
+		new AISField("SW longitude", 75, 18, AISField.Type.INT, 1 / 600.0),
+		new AISField("SW latitude", 93, 17, AISField.Type.INT, 1 / 600.0),
+		new AISField("Station type", 110, 4, AISField.Type.UINT),
+		new AISField("Ship type", 114, 8, AISField.Type.UINT),
+		new AISField("Tx/Rx mode", 144, 2, AISField.Type.UINT),
+		new AISField("Interval", 146, 4, AISField.Type.UINT),
+		new AISField("Quiet", 150, 4, AISField.Type.UINT));
+
+	public AISMessage23Parser(Sixbit content) {
+		super(content, LAYOUT);
+	}
+
+	public double getNorthEastLongitude() { return getDouble(NE_LON); }
+
+	public double getNorthEastLatitude() { return getDouble(NE_LAT); }
+
+	public double getSouthWestLongitude() { return getDouble(SW_LON); }
+
+	public double getSouthWestLatitude() { return getDouble(SW_LAT); }
+
+	public int getStationType() { return getInt(STATION_TYPE); }
+
+	public int getTypeOfShipAndCargoType() { return getInt(SHIP_TYPE); }
+
+	public int getTxRxMode() { return getInt(TXRX); }
+
+	public int getReportingInterval() { return getInt(INTERVAL); }
+
+	public int getQuietTime() { return getInt(QUIET); }
+}
@@ -20,6 +20,7 @@
  */
 package net.sf.marineapi.ais.parser;
 
+import net.sf.marineapi.ais.message.AISMessage;
 import net.sf.marineapi.ais.message.AISMessage24;
 import net.sf.marineapi.ais.util.ShipType;
 import net.sf.marineapi.ais.util.Sixbit;
@@ -185,4 +186,9 @@ class AISMessage24Parser extends AISMessageParser implements AISMessage24 {
         result = result + "\n\tDim:       " + dim;
         return result;
     }
+
+    @Override
+    public AISMessage toRecord() {
+        return new AISMessage24Record(this);
+    }
 }
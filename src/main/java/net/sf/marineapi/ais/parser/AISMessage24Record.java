@@ -0,0 +1,81 @@
+/*
+ * AISMessage24Record.java
+ * Copyright (C) 2026 Kimmo Tuukkanen
+ *
+ * This file is part of Java Marine API.
+ * <http://ktuukkan.github.io/marine-api/>
+ *
+ * Java Marine API is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * Java Marine API is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Java Marine API. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sf.marineapi.ais.parser;
+
+import net.sf.marineapi.ais.message.AISMessage24;
+
+/**
+ * Compact immutable static data report, message type 24 part A or B.
+ *
+ * @author Kimmo Tuukkanen
+ * @see AISMessage24Parser
+ */
+final class AISMessage24Record extends AISRecord implements AISMessage24 {
+
+	private final byte partNumber;
+	private final String name;
+	private final short shipAndCargoType;
+	private final String vendorId;
+	private final byte unitModelCode;
+	private final int serialNumber;
+	private final String callSign;
+	private final short bow;
+	private final short stern;
+	private final byte port;
+	private final byte starboard;
+
+	AISMessage24Record(AISMessage24 msg) {
+		super(msg);
+		this.partNumber = (byte) msg.getPartNumber();
+		this.name = msg.getName();
+		this.shipAndCargoType = (short) msg.getTypeOfShipAndCargoType();
+		this.vendorId = msg.getVendorId();
+		this.unitModelCode = (byte) msg.getUnitModelCode();
+		this.serialNumber = msg.getSerialNumber();
+		this.callSign = msg.getCallSign();
+		this.bow = (short) msg.getBow();
+		this.stern = (short) msg.getStern();
+		this.port = (byte) msg.getPort();
+		this.starboard = (byte) msg.getStarboard();
+	}
+
+	public int getPartNumber() { return partNumber; }
+
+	public String getName() { return name; }
+
+	public int getTypeOfShipAndCargoType() { return shipAndCargoType; }
+
+	public String getVendorId() { return vendorId; }
+
+	public int getUnitModelCode() { return unitModelCode; }
+
+	public int getSerialNumber() { return serialNumber; }
+
+	public String getCallSign() { return callSign; }
+
+	public int getBow() { return bow; }
+
+	public int getStern() { return stern; }
+
+	public int getPort() { return port; }
+
+	public int getStarboard() { return starboard; }
+}
@@ -0,0 +1,100 @@
+/*
+ * AISMessage25Parser.java
+ * Copyright (C) 2026 Kimmo Tuukkanen
+ *
+ * This file is part of Java Marine API.
+ * <http://ktuukkan.github.io/marine-api/>
+ *
+ * Java Marine API is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * Java Marine API is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Java Marine API. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sf.marineapi.ais.parser;
+
+import net.sf.marineapi.ais.message.AISApplicationMessage;
+import net.sf.marineapi.ais.message.AISMessage25;
+import net.sf.marineapi.ais.util.AISField;
+import net.sf.marineapi.ais.util.AISLayout;
+import net.sf.marineapi.ais.util.Sixbit;
+
+/**
+ * AIS Message 25 implementation: Single Slot Binary Message.
+ * Presence of destination MMSI and application identifier depend on the
+ * addressed and structured flags, thus the offsets of remaining fields are
+ * resolved when parsing.
+ *
+ * @author Kimmo Tuukkanen
+ */
+class AISMessage25Parser extends AISLayoutParser implements AISMessage25 {
+
+	private static final int ADDRESSED = 0;
+	private static final int STRUCTURED = 1;
+	private static final AISLayout LAYOUT = new AISLayout(40, 168,
+		new AISField("Addressed", 38, 1, AISField.Type.BOOLEAN),
+		new AISField("Structured", 39, 1, AISField.Type.BOOLEAN));
+
+	private final int fDestination;
+	private final int fDAC;
+	private final int fFI;
+	private final int fDataOffset;
+	private final int fDataEnd;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param content Message content
+	 * @throws IllegalArgumentException If message is too short for the
+	 *             fields indicated by flags.
+	 */
+	public AISMessage25Parser(Sixbit content) {
+		super(content, LAYOUT);
+		int offset = 40;
+		if (getAddressedFlag()) {
+			fDestination = content.getInt(offset, offset + 30);
+			offset += 30;
+		} else {
+			fDestination = 0;
+		}
+		if (getStructuredFlag()) {
+			fDAC = content.getInt(offset, offset + 10);
+			fFI = content.getInt(offset + 10, offset + 16);
+			offset += 16;
+		} else {
+			fDAC = 0;
+			fFI = 0;
+		}
+		fDataOffset = offset;
+		fDataEnd = getLength();
+		if (fDataEnd < fDataOffset) {
+			throw new IllegalArgumentException("Wrong message length");
+		}
+	}
+
+	public boolean getAddressedFlag() { return getBoolean(ADDRESSED); }
+
+	public boolean getStructuredFlag() { return getBoolean(STRUCTURED); }
+
+	public int getDestinationMMSI() { return fDestination; }
+
+	public int getDAC() { return fDAC; }
+
+	public int getFI() { return fFI; }
+
+	public byte[] getData() { return getSixbit().getBytes(fDataOffset, fDataEnd); }
+
+	public int getDataLength() { return fDataEnd - fDataOffset; }
+
+	public AISApplicationMessage getApplicationMessage() {
+		return AISMessageFactory.getInstance().decodeApplication(
+			fDAC, fFI, getSixbit(), fDataOffset, fDataEnd);
+	}
+}
@@ -0,0 +1,88 @@
+/*
+ * AISMessage27Parser.java
+ * Copyright (C) 2026 Kimmo Tuukkanen
+ *
+ * This file is part of Java Marine API.
+ * <http://ktuukkan.github.io/marine-api/>
+ *
+ * Java Marine API is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * Java Marine API is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Java Marine API. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sf.marineapi.ais.parser;
+
+import net.sf.marineapi.ais.message.AISMessage;
+import net.sf.marineapi.ais.message.AISMessage27;
+import net.sf.marineapi.ais.util.AISField;
+import net.sf.marineapi.ais.util.AISLayout;
+import net.sf.marineapi.ais.util.AISRuleViolation;
+import net.sf.marineapi.ais.util.NavigationalStatus;
+import net.sf.marineapi.ais.util.PositionInfo;
+import net.sf.marineapi.ais.util.Sixbit;
+
+/**
+ * AIS Message 27 implementation: Position Report For Long-Range Applications.
+ * Coordinates are transmitted in 1/10 minutes.
+ *
+ * @author Kimmo Tuukkanen
+ */
+class AISMessage27Parser extends AISLayoutParser implements AISMessage27 {
+
+	private static final int ACCURACY = 0;
+	private static final int RAIM = 1;
+	private static final int STATUS = 2;
+	private static final int LONGITUDE = 3;
+	private static final int LATITUDE = 4;
+	private static final int SPEED = 5;
+	private static final int COURSE = 6;
+	private static final int LATENCY = 7;
+	private static final AISLayout LAYOUT = new AISLayout(96,
+		new AISField("Accuracy", 38, 1, AISField.Type.BOOLEAN),
+		new AISField("RAIM", 39, 1, AISField.Type.BOOLEAN),
+		new AISField("Status", 40, 4, AISField.Type.UINT),
+		new AISField("Longitude", 44, 18, AISField.Type.INT, 1 / 600.0),
+		new AISField("Latitude", 62, 17, AISField.Type.INT, 1 / 600.0),
+		new AISField("Speed", 79, 6, AISField.Type.UINT),
+		new AISField("Course", 85, 9, AISField.Type.UINT),
+		new AISField("Latency", 94, 1, AISField.Type.BOOLEAN));
+
+	public AISMessage27Parser(Sixbit content) {
+		super(content, LAYOUT);
+		if (!NavigationalStatus.isCorrect(getNavigationalStatus()))
+			addViolation(new AISRuleViolation("NavigationalStatus", getNavigationalStatus(), NavigationalStatus.RANGE));
+		if (!PositionInfo.isLongitudeCorrect(getLongitudeInDegrees()))
+			addViolation(new AISRuleViolation("LongitudeInDegrees", getLongitudeInDegrees(), PositionInfo.LONGITUDE_RANGE));
+		if (!PositionInfo.isLatitudeCorrect(getLatitudeInDegrees()))
+			addViolation(new AISRuleViolation("LatitudeInDegrees", getLatitudeInDegrees(), PositionInfo.LATITUDE_RANGE));
+	}
+
+	public boolean getPositionAccuracy() { return getBoolean(ACCURACY); }
+
+	public boolean getRAIMFlag() { return getBoolean(RAIM); }
+
+	public int getNavigationalStatus() { return getInt(STATUS); }
+
+	public double getLongitudeInDegrees() { return getDouble(LONGITUDE); }
+
+	public double getLatitudeInDegrees() { return getDouble(LATITUDE); }
+
+	public int getSpeedOverGround() { return getInt(SPEED); }
+
+	public int getCourseOverGround() { return getInt(COURSE); }
+
+	public boolean getPositionLatency() { return getBoolean(LATENCY); }
+
+	@Override
+	public AISMessage toRecord() {
+		return new AISMessage27Record(this);
+	}
+}
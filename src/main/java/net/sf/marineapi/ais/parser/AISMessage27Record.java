@@ -0,0 +1,69 @@
+/*
+ * AISMessage27Record.java
+ * Copyright (C) 2026 Kimmo Tuukkanen
+ *
+ * This file is part of Java Marine API.
+ * <http://ktuukkan.github.io/marine-api/>
+ *
+ * Java Marine API is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * Java Marine API is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Java Marine API. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sf.marineapi.ais.parser;
+
+import net.sf.marineapi.ais.message.AISMessage27;
+
+/**
+ * Compact immutable long-range position report, message type 27.
+ *
+ * @author Kimmo Tuukkanen
+ * @see AISMessage27Parser
+ */
+final class AISMessage27Record extends AISRecord implements AISMessage27 {
+
+	private final boolean positionAccuracy;
+	private final boolean raim;
+	private final byte navigationalStatus;
+	private final int longitude;
+	private final int latitude;
+	private final byte sog;
+	private final short cog;
+	private final boolean latency;
+
+	AISMessage27Record(AISMessage27 msg) {
+		super(msg);
+		this.positionAccuracy = msg.getPositionAccuracy();
+		this.raim = msg.getRAIMFlag();
+		this.navigationalStatus = (byte) msg.getNavigationalStatus();
+		this.longitude = toFixed(msg.getLongitudeInDegrees());
+		this.latitude = toFixed(msg.getLatitudeInDegrees());
+		this.sog = (byte) msg.getSpeedOverGround();
+		this.cog = (short) msg.getCourseOverGround();
+		this.latency = msg.getPositionLatency();
+	}
+
+	public boolean getPositionAccuracy() { return positionAccuracy; }
+
+	public boolean getRAIMFlag() { return raim; }
+
+	public int getNavigationalStatus() { return navigationalStatus; }
+
+	public double getLongitudeInDegrees() { return toLongitude(longitude); }
+
+	public double getLatitudeInDegrees() { return toLatitude(latitude); }
+
+	public int getSpeedOverGround() { return sog; }
+
+	public int getCourseOverGround() { return cog; }
+
+	public boolean getPositionLatency() { return latency; }
+}
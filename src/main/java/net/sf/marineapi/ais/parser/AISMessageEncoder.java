@@ -0,0 +1,312 @@
+/*
+ * AISMessageEncoder.java
+ * Copyright (C) 2026 Kimmo Tuukkanen
+ *
+ * This file is part of Java Marine API.
+ * <http://ktuukkan.github.io/marine-api/>
+ *
+ * Java Marine API is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * Java Marine API is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Java Marine API. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sf.marineapi.ais.parser;
+
+import net.sf.marineapi.ais.message.AISMessage;
+import net.sf.marineapi.ais.message.AISMessage04;
+import net.sf.marineapi.ais.message.AISMessage05;
+import net.sf.marineapi.ais.message.AISMessage11;
+import net.sf.marineapi.ais.message.AISMessage24;
+import net.sf.marineapi.ais.message.AISPositionReport;
+import net.sf.marineapi.ais.message.AISPositionReportB;
+import net.sf.marineapi.ais.message.AISUTCReport;
+import net.sf.marineapi.ais.util.SixbitEncoder;
+import net.sf.marineapi.nmea.parser.SentenceFactory;
+import net.sf.marineapi.nmea.sentence.AISSentence;
+import net.sf.marineapi.nmea.sentence.SentenceId;
+import net.sf.marineapi.nmea.sentence.TalkerId;
+
+/**
+ * <p>
+ * Encodes AIS messages to armored payload and VDM/VDO sentences, i.e. the
+ * inverse of {@link AISMessageFactory}. Decoding the result yields a message
+ * equal to the encoded one. Fields not exposed by the message interfaces,
+ * such as spare bits and radio status, are encoded as zero.</p>
+ * <p>
+ * Supported message types are 1, 2, 3 (position report), 4, 11 (UTC report),
+ * 5 (static and voyage data), 18 (class B position report) and 24 (static
+ * data report).</p>
+ * <p>
+ * Payloads longer than {@link #MAX_PAYLOAD} characters are split into
+ * fragments with a sequential message ID. Instances are not thread-safe.</p>
+ *
+ * @author Kimmo Tuukkanen
+ * @see SixbitEncoder
+ */
+public class AISMessageEncoder {
+
+	/** Maximum number of payload characters in one sentence */
+	public static final int MAX_PAYLOAD = 60;
+
+	private final SentenceFactory factory = SentenceFactory.getInstance();
+	private final TalkerId talker;
+	private final SentenceId type;
+	private final String channel;
+	private int sequence;
+
+	/**
+	 * Creates an encoder producing <code>!AIVDM</code> sentences on channel A.
+	 */
+	public AISMessageEncoder() {
+		this(TalkerId.AI, SentenceId.VDM, "A");
+	}
+
+	/**
+	 * Creates a new encoder.
+	 *
+	 * @param talker Talker ID of sentences
+	 * @param type Sentence type, VDM or VDO.
+	 * @param channel Radio channel, e.g. "A" or "B".
+	 * @throws IllegalArgumentException If type is not VDM or VDO.
+	 */
+	public AISMessageEncoder(TalkerId talker, SentenceId type, String channel) {
+		if (type != SentenceId.VDM && type != SentenceId.VDO) {
+			throw new IllegalArgumentException("Sentence type must be VDM or VDO");
+		}
+		this.talker = talker;
+		this.type = type;
+		this.channel = channel;
+	}
+
+	/**
+	 * Tells if messages of given type can be encoded.
+	 *
+	 * @param messageType AIS message type
+	 * @return <code>true</code> if supported, otherwise <code>false</code>.
+	 */
+	public static boolean isSupported(int messageType) {
+		switch (messageType) {
+			case 1:
+			case 2:
+			case 3:
+			case 4:
+			case 5:
+			case 11:
+			case 18:
+			case 24:
+				return true;
+			default:
+				return false;
+		}
+	}
+
+	/**
+	 * Encodes given message in bits.
+	 *
+	 * @param msg Message to encode
+	 * @param out Encoder to append the message to
+	 * @throws IllegalArgumentException If message type is not supported.
+	 */
+	public static void encode(AISMessage msg, SixbitEncoder out) {
+
+		final int messageType = msg.getMessageType();
+		out.putInt(messageType, 6);
+		out.putInt(msg.getRepeatIndicator(), 2);
+		out.putInt(msg.getMMSI(), 30);
+
+		switch (messageType) {
+			case 1:
+			case 2:
+			case 3:
+				encodePositionReport((AISPositionReport) msg, out);
+				break;
+			case 4:
+				AISMessage04 m4 = (AISMessage04) msg;
+				encodeUTCReport(m4, out);
+				encodePosition(m4.getPositionAccuracy(),
+					m4.getLongitudeInDegrees(), m4.getLatitudeInDegrees(), out);
+				encodeUTCTrailer(m4, out);
+				break;
+			case 11:
+				AISMessage11 m11 = (AISMessage11) msg;
+				encodeUTCReport(m11, out);
+				encodePosition(m11.getPositionAccuracy(),
+					m11.getLongitudeInDegrees(), m11.getLatitudeInDegrees(), out);
+				encodeUTCTrailer(m11, out);
+				break;
+			case 5:
+				encodeStaticData((AISMessage05) msg, out);
+				break;
+			case 18:
+				encodePositionReportB((AISPositionReportB) msg, out);
+				break;
+			case 24:
+				encodeStaticDataReport((AISMessage24) msg, out);
+				break;
+			default:
+				String err = String.format("no encoder for message type %d", messageType);
+				throw new IllegalArgumentException(err);
+		}
+	}
+
+	/**
+	 * Encodes given message in armored payload.
+	 *
+	 * @param msg Message to encode
+	 * @return Encoder holding the payload and fill bits
+	 * @throws IllegalArgumentException If message type is not supported.
+	 */
+	public static SixbitEncoder encode(AISMessage msg) {
+		SixbitEncoder out = new SixbitEncoder(424);
+		encode(msg, out);
+		return out;
+	}
+
+	/**
+	 * Encodes given message in one or more sentences.
+	 *
+	 * @param msg Message to encode
+	 * @return Sentences in fragment order
+	 * @throws IllegalArgumentException If message type is not supported.
+	 */
+	public AISSentence[] createSentences(AISMessage msg) {
+		SixbitEncoder out = encode(msg);
+		return createSentences(out.getPayload(), out.getFillBits());
+	}
+
+	/**
+	 * Splits given payload in sentences of at most {@link #MAX_PAYLOAD}
+	 * characters. Fragments of one message share a sequential message ID,
+	 * which runs from 0 to 9. Single sentence messages have no message ID.
+	 *
+	 * @param payload Armored payload
+	 * @param fillBits Number of fill bits in payload
+	 * @return Sentences in fragment order
+	 * @throws IllegalArgumentException If payload requires more than nine
+	 *             sentences.
+	 */
+	public AISSentence[] createSentences(String payload, int fillBits) {
+
+		final int count = Math.max(1, (payload.length() + MAX_PAYLOAD - 1) / MAX_PAYLOAD);
+		if (count > 9) {
+			throw new IllegalArgumentException("Payload does not fit in nine sentences");
+		}
+
+		String id = "";
+		if (count > 1) {
+			id = String.valueOf(sequence);
+			sequence = (sequence + 1) % 10;
+		}
+
+		AISSentence[] sentences = new AISSentence[count];
+		for (int i = 0; i < count; i++) {
+			int begin = i * MAX_PAYLOAD;
+			int end = Math.min(payload.length(), begin + MAX_PAYLOAD);
+			AISSentence s = (AISSentence) factory.createParser(talker, type);
+			s.setNumberOfFragments(count);
+			s.setFragmentNumber(i + 1);
+			s.setMessageId(id);
+			s.setRadioChannel(channel);
+			s.setPayload(payload.substring(begin, end));
+			s.setFillBits(i == count - 1 ? fillBits : 0);
+			sentences[i] = s;
+		}
+		return sentences;
+	}
+
+	private static void encodePosition(boolean accuracy, double lon, double lat, SixbitEncoder out) {
+		out.putBoolean(accuracy);
+		out.putInt((int) Math.round(lon * 600000.0), 28);
+		out.putInt((int) Math.round(lat * 600000.0), 27);
+	}
+
+	private static void encodePositionReport(AISPositionReport msg, SixbitEncoder out) {
+		out.putInt(msg.getNavigationalStatus(), 4);
+		out.putInt(msg.getRateOfTurn(), 8);
+		out.putInt(msg.getSpeedOverGround(), 10);
+		encodePosition(msg.getPositionAccuracy(),
+			msg.getLongitudeInDegrees(), msg.getLatitudeInDegrees(), out);
+		out.putInt(msg.getCourseOverGround(), 12);
+		out.putInt(msg.getTrueHeading(), 9);
+		out.putInt(msg.getTimeStamp(), 6);
+		out.putInt(msg.getManouverIndicator(), 2);
+		// spare, RAIM and radio status
+		out.skip(23);
+	}
+
+	private static void encodeUTCReport(AISUTCReport msg, SixbitEncoder out) {
+		out.putInt(msg.getUtcYear(), 14);
+		out.putInt(msg.getUtcMonth(), 4);
+		out.putInt(msg.getUtcDay(), 5);
+		out.putInt(msg.getUtcHour(), 5);
+		out.putInt(msg.getUtcMinute(), 6);
+		out.putInt(msg.getUtcSecond(), 6);
+	}
+
+	private static void encodeUTCTrailer(AISUTCReport msg, SixbitEncoder out) {
+		out.putInt(msg.getTypeOfEPFD(), 4);
+		// transmission control, spare, RAIM and radio status
+		out.skip(30);
+	}
+
+	private static void encodeStaticData(AISMessage05 msg, SixbitEncoder out) {
+		out.putInt(msg.getAISVersionIndicator(), 2);
+		out.putInt(msg.getIMONumber(), 30);
+		out.putString(msg.getCallSign(), 42);
+		out.putString(msg.getName(), 120);
+		out.putInt(msg.getTypeOfShipAndCargoType(), 8);
+		encodeDimensions(msg.getBow(), msg.getStern(), msg.getPort(), msg.getStarboard(), out);
+		out.putInt(msg.getTypeOfEPFD(), 4);
+		out.putInt(msg.getETAMonth(), 4);
+		out.putInt(msg.getETADay(), 5);
+		out.putInt(msg.getETAHour(), 5);
+		out.putInt(msg.getETAMinute(), 6);
+		out.putInt(msg.getMaximumDraught(), 8);
+		out.putString(msg.getDestination(), 120);
+		// DTE and spare
+		out.skip(2);
+	}
+
+	private static void encodePositionReportB(AISPositionReportB msg, SixbitEncoder out) {
+		out.skip(8);
+		out.putInt(msg.getSpeedOverGround(), 10);
+		encodePosition(msg.getPositionAccuracy(),
+			msg.getLongitudeInDegrees(), msg.getLatitudeInDegrees(), out);
+		out.putInt(msg.getCourseOverGround(), 12);
+		out.putInt(msg.getTrueHeading(), 9);
+		out.putInt(msg.getTimeStamp(), 6);
+		// flags, RAIM and radio status
+		out.skip(29);
+	}
+
+	private static void encodeStaticDataReport(AISMessage24 msg, SixbitEncoder out) {
+		out.putInt(msg.getPartNumber(), 2);
+		if (msg.getPartNumber() == 0) {
+			out.putString(msg.getName(), 120);
+			out.skip(8);
+		} else {
+			out.putInt(msg.getTypeOfShipAndCargoType(), 8);
+			out.putString(msg.getVendorId(), 18);
+			out.putInt(msg.getUnitModelCode(), 4);
+			out.putInt(msg.getSerialNumber(), 20);
+			out.putString(msg.getCallSign(), 42);
+			encodeDimensions(msg.getBow(), msg.getStern(), msg.getPort(), msg.getStarboard(), out);
+			out.skip(6);
+		}
+	}
+
+	private static void encodeDimensions(int bow, int stern, int port, int starboard, SixbitEncoder out) {
+		out.putInt(bow, 9);
+		out.putInt(stern, 9);
+		out.putInt(port, 6);
+		out.putInt(starboard, 6);
+	}
+}
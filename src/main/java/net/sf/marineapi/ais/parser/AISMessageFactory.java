@@ -20,42 +20,35 @@
  */
 package net.sf.marineapi.ais.parser;
 
-import java.lang.reflect.Constructor;
-import java.util.HashMap;
-import java.util.Map;
-
+import net.sf.marineapi.ais.message.AISApplicationMessage;
 import net.sf.marineapi.ais.message.AISMessage;
+import net.sf.marineapi.ais.message.AISMeteoHydroData;
 import net.sf.marineapi.ais.util.Sixbit;
+import net.sf.marineapi.util.IntObjectMap;
 import net.sf.marineapi.nmea.sentence.AISSentence;
 
 /**
- * Factory for creating AIS message parsers.
+ * Factory for creating AIS message parsers. The factory also holds the
+ * registry of decoders for application specific content of binary messages,
+ * see {@link #registerDecoder(int, int, AISApplicationDecoder)}.
  * 
  * @author Kimmo Tuukkanen
  */
 public class AISMessageFactory {
 
     private static AISMessageFactory instance;
-    private Map<Integer, Class<? extends AISMessage>> parsers;
+
+    // application decoders by DAC and FI
+    private final IntObjectMap<AISApplicationDecoder> decoders =
+        new IntObjectMap<AISApplicationDecoder>();
 
     /**
      * Hidden constructor.
      */
     private AISMessageFactory() {
-        parsers = new HashMap<Integer, Class<? extends AISMessage>>(7);
-        parsers.put(1, AISMessage01Parser.class);
-        parsers.put(2, AISMessage02Parser.class);
-        parsers.put(3, AISMessage03Parser.class);
-        parsers.put(4, AISMessage04Parser.class);
-        parsers.put(5, AISMessage05Parser.class);
-        parsers.put(9, AISMessage09Parser.class);
-        parsers.put(18, AISMessage18Parser.class);
-        parsers.put(19, AISMessage19Parser.class);
-        parsers.put(21, AISMessage21Parser.class);
-        parsers.put(24, AISMessage24Parser.class);
+        registerDecoder(AISMeteoHydroData.DAC, AISMeteoHydroData.FI, AISMeteoHydroParser.DECODER);
     }
 
-
     /**
      * Creates a new AIS message parser based on given sentences.
      *
@@ -69,22 +62,137 @@ public class AISMessageFactory {
     public AISMessage create(AISSentence... sentences) {
 
         AISMessageParser parser = new AISMessageParser(sentences);
+        int type = parser.getMessageType();
 
-        if (!parsers.containsKey(parser.getMessageType())) {
-            String msg = String.format("no parser for message type %d", parser.getMessageType());
+        if (!isSupported(type)) {
+            String msg = String.format("no parser for message type %d", type);
             throw new IllegalArgumentException(msg);
         }
 
-        AISMessage result;
-        Class<? extends AISMessage> c = parsers.get(parser.getMessageType());
         try {
-            Constructor<? extends AISMessage> co = c.getConstructor(Sixbit.class);
-            result = co.newInstance(parser.getSixbit());
-        } catch (Exception e) {
-            throw new IllegalStateException(e.getCause());
+            return createParser(type, parser.getSixbit());
+        } catch (RuntimeException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Tells if the given message type can be parsed.
+     *
+     * @param type AIS message type
+     * @return true if supported, otherwise false
+     */
+    public boolean isSupported(int type) {
+        switch (type) {
+            case 1: case 2: case 3: case 4: case 5: case 6: case 7: case 8:
+            case 9: case 10: case 11: case 12: case 13: case 14: case 15:
+            case 16: case 17: case 18: case 19: case 20: case 21: case 22:
+            case 23: case 24: case 25: case 26: case 27:
+                return true;
+            default:
+                return false;
+        }
+    }
+
+    /**
+     * Registers a decoder for application specific content of binary
+     * messages (types 6, 8, 25 and 26). Meteorological and hydrological data
+     * of IMO Circular 289 (DAC 1, FI 31) is registered by default. Each
+     * DAC/FI pair can have only one decoder at a time, thus registering a
+     * new decoder replaces the previous one.
+     *
+     * @param dac Designated Area Code, 0 - 1023.
+     * @param fi Function Identifier, 0 - 63.
+     * @param decoder Decoder to register
+     * @throws IllegalArgumentException If DAC or FI is out of range or
+     *          decoder is <code>null</code>.
+     */
+    public synchronized void registerDecoder(int dac, int fi, AISApplicationDecoder decoder) {
+        decoders.put(key(dac, fi), decoder);
+    }
+
+    /**
+     * Removes the decoder of given application, after which the data is
+     * provided in raw form.
+     *
+     * @param dac Designated Area Code, 0 - 1023.
+     * @param fi Function Identifier, 0 - 63.
+     */
+    public synchronized void unregisterDecoder(int dac, int fi) {
+        decoders.remove(key(dac, fi));
+    }
+
+    /**
+     * Tells if a decoder is registered for given application.
+     *
+     * @param dac Designated Area Code, 0 - 1023.
+     * @param fi Function Identifier, 0 - 63.
+     * @return true if registered, otherwise false
+     */
+    public boolean hasDecoder(int dac, int fi) {
+        return decoders.containsKey(key(dac, fi));
+    }
+
+    /**
+     * Decodes the application data of binary message with the registered
+     * decoder, or provides it in raw form if there is no decoder or the data
+     * cannot be decoded.
+     */
+    AISApplicationMessage decodeApplication(int dac, int fi, Sixbit content, int from, int to) {
+        AISApplicationDecoder decoder = decoders.get(key(dac, fi));
+        if (decoder != null) {
+            try {
+                return decoder.decode(dac, fi, content, from, to);
+            } catch (IllegalArgumentException e) {
+                // fall back to raw data
+            }
         }
+        return new AISApplicationParser(dac, fi, content, from, to);
+    }
 
-        return result;
+    private static int key(int dac, int fi) {
+        if (dac < 0 || dac > 1023 || fi < 0 || fi > 63) {
+            throw new IllegalArgumentException("DAC or FI out of range");
+        }
+        // non-zero key for IntObjectMap
+        return 0x10000 | (dac << 6) | fi;
+    }
+
+    /**
+     * Instantiates the parser for given message type.
+     */
+    private AISMessage createParser(int type, Sixbit content) {
+        switch (type) {
+            case 1: return new AISMessage01Parser(content);
+            case 2: return new AISMessage02Parser(content);
+            case 3: return new AISMessage03Parser(content);
+            case 4: return new AISMessage04Parser(content);
+            case 5: return new AISMessage05Parser(content);
+            case 6: return new AISMessage06Parser(content);
+            case 7: return new AISMessage07Parser(content);
+            case 8: return new AISMessage08Parser(content);
+            case 9: return new AISMessage09Parser(content);
+            case 10: return new AISMessage10Parser(content);
+            case 11: return new AISMessage11Parser(content);
+            case 12: return new AISMessage12Parser(content);
+            case 13: return new AISMessage13Parser(content);
+            case 14: return new AISMessage14Parser(content);
+            case 15: return new AISMessage15Parser(content);
+            case 16: return new AISMessage16Parser(content);
+            case 17: return new AISMessage17Parser(content);
+            case 18: return new AISMessage18Parser(content);
+            case 19: return new AISMessage19Parser(content);
+            case 20: return new AISMessage20Parser(content);
+            case 21: return new AISMessage21Parser(content);
+            case 22: return new AISMessage22Parser(content);
+            case 23: return new AISMessage23Parser(content);
+            case 24: return new AISMessage24Parser(content);
+            case 25: return new AISMessage25Parser(content);
+            case 26: return new AISMessage26Parser(content);
+            case 27: return new AISMessage27Parser(content);
+            default:
+                throw new IllegalArgumentException("Unsupported type " + type);
+        }
     }
 
     /**
@@ -0,0 +1,209 @@
+/*
+ * AISMessageFilter.java
+ * Copyright (C) 2026 Kimmo Tuukkanen
+ *
+ * This file is part of Java Marine API.
+ * <http://ktuukkan.github.io/marine-api/>
+ *
+ * Java Marine API is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * Java Marine API is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Java Marine API. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sf.marineapi.ais.parser;
+
+import net.sf.marineapi.nmea.sentence.AISSentence;
+import net.sf.marineapi.util.IntObjectMap;
+
+/**
+ * <p>
+ * Pre-decode filter for AIS messages by message type and MMSI. Only the
+ * header of message, i.e. the first 38 bits containing message type, repeat
+ * indicator and MMSI, is read directly from the first seven characters of
+ * armored payload, without constructing {@link net.sf.marineapi.ais.util.Sixbit}
+ * or decoding the message. Thus, unwanted messages may be rejected already
+ * when the first fragment is received.</p>
+ * <p>
+ * Filter accepts all message types and MMSIs until either set is populated.
+ * The filter may be updated at runtime; filtering methods do not lock and
+ * always see a consistent state of each set.</p>
+ *
+ * @author Kimmo Tuukkanen
+ * @see net.sf.marineapi.ais.event.AbstractAISMessageListener#setFilter(AISMessageFilter)
+ */
+public class AISMessageFilter {
+
+	// number of payload characters containing the header
+	private static final int HEADER_CHARS = 7;
+
+	// bit n set when message type n is accepted
+	private volatile long types;
+
+	private final IntObjectMap<Boolean> mmsis = new IntObjectMap<Boolean>();
+
+	/**
+	 * Creates a filter that accepts all messages.
+	 */
+	public AISMessageFilter() {
+	}
+
+	/**
+	 * Adds message type to accepted types.
+	 *
+	 * @param type Message type, 1 - 27.
+	 * @throws IllegalArgumentException If type is out of range.
+	 */
+	public synchronized void addType(int type) {
+		types |= mask(type);
+	}
+
+	/**
+	 * Removes message type from accepted types.
+	 *
+	 * @param type Message type, 1 - 27.
+	 * @throws IllegalArgumentException If type is out of range.
+	 */
+	public synchronized void removeType(int type) {
+		types &= ~mask(type);
+	}
+
+	/**
+	 * Adds MMSI to accepted MMSIs.
+	 *
+	 * @param mmsi MMSI to accept
+	 * @throws IllegalArgumentException If MMSI is zero.
+	 */
+	public synchronized void addMMSI(int mmsi) {
+		mmsis.put(mmsi, Boolean.TRUE);
+	}
+
+	/**
+	 * Removes MMSI from accepted MMSIs.
+	 *
+	 * @param mmsi MMSI to remove
+	 */
+	public synchronized void removeMMSI(int mmsi) {
+		mmsis.remove(mmsi);
+	}
+
+	/**
+	 * Removes all types and MMSIs, i.e. resets the filter to accept all
+	 * messages.
+	 */
+	public synchronized void clear() {
+		types = 0;
+		mmsis.clear();
+	}
+
+	/**
+	 * Tells if the message of given sentence is accepted. Only the first
+	 * fragment of message contains the header, thus other fragments are
+	 * always accepted.
+	 *
+	 * @param sentence AIS sentence to inspect
+	 * @return <code>true</code> if accepted, otherwise <code>false</code>.
+	 */
+	public boolean accept(AISSentence sentence) {
+		return !sentence.isFirstFragment() || accept(sentence.getPayload());
+	}
+
+	/**
+	 * Tells if the message of given payload is accepted. Payload with invalid
+	 * or missing header is accepted only if filter accepts all messages.
+	 *
+	 * @param payload Armored AIS payload, or its first fragment.
+	 * @return <code>true</code> if accepted, otherwise <code>false</code>.
+	 */
+	public boolean accept(String payload) {
+		final long t = types;
+		if (t != 0) {
+			int type = getMessageType(payload);
+			if (type < 0 || (t & (1L << type)) == 0) {
+				return false;
+			}
+		}
+		if (!mmsis.isEmpty()) {
+			int mmsi = getMMSI(payload);
+			return mmsi > 0 && mmsis.containsKey(mmsi);
+		}
+		return true;
+	}
+
+	/**
+	 * Reads the message type from armored payload.
+	 *
+	 * @param payload AIS payload
+	 * @return Message type, or -1 if payload is empty or first character is
+	 *         invalid.
+	 */
+	public static int getMessageType(String payload) {
+		return payload == null || payload.length() == 0 ? -1 : decode(payload.charAt(0));
+	}
+
+	/**
+	 * Reads the repeat indicator from armored payload.
+	 *
+	 * @param payload AIS payload
+	 * @return Repeat indicator, or -1 if payload is too short or invalid.
+	 */
+	public static int getRepeatIndicator(String payload) {
+		if (payload == null || payload.length() < 2) {
+			return -1;
+		}
+		int c = decode(payload.charAt(1));
+		return c < 0 ? -1 : c >> 4;
+	}
+
+	/**
+	 * Reads the MMSI, i.e. bits 8 - 37, from armored payload.
+	 *
+	 * @param payload AIS payload
+	 * @return MMSI, or -1 if payload is too short or contains invalid
+	 *         characters.
+	 */
+	public static int getMMSI(String payload) {
+		if (payload == null || payload.length() < HEADER_CHARS) {
+			return -1;
+		}
+		long bits = 0;
+		for (int i = 1; i < HEADER_CHARS; i++) {
+			int c = decode(payload.charAt(i));
+			if (c < 0) {
+				return -1;
+			}
+			bits = (bits << 6) | c;
+		}
+		// 36 bits read, drop the repeat indicator and 4 bits of next field
+		return (int) ((bits >> 4) & 0x3FFFFFFF);
+	}
+
+	/**
+	 * Decodes armored payload character to 6-bit value.
+	 *
+	 * @return Value or -1 if character is invalid.
+	 */
+	private static int decode(char ch) {
+		if (ch >= 0x30 && ch <= 0x57) {
+			return ch - 0x30;
+		}
+		if (ch >= 0x60 && ch <= 0x77) {
+			return ch - 0x38;
+		}
+		return -1;
+	}
+
+	private static long mask(int type) {
+		if (type < 1 || type > 27) {
+			throw new IllegalArgumentException("Message type must be in range 1 - 27");
+		}
+		return 1L << type;
+	}
+}
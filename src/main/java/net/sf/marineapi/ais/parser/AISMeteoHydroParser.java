@@ -0,0 +1,191 @@
+/*
+ * AISMeteoHydroParser.java
+ * Copyright (C) 2026 Kimmo Tuukkanen
+ *
+ * This file is part of Java Marine API.
+ * <http://ktuukkan.github.io/marine-api/>
+ *
+ * Java Marine API is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * Java Marine API is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Java Marine API. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sf.marineapi.ais.parser;
+
+import net.sf.marineapi.ais.message.AISApplicationMessage;
+import net.sf.marineapi.ais.message.AISMeteoHydroData;
+import net.sf.marineapi.ais.util.Sixbit;
+
+/**
+ * Meteorological and hydrological data of IMO Circular 289, DAC 1 and FI 31.
+ * Fields are read on demand, so decoding allocates the parser only.
+ *
+ * <pre>
+ * Field Name                                    Bits    (from,  to)
+ * ------------------------------------------------------------------------
+ *  1    longitude (1/1000 min)                    25    (   1,  25)
+ *  2    latitude (1/1000 min)                     24    (  26,  49)
+ *  3    positionAccuracy                           1    (  50,  50)
+ *  4    utcDay, utcHour, utcMinute                16    (  51,  66)
+ *  5    windSpeed, windGust                       14    (  67,  80)
+ *  6    windDirection, windGustDirection          18    (  81,  98)
+ *  7    airTemperature (0.1 C)                    11    (  99, 109)
+ *  8    relativeHumidity                           7    ( 110, 116)
+ *  9    dewPoint (0.1 C)                          10    ( 117, 126)
+ * 10    airPressure, airPressureTendency          11    ( 127, 137)
+ * 11    visibilityGreaterThan, visibility (0.1)    8    ( 138, 145)
+ * 12    waterLevel (0.01 m), waterLevelTrend      14    ( 146, 159)
+ * 13    surface current speed, direction          17    ( 160, 176)
+ * 14    current 2 speed, direction, level         22    ( 177, 198)
+ * 15    current 3 speed, direction, level         22    ( 199, 220)
+ * 16    wave height, period, direction            23    ( 221, 243)
+ * 17    swell height, period, direction           23    ( 244, 266)
+ * 18    seaState                                   4    ( 267, 270)
+ * 19    waterTemperature (0.1 C)                  10    ( 271, 280)
+ * 20    precipitationType                          3    ( 281, 283)
+ * 21    salinity (0.1 ppt)                         9    ( 284, 292)
+ * 22    ice                                        2    ( 293, 294)
+ * 23    spare                                     10    ( 295, 304)
+ *                                               ---- +
+ *                                               sum 304
+ * </pre>
+ *
+ * @author Kimmo Tuukkanen
+ */
+class AISMeteoHydroParser extends AISApplicationParser implements AISMeteoHydroData {
+
+	/** Decoder to register in factory */
+	static final AISApplicationDecoder DECODER = new AISApplicationDecoder() {
+		public AISApplicationMessage decode(int dac, int fi, Sixbit content, int from, int to) {
+			return new AISMeteoHydroParser(content, from, to);
+		}
+	};
+
+	// minimum data length, spare bits may be omitted
+	private static final int MIN_LENGTH = 294;
+
+	private static final double MINUTES = 60000.0;
+	private static final int AIR_TEMPERATURE_NA = -1024;
+	private static final int TEMPERATURE_NA = 501;
+	private static final int PRESSURE_NA = 511;
+	private static final int VISIBILITY_NA = 127;
+	private static final int WATER_LEVEL_NA = 4001;
+	private static final int SPEED_NA = 255;
+	private static final int SALINITY_NA = 510;
+
+	/**
+	 * Creates a new parser.
+	 *
+	 * @param content Message content
+	 * @param from Offset of first application data bit
+	 * @param to End of application data
+	 * @throws IllegalArgumentException If data is too short.
+	 */
+	AISMeteoHydroParser(Sixbit content, int from, int to) {
+		super(DAC, FI, content, from, to);
+		if (to - from < MIN_LENGTH) {
+			throw new IllegalArgumentException("Wrong application data length");
+		}
+	}
+
+	public double getLongitudeInDegrees() { return getSignedInt(0, 25) / MINUTES; }
+
+	public double getLatitudeInDegrees() { return getSignedInt(25, 24) / MINUTES; }
+
+	public boolean getPositionAccuracy() { return getBit(49); }
+
+	public int getUtcDay() { return getInt(50, 5); }
+
+	public int getUtcHour() { return getInt(55, 5); }
+
+	public int getUtcMinute() { return getInt(60, 6); }
+
+	public int getWindSpeed() { return getInt(66, 7); }
+
+	public int getWindGust() { return getInt(73, 7); }
+
+	public int getWindDirection() { return getInt(80, 9); }
+
+	public int getWindGustDirection() { return getInt(89, 9); }
+
+	public double getAirTemperature() { return scaled(getSignedInt(98, 11), AIR_TEMPERATURE_NA, 0.1, 0); }
+
+	public int getRelativeHumidity() { return getInt(109, 7); }
+
+	public double getDewPoint() { return scaled(getSignedInt(116, 10), TEMPERATURE_NA, 0.1, 0); }
+
+	public double getAirPressure() { return scaled(getInt(126, 9), PRESSURE_NA, 1.0, 799); }
+
+	public int getAirPressureTendency() { return getInt(135, 2); }
+
+	public boolean isVisibilityGreaterThan() { return getBit(137); }
+
+	public double getVisibility() { return scaled(getInt(138, 7), VISIBILITY_NA, 0.1, 0); }
+
+	public double getWaterLevel() { return scaled(getInt(145, 12), WATER_LEVEL_NA, 0.01, -10); }
+
+	public int getWaterLevelTrend() { return getInt(157, 2); }
+
+	public double getSurfaceCurrentSpeed() { return scaled(getInt(159, 8), SPEED_NA, 0.1, 0); }
+
+	public int getSurfaceCurrentDirection() { return getInt(167, 9); }
+
+	public double getCurrent2Speed() { return scaled(getInt(176, 8), SPEED_NA, 0.1, 0); }
+
+	public int getCurrent2Direction() { return getInt(184, 9); }
+
+	public int getCurrent2Level() { return getInt(193, 5); }
+
+	public double getCurrent3Speed() { return scaled(getInt(198, 8), SPEED_NA, 0.1, 0); }
+
+	public int getCurrent3Direction() { return getInt(206, 9); }
+
+	public int getCurrent3Level() { return getInt(215, 5); }
+
+	public double getWaveHeight() { return scaled(getInt(220, 8), SPEED_NA, 0.1, 0); }
+
+	public int getWavePeriod() { return getInt(228, 6); }
+
+	public int getWaveDirection() { return getInt(234, 9); }
+
+	public double getSwellHeight() { return scaled(getInt(243, 8), SPEED_NA, 0.1, 0); }
+
+	public int getSwellPeriod() { return getInt(251, 6); }
+
+	public int getSwellDirection() { return getInt(257, 9); }
+
+	public int getSeaState() { return getInt(266, 4); }
+
+	public double getWaterTemperature() { return scaled(getSignedInt(270, 10), TEMPERATURE_NA, 0.1, 0); }
+
+	public int getPrecipitationType() { return getInt(280, 3); }
+
+	public double getSalinity() {
+		int value = getInt(283, 9);
+		return value >= SALINITY_NA ? Double.NaN : value * 0.1;
+	}
+
+	public int getIce() { return getInt(292, 2); }
+
+	/**
+	 * Scales the raw value to units, NaN if not available.
+	 */
+	private static double scaled(int value, int notAvailable, double scale, double offset) {
+		return value == notAvailable ? Double.NaN : value * scale + offset;
+	}
+
+	@Override
+	public String toString() {
+		return "Meteo/hydro: " + getLatitudeInDegrees() + ", " + getLongitudeInDegrees()
+			+ ", wind " + getWindSpeed() + " kn " + getWindDirection() + " deg"
+			+ ", air " + getAirTemperature() + " C, " + getAirPressure() + " hPa";
+	}
+}
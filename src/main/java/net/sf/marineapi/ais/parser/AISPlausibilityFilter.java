@@ -0,0 +1,468 @@
+/*
+ * AISPlausibilityFilter.java
+ * Copyright (C) 2026 Kimmo Tuukkanen
+ *
+ * This file is part of Java Marine API.
+ * <http://ktuukkan.github.io/marine-api/>
+ *
+ * Java Marine API is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * Java Marine API is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Java Marine API. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sf.marineapi.ais.parser;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import net.sf.marineapi.ais.message.AISMessage;
+import net.sf.marineapi.ais.message.AISPositionReport;
+import net.sf.marineapi.ais.message.AISPositionReportB;
+import net.sf.marineapi.ais.message.AISUTCReport;
+import net.sf.marineapi.util.IntObjectMap;
+
+/**
+ * <p>
+ * Kinematic plausibility check of decoded AIS messages, to be applied before
+ * the messages are passed on to listeners or vessel state. The filter keeps
+ * a constant-size state of the latest accepted fix of each MMSI and checks
+ * class A and B position reports (types 1, 2, 3, 18 and 19) against it:</p>
+ * <ul>
+ * <li>Time stamp 63 (positioning system inoperative) and, if enabled, time
+ * stamp second that deviates from the reception time are rejected. UTC
+ * reports with second above 60 are rejected.</li>
+ * <li>A fix that would require a speed above the maximum speed is a position
+ * jump. It is quarantined as an alternate fix and rejected. If the following
+ * fixes continue from the alternate fix while the previous position is not
+ * reported anymore, the vessel is considered relocated and accepted again.
+ * If both positions keep reporting, the MMSI is used by two stations and the
+ * alternate fixes are rejected as duplicate MMSI.</li>
+ * <li>A fix implying a speed clearly above the reported speeds over ground is
+ * rejected as speed mismatch. The position still updates the state, as it is
+ * within the maximum speed.</li>
+ * </ul>
+ * <p>
+ * The state is partitioned by MMSI, each partition having its own lock, so
+ * that threads processing different vessels rarely contend. Evaluating the
+ * same fix again, e.g. when received from several stations or by several
+ * listeners, returns the previous result without updating the state or
+ * statistics. Fixes are considered the same if they have equal position and
+ * time stamp second and are received within {@link #COPY_WINDOW}, thus
+ * copies relayed with slightly different reception times are recognized.
+ * Alternate fixes count as confirmations of relocation only if their time
+ * stamp second is later than that of the previous alternate fix, or they
+ * are received after the copy window, thus delayed copies of a jump do not
+ * relocate the vessel.</p>
+ *
+ * @author Kimmo Tuukkanen
+ * @see net.sf.marineapi.ais.event.AbstractAISMessageListener#setPlausibilityFilter(AISPlausibilityFilter)
+ */
+public class AISPlausibilityFilter {
+
+	/**
+	 * Results of plausibility check.
+	 */
+	public enum Result {
+		/** Message is plausible */
+		ACCEPTED,
+		/** Time stamp is invalid or deviates from reception time */
+		INVALID_TIMESTAMP,
+		/** Implied speed exceeds the reported speed over ground */
+		SPEED_MISMATCH,
+		/** Implied speed exceeds the maximum speed */
+		POSITION_JUMP,
+		/** Two stations report different positions with same MMSI */
+		DUPLICATE_MMSI
+	}
+
+	/** Default maximum speed in knots */
+	public static final double DEFAULT_MAX_SPEED = 100.0;
+
+	/** Default tolerance of reported speed over ground in knots */
+	public static final double DEFAULT_SPEED_TOLERANCE = 10.0;
+
+	/** Default maximum age of vessel state in milliseconds */
+	public static final long DEFAULT_MAX_AGE = 3600000L;
+
+	/** Default number of partitions */
+	public static final int DEFAULT_PARTITIONS = 16;
+
+	/**
+	 * Maximum difference of reception times in milliseconds for considering
+	 * fixes with equal content as copies of the same transmission. Time stamp
+	 * second repeats every minute, thus the window is half a minute.
+	 */
+	public static final long COPY_WINDOW = 30000L;
+
+	// consistent alternate fixes required for relocation
+	private static final int CONFIRMATIONS = 3;
+
+	// allowance for position noise in meters
+	private static final double DISTANCE_TOLERANCE = 100.0;
+
+	private static final double SCALE = 600000.0;
+	private static final double METERS_PER_DEGREE = 1852.0 * 60;
+	private static final double METERS_PER_KNOT_MS = 1852.0 / 3600000.0;
+	private static final int SOG_NOT_AVAILABLE = 1023;
+
+	private final double maxSpeed;
+	private final double speedTolerance;
+	private final int maxSkew;
+	private final long maxAge;
+	private final Partition[] partitions;
+	private final AtomicLongArray counts = new AtomicLongArray(Result.values().length);
+
+	/**
+	 * Creates a filter with default parameters and time stamp deviation check
+	 * disabled.
+	 */
+	public AISPlausibilityFilter() {
+		this(DEFAULT_MAX_SPEED, DEFAULT_SPEED_TOLERANCE, 0, DEFAULT_MAX_AGE, DEFAULT_PARTITIONS);
+	}
+
+	/**
+	 * Creates a new filter.
+	 *
+	 * @param maxSpeed Maximum speed in knots
+	 * @param speedTolerance Allowed excess of implied speed over reported
+	 *            speed in knots, zero to disable the check.
+	 * @param maxSkew Maximum deviation of time stamp second from reception
+	 *            time in seconds, zero to disable the check.
+	 * @param maxAge Time in milliseconds after which the state of a silent
+	 *            vessel is discarded.
+	 * @param partitions Number of partitions, rounded up to a power of two.
+	 * @throws IllegalArgumentException If maximum speed, age or number of
+	 *             partitions is not positive, or other parameters are
+	 *             negative.
+	 */
+	public AISPlausibilityFilter(double maxSpeed, double speedTolerance,
+		int maxSkew, long maxAge, int partitions) {
+		if (maxSpeed <= 0 || maxAge <= 0 || partitions < 1) {
+			throw new IllegalArgumentException("Speed, age and partitions must be positive");
+		}
+		if (speedTolerance < 0 || maxSkew < 0) {
+			throw new IllegalArgumentException("Tolerance and skew cannot be negative");
+		}
+		this.maxSpeed = maxSpeed;
+		this.speedTolerance = speedTolerance;
+		this.maxSkew = maxSkew;
+		this.maxAge = maxAge;
+		int n = Integer.highestOneBit(partitions);
+		this.partitions = new Partition[n < partitions ? n << 1 : n];
+		for (int i = 0; i < this.partitions.length; i++) {
+			this.partitions[i] = new Partition();
+		}
+	}
+
+	/**
+	 * Tells if the message is plausible, using current time as reception
+	 * time.
+	 *
+	 * @param msg Message to check
+	 * @return <code>true</code> if accepted, otherwise <code>false</code>.
+	 */
+	public boolean accept(AISMessage msg) {
+		return accept(msg, System.currentTimeMillis());
+	}
+
+	/**
+	 * Tells if the message is plausible.
+	 *
+	 * @param msg Message to check
+	 * @param time Reception time in milliseconds
+	 * @return <code>true</code> if accepted, otherwise <code>false</code>.
+	 */
+	public boolean accept(AISMessage msg, long time) {
+		return check(msg, time) == Result.ACCEPTED;
+	}
+
+	/**
+	 * Checks the message and updates the state of vessel. Messages of other
+	 * types than position and UTC reports are always accepted.
+	 *
+	 * @param msg Message to check
+	 * @param time Reception time in milliseconds
+	 * @return Result of check
+	 */
+	public Result check(AISMessage msg, long time) {
+		if (msg instanceof AISPositionReport) {
+			AISPositionReport r = (AISPositionReport) msg;
+			return check(r.getMMSI(), time, r.getLatitudeInDegrees(),
+				r.getLongitudeInDegrees(), r.getSpeedOverGround(), r.getTimeStamp());
+		}
+		if (msg instanceof AISPositionReportB) {
+			AISPositionReportB r = (AISPositionReportB) msg;
+			return check(r.getMMSI(), time, r.getLatitudeInDegrees(),
+				r.getLongitudeInDegrees(), r.getSpeedOverGround(), r.getTimeStamp());
+		}
+		if (msg instanceof AISUTCReport && ((AISUTCReport) msg).getUtcSecond() > 60) {
+			return count(Result.INVALID_TIMESTAMP);
+		}
+		return Result.ACCEPTED;
+	}
+
+	/**
+	 * Checks a position fix and updates the state of vessel.
+	 *
+	 * @param mmsi MMSI of vessel
+	 * @param time Reception time in milliseconds
+	 * @param lat Latitude in degrees, 91 if not available.
+	 * @param lon Longitude in degrees, 181 if not available.
+	 * @param sog Speed over ground in tenths of knot, 1023 if not available.
+	 * @param timeStamp Time stamp second of fix, 0 - 63.
+	 * @return Result of check, always accepted if MMSI or position is not
+	 *         available.
+	 */
+	public Result check(int mmsi, long time, double lat, double lon, int sog, int timeStamp) {
+		if (timeStamp == 63 || !isOnTime(time, timeStamp)) {
+			return count(Result.INVALID_TIMESTAMP);
+		}
+		if (mmsi <= 0 || Math.abs(lat) > 90 || Math.abs(lon) > 180) {
+			return Result.ACCEPTED;
+		}
+		final int y = (int) Math.round(lat * SCALE);
+		final int x = (int) Math.round(lon * SCALE);
+
+		final Partition p = partitions[index(mmsi)];
+		synchronized (p) {
+			State s = p.states.get(mmsi);
+			if (s == null) {
+				s = new State();
+				s.setMain(time, y, x, sog);
+				s.setLast(time, y, x, timeStamp, Result.ACCEPTED);
+				p.states.put(mmsi, s);
+				return count(Result.ACCEPTED);
+			}
+			if (isCopy(s.lastTime, s.lastLat, s.lastLon, s.lastStamp, time, y, x, timeStamp)) {
+				return s.lastResult;
+			}
+			Result r = evaluate(s, time, y, x, sog, timeStamp);
+			s.setLast(time, y, x, timeStamp, r);
+			return count(r);
+		}
+	}
+
+	/**
+	 * Removes the state of vessels not reported within maximum age.
+	 *
+	 * @param now Current time in milliseconds
+	 * @return Number of removed vessels
+	 */
+	public int evict(long now) {
+		int removed = 0;
+		for (Partition p : partitions) {
+			synchronized (p) {
+				for (int mmsi : p.states.keys()) {
+					State s = p.states.get(mmsi);
+					if (s != null && now - s.lastTime > maxAge) {
+						p.states.remove(mmsi);
+						removed++;
+					}
+				}
+			}
+		}
+		return removed;
+	}
+
+	/**
+	 * Returns the number of vessels in state.
+	 */
+	public int size() {
+		int size = 0;
+		for (Partition p : partitions) {
+			size += p.states.size();
+		}
+		return size;
+	}
+
+	/**
+	 * Returns the number of checks with given result, excluding messages
+	 * that are not checked.
+	 *
+	 * @param result Result to count
+	 * @return Number of checks
+	 */
+	public long getCount(Result result) {
+		return counts.get(result.ordinal());
+	}
+
+	/**
+	 * Resets the result counters.
+	 */
+	public void resetStatistics() {
+		for (int i = 0; i < counts.length(); i++) {
+			counts.set(i, 0);
+		}
+	}
+
+	private Result evaluate(State s, long time, int y, int x, int sog, int timeStamp) {
+
+		final long dt = Math.abs(time - s.time);
+		if (dt > maxAge) {
+			s.setMain(time, y, x, sog);
+			s.altCount = 0;
+			return Result.ACCEPTED;
+		}
+
+		if (distance(s.lat, s.lon, y, x) > reach(maxSpeed, dt)) {
+			if (s.altCount > 0 && Math.abs(time - s.altTime) <= maxAge
+				&& distance(s.altLat, s.altLon, y, x) <= reach(maxSpeed, Math.abs(time - s.altTime))) {
+				// only later transmissions confirm the alternate fix
+				boolean confirms = time > s.altTime && (time - s.altTime > COPY_WINDOW
+					|| isLater(timeStamp, s.altStamp));
+				if (confirms) {
+					s.setAlternate(time, y, x, timeStamp);
+					s.altCount++;
+				}
+				if (s.time > s.altFirst) {
+					return Result.DUPLICATE_MMSI;
+				}
+				if (confirms && s.altCount >= CONFIRMATIONS) {
+					s.setMain(time, y, x, sog);
+					s.altCount = 0;
+					return Result.ACCEPTED;
+				}
+				return Result.POSITION_JUMP;
+			}
+			s.setAlternate(time, y, x, timeStamp);
+			s.altFirst = time;
+			s.altCount = 1;
+			return Result.POSITION_JUMP;
+		}
+
+		Result r = Result.ACCEPTED;
+		if (speedTolerance > 0 && sog != SOG_NOT_AVAILABLE && s.sog != SOG_NOT_AVAILABLE) {
+			double reported = Math.max(sog, s.sog) / 10.0 + speedTolerance;
+			if (distance(s.lat, s.lon, y, x) > reach(reported, dt)) {
+				r = Result.SPEED_MISMATCH;
+			}
+		}
+		if (time >= s.time) {
+			s.setMain(time, y, x, sog);
+		}
+		return r;
+	}
+
+	/**
+	 * Tells if two fixes have equal content and are received within the copy
+	 * window, i.e. are copies of the same transmission.
+	 */
+	private static boolean isCopy(long t1, int lat1, int lon1, int stamp1,
+		long t2, int lat2, int lon2, int stamp2) {
+		return lat1 == lat2 && lon1 == lon2 && stamp1 == stamp2
+			&& Math.abs(t2 - t1) <= COPY_WINDOW;
+	}
+
+	/**
+	 * Tells if time stamp second is later than the previous one within half
+	 * a minute. Unavailable time stamps are never later.
+	 */
+	private static boolean isLater(int timeStamp, int previous) {
+		if (timeStamp > 59 || previous > 59) {
+			return false;
+		}
+		int d = (timeStamp - previous + 60) % 60;
+		return d > 0 && d <= 30;
+	}
+
+	/**
+	 * Tells if time stamp second matches the reception time within maximum
+	 * deviation. Time stamps above 59 are not checked.
+	 */
+	private boolean isOnTime(long time, int timeStamp) {
+		if (maxSkew == 0 || timeStamp > 59) {
+			return true;
+		}
+		int d = Math.abs((int) ((time / 1000) % 60) - timeStamp);
+		return Math.min(d, 60 - d) <= maxSkew;
+	}
+
+	/**
+	 * Distance in meters that may be travelled in given time.
+	 */
+	private static double reach(double knots, long millis) {
+		return knots * millis * METERS_PER_KNOT_MS + DISTANCE_TOLERANCE;
+	}
+
+	/**
+	 * Equirectangular distance in meters of fixed-point coordinates.
+	 */
+	private static double distance(int lat1, int lon1, int lat2, int lon2) {
+		double dLon = lon2 - lon1;
+		if (Math.abs(dLon) > 180 * SCALE) {
+			dLon -= Math.signum(dLon) * 360 * SCALE;
+		}
+		double k = Math.cos(Math.toRadians((lat1 + lat2) / 2.0 / SCALE));
+		double dx = dLon * k / SCALE * METERS_PER_DEGREE;
+		double dy = (lat2 - lat1) / SCALE * METERS_PER_DEGREE;
+		return Math.hypot(dx, dy);
+	}
+
+	private int index(int mmsi) {
+		int h = mmsi * 0x9E3779B9;
+		return (h ^ (h >>> 16)) & (partitions.length - 1);
+	}
+
+	private Result count(Result r) {
+		counts.incrementAndGet(r.ordinal());
+		return r;
+	}
+
+	private static final class Partition {
+		final IntObjectMap<State> states = new IntObjectMap<State>();
+	}
+
+	/**
+	 * State of one vessel; latest accepted fix, alternate fix of quarantined
+	 * position and latest evaluated fix.
+	 */
+	private static final class State {
+
+		long time;
+		int lat;
+		int lon;
+		int sog;
+
+		long altTime;
+		long altFirst;
+		int altLat;
+		int altLon;
+		int altStamp;
+		int altCount;
+
+		long lastTime;
+		int lastLat;
+		int lastLon;
+		int lastStamp;
+		Result lastResult;
+
+		void setMain(long t, int y, int x, int speed) {
+			time = t;
+			lat = y;
+			lon = x;
+			sog = speed;
+		}
+
+		void setAlternate(long t, int y, int x, int stamp) {
+			altTime = t;
+			altLat = y;
+			altLon = x;
+			altStamp = stamp;
+		}
+
+		void setLast(long t, int y, int x, int stamp, Result r) {
+			lastTime = t;
+			lastLat = y;
+			lastLon = x;
+			lastStamp = stamp;
+			lastResult = r;
+		}
+	}
+}
@@ -80,7 +80,7 @@ class AISPositionReportBParser extends AISMessageParser implements AISPositionRe
 	public AISPositionReportBParser(Sixbit content) {
 		super(content);
 		fSOG = content.getInt(FROM[SPEEDOVERGROUND], TO[SPEEDOVERGROUND]);
-		fPositionAccuracy = content.getBoolean(FROM[POSITIONACCURACY]);
+		fPositionAccuracy = content.getBoolean(TO[POSITIONACCURACY]);
 		fLongitude = Longitude28.toDegrees(content.getAs28BitInt(FROM[LONGITUDE], TO[LONGITUDE]));
 	    if (!PositionInfo.isLongitudeCorrect(fLongitude))
 	    	addViolation(new AISRuleViolation("LongitudeInDegrees", fLongitude, PositionInfo.LONGITUDE_RANGE));
@@ -0,0 +1,115 @@
+/*
+ * AISPositionReportBRecord.java
+ * Copyright (C) 2026 Kimmo Tuukkanen
+ *
+ * This file is part of Java Marine API.
+ * <http://ktuukkan.github.io/marine-api/>
+ *
+ * Java Marine API is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * Java Marine API is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Java Marine API. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sf.marineapi.ais.parser;
+
+import net.sf.marineapi.ais.message.AISMessage18;
+import net.sf.marineapi.ais.message.AISMessage19;
+import net.sf.marineapi.ais.message.AISPositionReportB;
+
+/**
+ * Compact immutable class B position report, message types 18 and 19.
+ *
+ * @author Kimmo Tuukkanen
+ * @see AISPositionReportBParser
+ */
+abstract class AISPositionReportBRecord extends AISRecord implements AISPositionReportB {
+
+	private final short sog;
+	private final boolean positionAccuracy;
+	private final int longitude;
+	private final int latitude;
+	private final short cog;
+	private final short trueHeading;
+	private final byte timeStamp;
+
+	AISPositionReportBRecord(AISPositionReportB msg) {
+		super(msg);
+		this.sog = (short) msg.getSpeedOverGround();
+		this.positionAccuracy = msg.getPositionAccuracy();
+		this.longitude = toFixed(msg.getLongitudeInDegrees());
+		this.latitude = toFixed(msg.getLatitudeInDegrees());
+		this.cog = (short) msg.getCourseOverGround();
+		this.trueHeading = (short) msg.getTrueHeading();
+		this.timeStamp = (byte) msg.getTimeStamp();
+	}
+
+	public int getSpeedOverGround() { return sog; }
+
+	public boolean getPositionAccuracy() { return positionAccuracy; }
+
+	public double getLongitudeInDegrees() { return toLongitude(longitude); }
+
+	public double getLatitudeInDegrees() { return toLatitude(latitude); }
+
+	public int getCourseOverGround() { return cog; }
+
+	public int getTrueHeading() { return trueHeading; }
+
+	public int getTimeStamp() { return timeStamp; }
+
+	/**
+	 * Standard class B position report record, message type 18.
+	 */
+	static final class Message18 extends AISPositionReportBRecord implements AISMessage18 {
+		Message18(AISMessage18 msg) {
+			super(msg);
+		}
+	}
+
+	/**
+	 * Extended class B position report record, message type 19.
+	 */
+	static final class Message19 extends AISPositionReportBRecord implements AISMessage19 {
+
+		private final String name;
+		private final short shipAndCargoType;
+		private final short bow;
+		private final short stern;
+		private final byte port;
+		private final byte starboard;
+		private final byte typeOfEPFD;
+
+		Message19(AISMessage19 msg) {
+			super(msg);
+			this.name = msg.getName();
+			this.shipAndCargoType = (short) msg.getTypeOfShipAndCargoType();
+			this.bow = (short) msg.getBow();
+			this.stern = (short) msg.getStern();
+			this.port = (byte) msg.getPort();
+			this.starboard = (byte) msg.getStarboard();
+			this.typeOfEPFD = (byte) msg.getTypeOfEPFD();
+		}
+
+		public String getName() { return name; }
+
+		public int getTypeOfShipAndCargoType() { return shipAndCargoType; }
+
+		public int getBow() { return bow; }
+
+		public int getStern() { return stern; }
+
+		public int getPort() { return port; }
+
+		public int getStarboard() { return starboard; }
+
+		public int getTypeOfEPFD() { return typeOfEPFD; }
+	}
+}
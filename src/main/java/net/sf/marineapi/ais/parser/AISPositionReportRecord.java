@@ -0,0 +1,109 @@
+/*
+ * AISPositionReportRecord.java
+ * Copyright (C) 2026 Kimmo Tuukkanen
+ *
+ * This file is part of Java Marine API.
+ * <http://ktuukkan.github.io/marine-api/>
+ *
+ * Java Marine API is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * Java Marine API is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Java Marine API. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sf.marineapi.ais.parser;
+
+import net.sf.marineapi.ais.message.AISMessage01;
+import net.sf.marineapi.ais.message.AISMessage02;
+import net.sf.marineapi.ais.message.AISMessage03;
+import net.sf.marineapi.ais.message.AISPositionReport;
+
+/**
+ * Compact immutable position report, message types 1, 2 and 3. Each type has
+ * its own subclass so that listeners of a specific type receive only records
+ * of that type.
+ *
+ * @author Kimmo Tuukkanen
+ * @see AISPositionReportParser
+ */
+abstract class AISPositionReportRecord extends AISRecord implements AISPositionReport {
+
+	private final byte navigationalStatus;
+	private final byte rateOfTurn;
+	private final short sog;
+	private final boolean positionAccuracy;
+	private final int longitude;
+	private final int latitude;
+	private final short cog;
+	private final short trueHeading;
+	private final byte timeStamp;
+	private final byte maneuverIndicator;
+
+	AISPositionReportRecord(AISPositionReport msg) {
+		super(msg);
+		this.navigationalStatus = (byte) msg.getNavigationalStatus();
+		this.rateOfTurn = (byte) msg.getRateOfTurn();
+		this.sog = (short) msg.getSpeedOverGround();
+		this.positionAccuracy = msg.getPositionAccuracy();
+		this.longitude = toFixed(msg.getLongitudeInDegrees());
+		this.latitude = toFixed(msg.getLatitudeInDegrees());
+		this.cog = (short) msg.getCourseOverGround();
+		this.trueHeading = (short) msg.getTrueHeading();
+		this.timeStamp = (byte) msg.getTimeStamp();
+		this.maneuverIndicator = (byte) msg.getManouverIndicator();
+	}
+
+	public int getNavigationalStatus() { return navigationalStatus; }
+
+	public int getRateOfTurn() { return rateOfTurn; }
+
+	public int getSpeedOverGround() { return sog; }
+
+	public boolean getPositionAccuracy() { return positionAccuracy; }
+
+	public double getLongitudeInDegrees() { return toLongitude(longitude); }
+
+	public double getLatitudeInDegrees() { return toLatitude(latitude); }
+
+	public int getCourseOverGround() { return cog; }
+
+	public int getTrueHeading() { return trueHeading; }
+
+	public int getTimeStamp() { return timeStamp; }
+
+	public int getManouverIndicator() { return maneuverIndicator; }
+
+	/**
+	 * Position report record of message type 1.
+	 */
+	static final class Message01 extends AISPositionReportRecord implements AISMessage01 {
+		Message01(AISMessage01 msg) {
+			super(msg);
+		}
+	}
+
+	/**
+	 * Position report record of message type 2.
+	 */
+	static final class Message02 extends AISPositionReportRecord implements AISMessage02 {
+		Message02(AISMessage02 msg) {
+			super(msg);
+		}
+	}
+
+	/**
+	 * Position report record of message type 3.
+	 */
+	static final class Message03 extends AISPositionReportRecord implements AISMessage03 {
+		Message03(AISMessage03 msg) {
+			super(msg);
+		}
+	}
+}
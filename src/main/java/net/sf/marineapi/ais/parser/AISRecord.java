@@ -0,0 +1,97 @@
+/*
+ * AISRecord.java
+ * Copyright (C) 2026 Kimmo Tuukkanen
+ *
+ * This file is part of Java Marine API.
+ * <http://ktuukkan.github.io/marine-api/>
+ *
+ * Java Marine API is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * Java Marine API is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Java Marine API. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sf.marineapi.ais.parser;
+
+import net.sf.marineapi.ais.message.AISMessage;
+import net.sf.marineapi.ais.util.Latitude27;
+import net.sf.marineapi.ais.util.Longitude28;
+
+/**
+ * Base class of compact immutable AIS messages. Records hold the decoded
+ * field values in primitive fields, without reference to the six-bit payload
+ * or the list of violations of the originating parser.
+ *
+ * @author Kimmo Tuukkanen
+ * @see AISMessageParser#toRecord()
+ */
+abstract class AISRecord implements AISMessage {
+
+	// degrees to 1/10000 minutes
+	private static final double SCALE = 600000.0;
+
+	private final byte messageType;
+	private final byte repeatIndicator;
+	private final int mmsi;
+
+	/**
+	 * Copies the common fields of given message.
+	 *
+	 * @param msg Message to copy
+	 */
+	AISRecord(AISMessage msg) {
+		this.messageType = (byte) msg.getMessageType();
+		this.repeatIndicator = (byte) msg.getRepeatIndicator();
+		this.mmsi = msg.getMMSI();
+	}
+
+	@Override
+	public int getMessageType() {
+		return messageType;
+	}
+
+	@Override
+	public int getRepeatIndicator() {
+		return repeatIndicator;
+	}
+
+	@Override
+	public int getMMSI() {
+		return mmsi;
+	}
+
+	/**
+	 * Returns this record, as it is already in compact form.
+	 */
+	@Override
+	public AISMessage toRecord() {
+		return this;
+	}
+
+	@Override
+	public String toString() {
+		return "Message type: " + messageType + ", MMSI: " + mmsi;
+	}
+
+	/**
+	 * Converts degrees back to the fixed-point value they were decoded from.
+	 */
+	static int toFixed(double degrees) {
+		return (int) Math.round(degrees * SCALE);
+	}
+
+	static double toLongitude(int value) {
+		return Longitude28.toDegrees(value);
+	}
+
+	static double toLatitude(int value) {
+		return Latitude27.toDegrees(value);
+	}
+}
@@ -21,6 +21,8 @@
 package net.sf.marineapi.ais.parser;
 
 import net.sf.marineapi.ais.message.AISUTCReport;
+import net.sf.marineapi.ais.util.AISField;
+import net.sf.marineapi.ais.util.AISLayout;
 import net.sf.marineapi.ais.util.AISRuleViolation;
 import net.sf.marineapi.ais.util.Latitude27;
 import net.sf.marineapi.ais.util.Longitude28;
@@ -57,7 +59,7 @@ import net.sf.marineapi.ais.util.Sixbit;
  * 
  * @author Lázár József
  */
-class AISUTCParser extends AISMessageParser implements AISUTCReport {
+class AISUTCParser extends AISLayoutParser implements AISUTCReport {
 
 	private final static String	SEPARATOR			= "\n\t";
 	private static final int	UTC_YEAR			= 0;
@@ -70,62 +72,50 @@ class AISUTCParser extends AISMessageParser implements AISUTCReport {
 	private static final int	LONGITUDE			= 7;
 	private static final int 	LATITUDE			= 8;
 	private static final int 	FIXING_DEV_TYPE		= 9;
-	private final static int[]	FROM				= {
-		38, 52, 56, 61, 66, 72, 78,  79, 107, 134};
-	private final static int[]	TO   				= {
-		52, 56, 61, 66, 72, 78, 79, 107, 134, 138};
+	private static final AISLayout LAYOUT = new AISLayout(168,
+		new AISField("Year", 38, 14, AISField.Type.UINT),
+		new AISField("Month", 52, 4, AISField.Type.UINT),
+		new AISField("Day", 56, 5, AISField.Type.UINT),
+		new AISField("Hour", 61, 5, AISField.Type.UINT),
+		new AISField("Minute", 66, 6, AISField.Type.UINT),
+		new AISField("Second", 72, 6, AISField.Type.UINT),
+		new AISField("Accuracy", 78, 1, AISField.Type.BOOLEAN),
+		new AISField("Longitude", 79, 28, AISField.Type.INT),
+		new AISField("Latitude", 107, 27, AISField.Type.INT),
+		new AISField("EPFD", 134, 4, AISField.Type.UINT));
 
-	private int		fUTCYear;
-	private int		fUTCMonth;
-	private int		fUTCDay;
-	private int		fUTCHour;
-	private int		fUTCMinute;
-	private int		fUTCSecond;
-	private boolean	fPositionAccuracy;
-	private double	fLongitude;
-	private double	fLatitude;
-	private int		fTypeOfEPFD;
+	private final double	fLongitude;
+	private final double	fLatitude;
 
 	public AISUTCParser(Sixbit content) {
-		super(content);
-		if (content.length() != 168)
-			throw new IllegalArgumentException("Wrong message length");
-		
-	    fUTCYear = content.getInt(FROM[UTC_YEAR], TO[UTC_YEAR]);
-	    fUTCMonth = content.getInt(FROM[UTC_MONTH], TO[UTC_MONTH]);
-	    fUTCDay = content.getInt(FROM[UTC_DAY], TO[UTC_DAY]);
-	    fUTCHour = content.getInt(FROM[UTC_HOUR], TO[UTC_HOUR]);
-	    fUTCMinute = content.getInt(FROM[UTC_MINUTE],TO[UTC_MINUTE]);
-	    fUTCSecond = content.getInt(FROM[UTC_SECOND], TO[UTC_SECOND]);
-	    fPositionAccuracy = content.getBoolean(FROM[POSITIONACCURACY]);
-	    fLongitude = Longitude28.toDegrees(content.getAs28BitInt(FROM[LONGITUDE], TO[LONGITUDE]));
+		super(content, LAYOUT);
+	    fLongitude = Longitude28.toDegrees(getInt(LONGITUDE));
 	    if (!PositionInfo.isLongitudeCorrect(fLongitude))
 	    	addViolation(new AISRuleViolation("LongitudeInDegrees", fLongitude, PositionInfo.LONGITUDE_RANGE));
-	    fLatitude = Latitude27.toDegrees(content.getAs27BitInt(FROM[LATITUDE], TO[LATITUDE]));
+	    fLatitude = Latitude27.toDegrees(getInt(LATITUDE));
 	    if (!PositionInfo.isLatitudeCorrect(fLatitude))
 	    	addViolation(new AISRuleViolation("LatitudeInDegrees", fLatitude, PositionInfo.LATITUDE_RANGE));
-	    fTypeOfEPFD = content.getInt(FROM[FIXING_DEV_TYPE], TO[FIXING_DEV_TYPE]);
 	}
 
-	public int getUtcYear() { return fUTCYear; }
+	public int getUtcYear() { return getInt(UTC_YEAR); }
 
-	public int getUtcMonth() { return fUTCMonth; }
+	public int getUtcMonth() { return getInt(UTC_MONTH); }
 
-	public int getUtcDay() { return fUTCDay; }
+	public int getUtcDay() { return getInt(UTC_DAY); }
 
-	public int getUtcHour() { return fUTCHour; }
+	public int getUtcHour() { return getInt(UTC_HOUR); }
 
-	public int getUtcMinute() { return fUTCMinute; }
+	public int getUtcMinute() { return getInt(UTC_MINUTE); }
 
-	public int getUtcSecond() { return fUTCSecond; }
+	public int getUtcSecond() { return getInt(UTC_SECOND); }
 
-	public boolean getPositionAccuracy() { return fPositionAccuracy; }
+	public boolean getPositionAccuracy() { return getBoolean(POSITIONACCURACY); }
 
 	public double getLongitudeInDegrees() { return fLongitude; }
 
 	public double getLatitudeInDegrees() { return fLatitude; }
 
-	public int getTypeOfEPFD() { return fTypeOfEPFD; }
+	public int getTypeOfEPFD() { return getInt(FIXING_DEV_TYPE); }
 	
 	@Override
 	public String toString() {
@@ -135,10 +125,10 @@ class AISUTCParser extends AISMessageParser implements AISUTCReport {
 		result += SEPARATOR + "Hour:    " + getUtcHour();
 		result += SEPARATOR + "Minute:  " + getUtcMinute();
 		result += SEPARATOR + "Sec:     " + getUtcSecond();
-		result += SEPARATOR + "Pos acc: " + (fPositionAccuracy ? "high" : "low") + " accuracy";
+		result += SEPARATOR + "Pos acc: " + (getPositionAccuracy() ? "high" : "low") + " accuracy";
 		result += SEPARATOR + "Lon:     " + PositionInfo.longitudeToString(fLongitude);
 		result += SEPARATOR + "Lat:     " + PositionInfo.latitudeToString(fLatitude);
-		result += SEPARATOR + "EPFD:    " + PositioningDevice.toString(fTypeOfEPFD);
+		result += SEPARATOR + "EPFD:    " + PositioningDevice.toString(getTypeOfEPFD());
 		return result;
 	}
 }
@@ -0,0 +1,99 @@
+/*
+ * AISUTCRecord.java
+ * Copyright (C) 2026 Kimmo Tuukkanen
+ *
+ * This file is part of Java Marine API.
+ * <http://ktuukkan.github.io/marine-api/>
+ *
+ * Java Marine API is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * Java Marine API is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Java Marine API. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sf.marineapi.ais.parser;
+
+import net.sf.marineapi.ais.message.AISMessage04;
+import net.sf.marineapi.ais.message.AISMessage11;
+import net.sf.marineapi.ais.message.AISUTCReport;
+
+/**
+ * Compact immutable UTC and position report, message types 4 and 11.
+ *
+ * @author Kimmo Tuukkanen
+ * @see AISUTCParser
+ */
+abstract class AISUTCRecord extends AISRecord implements AISUTCReport {
+
+	private final short year;
+	private final byte month;
+	private final byte day;
+	private final byte hour;
+	private final byte minute;
+	private final byte second;
+	private final boolean positionAccuracy;
+	private final int longitude;
+	private final int latitude;
+	private final byte typeOfEPFD;
+
+	AISUTCRecord(AISUTCReport msg, boolean accuracy, double lon, double lat) {
+		super(msg);
+		this.year = (short) msg.getUtcYear();
+		this.month = (byte) msg.getUtcMonth();
+		this.day = (byte) msg.getUtcDay();
+		this.hour = (byte) msg.getUtcHour();
+		this.minute = (byte) msg.getUtcMinute();
+		this.second = (byte) msg.getUtcSecond();
+		this.positionAccuracy = accuracy;
+		this.longitude = toFixed(lon);
+		this.latitude = toFixed(lat);
+		this.typeOfEPFD = (byte) msg.getTypeOfEPFD();
+	}
+
+	public int getUtcYear() { return year; }
+
+	public int getUtcMonth() { return month; }
+
+	public int getUtcDay() { return day; }
+
+	public int getUtcHour() { return hour; }
+
+	public int getUtcMinute() { return minute; }
+
+	public int getUtcSecond() { return second; }
+
+	public boolean getPositionAccuracy() { return positionAccuracy; }
+
+	public double getLongitudeInDegrees() { return toLongitude(longitude); }
+
+	public double getLatitudeInDegrees() { return toLatitude(latitude); }
+
+	public int getTypeOfEPFD() { return typeOfEPFD; }
+
+	/**
+	 * Base station report record, message type 4.
+	 */
+	static final class Message04 extends AISUTCRecord implements AISMessage04 {
+		Message04(AISMessage04 msg) {
+			super(msg, msg.getPositionAccuracy(),
+				msg.getLongitudeInDegrees(), msg.getLatitudeInDegrees());
+		}
+	}
+
+	/**
+	 * UTC/date response record, message type 11.
+	 */
+	static final class Message11 extends AISUTCRecord implements AISMessage11 {
+		Message11(AISMessage11 msg) {
+			super(msg, msg.getPositionAccuracy(),
+				msg.getLongitudeInDegrees(), msg.getLatitudeInDegrees());
+		}
+	}
+}
@@ -0,0 +1,177 @@
+/*
+ * AISField.java
+ * Copyright (C) 2026 Kimmo Tuukkanen
+ *
+ * This file is part of Java Marine API.
+ * <http://ktuukkan.github.io/marine-api/>
+ *
+ * Java Marine API is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * Java Marine API is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Java Marine API. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sf.marineapi.ais.util;
+
+/**
+ * Describes a single data field in the bit layout of an AIS message, i.e.
+ * where the field is located, how many bits it occupies and how the bits
+ * should be interpreted. Fields are collected in {@link AISLayout} tables.
+ *
+ * @author Kimmo Tuukkanen
+ * @see AISLayout
+ */
+public final class AISField {
+
+	/**
+	 * Field width that extends the field to the end of message.
+	 */
+	public static final int TO_END = -1;
+
+	/**
+	 * Interpretation of the field bits.
+	 */
+	public enum Type {
+		/** Unsigned integer value */
+		UINT,
+		/** Two's complement signed integer value */
+		INT,
+		/** Single bit flag */
+		BOOLEAN,
+		/** Six-bit ASCII text, trailing '@' chars removed */
+		TEXT,
+		/** Opaque binary data, left for the application to decode */
+		DATA
+	}
+
+	private final String name;
+	private final int offset;
+	private final int width;
+	private final Type type;
+	private final double scale;
+
+	/**
+	 * Creates a new field with scale of 1.0.
+	 *
+	 * @param name Field name
+	 * @param offset Zero-based offset of first bit in message
+	 * @param width Number of bits, or {@link #TO_END} for variable length
+	 *            field that extends to the end of message.
+	 * @param type Type of field
+	 */
+	public AISField(String name, int offset, int width, Type type) {
+		this(name, offset, width, type, 1.0);
+	}
+
+	/**
+	 * Creates a new field.
+	 *
+	 * @param name Field name
+	 * @param offset Zero-based offset of first bit in message
+	 * @param width Number of bits, or {@link #TO_END} for variable length
+	 *            field that extends to the end of message.
+	 * @param type Type of field
+	 * @param scale Multiplier for converting the raw integer value into
+	 *            physical unit, e.g. <code>0.1</code> for deci-knots.
+	 * @throws IllegalArgumentException If offset or width is invalid for the
+	 *             given field type.
+	 */
+	public AISField(String name, int offset, int width, Type type, double scale) {
+		if (offset < 0) {
+			throw new IllegalArgumentException("Offset cannot be negative");
+		}
+		if (width == 0 || width < TO_END) {
+			throw new IllegalArgumentException("Invalid field width: " + width);
+		}
+		if ((type == Type.UINT || type == Type.INT) && (width == TO_END || width > 32)) {
+			throw new IllegalArgumentException("Integer field width must be within 1..32");
+		}
+		if (type == Type.BOOLEAN && width != 1) {
+			throw new IllegalArgumentException("Boolean field width must be 1");
+		}
+		if (type == Type.TEXT && width != TO_END && width % Sixbit.BITSPERCHAR != 0) {
+			throw new IllegalArgumentException("Text field width must be multiple of 6");
+		}
+		this.name = name;
+		this.offset = offset;
+		this.width = width;
+		this.type = type;
+		this.scale = scale;
+	}
+
+	/**
+	 * Returns the field name.
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Returns the zero-based offset of first bit.
+	 */
+	public int getOffset() {
+		return offset;
+	}
+
+	/**
+	 * Returns the field width in bits, or {@link #TO_END} if field extends to
+	 * the end of message.
+	 */
+	public int getWidth() {
+		return width;
+	}
+
+	/**
+	 * Returns the field type.
+	 */
+	public Type getType() {
+		return type;
+	}
+
+	/**
+	 * Returns the scale for converting raw value to physical unit.
+	 */
+	public double getScale() {
+		return scale;
+	}
+
+	/**
+	 * Returns the end index (exclusive) of field in a message of given length.
+	 *
+	 * @param length Message length in bits
+	 * @return Index of the first bit after this field
+	 */
+	public int getEnd(int length) {
+		if (width == TO_END) {
+			int end = Math.max(length, offset);
+			if (type == Type.TEXT) {
+				end -= (end - offset) % Sixbit.BITSPERCHAR;
+			}
+			return end;
+		}
+		return offset + width;
+	}
+
+	/**
+	 * Tells if the field is completely contained in a message of given length.
+	 * Variable length fields are always considered present.
+	 *
+	 * @param length Message length in bits
+	 * @return true if present, otherwise false
+	 */
+	public boolean isPresent(int length) {
+		return width == TO_END || offset + width <= length;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("%s(%d,%d,%s)", name, offset, width, type);
+	}
+}
@@ -0,0 +1,155 @@
+/*
+ * AISLayout.java
+ * Copyright (C) 2026 Kimmo Tuukkanen
+ *
+ * This file is part of Java Marine API.
+ * <http://ktuukkan.github.io/marine-api/>
+ *
+ * Java Marine API is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * Java Marine API is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Java Marine API. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sf.marineapi.ais.util;
+
+/**
+ * <p>
+ * Declarative bit layout of an AIS message; a table of {@link AISField}s and
+ * the allowed message length. The common header fields (type, repeat
+ * indicator and MMSI) are not included in layouts.</p>
+ * <p>
+ * All integer fields of a message are decoded in a single pass by
+ * {@link #decode(Sixbit, int[])}. Values of text and binary fields are not
+ * decoded by the loop, instead the end index of each such field is stored in
+ * the values array so that the field may be extracted when needed.</p>
+ *
+ * @author Kimmo Tuukkanen
+ * @see AISField
+ */
+public final class AISLayout {
+
+	private final AISField[] fields;
+	private final AISField.Type[] types;
+	private final int[] offsets;
+	private final int[] widths;
+	private final int minLength;
+	private final int maxLength;
+
+	/**
+	 * Creates a new layout for fixed length message.
+	 *
+	 * @param length Message length in bits
+	 * @param fields Message fields
+	 */
+	public AISLayout(int length, AISField... fields) {
+		this(length, length, fields);
+	}
+
+	/**
+	 * Creates a new layout for variable length message.
+	 *
+	 * @param minLength Minimum message length in bits
+	 * @param maxLength Maximum message length in bits
+	 * @param fields Message fields
+	 * @throws IllegalArgumentException If lengths are invalid.
+	 */
+	public AISLayout(int minLength, int maxLength, AISField... fields) {
+		if (minLength < 0 || maxLength < minLength) {
+			throw new IllegalArgumentException("Invalid message length range");
+		}
+		this.minLength = minLength;
+		this.maxLength = maxLength;
+		this.fields = fields.clone();
+		this.types = new AISField.Type[fields.length];
+		this.offsets = new int[fields.length];
+		this.widths = new int[fields.length];
+		for (int i = 0; i < fields.length; i++) {
+			types[i] = fields[i].getType();
+			offsets[i] = fields[i].getOffset();
+			widths[i] = fields[i].getWidth();
+		}
+	}
+
+	/**
+	 * Decodes the integer and boolean fields of given message into values
+	 * array, indexed as the fields in layout. Booleans are decoded as 0 and 1,
+	 * signed integers are sign-extended. For text and binary fields, the end
+	 * index (exclusive) of field in message is stored.
+	 *
+	 * @param content Message content
+	 * @param values Array for decoded values, length equal to {@link #size()}
+	 * @throws IllegalArgumentException If the message length does not match
+	 *             the layout.
+	 */
+	public void decode(Sixbit content, int[] values) {
+		final int length = content.length();
+		if (!isValidLength(length)) {
+			throw new IllegalArgumentException("Wrong message length");
+		}
+		for (int i = 0; i < offsets.length; i++) {
+			final int from = offsets[i];
+			switch (types[i]) {
+				case UINT:
+					values[i] = content.getInt(from, from + widths[i]);
+					break;
+				case INT:
+					values[i] = content.getSignedInt(from, from + widths[i]);
+					break;
+				case BOOLEAN:
+					values[i] = content.getBit(from) ? 1 : 0;
+					break;
+				default:
+					values[i] = fields[i].getEnd(length);
+			}
+		}
+	}
+
+	/**
+	 * Returns the field at given index.
+	 *
+	 * @param index Field index
+	 * @return AISField
+	 */
+	public AISField getField(int index) {
+		return fields[index];
+	}
+
+	/**
+	 * Returns the maximum length of message in bits.
+	 */
+	public int getMaxLength() {
+		return maxLength;
+	}
+
+	/**
+	 * Returns the minimum length of message in bits.
+	 */
+	public int getMinLength() {
+		return minLength;
+	}
+
+	/**
+	 * Tells if the given message length is allowed by this layout.
+	 *
+	 * @param length Message length in bits
+	 * @return true if within min and max length, otherwise false
+	 */
+	public boolean isValidLength(int length) {
+		return length >= minLength && length <= maxLength;
+	}
+
+	/**
+	 * Returns the number of fields in layout.
+	 */
+	public int size() {
+		return fields.length;
+	}
+}
@@ -33,6 +33,7 @@ public class Sixbit {
 
 	private final String	fPayload;
 	private BitVector		fBitVector;
+	private final long[]	fWords;    // payload bits packed MSB first
 	private final int	    fFillBits; // Number of padding bits at end
 
     /**
@@ -52,13 +53,20 @@ public class Sixbit {
 		if (!isValidString(fPayload))
 			throw new IllegalArgumentException("Invalid payload characters");
 
-		fBitVector = new BitVector(fPayload.length() * BITSPERCHAR);
+		// one spare word to allow reading across the last word boundary
+		int bits = fPayload.length() * BITSPERCHAR;
+		fWords = new long[(bits >>> 6) + 2];
 		for (int i = 0; i < fPayload.length(); i++) {
-			char c = fPayload.charAt(i);
-			int b = transportToBinary(c);
-			convert(b, i * BITSPERCHAR, BITSPERCHAR);
+			int b = transportToBinary(fPayload.charAt(i));
+			int offset = i * BITSPERCHAR;
+			int shift = 64 - BITSPERCHAR - (offset & 63);
+			if (shift >= 0) {
+				fWords[offset >>> 6] |= (long) b << shift;
+			} else {
+				fWords[offset >>> 6] |= (long) b >>> -shift;
+				fWords[(offset >>> 6) + 1] |= (long) b << (64 + shift);
+			}
 		}
-//		fBitVector.dump();
 		fFillBits = fillBits;
 	}
 
@@ -74,8 +82,23 @@ public class Sixbit {
 		}
 	}
 
+	/**
+	 * Returns the bit vector of message, created on first request as it is
+	 * not needed by the integer and string getters.
+	 */
+	private BitVector getBitVector() {
+		if (fBitVector == null) {
+			fBitVector = new BitVector(fPayload.length() * BITSPERCHAR);
+			for (int i = 0; i < fPayload.length(); i++) {
+				int b = transportToBinary(fPayload.charAt(i));
+				convert(b, i * BITSPERCHAR, BITSPERCHAR);
+			}
+		}
+		return fBitVector;
+	}
+
 	public BitVector get(int from, int to) {
-		return fBitVector.get(from, to);
+		return getBitVector().get(from, to);
 	}
 
 	private boolean isValidCharacter(char ascii) {
@@ -115,32 +138,22 @@ public class Sixbit {
 		return retval;
 	}
 
-	/** Decode a binary value to a content character.
-	 * 
-	 * @param value to be decoded
-	 * @return corresponding ASCII value (0x20-0x5F)
-	 *
-	 * This function returns the content character as encoded in binary value. 
-	 * See table 44 (page 100) of Rec. ITU-R M.1371-4.
-	 * 
-	 * This function is used to convert binary data to ASCII. This is 
-	 * different from the 6-bit ASCII to binary conversion for VDM 
-	 * messages; it is used for strings within the datastream itself.
-	 * eg. Ship Name, Callsign and Destination.
-	 */
-	private char binaryToContent(int value) {
-		if (value < 0x20)
-			return (char)(value + 0x40);
-		else
-			return (char)value;
-	}
-
 	/**
 	 * Return bit as boolean from the bit vector
 	 * @param index start index of bit
 	 */
 	public boolean getBoolean(int index) {
-		return fBitVector.getBoolean(index);
+		return index > 0 && getBits(index - 1, 1) != 0;
+	}
+
+	/**
+	 * Returns a single bit of the message.
+	 *
+	 * @param offset Zero-based bit offset in message
+	 * @return true if bit is set, otherwise false
+	 */
+	public boolean getBit(int offset) {
+		return getBits(offset, 1) != 0;
 	}
 
 	/**
@@ -151,41 +164,124 @@ public class Sixbit {
 	 * @return unsigned int value
 	 */
 	public int getInt(int from, int to) {
-		return fBitVector.getUInt(from, to);
+		return getBits(from, to - from);
+	}
+
+	/**
+	 * Returns the requested bits interpreted as a two's complement signed
+	 * integer (MSB first).
+	 *
+	 * @param from begin index (inclusive)
+	 * @param to end index (exclusive)
+	 * @return signed int value
+	 */
+	public int getSignedInt(int from, int to) {
+		int width = to - from;
+		if (width <= 0) {
+			return 0;
+		}
+		return (getBits(from, width) << (32 - width)) >> (32 - width);
 	}
-	
+
+	/**
+	 * Extracts up to 32 bits from the packed payload words. Bits beyond the
+	 * end of payload are read as zeros.
+	 *
+	 * @param offset Zero-based offset of first bit
+	 * @param width Number of bits to read
+	 * @return Bits as unsigned value
+	 */
+	private int getBits(int offset, int width) {
+		if (width <= 0 || offset < 0) {
+			return 0;
+		}
+		int word = offset >>> 6;
+		if (word >= fWords.length - 1) {
+			return 0;
+		}
+		int shift = offset & 63;
+		long bits = fWords[word] << shift;
+		if (shift + width > 64) {
+			bits |= fWords[word + 1] >>> (64 - shift);
+		}
+		return (int) (bits >>> (64 - width));
+	}
+
 	public int getAs8BitInt(int from, int to) {
-		return fBitVector.getAs8BitInt(from, to);
+		return getSignedInt(from, to);
 	}
 
 	public int getAs17BitInt(int from, int to) {
-		return fBitVector.getAs17BitInt(from, to);
+		return getSignedInt(from, to);
 	}
 
 	public int getAs18BitInt(int from, int to) {
-		return fBitVector.getAs18BitInt(from, to);
+		return getSignedInt(from, to);
 	}
 
 	public int getAs27BitInt(int from, int to) {
-		return fBitVector.getAs27BitInt(from, to);
+		return getSignedInt(from, to);
 	}
 
 	public int getAs28BitInt(int from, int to) {
-		return fBitVector.getAs28BitInt(from, to);
+		return getSignedInt(from, to);
 	}
 
 	/**
-	 * Return string from bit vector
+	 * Return string from bit vector. Fields of up to
+	 * {@link SixbitStringCache#MAX_CHARS} characters are interned, i.e. equal
+	 * fields return the same String instance.
+	 *
 	 * @param fromIndex begin index (inclusive)
-	 * @param toIndex end index (inclusive)
+	 * @param toIndex end index (exclusive)
+	 * @see SixbitStringCache
 	 */
 	public String getString(int fromIndex, int toIndex) {
-		StringBuilder sb = new StringBuilder();
-		for (int i = fromIndex; i < toIndex; i += BITSPERCHAR) {
-			int value = getInt(i, i + BITSPERCHAR);
-			sb.append(binaryToContent(value));
+		final int chars = (toIndex - fromIndex + BITSPERCHAR - 1) / BITSPERCHAR;
+		if (chars <= 0) {
+			return "";
+		}
+		final SixbitStringCache cache = SixbitStringCache.getInstance();
+		if (cache != null && chars <= SixbitStringCache.MAX_CHARS) {
+			int n = Math.min(chars, 10);
+			long high = getLong(fromIndex, n * BITSPERCHAR);
+			long low = getLong(fromIndex + n * BITSPERCHAR, (chars - n) * BITSPERCHAR);
+			return cache.get(high, low, chars);
+		}
+		char[] buf = new char[chars];
+		for (int i = 0; i < chars; i++) {
+			buf[i] = SixbitStringCache.toContent(getBits(fromIndex + i * BITSPERCHAR, BITSPERCHAR));
+		}
+		return SixbitStringCache.toString(buf, chars);
+	}
+
+	/**
+	 * Extracts up to 60 bits from the packed payload words.
+	 */
+	private long getLong(int offset, int width) {
+		if (width <= 30) {
+			return getBits(offset, width);
+		}
+		return ((long) getBits(offset, width - 30) << 30) | getBits(offset + width - 30, 30);
+	}
+
+	/**
+	 * Returns the specified bits packed in bytes, MSB first. If the number
+	 * of bits is not a multiple of eight, the last byte is padded with zeros.
+	 *
+	 * @param from begin index (inclusive)
+	 * @param to end index (exclusive)
+	 * @return Byte array, empty if range is empty.
+	 */
+	public byte[] getBytes(int from, int to) {
+		int bits = Math.max(0, to - from);
+		byte[] bytes = new byte[(bits + 7) / 8];
+		for (int i = 0; i < bytes.length; i++) {
+			int offset = from + i * 8;
+			int width = Math.min(8, to - offset);
+			bytes[i] = (byte) (getBits(offset, width) << (8 - width));
 		}
-		return stripAtSigns(sb.toString());
+		return bytes;
 	}
 
 	public static String stripAtSigns(String orig) {
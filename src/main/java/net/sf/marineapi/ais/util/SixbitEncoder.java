@@ -0,0 +1,200 @@
+/*
+ * SixbitEncoder.java
+ * Copyright (C) 2026 Kimmo Tuukkanen
+ *
+ * This file is part of Java Marine API.
+ * <http://ktuukkan.github.io/marine-api/>
+ *
+ * Java Marine API is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * Java Marine API is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Java Marine API. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sf.marineapi.ais.util;
+
+/**
+ * Sequential bit packer producing armored 6-bit AIS payload, i.e. the inverse
+ * of {@link Sixbit}. Fields are appended MSB first in the order they appear in
+ * the message. The encoder may be reused by calling {@link #reset()}.
+ *
+ * @author Kimmo Tuukkanen
+ * @see Sixbit
+ */
+public class SixbitEncoder {
+
+	private final StringBuilder payload;
+
+	// pending bits of incomplete character
+	private int pending;
+	private int pendingBits;
+
+	/**
+	 * Creates a new encoder.
+	 */
+	public SixbitEncoder() {
+		this(168);
+	}
+
+	/**
+	 * Creates a new encoder with initial capacity.
+	 *
+	 * @param bits Expected message length in bits
+	 */
+	public SixbitEncoder(int bits) {
+		payload = new StringBuilder(bits / Sixbit.BITSPERCHAR + 1);
+	}
+
+	/**
+	 * Appends the lowest bits of given integer. Negative values are encoded in
+	 * two's complement, thus the same method is used for signed fields.
+	 *
+	 * @param value Value to append
+	 * @param width Number of bits, 0 - 32.
+	 * @return This encoder
+	 */
+	public SixbitEncoder putInt(int value, int width) {
+		if (width < 0 || width > 32) {
+			throw new IllegalArgumentException("Width must be in range 0 - 32");
+		}
+		while (width > 0) {
+			int n = Math.min(Sixbit.BITSPERCHAR - pendingBits, width);
+			width -= n;
+			pending = (pending << n) | ((value >>> width) & ((1 << n) - 1));
+			pendingBits += n;
+			if (pendingBits == Sixbit.BITSPERCHAR) {
+				payload.append(armor(pending));
+				pending = 0;
+				pendingBits = 0;
+			}
+		}
+		return this;
+	}
+
+	/**
+	 * Appends a single bit.
+	 *
+	 * @param value Value to append
+	 * @return This encoder
+	 */
+	public SixbitEncoder putBoolean(boolean value) {
+		return putInt(value ? 1 : 0, 1);
+	}
+
+	/**
+	 * Appends given number of zero bits, e.g. for spare fields.
+	 *
+	 * @param width Number of bits
+	 * @return This encoder
+	 */
+	public SixbitEncoder skip(int width) {
+		while (width > 32) {
+			putInt(0, 32);
+			width -= 32;
+		}
+		return putInt(0, width);
+	}
+
+	/**
+	 * Appends text in 6-bit ASCII, padded with '@' signs or truncated to given
+	 * width. Lower-case letters are converted to upper-case and characters not
+	 * available in 6-bit ASCII are replaced with '?'.
+	 *
+	 * @param text Text to append, <code>null</code> is encoded as empty.
+	 * @param width Field width in bits, multiple of six.
+	 * @return This encoder
+	 */
+	public SixbitEncoder putString(String text, int width) {
+		int chars = width / Sixbit.BITSPERCHAR;
+		int len = text == null ? 0 : Math.min(text.length(), chars);
+		for (int i = 0; i < len; i++) {
+			putInt(toContent(text.charAt(i)), Sixbit.BITSPERCHAR);
+		}
+		return skip((chars - len) * Sixbit.BITSPERCHAR);
+	}
+
+	/**
+	 * Appends bits from given bytes, MSB first.
+	 *
+	 * @param data Data to append
+	 * @param bits Number of bits to append
+	 * @return This encoder
+	 */
+	public SixbitEncoder putBytes(byte[] data, int bits) {
+		for (int i = 0; bits > 0; i++) {
+			int n = Math.min(8, bits);
+			putInt((data[i] & 0xFF) >>> (8 - n), n);
+			bits -= n;
+		}
+		return this;
+	}
+
+	/**
+	 * Returns the number of bits appended.
+	 */
+	public int length() {
+		return payload.length() * Sixbit.BITSPERCHAR + pendingBits;
+	}
+
+	/**
+	 * Returns the armored payload. Last character is padded with fill bits.
+	 *
+	 * @return Payload String
+	 * @see #getFillBits()
+	 */
+	public String getPayload() {
+		if (pendingBits == 0) {
+			return payload.toString();
+		}
+		int last = pending << (Sixbit.BITSPERCHAR - pendingBits);
+		return new StringBuilder(payload.length() + 1)
+			.append(payload).append(armor(last)).toString();
+	}
+
+	/**
+	 * Returns the number of fill bits in payload.
+	 *
+	 * @return Fill bits, 0 - 5.
+	 */
+	public int getFillBits() {
+		return pendingBits == 0 ? 0 : Sixbit.BITSPERCHAR - pendingBits;
+	}
+
+	/**
+	 * Clears the encoder for reuse.
+	 */
+	public void reset() {
+		payload.setLength(0);
+		pending = 0;
+		pendingBits = 0;
+	}
+
+	/**
+	 * Encodes 6-bit value to transport character.
+	 */
+	private static char armor(int value) {
+		return (char) (value < 40 ? value + 0x30 : value + 0x38);
+	}
+
+	/**
+	 * Encodes content character to 6-bit value, see table 44 of
+	 * Rec. ITU-R M.1371.
+	 */
+	private static int toContent(char ch) {
+		char c = Character.toUpperCase(ch);
+		if (c >= 0x40 && c < 0x60) {
+			return c - 0x40;
+		}
+		if (c >= 0x20 && c < 0x40) {
+			return c;
+		}
+		return '?';
+	}
+}
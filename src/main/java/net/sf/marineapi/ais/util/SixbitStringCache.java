@@ -0,0 +1,177 @@
+/*
+ * SixbitStringCache.java
+ * Copyright (C) 2026 Kimmo Tuukkanen
+ *
+ * This file is part of Java Marine API.
+ * <http://ktuukkan.github.io/marine-api/>
+ *
+ * Java Marine API is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * Java Marine API is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Java Marine API. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sf.marineapi.ais.util;
+
+/**
+ * <p>
+ * Bounded intern cache of 6-bit text fields, such as vessel names, call
+ * signs and destinations. Entries are keyed by the raw bits of the field,
+ * thus a name received repeatedly is decoded once and every message then
+ * shares the same <code>String</code> instance.</p>
+ * <p>
+ * The cache is a direct-mapped table of fixed size; colliding entries
+ * replace each other, so the memory used is bounded regardless of the number
+ * of distinct names. Entries are immutable and the cache may be used by
+ * several threads without locking. Fields longer than {@link #MAX_CHARS}
+ * characters are not cached.</p>
+ *
+ * @author Kimmo Tuukkanen
+ * @see Sixbit#getString(int, int)
+ */
+public class SixbitStringCache {
+
+	/** Default number of entries */
+	public static final int DEFAULT_SIZE = 8192;
+
+	/** Maximum length of cached fields in characters */
+	public static final int MAX_CHARS = 20;
+
+	// characters per key word
+	private static final int WORD_CHARS = 10;
+
+	// content characters by 6-bit value, table 44 of Rec. ITU-R M.1371
+	private static final char[] CONTENT =
+		"@ABCDEFGHIJKLMNOPQRSTUVWXYZ[\\]^_ !\"#$%&'()*+,-./0123456789:;<=>?".toCharArray();
+
+	private static volatile SixbitStringCache instance = new SixbitStringCache(DEFAULT_SIZE);
+
+	private final Entry[] table;
+	private final int shift;
+
+	/**
+	 * Creates a new cache.
+	 *
+	 * @param size Number of entries, rounded up to a power of two.
+	 * @throws IllegalArgumentException If size is not positive.
+	 */
+	public SixbitStringCache(int size) {
+		if (size < 1) {
+			throw new IllegalArgumentException("Size must be positive");
+		}
+		int bits = Math.max(1, 32 - Integer.numberOfLeadingZeros(size - 1));
+		this.table = new Entry[1 << bits];
+		this.shift = 64 - bits;
+	}
+
+	/**
+	 * Returns the cache used by {@link Sixbit}.
+	 *
+	 * @return Cache instance, or <code>null</code> if caching is disabled.
+	 */
+	public static SixbitStringCache getInstance() {
+		return instance;
+	}
+
+	/**
+	 * Sets the cache used by {@link Sixbit}, e.g. to adjust its size.
+	 *
+	 * @param cache Cache to use, or <code>null</code> to disable caching.
+	 */
+	public static void setInstance(SixbitStringCache cache) {
+		instance = cache;
+	}
+
+	/**
+	 * Returns the number of entries.
+	 */
+	public int size() {
+		return table.length;
+	}
+
+	/**
+	 * Removes all entries.
+	 */
+	public void clear() {
+		for (int i = 0; i < table.length; i++) {
+			table[i] = null;
+		}
+	}
+
+	/**
+	 * Returns the text of given field bits, decoding it on cache miss.
+	 *
+	 * @param high Bits of the first ten characters, right-aligned.
+	 * @param low Bits of the remaining characters, right-aligned.
+	 * @param chars Field length in characters, at most {@link #MAX_CHARS}.
+	 * @return Decoded text, trailing '@' signs removed.
+	 */
+	String get(long high, long low, int chars) {
+		long h = (high * 0x9E3779B97F4A7C15L) ^ (low * 0xC2B2AE3D27D4EB4FL) ^ chars;
+		int i = (int) ((h ^ (h >>> 31)) * 0x9E3779B97F4A7C15L >>> shift);
+		Entry e = table[i];
+		if (e != null && e.high == high && e.low == low && e.chars == chars) {
+			return e.text;
+		}
+		String text = decode(high, low, chars);
+		table[i] = new Entry(high, low, chars, text);
+		return text;
+	}
+
+	/**
+	 * Decodes the field bits by table lookup.
+	 */
+	static String decode(long high, long low, int chars) {
+		char[] buf = new char[chars];
+		int n = Math.min(chars, WORD_CHARS);
+		for (int i = 0; i < n; i++) {
+			buf[i] = CONTENT[(int) (high >>> ((n - 1 - i) * Sixbit.BITSPERCHAR)) & 0x3F];
+		}
+		for (int i = n; i < chars; i++) {
+			buf[i] = CONTENT[(int) (low >>> ((chars - 1 - i) * Sixbit.BITSPERCHAR)) & 0x3F];
+		}
+		return toString(buf, chars);
+	}
+
+	/**
+	 * Converts 6-bit value to content character.
+	 */
+	static char toContent(int value) {
+		return CONTENT[value & 0x3F];
+	}
+
+	/**
+	 * Creates a String of given characters without trailing '@' signs, see
+	 * {@link Sixbit#stripAtSigns(String)}.
+	 */
+	static String toString(char[] buf, int length) {
+		int end = length;
+		while (end > 0 && buf[end - 1] == '@') {
+			end--;
+		}
+		// field of '@' signs only is returned as is
+		return new String(buf, 0, end == 0 ? length : end);
+	}
+
+	private static final class Entry {
+
+		final long high;
+		final long low;
+		final int chars;
+		final String text;
+
+		Entry(long high, long low, int chars, String text) {
+			this.high = high;
+			this.low = low;
+			this.chars = chars;
+			this.text = text;
+		}
+	}
+}
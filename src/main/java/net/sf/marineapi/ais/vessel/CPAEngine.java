@@ -0,0 +1,405 @@
+/*
+ * CPAEngine.java
+ * Copyright (C) 2026 Kimmo Tuukkanen
+ *
+ * This file is part of Java Marine API.
+ * <http://ktuukkan.github.io/marine-api/>
+ *
+ * Java Marine API is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * Java Marine API is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Java Marine API. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sf.marineapi.ais.vessel;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import net.sf.marineapi.nmea.sentence.TTMSentence;
+import net.sf.marineapi.nmea.util.Units;
+import net.sf.marineapi.util.IntObjectMap;
+
+/**
+ * <p>
+ * Incremental closest point of approach (CPA) and time to CPA (TCPA)
+ * computation over tracked targets. When a target is updated, only the pairs
+ * formed with targets within the evaluation range are re-evaluated; the
+ * neighbours are found with a {@link SpatialIndex}. The other target of each
+ * pair is dead-reckoned to the time of update using its last known speed and
+ * course.</p>
+ * <p>
+ * A pair is in alarm when the CPA is within the distance limit and it will be
+ * reached within the time limit. Listeners are notified when a pair enters or
+ * leaves the alarm condition, not on every update.</p>
+ * <p>
+ * Targets are identified by MMSI. Own ship is identified by
+ * {@link #OWN_SHIP} and radar targets reported in TTM sentences by
+ * {@link #getRadarTargetId(int)}, both of which are negative and never
+ * collide with MMSIs. CPA is computed on a local plane at the mean latitude
+ * of the pair, which is accurate within the typical ranges of collision
+ * avoidance. All methods are synchronized.</p>
+ *
+ * @author Kimmo Tuukkanen
+ * @see CPAListener
+ * @see SpatialIndex
+ */
+public class CPAEngine {
+
+	/** Target identifier of own ship */
+	public static final int OWN_SHIP = -1;
+
+	private static final double METERS_PER_DEGREE = 1852.0 * 60;
+	private static final double KNOTS_TO_MS = 1852.0 / 3600;
+
+	private final double range;
+	private final double cpaLimit;
+	private final double tcpaLimit;
+	private final SpatialIndex index = new SpatialIndex();
+	private final IntObjectMap<Target> targets = new IntObjectMap<Target>();
+	private final List<CPAListener> listeners = new ArrayList<CPAListener>();
+
+	// reusable result of compute(), distance, cpa and tcpa
+	private final double[] result = new double[3];
+
+	/**
+	 * Last known state of a target and the partners it is in alarm with.
+	 */
+	private static final class Target {
+
+		final int id;
+		double lat;
+		double lon;
+		double vx;
+		double vy;
+		long time;
+		int[] alarms = new int[2];
+		int alarmCount;
+
+		Target(int id) {
+			this.id = id;
+		}
+
+		boolean hasAlarm(int other) {
+			for (int i = 0; i < alarmCount; i++) {
+				if (alarms[i] == other) {
+					return true;
+				}
+			}
+			return false;
+		}
+
+		void addAlarm(int other) {
+			if (alarmCount == alarms.length) {
+				int[] a = new int[alarmCount * 2];
+				System.arraycopy(alarms, 0, a, 0, alarmCount);
+				alarms = a;
+			}
+			alarms[alarmCount++] = other;
+		}
+
+		void removeAlarm(int other) {
+			for (int i = 0; i < alarmCount; i++) {
+				if (alarms[i] == other) {
+					alarms[i] = alarms[--alarmCount];
+					return;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Creates a new engine.
+	 *
+	 * @param range Range for evaluating pairs, in meters.
+	 * @param cpaLimit Alarm limit of CPA distance, in meters.
+	 * @param tcpaLimit Alarm limit of time to CPA, in seconds.
+	 * @throws IllegalArgumentException If any of the limits is not positive.
+	 */
+	public CPAEngine(double range, double cpaLimit, double tcpaLimit) {
+		if (!(range > 0 && cpaLimit > 0 && tcpaLimit > 0)) {
+			throw new IllegalArgumentException("Range and limits must be positive");
+		}
+		this.range = range;
+		this.cpaLimit = cpaLimit;
+		this.tcpaLimit = tcpaLimit;
+	}
+
+	/**
+	 * Adds a listener for CPA alarms.
+	 *
+	 * @param listener Listener to add
+	 */
+	public synchronized void addListener(CPAListener listener) {
+		listeners.add(listener);
+	}
+
+	/**
+	 * Removes a listener.
+	 *
+	 * @param listener Listener to remove
+	 */
+	public synchronized void removeListener(CPAListener listener) {
+		listeners.remove(listener);
+	}
+
+	/**
+	 * Returns the identifier of radar target reported in TTM sentences.
+	 *
+	 * @param number Target number, 0 - 99.
+	 * @return Target identifier
+	 */
+	public static int getRadarTargetId(int number) {
+		return -100 - number;
+	}
+
+	/**
+	 * Updates the state of own ship.
+	 *
+	 * @param lat Latitude in degrees
+	 * @param lon Longitude in degrees
+	 * @param sog Speed over ground in knots
+	 * @param cog Course over ground in degrees
+	 * @param time Time of position in milliseconds
+	 */
+	public void setOwnShip(double lat, double lon, double sog, double cog, long time) {
+		update(OWN_SHIP, lat, lon, sog, cog, time);
+	}
+
+	/**
+	 * Updates the state of given vessel. Vessels without position are
+	 * ignored. Unavailable speed or course are considered as zero speed.
+	 *
+	 * @param vessel Vessel to update
+	 */
+	public void update(Vessel vessel) {
+		if (!vessel.hasPosition()) {
+			return;
+		}
+		int sog = vessel.getSpeedOverGround();
+		int cog = vessel.getCourseOverGround();
+		boolean moving = sog != Vessel.NO_SPEED && cog < Vessel.NO_COURSE;
+		update(vessel.getMMSI(), vessel.getLatitude(), vessel.getLongitude(),
+			moving ? sog / 10.0 : 0, moving ? cog / 10.0 : 0,
+			vessel.getPositionTime());
+	}
+
+	/**
+	 * Updates the state of a radar target. Target position is resolved from
+	 * the range and bearing relative to own ship, which must be set before.
+	 * Bearing and course must be true, as own heading is not known.
+	 *
+	 * @param ttm Tracked target message
+	 * @param time Time of reception in milliseconds
+	 * @throws IllegalStateException If own ship has not been set.
+	 * @throws IllegalArgumentException If bearing or course is relative.
+	 */
+	public synchronized void update(TTMSentence ttm, long time) {
+		if (!ttm.isBearingTrue() || !ttm.isCourseTrue()) {
+			throw new IllegalArgumentException("Relative bearing or course not supported");
+		}
+		Target own = targets.get(OWN_SHIP);
+		if (own == null) {
+			throw new IllegalStateException("Own ship position not set");
+		}
+		double scale = ttm.getUnits() == Units.KMH ? 1000 : 1852;
+		double distance = ttm.getDistance() * scale;
+		double bearing = Math.toRadians(ttm.getBearing());
+		double dt = (time - own.time) / 1000.0;
+		double ownLat = own.lat + own.vy * dt / METERS_PER_DEGREE;
+		double ownLon = own.lon + own.vx * dt / metersPerDegreeLon(own.lat);
+		double lat = ownLat + distance * Math.cos(bearing) / METERS_PER_DEGREE;
+		double lon = ownLon + distance * Math.sin(bearing) / metersPerDegreeLon(ownLat);
+		double knots = ttm.getSpeed() * scale / 1852;
+		update(getRadarTargetId(ttm.getNumber()), lat, lon, knots, ttm.getCourse(), time);
+	}
+
+	/**
+	 * Updates the state of given target and re-evaluates the pairs it forms
+	 * with the targets within range.
+	 *
+	 * @param id Target identifier, MMSI or one of the special identifiers.
+	 * @param lat Latitude in degrees
+	 * @param lon Longitude in degrees
+	 * @param sog Speed over ground in knots
+	 * @param cog Course over ground in degrees
+	 * @param time Time of position in milliseconds
+	 * @throws IllegalArgumentException If identifier is zero.
+	 */
+	public synchronized void update(int id, double lat, double lon, double sog, double cog, long time) {
+		if (id == 0) {
+			throw new IllegalArgumentException("Target id cannot be zero");
+		}
+		Target t = targets.get(id);
+		if (t == null) {
+			t = new Target(id);
+			targets.put(id, t);
+		}
+		double speed = sog * KNOTS_TO_MS;
+		double course = Math.toRadians(cog);
+		t.lat = lat;
+		t.lon = lon;
+		t.vx = speed * Math.sin(course);
+		t.vy = speed * Math.cos(course);
+		t.time = time;
+		index.update(id, lat, lon);
+
+		final int[] near = index.findWithin(lat, lon, range);
+		for (int other : near) {
+			if (other != id) {
+				evaluate(t, targets.get(other));
+			}
+		}
+
+		// alarms with targets that are now out of range
+		for (int i = t.alarmCount - 1; i >= 0; i--) {
+			int other = t.alarms[i];
+			if (!contains(near, other)) {
+				evaluate(t, targets.get(other));
+			}
+		}
+	}
+
+	/**
+	 * Removes the given target. Alarms of target are cleared and listeners
+	 * notified.
+	 *
+	 * @param id Target identifier
+	 * @return true if removed, false if not found
+	 */
+	public synchronized boolean remove(int id) {
+		Target t = targets.remove(id);
+		if (t == null) {
+			return false;
+		}
+		index.remove(id);
+		while (t.alarmCount > 0) {
+			Target other = targets.get(t.alarms[t.alarmCount - 1]);
+			compute(t, other);
+			t.removeAlarm(other.id);
+			other.removeAlarm(t.id);
+			fire(t.id, other.id, false);
+		}
+		return true;
+	}
+
+	/**
+	 * Computes the CPA of two targets at the time of the latest update of
+	 * either one.
+	 *
+	 * @param first Identifier of first target
+	 * @param second Identifier of second target
+	 * @return Encounter, or <code>null</code> if either target is unknown.
+	 */
+	public synchronized CPAEvent getEncounter(int first, int second) {
+		Target a = targets.get(first);
+		Target b = targets.get(second);
+		if (a == null || b == null || a == b) {
+			return null;
+		}
+		if (b.time > a.time) {
+			compute(b, a);
+		} else {
+			compute(a, b);
+		}
+		return newEvent(first, second, a.hasAlarm(second));
+	}
+
+	/**
+	 * Tells if the given targets are in alarm.
+	 *
+	 * @param first Identifier of first target
+	 * @param second Identifier of second target
+	 * @return true if in alarm, otherwise false.
+	 */
+	public synchronized boolean isAlarm(int first, int second) {
+		Target t = targets.get(first);
+		return t != null && t.hasAlarm(second);
+	}
+
+	/**
+	 * Returns the number of tracked targets.
+	 */
+	public synchronized int size() {
+		return targets.size();
+	}
+
+	/**
+	 * Evaluates a pair and notifies listeners if alarm state changed.
+	 */
+	private void evaluate(Target t, Target other) {
+		compute(t, other);
+		final double distance = result[0];
+		final double cpa = result[1];
+		final double tcpa = result[2];
+		boolean alarm = distance <= range && cpa <= cpaLimit && tcpa >= 0 && tcpa <= tcpaLimit;
+		if (alarm != t.hasAlarm(other.id)) {
+			if (alarm) {
+				t.addAlarm(other.id);
+				other.addAlarm(t.id);
+			} else {
+				t.removeAlarm(other.id);
+				other.removeAlarm(t.id);
+			}
+			fire(t.id, other.id, alarm);
+		}
+	}
+
+	/**
+	 * Computes distance, CPA and TCPA of two targets into result array. The
+	 * other target is dead-reckoned to the time of first.
+	 */
+	private void compute(Target t, Target other) {
+		final double dt = (t.time - other.time) / 1000.0;
+		final double mx = metersPerDegreeLon((t.lat + other.lat) / 2);
+		double dLon = other.lon - t.lon;
+		if (dLon > 180) {
+			dLon -= 360;
+		} else if (dLon < -180) {
+			dLon += 360;
+		}
+		final double rx = dLon * mx + other.vx * dt;
+		final double ry = (other.lat - t.lat) * METERS_PER_DEGREE + other.vy * dt;
+		final double vx = other.vx - t.vx;
+		final double vy = other.vy - t.vy;
+		final double v2 = vx * vx + vy * vy;
+		final double tcpa = v2 < 1e-9 ? 0 : -(rx * vx + ry * vy) / v2;
+		final double cx = rx + vx * tcpa;
+		final double cy = ry + vy * tcpa;
+		result[0] = Math.sqrt(rx * rx + ry * ry);
+		result[1] = tcpa < 0 ? result[0] : Math.sqrt(cx * cx + cy * cy);
+		result[2] = tcpa;
+	}
+
+	private void fire(int a, int b, boolean alarm) {
+		CPAEvent event = newEvent(a, b, alarm);
+		for (CPAListener listener : new ArrayList<CPAListener>(listeners)) {
+			listener.cpaChanged(event);
+		}
+	}
+
+	private CPAEvent newEvent(int a, int b, boolean alarm) {
+		return new CPAEvent(this, Math.min(a, b), Math.max(a, b), result[0],
+			result[1], result[2], alarm);
+	}
+
+	private static double metersPerDegreeLon(double lat) {
+		return METERS_PER_DEGREE * Math.cos(Math.toRadians(lat));
+	}
+
+	private static boolean contains(int[] ids, int id) {
+		for (int i : ids) {
+			if (i == id) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
@@ -0,0 +1,122 @@
+/*
+ * CPAEvent.java
+ * Copyright (C) 2026 Kimmo Tuukkanen
+ *
+ * This file is part of Java Marine API.
+ * <http://ktuukkan.github.io/marine-api/>
+ *
+ * Java Marine API is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * Java Marine API is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Java Marine API. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sf.marineapi.ais.vessel;
+
+import java.util.EventObject;
+
+/**
+ * Describes the encounter of two targets at the time of evaluation; current
+ * distance, distance at closest point of approach (CPA) and time to CPA.
+ *
+ * @author Kimmo Tuukkanen
+ * @see CPAEngine
+ * @see CPAListener
+ */
+public class CPAEvent extends EventObject {
+
+	private static final long serialVersionUID = -3207140283712338851L;
+
+	private final int first;
+	private final int second;
+	private final double distance;
+	private final double cpa;
+	private final double tcpa;
+	private final boolean alarm;
+
+	/**
+	 * Creates a new event.
+	 *
+	 * @param source Source of event
+	 * @param first Identifier of first target, the smaller of the two.
+	 * @param second Identifier of second target
+	 * @param distance Current distance in meters
+	 * @param cpa Distance at CPA in meters
+	 * @param tcpa Time to CPA in seconds, negative if CPA has passed.
+	 * @param alarm Tells if the encounter is within alarm limits
+	 */
+	public CPAEvent(Object source, int first, int second, double distance,
+		double cpa, double tcpa, boolean alarm) {
+		super(source);
+		this.first = first;
+		this.second = second;
+		this.distance = distance;
+		this.cpa = cpa;
+		this.tcpa = tcpa;
+		this.alarm = alarm;
+	}
+
+	/**
+	 * Returns the identifier of first target, i.e. MMSI or one of the
+	 * special identifiers defined in {@link CPAEngine}.
+	 */
+	public int getFirst() {
+		return first;
+	}
+
+	/**
+	 * Returns the identifier of second target.
+	 */
+	public int getSecond() {
+		return second;
+	}
+
+	/**
+	 * Returns the distance between targets at the time of evaluation.
+	 *
+	 * @return Distance in meters
+	 */
+	public double getDistance() {
+		return distance;
+	}
+
+	/**
+	 * Returns the distance at closest point of approach.
+	 *
+	 * @return Distance in meters
+	 */
+	public double getCPA() {
+		return cpa;
+	}
+
+	/**
+	 * Returns the time to closest point of approach.
+	 *
+	 * @return Time in seconds, negative if targets are moving apart.
+	 */
+	public double getTCPA() {
+		return tcpa;
+	}
+
+	/**
+	 * Tells if the encounter is within the alarm limits.
+	 *
+	 * @return true if alarm is on, false if cleared.
+	 */
+	public boolean isAlarm() {
+		return alarm;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("%d/%d CPA %.0f m in %.0f s%s", first, second,
+			cpa, tcpa, alarm ? " [ALARM]" : "");
+	}
+}
@@ -0,0 +1,465 @@
+/*
+ * SpatialIndex.java
+ * Copyright (C) 2026 Kimmo Tuukkanen
+ *
+ * This file is part of Java Marine API.
+ * <http://ktuukkan.github.io/marine-api/>
+ *
+ * Java Marine API is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * Java Marine API is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Java Marine API. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sf.marineapi.ais.vessel;
+
+import java.util.Arrays;
+
+import net.sf.marineapi.util.IntObjectMap;
+
+/**
+ * <p>
+ * Spatial index of vessel positions for bounding box, radius and nearest
+ * neighbour queries. Positions are bucketed in a uniform grid of latitude and
+ * longitude cells, so that updates are O(1) and queries only examine the cells
+ * that intersect the query area. Each cell stores the MMSIs and coordinates in
+ * primitive arrays, thus scanning a cell does not touch any other objects.</p>
+ * <p>
+ * The index is maintained incrementally, by calling {@link #update(Vessel)}
+ * or {@link #update(int, double, double)} whenever a position report is
+ * received and {@link #remove(int)} when the vessel is evicted, e.g. from
+ * {@link VesselTable}.</p>
+ * <p>
+ * Distances are computed with the same spherical model as
+ * {@link net.sf.marineapi.nmea.util.Position#distanceTo(net.sf.marineapi.nmea.util.Position)},
+ * i.e. one degree of latitude equals exactly 60 nautical miles. All methods
+ * are synchronized.</p>
+ *
+ * @author Kimmo Tuukkanen
+ * @see VesselTable
+ */
+public class SpatialIndex {
+
+	/** Default cell size in degrees */
+	public static final double DEFAULT_CELL_SIZE = 0.1;
+
+	private static final double EARTH_RADIUS = 6366707.02;
+	private static final double METERS_PER_DEGREE = 1852.0 * 60;
+
+	private final double cellSize;
+	private final int rows;
+	private final int cols;
+	private final IntObjectMap<Cell> cells = new IntObjectMap<Cell>();
+	private final IntObjectMap<Cell> locations = new IntObjectMap<Cell>();
+
+	/**
+	 * Grid cell holding the vessels within it.
+	 */
+	private static final class Cell {
+
+		final int key;
+		int count;
+		int[] ids = new int[4];
+		double[] lats = new double[4];
+		double[] lons = new double[4];
+
+		Cell(int key) {
+			this.key = key;
+		}
+
+		void add(int id, double lat, double lon) {
+			if (count == ids.length) {
+				ids = Arrays.copyOf(ids, count * 2);
+				lats = Arrays.copyOf(lats, count * 2);
+				lons = Arrays.copyOf(lons, count * 2);
+			}
+			ids[count] = id;
+			lats[count] = lat;
+			lons[count] = lon;
+			count++;
+		}
+
+		void move(int id, double lat, double lon) {
+			int i = indexOf(id);
+			lats[i] = lat;
+			lons[i] = lon;
+		}
+
+		void remove(int id) {
+			int i = indexOf(id);
+			count--;
+			ids[i] = ids[count];
+			lats[i] = lats[count];
+			lons[i] = lons[count];
+		}
+
+		int indexOf(int id) {
+			for (int i = 0; i < count; i++) {
+				if (ids[i] == id) {
+					return i;
+				}
+			}
+			throw new IllegalStateException("Vessel not in cell: " + id);
+		}
+	}
+
+	/**
+	 * Creates an index with default cell size.
+	 */
+	public SpatialIndex() {
+		this(DEFAULT_CELL_SIZE);
+	}
+
+	/**
+	 * Creates an index with given cell size. Cells should be roughly the size
+	 * of typical query area; too small cells increase the number of cells to
+	 * examine, too large increase the number of vessels to filter.
+	 *
+	 * @param cellSize Cell size in degrees, within [0.01, 90]
+	 * @throws IllegalArgumentException If cell size is out of bounds.
+	 */
+	public SpatialIndex(double cellSize) {
+		if (!(cellSize >= 0.01 && cellSize <= 90)) {
+			throw new IllegalArgumentException("Cell size must be within [0.01, 90]");
+		}
+		this.cellSize = cellSize;
+		this.rows = (int) Math.ceil(180 / cellSize);
+		this.cols = (int) Math.ceil(360 / cellSize);
+	}
+
+	/**
+	 * Updates the position of given vessel. Vessels without valid position
+	 * are removed from index.
+	 *
+	 * @param vessel Vessel to update
+	 */
+	public void update(Vessel vessel) {
+		if (vessel.hasPosition()) {
+			update(vessel.getMMSI(), vessel.getLatitude(), vessel.getLongitude());
+		} else {
+			remove(vessel.getMMSI());
+		}
+	}
+
+	/**
+	 * Updates the position of given vessel. Positions out of range, such as
+	 * the "not available" values 91 and 181, remove the vessel from index.
+	 *
+	 * @param mmsi MMSI of vessel
+	 * @param lat Latitude in degrees
+	 * @param lon Longitude in degrees
+	 */
+	public synchronized void update(int mmsi, double lat, double lon) {
+		if (!(lat >= -90 && lat <= 90 && lon >= -180 && lon <= 180)) {
+			remove(mmsi);
+			return;
+		}
+		final int key = cellKey(row(lat), col(lon));
+		Cell cell = locations.get(mmsi);
+		if (cell != null) {
+			if (cell.key == key) {
+				cell.move(mmsi, lat, lon);
+				return;
+			}
+			removeFrom(cell, mmsi);
+		}
+		cell = cells.get(key);
+		if (cell == null) {
+			cell = new Cell(key);
+			cells.put(key, cell);
+		}
+		cell.add(mmsi, lat, lon);
+		locations.put(mmsi, cell);
+	}
+
+	/**
+	 * Removes the given vessel from index.
+	 *
+	 * @param mmsi MMSI of vessel
+	 * @return true if removed, false if not found.
+	 */
+	public synchronized boolean remove(int mmsi) {
+		Cell cell = locations.remove(mmsi);
+		if (cell != null) {
+			removeFrom(cell, mmsi);
+			return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Tells if the index contains given vessel.
+	 *
+	 * @param mmsi MMSI of vessel
+	 * @return true if found, otherwise false
+	 */
+	public synchronized boolean contains(int mmsi) {
+		return locations.containsKey(mmsi);
+	}
+
+	/**
+	 * Returns the number of vessels in index.
+	 */
+	public synchronized int size() {
+		return locations.size();
+	}
+
+	/**
+	 * Removes all vessels from index.
+	 */
+	public synchronized void clear() {
+		cells.clear();
+		locations.clear();
+	}
+
+	/**
+	 * Returns the vessels within given bounding box. If west is greater than
+	 * east, the box is considered to cross the antimeridian.
+	 *
+	 * @param south Southern latitude in degrees
+	 * @param west Western longitude in degrees
+	 * @param north Northern latitude in degrees
+	 * @param east Eastern longitude in degrees
+	 * @return MMSIs of vessels in no particular order
+	 */
+	public synchronized int[] findWithin(double south, double west, double north, double east) {
+		final Result result = new Result();
+		final int r0 = row(Math.max(-90, south));
+		final int r1 = row(Math.min(90, north));
+		final int c0 = col(west);
+		final int c1 = east >= 180 ? cols - 1 : col(east);
+		final boolean wraps = west > east;
+		final int span = Math.min(cols, wraps ? cols - c0 + c1 + 1 : c1 - c0 + 1);
+
+		if ((long) (r1 - r0 + 1) * span > cells.size()) {
+			// sparse grid, cheaper to check all occupied cells
+			for (int key : cells.keys()) {
+				collect(cells.get(key), south, west, north, east, wraps, result);
+			}
+		} else {
+			for (int r = r0; r <= r1; r++) {
+				for (int i = 0, c = c0; i < span; i++, c = (c + 1) % cols) {
+					collect(cells.get(cellKey(r, c)), south, west, north, east, wraps, result);
+				}
+			}
+		}
+		return result.toArray();
+	}
+
+	/**
+	 * Returns the vessels within given distance of a position.
+	 *
+	 * @param lat Latitude in degrees
+	 * @param lon Longitude in degrees
+	 * @param radius Distance in meters
+	 * @return MMSIs of vessels in no particular order
+	 */
+	public synchronized int[] findWithin(double lat, double lon, double radius) {
+		final Result result = new Result();
+		final double dLat = radius / METERS_PER_DEGREE;
+		final double limit = haversineTerm(radius);
+		final double maxLat = Math.min(90, Math.abs(lat) + dLat);
+		final double cos = Math.cos(Math.toRadians(maxLat));
+		final int r0 = row(Math.max(-90, lat - dLat));
+		final int r1 = row(Math.min(90, lat + dLat));
+
+		int c0 = 0;
+		int span = cols;
+		if (maxLat < 90 && dLat / cos < 180) {
+			double dLon = dLat / cos;
+			c0 = col(normalize(lon - dLon));
+			span = Math.min(cols, (int) Math.ceil(2 * dLon / cellSize) + 2);
+		}
+		for (int r = r0; r <= r1; r++) {
+			for (int i = 0, c = c0; i < span; i++, c = (c + 1) % cols) {
+				Cell cell = cells.get(cellKey(r, c));
+				if (cell == null) {
+					continue;
+				}
+				for (int j = 0; j < cell.count; j++) {
+					if (haversine(lat, lon, cell.lats[j], cell.lons[j]) <= limit) {
+						result.add(cell.ids[j]);
+					}
+				}
+			}
+		}
+		return result.toArray();
+	}
+
+	/**
+	 * Returns the vessels nearest to given position. Cells are examined in
+	 * rings around the position until no closer vessels can be found.
+	 *
+	 * @param lat Latitude in degrees
+	 * @param lon Longitude in degrees
+	 * @param k Maximum number of vessels to return
+	 * @return MMSIs of vessels, nearest first.
+	 */
+	public synchronized int[] findNearest(double lat, double lon, int k) {
+		if (k <= 0 || locations.isEmpty()) {
+			return new int[0];
+		}
+		final int n = Math.min(k, locations.size());
+		final int[] ids = new int[n];
+		final double[] dist = new double[n];
+		Arrays.fill(dist, Double.MAX_VALUE);
+		int found = 0;
+		int seen = 0;
+
+		final int row = row(lat);
+		final int col = col(lon);
+		final int maxRing = Math.max(rows, cols / 2 + 1);
+
+		for (int ring = 0; ring <= maxRing; ring++) {
+			if (found == n && ring > 0) {
+				// lower bound of distance to this ring vs. farthest found
+				double absLat = Math.min(90, Math.abs(lat) + (ring + 1) * cellSize);
+				double cos = Math.cos(Math.toRadians(absLat));
+				double s = Math.sin(Math.toRadians(Math.min(180, (ring - 1) * cellSize)) / 2);
+				if (s * s * cos * cos > dist[n - 1]) {
+					break;
+				}
+			}
+			if (seen == locations.size()) {
+				break;
+			}
+			for (int r = row - ring; r <= row + ring; r++) {
+				if (r < 0 || r >= rows) {
+					continue;
+				}
+				boolean edge = r == row - ring || r == row + ring;
+				int step = edge ? 1 : 2 * ring;
+				for (int dc = -ring; dc <= ring; dc += Math.max(1, step)) {
+					if (2 * ring >= cols && (dc < -cols / 2 || dc >= cols - cols / 2)) {
+						continue;
+					}
+					Cell cell = cells.get(cellKey(r, ((col + dc) % cols + cols) % cols));
+					if (cell == null) {
+						continue;
+					}
+					for (int j = 0; j < cell.count; j++) {
+						seen++;
+						double d = haversine(lat, lon, cell.lats[j], cell.lons[j]);
+						if (d < dist[n - 1]) {
+							// insertion into sorted candidates
+							int p = n - 1;
+							while (p > 0 && dist[p - 1] > d) {
+								dist[p] = dist[p - 1];
+								ids[p] = ids[p - 1];
+								p--;
+							}
+							dist[p] = d;
+							ids[p] = cell.ids[j];
+							if (found < n) {
+								found++;
+							}
+						}
+					}
+				}
+			}
+		}
+		return found == n ? ids : Arrays.copyOf(ids, found);
+	}
+
+	/**
+	 * Computes the great circle distance between two positions.
+	 *
+	 * @param lat1 Latitude of first position
+	 * @param lon1 Longitude of first position
+	 * @param lat2 Latitude of second position
+	 * @param lon2 Longitude of second position
+	 * @return Distance in meters
+	 */
+	public static double distance(double lat1, double lon1, double lat2, double lon2) {
+		double a = haversine(lat1, lon1, lat2, lon2);
+		return 2 * EARTH_RADIUS * Math.asin(Math.sqrt(Math.min(1, a)));
+	}
+
+	/**
+	 * Returns the haversine of central angle, which grows monotonically with
+	 * distance and is thus cheaper to compare than the distance itself.
+	 */
+	private static double haversine(double lat1, double lon1, double lat2, double lon2) {
+		double sLat = Math.sin(Math.toRadians(lat2 - lat1) / 2);
+		double sLon = Math.sin(Math.toRadians(lon2 - lon1) / 2);
+		return sLat * sLat + Math.cos(Math.toRadians(lat1))
+			* Math.cos(Math.toRadians(lat2)) * sLon * sLon;
+	}
+
+	/**
+	 * Returns the haversine term corresponding to given distance.
+	 */
+	private static double haversineTerm(double meters) {
+		if (meters <= 0) {
+			return 0;
+		}
+		double s = Math.sin(Math.min(Math.PI / 2, meters / (2 * EARTH_RADIUS)));
+		return s * s;
+	}
+
+	private void collect(Cell cell, double south, double west, double north,
+		double east, boolean wraps, Result result) {
+		if (cell == null) {
+			return;
+		}
+		for (int i = 0; i < cell.count; i++) {
+			double lat = cell.lats[i];
+			double lon = cell.lons[i];
+			boolean inLon = wraps ? (lon >= west || lon <= east) : (lon >= west && lon <= east);
+			if (inLon && lat >= south && lat <= north) {
+				result.add(cell.ids[i]);
+			}
+		}
+	}
+
+	private void removeFrom(Cell cell, int mmsi) {
+		cell.remove(mmsi);
+		if (cell.count == 0) {
+			cells.remove(cell.key);
+		}
+	}
+
+	private int row(double lat) {
+		return Math.min(rows - 1, (int) ((lat + 90) / cellSize));
+	}
+
+	private int col(double lon) {
+		return (int) ((lon + 180) / cellSize) % cols;
+	}
+
+	private int cellKey(int row, int col) {
+		// zero is reserved by IntObjectMap
+		return row * cols + col + 1;
+	}
+
+	private static double normalize(double lon) {
+		return lon < -180 ? lon + 360 : (lon > 180 ? lon - 360 : lon);
+	}
+
+	/**
+	 * Growable array of query results.
+	 */
+	private static final class Result {
+
+		private int[] ids = new int[16];
+		private int size;
+
+		void add(int id) {
+			if (size == ids.length) {
+				ids = Arrays.copyOf(ids, size * 2);
+			}
+			ids[size++] = id;
+		}
+
+		int[] toArray() {
+			return Arrays.copyOf(ids, size);
+		}
+	}
+}
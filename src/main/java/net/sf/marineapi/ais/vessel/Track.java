@@ -0,0 +1,357 @@
+/*
+ * Track.java
+ * Copyright (C) 2026 Kimmo Tuukkanen
+ *
+ * This file is part of Java Marine API.
+ * <http://ktuukkan.github.io/marine-api/>
+ *
+ * Java Marine API is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * Java Marine API is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Java Marine API. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sf.marineapi.ais.vessel;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import net.sf.marineapi.nmea.util.Position;
+
+/**
+ * <p>
+ * Position history of one vessel in a fixed-size ring buffer. Points are
+ * stored in parallel primitive arrays in fixed-point format; coordinates in
+ * 1/10000 minutes as in AIS position reports, speed and course in tenths of
+ * knot and degree. When the buffer is full, the oldest point is overwritten.</p>
+ * <p>
+ * Points are indexed from zero (oldest) to <code>size() - 1</code> (latest)
+ * in time order. Reading methods are synchronized with appends done by
+ * {@link TrackStore}; indices are valid only until the next append, thus use
+ * time based queries when the track is being updated concurrently.</p>
+ *
+ * @author Kimmo Tuukkanen
+ * @see TrackStore
+ */
+public class Track {
+
+	// degrees to fixed-point
+	static final double SCALE = 600000.0;
+
+	// meters per degree of latitude
+	private static final double METERS_PER_DEGREE = 1852.0 * 60;
+
+	private final int mmsi;
+	private final long[] time;
+	private final int[] lat;
+	private final int[] lon;
+	private final short[] sog;
+	private final short[] cog;
+	private final short[] heading;
+
+	// physical index of oldest point
+	private int head;
+	private int size;
+
+	/**
+	 * Creates an empty track.
+	 *
+	 * @param mmsi MMSI of vessel
+	 * @param capacity Maximum number of points
+	 */
+	Track(int mmsi, int capacity) {
+		this.mmsi = mmsi;
+		this.time = new long[capacity];
+		this.lat = new int[capacity];
+		this.lon = new int[capacity];
+		this.sog = new short[capacity];
+		this.cog = new short[capacity];
+		this.heading = new short[capacity];
+	}
+
+	/**
+	 * Appends a point, unless it is older than the latest point or within
+	 * the minimum interval. If simplification tolerance is set and the latest
+	 * point lies within the tolerance from the line between its predecessor
+	 * and the new point, the latest point is replaced instead. This is a
+	 * streaming variant of Douglas-Peucker simplification; the maximum
+	 * interval limits the accumulated error on slow turns.
+	 *
+	 * @return <code>true</code> if point was stored, otherwise
+	 *         <code>false</code>.
+	 */
+	synchronized boolean add(long t, double latitude, double longitude,
+		int speed, int course, int hdg, long minInterval, double tolerance,
+		long maxInterval) {
+
+		final int y = (int) Math.round(latitude * SCALE);
+		final int x = (int) Math.round(longitude * SCALE);
+
+		if (size > 0) {
+			int last = index(size - 1);
+			if (t < time[last] || t - time[last] < minInterval) {
+				return false;
+			}
+			if (tolerance > 0 && size > 1) {
+				int anchor = index(size - 2);
+				if ((maxInterval <= 0 || t - time[anchor] <= maxInterval)
+					&& deviation(anchor, last, y, x) <= tolerance) {
+					set(last, t, y, x, speed, course, hdg);
+					return true;
+				}
+			}
+		}
+
+		int i;
+		if (size < time.length) {
+			i = index(size++);
+		} else {
+			i = head;
+			head = (head + 1) % time.length;
+		}
+		set(i, t, y, x, speed, course, hdg);
+		return true;
+	}
+
+	/**
+	 * Removes points older than given time.
+	 *
+	 * @param before Time limit in milliseconds
+	 * @return Number of points left
+	 */
+	synchronized int trim(long before) {
+		while (size > 0 && time[head] < before) {
+			head = (head + 1) % time.length;
+			size--;
+		}
+		return size;
+	}
+
+	/**
+	 * Returns the MMSI of vessel.
+	 */
+	public int getMMSI() {
+		return mmsi;
+	}
+
+	/**
+	 * Returns the maximum number of points.
+	 */
+	public int capacity() {
+		return time.length;
+	}
+
+	/**
+	 * Returns the number of points in track.
+	 */
+	public synchronized int size() {
+		return size;
+	}
+
+	/**
+	 * Returns the time of point.
+	 *
+	 * @param i Point index
+	 * @return Milliseconds
+	 */
+	public synchronized long getTime(int i) {
+		return time[check(i)];
+	}
+
+	/**
+	 * Returns the latitude of point.
+	 *
+	 * @param i Point index
+	 * @return Degrees
+	 */
+	public synchronized double getLatitude(int i) {
+		return lat[check(i)] / SCALE;
+	}
+
+	/**
+	 * Returns the longitude of point.
+	 *
+	 * @param i Point index
+	 * @return Degrees
+	 */
+	public synchronized double getLongitude(int i) {
+		return lon[check(i)] / SCALE;
+	}
+
+	/**
+	 * Returns the speed over ground of point.
+	 *
+	 * @param i Point index
+	 * @return Tenths of knot, {@link Vessel#NO_SPEED} if not available.
+	 */
+	public synchronized int getSpeedOverGround(int i) {
+		return sog[check(i)];
+	}
+
+	/**
+	 * Returns the course over ground of point.
+	 *
+	 * @param i Point index
+	 * @return Tenths of degree, {@link Vessel#NO_COURSE} if not available.
+	 */
+	public synchronized int getCourseOverGround(int i) {
+		return cog[check(i)];
+	}
+
+	/**
+	 * Returns the true heading of point.
+	 *
+	 * @param i Point index
+	 * @return Degrees, {@link Vessel#NO_HEADING} if not available.
+	 */
+	public synchronized int getTrueHeading(int i) {
+		return heading[check(i)];
+	}
+
+	/**
+	 * Returns the index of first point at or after given time.
+	 *
+	 * @param t Time in milliseconds
+	 * @return Point index, equal to <code>size()</code> if all points are
+	 *         older than given time.
+	 */
+	public synchronized int indexOf(long t) {
+		int lo = 0;
+		int hi = size;
+		while (lo < hi) {
+			int mid = (lo + hi) >>> 1;
+			if (time[index(mid)] < t) {
+				lo = mid + 1;
+			} else {
+				hi = mid;
+			}
+		}
+		return lo;
+	}
+
+	/**
+	 * Returns the positions within given time range.
+	 *
+	 * @param from Start time (inclusive)
+	 * @param to End time (inclusive)
+	 * @return List of positions in time order, empty if none.
+	 */
+	public synchronized List<Position> getPositions(long from, long to) {
+		List<Position> result = new ArrayList<Position>();
+		for (int n = indexOf(from); n < size; n++) {
+			int i = index(n);
+			if (time[i] > to) {
+				break;
+			}
+			result.add(new Position(lat[i] / SCALE, lon[i] / SCALE));
+		}
+		return result;
+	}
+
+	/**
+	 * Returns the position at given time, interpolated linearly between the
+	 * adjacent points.
+	 *
+	 * @param t Time in milliseconds
+	 * @return Position or <code>null</code> if time is outside the track.
+	 */
+	public synchronized Position getPosition(long t) {
+		int n = indexOf(t);
+		if (n == size) {
+			return null;
+		}
+		int i = index(n);
+		if (time[i] == t) {
+			return new Position(lat[i] / SCALE, lon[i] / SCALE);
+		}
+		if (n == 0) {
+			return null;
+		}
+		int p = index(n - 1);
+		double f = (double) (t - time[p]) / (time[i] - time[p]);
+		double dLon = lon[i] - lon[p];
+		if (Math.abs(dLon) > 180 * SCALE) {
+			dLon -= Math.signum(dLon) * 360 * SCALE;
+		}
+		double y = (lat[p] + f * (lat[i] - lat[p])) / SCALE;
+		double x = (lon[p] + f * dLon) / SCALE;
+		if (x > 180) {
+			x -= 360;
+		} else if (x < -180) {
+			x += 360;
+		}
+		return new Position(y, x);
+	}
+
+	/**
+	 * Returns the time of oldest point.
+	 *
+	 * @return Milliseconds, or -1 if track is empty.
+	 */
+	public synchronized long getStartTime() {
+		return size == 0 ? -1 : time[head];
+	}
+
+	/**
+	 * Returns the time of latest point.
+	 *
+	 * @return Milliseconds, or -1 if track is empty.
+	 */
+	public synchronized long getEndTime() {
+		return size == 0 ? -1 : time[index(size - 1)];
+	}
+
+	private void set(int i, long t, int y, int x, int speed, int course, int hdg) {
+		time[i] = t;
+		lat[i] = y;
+		lon[i] = x;
+		sog[i] = (short) speed;
+		cog[i] = (short) course;
+		heading[i] = (short) hdg;
+	}
+
+	/**
+	 * Distance in meters of point <code>p</code> from the segment between
+	 * point <code>a</code> and given coordinates.
+	 */
+	private double deviation(int a, int p, int y, int x) {
+		double k = Math.cos(Math.toRadians(lat[a] / SCALE)) * METERS_PER_DEGREE / SCALE;
+		double m = METERS_PER_DEGREE / SCALE;
+		double bx = wrap(x - lon[a]) * k;
+		double by = (y - lat[a]) * m;
+		double px = wrap(lon[p] - lon[a]) * k;
+		double py = (lat[p] - lat[a]) * m;
+		double len = bx * bx + by * by;
+		double f = len == 0 ? 0 : Math.max(0, Math.min(1, (px * bx + py * by) / len));
+		return Math.hypot(px - f * bx, py - f * by);
+	}
+
+	private static double wrap(double dx) {
+		if (dx > 180 * SCALE) {
+			return dx - 360 * SCALE;
+		}
+		if (dx < -180 * SCALE) {
+			return dx + 360 * SCALE;
+		}
+		return dx;
+	}
+
+	private int index(int n) {
+		int i = head + n;
+		return i < time.length ? i : i - time.length;
+	}
+
+	private int check(int n) {
+		if (n < 0 || n >= size) {
+			throw new IndexOutOfBoundsException("Index: " + n + ", size: " + size);
+		}
+		return index(n);
+	}
+}
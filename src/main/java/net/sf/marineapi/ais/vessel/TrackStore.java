@@ -0,0 +1,199 @@
+/*
+ * TrackStore.java
+ * Copyright (C) 2026 Kimmo Tuukkanen
+ *
+ * This file is part of Java Marine API.
+ * <http://ktuukkan.github.io/marine-api/>
+ *
+ * Java Marine API is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * Java Marine API is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Java Marine API. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sf.marineapi.ais.vessel;
+
+import net.sf.marineapi.util.IntObjectMap;
+
+/**
+ * <p>
+ * Store of vessel tracks, keyed by MMSI. Each vessel has a {@link Track}
+ * backed by primitive ring buffers of fixed capacity, so that the memory used
+ * per vessel is bounded and no objects are allocated per position.</p>
+ * <p>
+ * Optionally, the tracks are downsampled while appending: points received
+ * within the minimum interval are dropped and points that lie within the
+ * tolerance from a straight line are replaced by their successor.</p>
+ * <p>
+ * Points older than the maximum age are removed by {@link #evict(long)},
+ * which the application should call periodically. Tracks may be read while
+ * the store is being updated.</p>
+ *
+ * @author Kimmo Tuukkanen
+ * @see Track
+ */
+public class TrackStore {
+
+	private final IntObjectMap<Track> tracks = new IntObjectMap<Track>();
+	private final int capacity;
+	private final long maxAge;
+	private final long minInterval;
+	private final double tolerance;
+	private final long maxInterval;
+
+	/**
+	 * Creates a store without downsampling.
+	 *
+	 * @param capacity Maximum number of points per vessel
+	 * @param maxAge Maximum age of points in milliseconds, zero to keep
+	 *            points until overwritten.
+	 * @throws IllegalArgumentException If capacity is not positive or age is
+	 *             negative.
+	 */
+	public TrackStore(int capacity, long maxAge) {
+		this(capacity, maxAge, 0, 0, 0);
+	}
+
+	/**
+	 * Creates a store with downsampling.
+	 *
+	 * @param capacity Maximum number of points per vessel
+	 * @param maxAge Maximum age of points in milliseconds, zero to keep
+	 *            points until overwritten.
+	 * @param minInterval Minimum interval of points in milliseconds
+	 * @param tolerance Maximum deviation in meters of points dropped by
+	 *            simplification, zero to disable.
+	 * @param maxInterval Maximum interval in milliseconds of points retained
+	 *            by simplification, zero for no limit.
+	 * @throws IllegalArgumentException If capacity is not positive or any of
+	 *             the other parameters is negative.
+	 */
+	public TrackStore(int capacity, long maxAge, long minInterval,
+		double tolerance, long maxInterval) {
+		if (capacity < 1) {
+			throw new IllegalArgumentException("Capacity must be positive");
+		}
+		if (maxAge < 0 || minInterval < 0 || tolerance < 0 || maxInterval < 0) {
+			throw new IllegalArgumentException("Age, interval and tolerance cannot be negative");
+		}
+		this.capacity = capacity;
+		this.maxAge = maxAge;
+		this.minInterval = minInterval;
+		this.tolerance = tolerance;
+		this.maxInterval = maxInterval;
+	}
+
+	/**
+	 * Appends the current position of given vessel.
+	 *
+	 * @param v Vessel to add
+	 * @return <code>true</code> if position was stored, <code>false</code>
+	 *         if vessel has no position or point was dropped.
+	 */
+	public boolean add(Vessel v) {
+		if (!v.hasPosition()) {
+			return false;
+		}
+		return add(v.getMMSI(), v.getPositionTime(), v.getLatitude(),
+			v.getLongitude(), v.getSpeedOverGround(),
+			v.getCourseOverGround(), v.getTrueHeading());
+	}
+
+	/**
+	 * Appends a position.
+	 *
+	 * @param mmsi MMSI of vessel
+	 * @param time Time of position in milliseconds
+	 * @param lat Latitude in degrees
+	 * @param lon Longitude in degrees
+	 * @param sog Speed over ground in tenths of knot
+	 * @param cog Course over ground in tenths of degree
+	 * @param heading True heading in degrees
+	 * @return <code>true</code> if position was stored, <code>false</code>
+	 *         if point was dropped.
+	 */
+	public boolean add(int mmsi, long time, double lat, double lon, int sog,
+		int cog, int heading) {
+		Track track = tracks.get(mmsi);
+		if (track == null) {
+			synchronized (tracks) {
+				track = tracks.get(mmsi);
+				if (track == null) {
+					track = new Track(mmsi, capacity);
+					tracks.put(mmsi, track);
+				}
+			}
+		}
+		return track.add(time, lat, lon, sog, cog, heading, minInterval,
+			tolerance, maxInterval);
+	}
+
+	/**
+	 * Returns the track of given vessel.
+	 *
+	 * @param mmsi MMSI of vessel
+	 * @return Track or <code>null</code> if not found.
+	 */
+	public Track getTrack(int mmsi) {
+		return tracks.get(mmsi);
+	}
+
+	/**
+	 * Removes the track of given vessel.
+	 *
+	 * @param mmsi MMSI of vessel
+	 * @return Removed track or <code>null</code> if not found.
+	 */
+	public Track remove(int mmsi) {
+		synchronized (tracks) {
+			return tracks.remove(mmsi);
+		}
+	}
+
+	/**
+	 * Removes points older than maximum age and tracks left empty. Does
+	 * nothing if maximum age is zero.
+	 *
+	 * @param now Current time in milliseconds
+	 * @return Number of removed tracks
+	 */
+	public int evict(long now) {
+		if (maxAge == 0) {
+			return 0;
+		}
+		int count = 0;
+		synchronized (tracks) {
+			for (int mmsi : tracks.keys()) {
+				Track t = tracks.get(mmsi);
+				if (t != null && t.trim(now - maxAge) == 0) {
+					tracks.remove(mmsi);
+					count++;
+				}
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * Removes all tracks.
+	 */
+	public void clear() {
+		synchronized (tracks) {
+			tracks.clear();
+		}
+	}
+
+	/**
+	 * Returns the number of tracks.
+	 */
+	public int size() {
+		return tracks.size();
+	}
+}
@@ -0,0 +1,357 @@
+/*
+ * Vessel.java
+ * Copyright (C) 2026 Kimmo Tuukkanen
+ *
+ * This file is part of Java Marine API.
+ * <http://ktuukkan.github.io/marine-api/>
+ *
+ * Java Marine API is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * Java Marine API is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Java Marine API. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sf.marineapi.ais.vessel;
+
+import net.sf.marineapi.ais.message.AISMessage;
+import net.sf.marineapi.ais.message.AISMessage05;
+import net.sf.marineapi.ais.message.AISMessage19;
+import net.sf.marineapi.ais.message.AISMessage24;
+import net.sf.marineapi.ais.message.AISMessage27;
+import net.sf.marineapi.ais.message.AISPositionReport;
+import net.sf.marineapi.ais.message.AISPositionReportB;
+
+/**
+ * <p>
+ * Immutable snapshot of the known state of a vessel, combining the latest
+ * dynamic data (position reports 1, 2, 3, 18, 19 and 27) with the latest
+ * static and voyage related data (messages 5, 19 and 24).</p>
+ * <p>
+ * Values that have not been received yet are reported with the "not
+ * available" values defined by ITU-R M.1371, e.g. 91 for latitude and 511 for
+ * true heading. Speed and course are in tenths of knots and degrees.</p>
+ *
+ * @author Kimmo Tuukkanen
+ * @see VesselTable
+ */
+public final class Vessel {
+
+	/** Latitude not available */
+	public static final double NO_LATITUDE = 91.0;
+	/** Longitude not available */
+	public static final double NO_LONGITUDE = 181.0;
+	/** Speed over ground not available */
+	public static final int NO_SPEED = 1023;
+	/** Course over ground not available */
+	public static final int NO_COURSE = 3600;
+	/** True heading not available */
+	public static final int NO_HEADING = 511;
+	/** Navigational status not defined */
+	public static final int NO_STATUS = 15;
+
+	private final int mmsi;
+	private final long positionTime;
+	private final double latitude;
+	private final double longitude;
+	private final int speed;
+	private final int course;
+	private final int heading;
+	private final int status;
+	private final long staticTime;
+	private final String name;
+	private final String callSign;
+	private final int imoNumber;
+	private final int shipType;
+	private final int bow;
+	private final int stern;
+	private final int port;
+	private final int starboard;
+	private final int draught;
+	private final String destination;
+
+	private Vessel(int mmsi, long positionTime, double latitude,
+		double longitude, int speed, int course, int heading, int status,
+		long staticTime, String name, String callSign, int imoNumber,
+		int shipType, int bow, int stern, int port, int starboard,
+		int draught, String destination) {
+		this.mmsi = mmsi;
+		this.positionTime = positionTime;
+		this.latitude = latitude;
+		this.longitude = longitude;
+		this.speed = speed;
+		this.course = course;
+		this.heading = heading;
+		this.status = status;
+		this.staticTime = staticTime;
+		this.name = name;
+		this.callSign = callSign;
+		this.imoNumber = imoNumber;
+		this.shipType = shipType;
+		this.bow = bow;
+		this.stern = stern;
+		this.port = port;
+		this.starboard = starboard;
+		this.draught = draught;
+		this.destination = destination;
+	}
+
+	/**
+	 * Creates an empty state for given MMSI.
+	 */
+	Vessel(int mmsi) {
+		this(mmsi, -1, NO_LATITUDE, NO_LONGITUDE, NO_SPEED, NO_COURSE,
+			NO_HEADING, NO_STATUS, -1, null, null, 0, 0, 0, 0, 0, 0, 0, null);
+	}
+
+	/**
+	 * Merges the given message into this state.
+	 *
+	 * @param msg Message to merge
+	 * @param time Time of reception, milliseconds since epoch.
+	 * @return New state, or this state if message has no vessel data.
+	 */
+	Vessel merge(AISMessage msg, long time) {
+		if (msg instanceof AISPositionReport) {
+			AISPositionReport r = (AISPositionReport) msg;
+			return new Vessel(mmsi, time, r.getLatitudeInDegrees(),
+				r.getLongitudeInDegrees(), r.getSpeedOverGround(),
+				r.getCourseOverGround(), r.getTrueHeading(),
+				r.getNavigationalStatus(), staticTime, name, callSign,
+				imoNumber, shipType, bow, stern, port, starboard, draught,
+				destination);
+		}
+		if (msg instanceof AISMessage19) {
+			AISMessage19 r = (AISMessage19) msg;
+			return new Vessel(mmsi, time, r.getLatitudeInDegrees(),
+				r.getLongitudeInDegrees(), r.getSpeedOverGround(),
+				r.getCourseOverGround(), r.getTrueHeading(), status, time,
+				r.getName(), callSign, imoNumber,
+				r.getTypeOfShipAndCargoType(), r.getBow(), r.getStern(),
+				r.getPort(), r.getStarboard(), draught, destination);
+		}
+		if (msg instanceof AISPositionReportB) {
+			AISPositionReportB r = (AISPositionReportB) msg;
+			return new Vessel(mmsi, time, r.getLatitudeInDegrees(),
+				r.getLongitudeInDegrees(), r.getSpeedOverGround(),
+				r.getCourseOverGround(), r.getTrueHeading(), status,
+				staticTime, name, callSign, imoNumber, shipType, bow, stern,
+				port, starboard, draught, destination);
+		}
+		if (msg instanceof AISMessage27) {
+			// long-range reports are in whole knots and degrees
+			AISMessage27 r = (AISMessage27) msg;
+			int sog = r.getSpeedOverGround() == 63 ? NO_SPEED : r.getSpeedOverGround() * 10;
+			int cog = r.getCourseOverGround() == 511 ? NO_COURSE : r.getCourseOverGround() * 10;
+			return new Vessel(mmsi, time, r.getLatitudeInDegrees(),
+				r.getLongitudeInDegrees(), sog, cog, heading,
+				r.getNavigationalStatus(), staticTime, name, callSign,
+				imoNumber, shipType, bow, stern, port, starboard, draught,
+				destination);
+		}
+		if (msg instanceof AISMessage05) {
+			AISMessage05 r = (AISMessage05) msg;
+			return new Vessel(mmsi, positionTime, latitude, longitude, speed,
+				course, heading, status, time, r.getName(), r.getCallSign(),
+				r.getIMONumber(), r.getTypeOfShipAndCargoType(), r.getBow(),
+				r.getStern(), r.getPort(), r.getStarboard(),
+				r.getMaximumDraught(), r.getDestination());
+		}
+		if (msg instanceof AISMessage24) {
+			AISMessage24 r = (AISMessage24) msg;
+			if (r.getPartNumber() == 0) {
+				return new Vessel(mmsi, positionTime, latitude, longitude,
+					speed, course, heading, status, time, r.getName(),
+					callSign, imoNumber, shipType, bow, stern, port,
+					starboard, draught, destination);
+			}
+			return new Vessel(mmsi, positionTime, latitude, longitude, speed,
+				course, heading, status, time, name, r.getCallSign(),
+				imoNumber, r.getTypeOfShipAndCargoType(), r.getBow(),
+				r.getStern(), r.getPort(), r.getStarboard(), draught,
+				destination);
+		}
+		return this;
+	}
+
+	/**
+	 * Returns the MMSI of vessel.
+	 */
+	public int getMMSI() {
+		return mmsi;
+	}
+
+	/**
+	 * Returns the time of latest update of either dynamic or static data.
+	 *
+	 * @return Milliseconds since epoch
+	 */
+	public long getLastUpdate() {
+		return Math.max(positionTime, staticTime);
+	}
+
+	/**
+	 * Returns the time of latest position report.
+	 *
+	 * @return Milliseconds since epoch, or -1 if not received.
+	 */
+	public long getPositionTime() {
+		return positionTime;
+	}
+
+	/**
+	 * Returns the time of latest static data report.
+	 *
+	 * @return Milliseconds since epoch, or -1 if not received.
+	 */
+	public long getStaticTime() {
+		return staticTime;
+	}
+
+	/**
+	 * Tells if a valid position has been received.
+	 */
+	public boolean hasPosition() {
+		return latitude != NO_LATITUDE && longitude != NO_LONGITUDE;
+	}
+
+	/**
+	 * Returns the latitude in degrees.
+	 */
+	public double getLatitude() {
+		return latitude;
+	}
+
+	/**
+	 * Returns the longitude in degrees.
+	 */
+	public double getLongitude() {
+		return longitude;
+	}
+
+	/**
+	 * Returns the speed over ground.
+	 *
+	 * @return Speed in 1/10 knots
+	 */
+	public int getSpeedOverGround() {
+		return speed;
+	}
+
+	/**
+	 * Returns the course over ground.
+	 *
+	 * @return Course in 1/10 degrees
+	 */
+	public int getCourseOverGround() {
+		return course;
+	}
+
+	/**
+	 * Returns the true heading.
+	 *
+	 * @return Heading in degrees
+	 */
+	public int getTrueHeading() {
+		return heading;
+	}
+
+	/**
+	 * Returns the navigational status.
+	 */
+	public int getNavigationalStatus() {
+		return status;
+	}
+
+	/**
+	 * Returns the vessel name.
+	 *
+	 * @return Name or <code>null</code> if not received.
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Returns the call sign.
+	 *
+	 * @return Call sign or <code>null</code> if not received.
+	 */
+	public String getCallSign() {
+		return callSign;
+	}
+
+	/**
+	 * Returns the IMO number.
+	 *
+	 * @return IMO number, 0 if not received.
+	 */
+	public int getIMONumber() {
+		return imoNumber;
+	}
+
+	/**
+	 * Returns the type of ship and cargo.
+	 */
+	public int getTypeOfShipAndCargoType() {
+		return shipType;
+	}
+
+	/**
+	 * Returns the distance from reference point to bow in meters.
+	 */
+	public int getBow() {
+		return bow;
+	}
+
+	/**
+	 * Returns the distance from reference point to stern in meters.
+	 */
+	public int getStern() {
+		return stern;
+	}
+
+	/**
+	 * Returns the distance from reference point to port side in meters.
+	 */
+	public int getPort() {
+		return port;
+	}
+
+	/**
+	 * Returns the distance from reference point to starboard in meters.
+	 */
+	public int getStarboard() {
+		return starboard;
+	}
+
+	/**
+	 * Returns the maximum present static draught.
+	 *
+	 * @return Draught in 1/10 meters
+	 */
+	public int getMaximumDraught() {
+		return draught;
+	}
+
+	/**
+	 * Returns the destination.
+	 *
+	 * @return Destination or <code>null</code> if not received.
+	 */
+	public String getDestination() {
+		return destination;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("%09d %s [%.5f, %.5f] SOG %.1f COG %.1f", mmsi,
+			name, latitude, longitude, speed / 10.0, course / 10.0);
+	}
+}
@@ -0,0 +1,243 @@
+/*
+ * VesselTable.java
+ * Copyright (C) 2026 Kimmo Tuukkanen
+ *
+ * This file is part of Java Marine API.
+ * <http://ktuukkan.github.io/marine-api/>
+ *
+ * Java Marine API is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * Java Marine API is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Java Marine API. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sf.marineapi.ais.vessel;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import net.sf.marineapi.ais.message.AISMessage;
+import net.sf.marineapi.util.IntObjectMap;
+
+/**
+ * <p>
+ * In-memory table of vessels, keyed by MMSI. Received AIS messages are merged
+ * into immutable {@link Vessel} snapshots that represent the current picture
+ * of traffic.</p>
+ * <p>
+ * The table is split in stripes, each backed by an {@link IntObjectMap}.
+ * Readers never block; {@link #get(int)} only probes the primitive key array
+ * of one stripe. Writers lock only the stripe of updated MMSI, so that
+ * updates from several receiver threads do not contend on a single lock.</p>
+ * <p>
+ * Vessels that have not been updated within the time-to-live are removed by
+ * {@link #evict(long)}, which the application should call periodically.</p>
+ * <p>
+ * Example, updating the table from a {@link net.sf.marineapi.nmea.io.SentenceReader}:</p>
+ * <pre>
+ * final VesselTable table = new VesselTable(600000);
+ * reader.addSentenceListener(new AbstractAISMessageListener&lt;AISMessage&gt;(AISMessage.class) {
+ *     public void onMessage(AISMessage msg) {
+ *         table.update(msg, System.currentTimeMillis());
+ *     }
+ * });
+ * </pre>
+ *
+ * @author Kimmo Tuukkanen
+ * @see Vessel
+ */
+public class VesselTable {
+
+	private static final int STRIPES = 16;
+
+	private final IntObjectMap<Vessel>[] stripes;
+	private final long ttl;
+
+	/**
+	 * Creates a table with no time-to-live.
+	 */
+	public VesselTable() {
+		this(0);
+	}
+
+	/**
+	 * Creates a table with given time-to-live.
+	 *
+	 * @param ttl Time-to-live in milliseconds, zero to keep vessels until
+	 *            removed explicitly.
+	 * @throws IllegalArgumentException If ttl is negative.
+	 */
+	public VesselTable(long ttl) {
+		this(ttl, 0);
+	}
+
+	/**
+	 * Creates a table with given time-to-live and initial capacity.
+	 *
+	 * @param ttl Time-to-live in milliseconds, zero to keep vessels until
+	 *            removed explicitly.
+	 * @param expectedSize Expected number of vessels.
+	 * @throws IllegalArgumentException If ttl or size is negative.
+	 */
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	public VesselTable(long ttl, int expectedSize) {
+		if (ttl < 0) {
+			throw new IllegalArgumentException("Time-to-live cannot be negative");
+		}
+		if (expectedSize < 0) {
+			throw new IllegalArgumentException("Expected size cannot be negative");
+		}
+		this.ttl = ttl;
+		this.stripes = new IntObjectMap[STRIPES];
+		for (int i = 0; i < STRIPES; i++) {
+			stripes[i] = new IntObjectMap<Vessel>(expectedSize / STRIPES);
+		}
+	}
+
+	/**
+	 * Merges the given message into the state of transmitting vessel.
+	 * Messages with MMSI zero and messages carrying no vessel data are
+	 * ignored.
+	 *
+	 * @param msg Message to merge
+	 * @param time Time of reception in milliseconds
+	 * @return Updated vessel or <code>null</code> if message was ignored.
+	 */
+	public Vessel update(AISMessage msg, long time) {
+		final int mmsi = msg.getMMSI();
+		if (mmsi == 0) {
+			return null;
+		}
+		final IntObjectMap<Vessel> stripe = stripe(mmsi);
+		synchronized (stripe) {
+			Vessel previous = stripe.get(mmsi);
+			Vessel current = (previous == null ? new Vessel(mmsi) : previous).merge(msg, time);
+			if (current == previous || current.getLastUpdate() < 0) {
+				return null;
+			}
+			stripe.put(mmsi, current);
+			return current;
+		}
+	}
+
+	/**
+	 * Returns the current state of vessel.
+	 *
+	 * @param mmsi MMSI of vessel
+	 * @return Vessel or <code>null</code> if not in table.
+	 */
+	public Vessel get(int mmsi) {
+		return stripe(mmsi).get(mmsi);
+	}
+
+	/**
+	 * Tells if the table contains given vessel.
+	 *
+	 * @param mmsi MMSI of vessel
+	 * @return true if found, otherwise false
+	 */
+	public boolean contains(int mmsi) {
+		return get(mmsi) != null;
+	}
+
+	/**
+	 * Removes the given vessel.
+	 *
+	 * @param mmsi MMSI of vessel
+	 * @return Removed vessel or <code>null</code> if not in table.
+	 */
+	public Vessel remove(int mmsi) {
+		final IntObjectMap<Vessel> stripe = stripe(mmsi);
+		synchronized (stripe) {
+			return stripe.remove(mmsi);
+		}
+	}
+
+	/**
+	 * Removes the vessels that have not been updated within the time-to-live.
+	 * Does nothing if time-to-live is zero.
+	 *
+	 * @param now Current time in milliseconds
+	 * @return Number of removed vessels
+	 */
+	public int evict(long now) {
+		if (ttl == 0) {
+			return 0;
+		}
+		final long limit = now - ttl;
+		int count = 0;
+		for (IntObjectMap<Vessel> stripe : stripes) {
+			synchronized (stripe) {
+				for (int mmsi : stripe.keys()) {
+					Vessel v = stripe.get(mmsi);
+					if (v != null && v.getLastUpdate() < limit) {
+						stripe.remove(mmsi);
+						count++;
+					}
+				}
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * Removes all vessels.
+	 */
+	public void clear() {
+		for (IntObjectMap<Vessel> stripe : stripes) {
+			synchronized (stripe) {
+				stripe.clear();
+			}
+		}
+	}
+
+	/**
+	 * Returns the number of vessels in table.
+	 */
+	public int size() {
+		int size = 0;
+		for (IntObjectMap<Vessel> stripe : stripes) {
+			size += stripe.size();
+		}
+		return size;
+	}
+
+	/**
+	 * Returns the time-to-live of vessels.
+	 *
+	 * @return Milliseconds, zero if vessels are never evicted.
+	 */
+	public long getTimeToLive() {
+		return ttl;
+	}
+
+	/**
+	 * Returns a snapshot of all vessels in table.
+	 *
+	 * @return List of vessels in no particular order
+	 */
+	public List<Vessel> getVessels() {
+		List<Vessel> result = new ArrayList<Vessel>(size());
+		for (IntObjectMap<Vessel> stripe : stripes) {
+			for (int mmsi : stripe.keys()) {
+				Vessel v = stripe.get(mmsi);
+				if (v != null) {
+					result.add(v);
+				}
+			}
+		}
+		return result;
+	}
+
+	private IntObjectMap<Vessel> stripe(int mmsi) {
+		int h = mmsi * 0x9E3779B9;
+		return stripes[(h >>> 28) & (STRIPES - 1)];
+	}
+}
@@ -0,0 +1,74 @@
+/*
+ * AISDecodeEvent.java
+ * Copyright (C) 2026 Kimmo Tuukkanen
+ *
+ * This file is part of Java Marine API.
+ * <http://ktuukkan.github.io/marine-api/>
+ *
+ * Java Marine API is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * Java Marine API is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Java Marine API. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sf.marineapi.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import net.sf.marineapi.ais.message.AISMessage;
+
+/**
+ * Decoding of one AIS message from reassembled sentences.
+ *
+ * @author Kimmo Tuukkanen
+ */
+@Name("net.sf.marineapi.AISDecode")
+@Label("Decode AIS Message")
+@Description("AIS message created from reassembled fragments")
+@Category({ "Marine API", "AIS" })
+@StackTrace(false)
+public final class AISDecodeEvent extends Event {
+
+	@Label("Message Type")
+	int messageType;
+
+	@Label("Fragments")
+	@Description("Number of sentences in message")
+	int fragments;
+
+	/**
+	 * Creates and begins a new event.
+	 */
+	public static AISDecodeEvent start() {
+		AISDecodeEvent e = new AISDecodeEvent();
+		e.begin();
+		return e;
+	}
+
+	/**
+	 * Ends and commits the event.
+	 *
+	 * @param message Decoded message
+	 * @param count Number of fragments
+	 */
+	public void finish(AISMessage message, int count) {
+		end();
+		if (shouldCommit()) {
+			messageType = message.getMessageType();
+			fragments = count;
+			commit();
+		}
+	}
+}
@@ -0,0 +1,71 @@
+/*
+ * DispatchEvent.java
+ * Copyright (C) 2026 Kimmo Tuukkanen
+ *
+ * This file is part of Java Marine API.
+ * <http://ktuukkan.github.io/marine-api/>
+ *
+ * Java Marine API is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * Java Marine API is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Java Marine API. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sf.marineapi.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Delivery of one sentence to one listener.
+ *
+ * @author Kimmo Tuukkanen
+ */
+@Name("net.sf.marineapi.Dispatch")
+@Label("Dispatch Sentence")
+@Description("Sentence delivered to listener")
+@Category({ "Marine API", "NMEA" })
+@StackTrace(false)
+public final class DispatchEvent extends Event {
+
+	@Label("Sentence ID")
+	String sentenceId;
+
+	@Label("Listener")
+	Class<?> listener;
+
+	/**
+	 * Creates and begins a new event.
+	 */
+	public static DispatchEvent start() {
+		DispatchEvent e = new DispatchEvent();
+		e.begin();
+		return e;
+	}
+
+	/**
+	 * Ends and commits the event.
+	 *
+	 * @param type Sentence ID
+	 * @param target Listener that received the sentence
+	 */
+	public void finish(String type, Object target) {
+		end();
+		if (shouldCommit()) {
+			sentenceId = type;
+			listener = target.getClass();
+			commit();
+		}
+	}
+}
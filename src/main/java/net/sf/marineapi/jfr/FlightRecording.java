@@ -0,0 +1,64 @@
+/*
+ * FlightRecording.java
+ * Copyright (C) 2026 Kimmo Tuukkanen
+ *
+ * This file is part of Java Marine API.
+ * <http://ktuukkan.github.io/marine-api/>
+ *
+ * Java Marine API is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * Java Marine API is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Java Marine API. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sf.marineapi.jfr;
+
+/**
+ * <p>
+ * Availability of Java Flight Recorder events. The events of this package are
+ * emitted only if the <code>jdk.jfr</code> module is present, i.e. on Java 11
+ * or later and Java 8 update 262 or later, and not disabled with system
+ * property <code>marineapi.jfr=false</code>. Otherwise the event classes are
+ * never loaded.</p>
+ * <p>
+ * When available, the events follow the usual JFR pattern; they are created
+ * and timed on the calling thread and committed only if enabled in the
+ * running recording. When nothing is being recorded, the JIT compiler removes
+ * the event objects and the overhead is negligible.</p>
+ * <p>
+ * All events are in category "Marine API" and named
+ * <code>net.sf.marineapi.*</code>, e.g. to record them with
+ * <code>jcmd &lt;pid&gt; JFR.start settings=profile</code> or by enabling them
+ * in custom settings.</p>
+ *
+ * @author Kimmo Tuukkanen
+ */
+public final class FlightRecording {
+
+	/** Tells if events are emitted */
+	public static final boolean ENABLED = isAvailable();
+
+	private FlightRecording() {
+	}
+
+	private static boolean isAvailable() {
+		if ("false".equals(System.getProperty("marineapi.jfr"))) {
+			return false;
+		}
+		try {
+			Class.forName("jdk.jfr.Event");
+			return true;
+		} catch (ClassNotFoundException e) {
+			return false;
+		} catch (LinkageError e) {
+			return false;
+		}
+	}
+}
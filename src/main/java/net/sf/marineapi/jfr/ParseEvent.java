@@ -0,0 +1,78 @@
+/*
+ * ParseEvent.java
+ * Copyright (C) 2026 Kimmo Tuukkanen
+ *
+ * This file is part of Java Marine API.
+ * <http://ktuukkan.github.io/marine-api/>
+ *
+ * Java Marine API is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * Java Marine API is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Java Marine API. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sf.marineapi.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+import net.sf.marineapi.nmea.sentence.Sentence;
+
+/**
+ * Creation of parser for one sentence.
+ *
+ * @author Kimmo Tuukkanen
+ */
+@Name("net.sf.marineapi.Parse")
+@Label("Parse Sentence")
+@Description("Parser creation for sentence")
+@Category({ "Marine API", "NMEA" })
+@StackTrace(false)
+public final class ParseEvent extends Event {
+
+	@Label("Talker ID")
+	String talkerId;
+
+	@Label("Sentence ID")
+	String sentenceId;
+
+	@Label("Length")
+	@Description("Number of characters in sentence")
+	int length;
+
+	/**
+	 * Creates and begins a new event.
+	 */
+	public static ParseEvent start() {
+		ParseEvent e = new ParseEvent();
+		e.begin();
+		return e;
+	}
+
+	/**
+	 * Ends and commits the event.
+	 *
+	 * @param sentence Parsed sentence
+	 * @param data Sentence String
+	 */
+	public void finish(Sentence sentence, String data) {
+		end();
+		if (shouldCommit()) {
+			talkerId = sentence.getTalkerId().toString();
+			sentenceId = sentence.getSentenceId();
+			length = data.length();
+			commit();
+		}
+	}
+}
@@ -0,0 +1,72 @@
+/*
+ * ProviderUpdateEvent.java
+ * Copyright (C) 2026 Kimmo Tuukkanen
+ *
+ * This file is part of Java Marine API.
+ * <http://ktuukkan.github.io/marine-api/>
+ *
+ * Java Marine API is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * Java Marine API is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Java Marine API. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sf.marineapi.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Delivery of one provider event to the provider's listeners.
+ *
+ * @author Kimmo Tuukkanen
+ */
+@Name("net.sf.marineapi.ProviderUpdate")
+@Label("Provider Update")
+@Description("Provider event delivered to listeners")
+@Category({ "Marine API", "Provider" })
+@StackTrace(false)
+public final class ProviderUpdateEvent extends Event {
+
+	@Label("Provider")
+	Class<?> provider;
+
+	@Label("Listeners")
+	@Description("Number of listeners that received the event")
+	int listeners;
+
+	/**
+	 * Creates and begins a new event.
+	 */
+	public static ProviderUpdateEvent start() {
+		ProviderUpdateEvent e = new ProviderUpdateEvent();
+		e.begin();
+		return e;
+	}
+
+	/**
+	 * Ends and commits the event.
+	 *
+	 * @param source Provider that fired the event
+	 * @param count Number of notified listeners
+	 */
+	public void finish(Object source, int count) {
+		end();
+		if (shouldCommit()) {
+			provider = source.getClass();
+			listeners = count;
+			commit();
+		}
+	}
+}
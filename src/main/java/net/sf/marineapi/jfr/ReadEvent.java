@@ -0,0 +1,68 @@
+/*
+ * ReadEvent.java
+ * Copyright (C) 2026 Kimmo Tuukkanen
+ *
+ * This file is part of Java Marine API.
+ * <http://ktuukkan.github.io/marine-api/>
+ *
+ * Java Marine API is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * Java Marine API is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Java Marine API. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sf.marineapi.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Reading of one line from the data source of a sentence reader, including
+ * the time spent waiting for data.
+ *
+ * @author Kimmo Tuukkanen
+ */
+@Name("net.sf.marineapi.Read")
+@Label("Read Line")
+@Description("Line read from data source")
+@Category({ "Marine API", "NMEA" })
+@StackTrace(false)
+public final class ReadEvent extends Event {
+
+	@Label("Length")
+	@Description("Number of characters read, -1 if none")
+	int length;
+
+	/**
+	 * Creates and begins a new event.
+	 */
+	public static ReadEvent start() {
+		ReadEvent e = new ReadEvent();
+		e.begin();
+		return e;
+	}
+
+	/**
+	 * Ends and commits the event.
+	 *
+	 * @param data Line read, or <code>null</code> if none.
+	 */
+	public void finish(String data) {
+		end();
+		if (shouldCommit()) {
+			length = data == null ? -1 : data.length();
+			commit();
+		}
+	}
+}
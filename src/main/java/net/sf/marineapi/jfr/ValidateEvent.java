@@ -0,0 +1,72 @@
+/*
+ * ValidateEvent.java
+ * Copyright (C) 2026 Kimmo Tuukkanen
+ *
+ * This file is part of Java Marine API.
+ * <http://ktuukkan.github.io/marine-api/>
+ *
+ * Java Marine API is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * Java Marine API is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Java Marine API. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sf.marineapi.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Validation of format and checksum of one line.
+ *
+ * @author Kimmo Tuukkanen
+ */
+@Name("net.sf.marineapi.Validate")
+@Label("Validate Sentence")
+@Description("Format and checksum validation of line")
+@Category({ "Marine API", "NMEA" })
+@StackTrace(false)
+public final class ValidateEvent extends Event {
+
+	@Label("Length")
+	@Description("Number of characters in line")
+	int length;
+
+	@Label("Valid")
+	boolean valid;
+
+	/**
+	 * Creates and begins a new event.
+	 */
+	public static ValidateEvent start() {
+		ValidateEvent e = new ValidateEvent();
+		e.begin();
+		return e;
+	}
+
+	/**
+	 * Ends and commits the event.
+	 *
+	 * @param data Validated line
+	 * @param result Validation result
+	 */
+	public void finish(String data, boolean result) {
+		end();
+		if (shouldCommit()) {
+			length = data.length();
+			valid = result;
+			commit();
+		}
+	}
+}
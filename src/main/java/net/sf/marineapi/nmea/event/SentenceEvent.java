@@ -23,6 +23,7 @@ package net.sf.marineapi.nmea.event;
 import java.util.EventObject;
 
 import net.sf.marineapi.nmea.sentence.Sentence;
+import net.sf.marineapi.nmea.sentence.TagBlock;
 
 /**
  * Sentence events occur when a valid NMEA 0183 sentence has been read from the
@@ -63,6 +64,17 @@ public class SentenceEvent extends EventObject {
 		return sentence;
 	}
 
+	/**
+	 * Returns the tag block of sentence, containing e.g. the source and time
+	 * of reception if provided by the data source.
+	 *
+	 * @return TagBlock or <code>null</code> if sentence had no tag block.
+	 * @see Sentence#getTagBlock()
+	 */
+	public TagBlock getTagBlock() {
+		return sentence.getTagBlock();
+	}
+
 	/**
 	 * Get system time when this event was created.
 	 * 
@@ -20,8 +20,13 @@
  */
 package net.sf.marineapi.nmea.io;
 
+import net.sf.marineapi.jfr.FlightRecording;
+import net.sf.marineapi.jfr.ParseEvent;
+import net.sf.marineapi.jfr.ReadEvent;
+import net.sf.marineapi.jfr.ValidateEvent;
 import net.sf.marineapi.nmea.parser.SentenceFactory;
 import net.sf.marineapi.nmea.sentence.Sentence;
+import net.sf.marineapi.nmea.sentence.SentenceId;
 import net.sf.marineapi.nmea.sentence.SentenceValidator;
 
 /**
@@ -81,15 +86,30 @@ abstract class AbstractDataReader implements DataReader {
 
 		while (isRunning) {
 			try {
+				ReadEvent readEvent = FlightRecording.ENABLED ? ReadEvent.start() : null;
 				String data = read();
+				if (readEvent != null) {
+					readEvent.finish(data);
+				}
+				ReaderMetrics metrics = parent.getMetrics();
 				if (data == null) {
 					Thread.sleep(SLEEP_TIME);
-				} else if (SentenceValidator.isValid(data)) {
-					monitor.refresh();
-					Sentence s = factory.createParser(data);
-					parent.fireSentenceEvent(s);
-				} else if (!SentenceValidator.isSentence(data)) {
-					parent.fireDataEvent(data);
+				} else {
+					if (metrics != null) {
+						metrics.lineRead();
+					}
+					if (isValid(data)) {
+						monitor.refresh();
+						Sentence s = createParser(factory, data, metrics);
+						parent.fireSentenceEvent(s);
+					} else if (!SentenceValidator.isSentence(data)) {
+						if (metrics != null) {
+							metrics.nonNmeaDataRead();
+						}
+						parent.fireDataEvent(data);
+					} else if (metrics != null) {
+						metrics.checksumFailed();
+					}
 				}
 			} catch (Exception e) {
 				parent.handleException("Data read failed", e);
@@ -104,6 +124,53 @@ abstract class AbstractDataReader implements DataReader {
 		parent.fireReadingStopped();
 	}
 
+	/**
+	 * Validates given line.
+	 */
+	private static boolean isValid(String data) {
+		if (!FlightRecording.ENABLED) {
+			return SentenceValidator.isValid(data);
+		}
+		ValidateEvent event = ValidateEvent.start();
+		boolean valid = SentenceValidator.isValid(data);
+		event.finish(data, valid);
+		return valid;
+	}
+
+	/**
+	 * Creates parser for given valid sentence and reports the parsing time or
+	 * failure to metrics, if set.
+	 */
+	private Sentence createParser(SentenceFactory factory, String data,
+		ReaderMetrics metrics) {
+		if (metrics == null && !FlightRecording.ENABLED) {
+			return factory.createParser(data);
+		}
+		ParseEvent event = FlightRecording.ENABLED ? ParseEvent.start() : null;
+		final long start = metrics == null ? 0 : System.nanoTime();
+		try {
+			Sentence s = factory.createParser(data);
+			if (metrics != null) {
+				metrics.sentenceParsed(s.getTalkerId(), s.getSentenceId(), System.nanoTime() - start);
+			}
+			if (event != null) {
+				event.finish(s, data);
+			}
+			return s;
+		} catch (RuntimeException e) {
+			if (metrics == null) {
+				throw e;
+			}
+			String id = SentenceId.parseStr(data);
+			if (factory.hasParser(id)) {
+				metrics.parseFailed(id);
+			} else {
+				metrics.unknownSentence(id);
+			}
+			throw e;
+		}
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * 
@@ -0,0 +1,334 @@
+/*
+ * DefaultReaderMetrics.java
+ * Copyright (C) 2026 Kimmo Tuukkanen
+ *
+ * This file is part of Java Marine API.
+ * <http://ktuukkan.github.io/marine-api/>
+ *
+ * Java Marine API is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * Java Marine API is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Java Marine API. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sf.marineapi.nmea.io;
+
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import net.sf.marineapi.nmea.sentence.TalkerId;
+import net.sf.marineapi.util.LatencyHistogram;
+
+/**
+ * <p>
+ * Default implementation of {@link ReaderMetrics}. Events are counted with
+ * striped {@link LongAdder} counters, per talker and sentence ID for parsed
+ * sentences and per sentence ID for unknown sentences and failures, and the
+ * parsing and dispatching times are recorded in {@link LatencyHistogram}s.
+ * Recording does not allocate once each talker and sentence ID pair has been
+ * seen.</p>
+ * <p>
+ * Metrics may be read at any time with the getter methods, or exported to
+ * JMX with {@link #register(String)}. One instance may be shared by several
+ * readers to collect their totals.</p>
+ *
+ * @author Kimmo Tuukkanen
+ * @see SentenceReader#setMetrics(ReaderMetrics)
+ */
+public class DefaultReaderMetrics implements ReaderMetrics, ReaderMetricsMXBean {
+
+	/** JMX domain of registered metrics */
+	public static final String DOMAIN = "net.sf.marineapi";
+
+	private final LongAdder lines = new LongAdder();
+	private final LongAdder checksumFailures = new LongAdder();
+	private final LongAdder nonNmea = new LongAdder();
+	private final LongAdder parsed = new LongAdder();
+	private final LongAdder unknown = new LongAdder();
+	private final LongAdder parseFailures = new LongAdder();
+	private final LongAdder listenerFailures = new LongAdder();
+	private final LatencyHistogram parseTime = new LatencyHistogram();
+	private final LatencyHistogram dispatchTime = new LatencyHistogram();
+
+	// parsed sentence counters indexed by talker ordinal
+	private final ConcurrentMap<String, LongAdder>[] sentences;
+
+	// unknown sentences and failures by sentence ID
+	private final ConcurrentMap<String, LongAdder> unknownById =
+		new ConcurrentHashMap<String, LongAdder>();
+	private final ConcurrentMap<String, LongAdder> parseFailuresById =
+		new ConcurrentHashMap<String, LongAdder>();
+	private final ConcurrentMap<String, LongAdder> listenerFailuresById =
+		new ConcurrentHashMap<String, LongAdder>();
+
+	private ObjectName objectName;
+
+	/**
+	 * Creates a new instance with all counters at zero.
+	 */
+	@SuppressWarnings({"unchecked", "rawtypes"})
+	public DefaultReaderMetrics() {
+		sentences = new ConcurrentMap[TalkerId.values().length];
+		for (int i = 0; i < sentences.length; i++) {
+			sentences[i] = new ConcurrentHashMap<String, LongAdder>();
+		}
+	}
+
+	@Override
+	public void lineRead() {
+		lines.increment();
+	}
+
+	@Override
+	public void checksumFailed() {
+		checksumFailures.increment();
+	}
+
+	@Override
+	public void nonNmeaDataRead() {
+		nonNmea.increment();
+	}
+
+	@Override
+	public void sentenceParsed(TalkerId talker, String sentenceId, long nanos) {
+		parsed.increment();
+		parseTime.record(nanos);
+		increment(sentences[talker.ordinal()], sentenceId);
+	}
+
+	@Override
+	public void unknownSentence(String sentenceId) {
+		unknown.increment();
+		increment(unknownById, sentenceId);
+	}
+
+	@Override
+	public void parseFailed(String sentenceId) {
+		parseFailures.increment();
+		increment(parseFailuresById, sentenceId);
+	}
+
+	@Override
+	public void sentenceDispatched(String sentenceId, long nanos) {
+		dispatchTime.record(nanos);
+	}
+
+	@Override
+	public void listenerFailed(String sentenceId) {
+		listenerFailures.increment();
+		increment(listenerFailuresById, sentenceId);
+	}
+
+	@Override
+	public long getLinesRead() {
+		return lines.sum();
+	}
+
+	@Override
+	public long getChecksumFailures() {
+		return checksumFailures.sum();
+	}
+
+	@Override
+	public long getNonNmeaData() {
+		return nonNmea.sum();
+	}
+
+	@Override
+	public long getSentencesParsed() {
+		return parsed.sum();
+	}
+
+	@Override
+	public long getUnknownSentences() {
+		return unknown.sum();
+	}
+
+	@Override
+	public long getParseFailures() {
+		return parseFailures.sum();
+	}
+
+	@Override
+	public long getListenerFailures() {
+		return listenerFailures.sum();
+	}
+
+	/**
+	 * Returns the number of parsed sentences of given talker and type.
+	 *
+	 * @param talker Talker ID
+	 * @param sentenceId Sentence ID
+	 * @return Number of sentences
+	 */
+	public long getSentenceCount(TalkerId talker, String sentenceId) {
+		LongAdder counter = sentences[talker.ordinal()].get(sentenceId);
+		return counter == null ? 0 : counter.sum();
+	}
+
+	@Override
+	public Map<String, Long> getSentenceCounts() {
+		Map<String, Long> counts = new TreeMap<String, Long>();
+		for (TalkerId t : TalkerId.values()) {
+			for (Map.Entry<String, LongAdder> e : sentences[t.ordinal()].entrySet()) {
+				counts.put(t.toString() + e.getKey(), e.getValue().sum());
+			}
+		}
+		return counts;
+	}
+
+	@Override
+	public Map<String, Long> getUnknownSentenceCounts() {
+		return counts(unknownById);
+	}
+
+	@Override
+	public Map<String, Long> getParseFailureCounts() {
+		return counts(parseFailuresById);
+	}
+
+	@Override
+	public Map<String, Long> getListenerFailureCounts() {
+		return counts(listenerFailuresById);
+	}
+
+	/**
+	 * Returns the histogram of parsing times in nanoseconds.
+	 */
+	public LatencyHistogram getParseTime() {
+		return parseTime;
+	}
+
+	/**
+	 * Returns the histogram of time spent in listeners per sentence, in
+	 * nanoseconds.
+	 */
+	public LatencyHistogram getDispatchTime() {
+		return dispatchTime;
+	}
+
+	@Override
+	public long getParseTimeMedian() {
+		return parseTime.getValueAtPercentile(50);
+	}
+
+	@Override
+	public long getParseTime99thPercentile() {
+		return parseTime.getValueAtPercentile(99);
+	}
+
+	@Override
+	public long getParseTimeMax() {
+		return parseTime.getMax();
+	}
+
+	@Override
+	public long getDispatchTimeMedian() {
+		return dispatchTime.getValueAtPercentile(50);
+	}
+
+	@Override
+	public long getDispatchTime99thPercentile() {
+		return dispatchTime.getValueAtPercentile(99);
+	}
+
+	@Override
+	public long getDispatchTimeMax() {
+		return dispatchTime.getMax();
+	}
+
+	@Override
+	public void reset() {
+		lines.reset();
+		checksumFailures.reset();
+		nonNmea.reset();
+		parsed.reset();
+		unknown.reset();
+		parseFailures.reset();
+		listenerFailures.reset();
+		parseTime.reset();
+		dispatchTime.reset();
+		for (ConcurrentMap<String, LongAdder> map : sentences) {
+			map.clear();
+		}
+		unknownById.clear();
+		parseFailuresById.clear();
+		listenerFailuresById.clear();
+	}
+
+	/**
+	 * Registers the metrics in platform MBean server with object name
+	 * <code>net.sf.marineapi:type=SentenceReader,name=&lt;name&gt;</code>.
+	 *
+	 * @param name Name of reader, e.g. port or host name.
+	 * @return Registered object name
+	 * @throws JMException If name is malformed or already registered.
+	 * @throws IllegalStateException If already registered.
+	 */
+	public synchronized ObjectName register(String name) throws JMException {
+		if (objectName != null) {
+			throw new IllegalStateException("Metrics already registered as " + objectName);
+		}
+		ObjectName on = new ObjectName(DOMAIN + ":type=SentenceReader,name=" + name);
+		ManagementFactory.getPlatformMBeanServer().registerMBean(this, on);
+		objectName = on;
+		return on;
+	}
+
+	/**
+	 * Removes the metrics from platform MBean server. Does nothing if not
+	 * registered.
+	 *
+	 * @throws JMException If unregistering fails.
+	 */
+	public synchronized void unregister() throws JMException {
+		if (objectName != null) {
+			MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+			if (server.isRegistered(objectName)) {
+				server.unregisterMBean(objectName);
+			}
+			objectName = null;
+		}
+	}
+
+	/**
+	 * Increments the counter of given sentence ID, creating it if needed.
+	 */
+	private static void increment(ConcurrentMap<String, LongAdder> map, String sentenceId) {
+		LongAdder counter = map.get(sentenceId);
+		if (counter == null) {
+			LongAdder created = new LongAdder();
+			counter = map.putIfAbsent(sentenceId, created);
+			if (counter == null) {
+				counter = created;
+			}
+		}
+		counter.increment();
+	}
+
+	/**
+	 * Returns the current values of given counters sorted by sentence ID.
+	 */
+	private static Map<String, Long> counts(ConcurrentMap<String, LongAdder> map) {
+		Map<String, Long> counts = new TreeMap<String, Long>();
+		for (Map.Entry<String, LongAdder> e : map.entrySet()) {
+			counts.put(e.getKey(), e.getValue().sum());
+		}
+		return counts;
+	}
+}
@@ -0,0 +1,157 @@
+/*
+ * IsolatedListener.java
+ * Copyright (C) 2026 Kimmo Tuukkanen
+ *
+ * This file is part of Java Marine API.
+ * <http://ktuukkan.github.io/marine-api/>
+ *
+ * Java Marine API is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * Java Marine API is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Java Marine API. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sf.marineapi.nmea.io;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import net.sf.marineapi.nmea.event.SentenceEvent;
+import net.sf.marineapi.nmea.event.SentenceListener;
+
+/**
+ * Wrapper that decouples a slow listener from the reader thread. Events are
+ * put in a bounded queue and delivered to the wrapped listener in order by a
+ * dedicated daemon thread. When the queue is full, events are dropped. The
+ * thread ends after delivering <code>readingStopped</code>, thus isolation
+ * lasts until the reader stops.
+ *
+ * @author Kimmo Tuukkanen
+ * @see SentenceReader#setIsolationThreshold(int)
+ */
+class IsolatedListener implements SentenceListener, Runnable {
+
+	private static final Logger LOGGER = Logger.getLogger(IsolatedListener.class.getName());
+
+	private final SentenceListener listener;
+	private final BlockingQueue<Runnable> queue;
+	private final LongAdder dropped = new LongAdder();
+	private final Thread thread;
+	private volatile boolean running = true;
+
+	/**
+	 * Creates a new wrapper and starts its thread.
+	 *
+	 * @param listener Listener to wrap
+	 * @param capacity Maximum number of queued events
+	 */
+	IsolatedListener(SentenceListener listener, int capacity) {
+		this.listener = listener;
+		this.queue = new ArrayBlockingQueue<Runnable>(capacity);
+		this.thread = new Thread(this, "SentenceListener-" + listener);
+		thread.setDaemon(true);
+		thread.start();
+	}
+
+	/**
+	 * Returns the wrapped listener.
+	 */
+	SentenceListener getListener() {
+		return listener;
+	}
+
+	/**
+	 * Returns the number of events dropped due to full queue.
+	 */
+	long getDropped() {
+		return dropped.sum();
+	}
+
+	/**
+	 * Stops the delivery thread. Queued events are discarded.
+	 */
+	void stop() {
+		running = false;
+		thread.interrupt();
+	}
+
+	@Override
+	public void readingPaused() {
+		enqueue(new Runnable() {
+			public void run() {
+				listener.readingPaused();
+			}
+		});
+	}
+
+	@Override
+	public void readingStarted() {
+		enqueue(new Runnable() {
+			public void run() {
+				listener.readingStarted();
+			}
+		});
+	}
+
+	@Override
+	public void readingStopped() {
+		Runnable task = new Runnable() {
+			public void run() {
+				running = false;
+				listener.readingStopped();
+			}
+		};
+		if (!queue.offer(task)) {
+			// no room for the last event, end without it
+			dropped.increment();
+			stop();
+		}
+	}
+
+	@Override
+	public void sentenceRead(final SentenceEvent event) {
+		enqueue(new Runnable() {
+			public void run() {
+				listener.sentenceRead(event);
+			}
+		});
+	}
+
+	@Override
+	public void run() {
+		while (running) {
+			try {
+				queue.take().run();
+			} catch (InterruptedException e) {
+				break;
+			} catch (Exception e) {
+				LOGGER.log(Level.WARNING, "Exception caught from SentenceListener", e);
+			}
+		}
+	}
+
+	@Override
+	public String toString() {
+		return listener.toString();
+	}
+
+	private void enqueue(Runnable task) {
+		if (!queue.offer(task)) {
+			dropped.increment();
+			if (dropped.sum() == 1) {
+				LOGGER.warning(String.format(
+					"Queue of listener %s is full, dropping events", listener));
+			}
+		}
+	}
+}
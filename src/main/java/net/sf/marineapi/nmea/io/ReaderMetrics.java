@@ -0,0 +1,95 @@
+/*
+ * ReaderMetrics.java
+ * Copyright (C) 2026 Kimmo Tuukkanen
+ *
+ * This file is part of Java Marine API.
+ * <http://ktuukkan.github.io/marine-api/>
+ *
+ * Java Marine API is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * Java Marine API is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Java Marine API. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sf.marineapi.nmea.io;
+
+import net.sf.marineapi.nmea.sentence.TalkerId;
+
+/**
+ * <p>
+ * Service provider interface for collecting metrics of {@link SentenceReader}.
+ * The reader invokes the methods from its worker thread for each line read
+ * and for each dispatched sentence, thus implementations must be fast and
+ * must not throw exceptions.</p>
+ * <p>
+ * Metrics are disabled by default, in which case the reader does not measure
+ * time or invoke any of the methods.</p>
+ *
+ * @author Kimmo Tuukkanen
+ * @see SentenceReader#setMetrics(ReaderMetrics)
+ * @see DefaultReaderMetrics
+ */
+public interface ReaderMetrics {
+
+	/**
+	 * Invoked for each line read from the data source.
+	 */
+	void lineRead();
+
+	/**
+	 * Invoked when a line is recognized as sentence but has invalid checksum
+	 * or tag block.
+	 */
+	void checksumFailed();
+
+	/**
+	 * Invoked when a line is not recognized as NMEA 0183 data.
+	 */
+	void nonNmeaDataRead();
+
+	/**
+	 * Invoked when a sentence has been parsed.
+	 *
+	 * @param talker Talker ID of sentence
+	 * @param sentenceId Sentence ID, e.g. "GGA".
+	 * @param nanos Time spent in parsing, in nanoseconds.
+	 */
+	void sentenceParsed(TalkerId talker, String sentenceId, long nanos);
+
+	/**
+	 * Invoked when a valid sentence could not be parsed because there is no
+	 * parser for its type.
+	 *
+	 * @param sentenceId Sentence ID
+	 */
+	void unknownSentence(String sentenceId);
+
+	/**
+	 * Invoked when parser of a valid sentence threw an exception.
+	 *
+	 * @param sentenceId Sentence ID
+	 */
+	void parseFailed(String sentenceId);
+
+	/**
+	 * Invoked when a sentence has been dispatched to listeners.
+	 *
+	 * @param sentenceId Sentence ID
+	 * @param nanos Time spent in listeners, in nanoseconds.
+	 */
+	void sentenceDispatched(String sentenceId, long nanos);
+
+	/**
+	 * Invoked when a listener threw an exception.
+	 *
+	 * @param sentenceId Sentence ID of the dispatched sentence
+	 */
+	void listenerFailed(String sentenceId);
+}
@@ -0,0 +1,133 @@
+/*
+ * ReaderMetricsMXBean.java
+ * Copyright (C) 2026 Kimmo Tuukkanen
+ *
+ * This file is part of Java Marine API.
+ * <http://ktuukkan.github.io/marine-api/>
+ *
+ * Java Marine API is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * Java Marine API is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Java Marine API. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sf.marineapi.nmea.io;
+
+import java.util.Map;
+
+/**
+ * Management interface of {@link DefaultReaderMetrics}, exported to JMX by
+ * {@link DefaultReaderMetrics#register(String)}. Counters are cumulative since
+ * creation or last reset; rates are derived by the monitoring client. Times
+ * are in nanoseconds.
+ *
+ * @author Kimmo Tuukkanen
+ */
+public interface ReaderMetricsMXBean {
+
+	/**
+	 * Returns the number of lines read.
+	 */
+	long getLinesRead();
+
+	/**
+	 * Returns the number of sentences with invalid checksum or tag block.
+	 */
+	long getChecksumFailures();
+
+	/**
+	 * Returns the number of lines not recognized as NMEA 0183.
+	 */
+	long getNonNmeaData();
+
+	/**
+	 * Returns the number of parsed sentences.
+	 */
+	long getSentencesParsed();
+
+	/**
+	 * Returns the number of valid sentences without parser.
+	 */
+	long getUnknownSentences();
+
+	/**
+	 * Returns the number of sentences that failed to parse.
+	 */
+	long getParseFailures();
+
+	/**
+	 * Returns the number of exceptions thrown by listeners.
+	 */
+	long getListenerFailures();
+
+	/**
+	 * Returns the number of parsed sentences by talker and sentence ID.
+	 *
+	 * @return Map of counts keyed by talker and sentence ID, e.g. "GPGGA".
+	 */
+	Map<String, Long> getSentenceCounts();
+
+	/**
+	 * Returns the number of valid sentences without parser by sentence ID.
+	 *
+	 * @return Map of counts keyed by sentence ID, e.g. "XYZ".
+	 */
+	Map<String, Long> getUnknownSentenceCounts();
+
+	/**
+	 * Returns the number of sentences that failed to parse by sentence ID.
+	 *
+	 * @return Map of counts keyed by sentence ID, e.g. "GGA".
+	 */
+	Map<String, Long> getParseFailureCounts();
+
+	/**
+	 * Returns the number of exceptions thrown by listeners by sentence ID of
+	 * the dispatched sentence.
+	 *
+	 * @return Map of counts keyed by sentence ID, e.g. "GGA".
+	 */
+	Map<String, Long> getListenerFailureCounts();
+
+	/**
+	 * Returns the median time spent in parsing a sentence.
+	 */
+	long getParseTimeMedian();
+
+	/**
+	 * Returns the 99th percentile of time spent in parsing a sentence.
+	 */
+	long getParseTime99thPercentile();
+
+	/**
+	 * Returns the maximum time spent in parsing a sentence.
+	 */
+	long getParseTimeMax();
+
+	/**
+	 * Returns the median time spent in listeners per sentence.
+	 */
+	long getDispatchTimeMedian();
+
+	/**
+	 * Returns the 99th percentile of time spent in listeners per sentence.
+	 */
+	long getDispatchTime99thPercentile();
+
+	/**
+	 * Returns the maximum time spent in listeners per sentence.
+	 */
+	long getDispatchTimeMax();
+
+	/**
+	 * Resets all counters and histograms.
+	 */
+	void reset();
+}
@@ -32,6 +32,8 @@ import java.util.concurrent.ConcurrentMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import net.sf.marineapi.jfr.DispatchEvent;
+import net.sf.marineapi.jfr.FlightRecording;
 import net.sf.marineapi.nmea.event.SentenceEvent;
 import net.sf.marineapi.nmea.event.SentenceListener;
 import net.sf.marineapi.nmea.sentence.Sentence;
@@ -57,6 +59,9 @@ public class SentenceReader {
 	/** Default timeout value in milliseconds. */
 	public static final int DEFAULT_TIMEOUT = 5000;
 
+	/** Maximum number of queued events of an isolated listener. */
+	public static final int ISOLATED_QUEUE_SIZE = 1000;
+
 	// Map key for listeners that listen any kind of sentences, type
 	// specific listeners are registered with sentence type String
 	private static final String DISPATCH_ALL = "DISPATCH_ALL";
@@ -77,6 +82,16 @@ public class SentenceReader {
 	private DataListener dataListener;
 	// Exception listener
 	private ExceptionListener exceptionListener=null;
+	// metrics, null when disabled
+	private volatile ReaderMetrics metrics;
+	// default time budget of listeners in ns, zero when disabled
+	private volatile long listenerBudget;
+	// listener specific budgets in ns
+	private final ConcurrentMap<SentenceListener, Long> budgets = new ConcurrentHashMap<SentenceListener, Long>();
+	// number of times each listener has exceeded its budget
+	private final ConcurrentMap<SentenceListener, Integer> overruns = new ConcurrentHashMap<SentenceListener, Integer>();
+	// overruns after which listener is isolated, zero to never isolate
+	private volatile int isolationThreshold;
 
 	/**
 	 * Creates a SentenceReader for UDP/DatagramSocket.
@@ -172,7 +187,8 @@ public class SentenceReader {
 	}
 
 	/**
-	 * Notifies all listeners that data reading has stopped.
+	 * Notifies all listeners that data reading has stopped. Isolated
+	 * listeners are restored, their threads end after delivering the event.
 	 */
 	void fireReadingStopped() {
 		for (SentenceListener listener : getSentenceListeners()) {
@@ -182,6 +198,7 @@ public class SentenceReader {
 				LOGGER.log(Level.WARNING, LOG_MSG, e);
 			}
 		}
+		restoreIsolated();
 	}
 
 	/**
@@ -192,6 +209,8 @@ public class SentenceReader {
 	void fireSentenceEvent(Sentence sentence) {
 
 		String type = sentence.getSentenceId();
+		ReaderMetrics m = metrics;
+		long start = m == null ? 0 : System.nanoTime();
 		Set<SentenceListener> targets = new HashSet<SentenceListener>();
 
 		if (listeners.containsKey(type)) {
@@ -202,12 +221,31 @@ public class SentenceReader {
 		}
 
 		for (SentenceListener listener : targets) {
+			long budget = getBudget(listener);
+			long begin = budget > 0 ? System.nanoTime() : 0;
+			DispatchEvent event = FlightRecording.ENABLED ? DispatchEvent.start() : null;
 			try {
 				SentenceEvent se = new SentenceEvent(this, sentence);
 				listener.sentenceRead(se);
 			} catch (Exception e) {
+				if (m != null) {
+					m.listenerFailed(type);
+				}
 				LOGGER.log(Level.WARNING, LOG_MSG, e);
 			}
+			if (event != null) {
+				event.finish(type, listener);
+			}
+			if (budget > 0) {
+				long elapsed = System.nanoTime() - begin;
+				if (elapsed > budget) {
+					handleOverrun(listener, type, elapsed, budget);
+				}
+			}
+		}
+
+		if (m != null) {
+			m.sentenceDispatched(type, System.nanoTime() - start);
 		}
 	}
 	
@@ -220,6 +258,35 @@ public class SentenceReader {
 		return exceptionListener;
 	}
 
+	/**
+	 * Returns the isolation threshold of slow listeners.
+	 *
+	 * @return Number of budget overruns, zero if disabled.
+	 * @see #setIsolationThreshold(int)
+	 */
+	public int getIsolationThreshold() {
+		return isolationThreshold;
+	}
+
+	/**
+	 * Returns the default time budget of listeners.
+	 *
+	 * @return Budget in milliseconds, zero if disabled.
+	 * @see #setListenerBudget(int)
+	 */
+	public int getListenerBudget() {
+		return (int) (listenerBudget / 1000000L);
+	}
+
+	/**
+	 * Returns the metrics collector.
+	 *
+	 * @return Current metrics, or <code>null</code> if disabled.
+	 */
+	public ReaderMetrics getMetrics() {
+		return metrics;
+	}
+
 	/**
 	 * Returns the current reading paused timeout.
 	 *
@@ -243,6 +310,83 @@ public class SentenceReader {
 		return new ArrayList<SentenceListener>(all);
 	}
 
+	/**
+	 * Returns the time budget of given listener in nanoseconds, zero if none.
+	 */
+	private long getBudget(SentenceListener listener) {
+		if (listener instanceof IsolatedListener) {
+			return 0;
+		}
+		if (!budgets.isEmpty()) {
+			Long budget = budgets.get(listener);
+			if (budget != null) {
+				return budget;
+			}
+		}
+		return listenerBudget;
+	}
+
+	/**
+	 * Logs a listener that exceeded its budget and isolates it when the
+	 * threshold of overruns is reached.
+	 */
+	private void handleOverrun(SentenceListener listener, String type,
+		long elapsed, long budget) {
+
+		Integer previous = overruns.get(listener);
+		int count = previous == null ? 1 : previous + 1;
+
+		if (count == 1) {
+			LOGGER.warning(String.format(
+				"Listener %s exceeded its budget of %d ms, took %d ms for %s",
+				listener, budget / 1000000L, elapsed / 1000000L, type));
+		}
+
+		int threshold = isolationThreshold;
+		if (threshold > 0 && count >= threshold) {
+			overruns.remove(listener);
+			isolate(listener);
+			LOGGER.warning(String.format(
+				"Listener %s exceeded its budget %d times, moved to own thread",
+				listener, count));
+		} else {
+			overruns.put(listener, count);
+		}
+	}
+
+	/**
+	 * Replaces given listener with a wrapper that dispatches the events in a
+	 * separate thread.
+	 */
+	private void isolate(SentenceListener listener) {
+		IsolatedListener isolated = new IsolatedListener(listener, ISOLATED_QUEUE_SIZE);
+		for (List<SentenceListener> list : listeners.values()) {
+			synchronized (list) {
+				for (int i = 0; i < list.size(); i++) {
+					if (list.get(i).equals(listener)) {
+						list.set(i, isolated);
+					}
+				}
+			}
+		}
+	}
+
+	/**
+	 * Replaces the isolated listeners with the wrapped listeners.
+	 */
+	private void restoreIsolated() {
+		for (List<SentenceListener> list : listeners.values()) {
+			synchronized (list) {
+				for (int i = 0; i < list.size(); i++) {
+					SentenceListener sl = list.get(i);
+					if (sl instanceof IsolatedListener) {
+						list.set(i, ((IsolatedListener) sl).getListener());
+					}
+				}
+			}
+		}
+	}
+
 	/**
 	 * Handles an exception by passing it to ExceptionHandler. If no handler
 	 * is present, logs the error at level WARNING.
@@ -289,7 +433,19 @@ public class SentenceReader {
 			if (list.contains(listener)) {
 				list.remove(listener);
 			}
+			synchronized (list) {
+				for (int i = list.size() - 1; i >= 0; i--) {
+					SentenceListener sl = list.get(i);
+					if (sl instanceof IsolatedListener
+						&& ((IsolatedListener) sl).getListener().equals(listener)) {
+						((IsolatedListener) sl).stop();
+						list.remove(i);
+					}
+				}
+			}
 		}
+		budgets.remove(listener);
+		overruns.remove(listener);
 	}
 
 	/**
@@ -325,6 +481,69 @@ public class SentenceReader {
 		this.exceptionListener = exceptionListener;
 	}
 
+	/**
+	 * Sets the number of budget overruns after which a listener is moved to
+	 * its own thread. Isolated listener receives the events in order through a
+	 * queue of {@link #ISOLATED_QUEUE_SIZE} events, so that it no longer delays
+	 * the reader or other listeners; events are dropped if the queue is full.
+	 * The listener is restored and its thread ends when reading stops.
+	 * Disabled by default.
+	 *
+	 * @param overruns Number of overruns, zero to disable.
+	 * @throws IllegalArgumentException If overruns is negative.
+	 * @see #setListenerBudget(int)
+	 */
+	public void setIsolationThreshold(int overruns) {
+		if (overruns < 0) {
+			throw new IllegalArgumentException("Threshold cannot be negative");
+		}
+		this.isolationThreshold = overruns;
+	}
+
+	/**
+	 * Sets the default time budget of listeners, i.e. the maximum time a
+	 * listener may spend in handling one sentence. When the budget is
+	 * exceeded, a warning identifying the listener is logged. Disabled by
+	 * default, in which case listeners are not timed.
+	 *
+	 * @param millis Budget in milliseconds, zero to disable.
+	 * @throws IllegalArgumentException If budget is negative.
+	 * @see #setListenerBudget(SentenceListener, int)
+	 * @see #setIsolationThreshold(int)
+	 */
+	public void setListenerBudget(int millis) {
+		if (millis < 0) {
+			throw new IllegalArgumentException("Budget cannot be negative");
+		}
+		this.listenerBudget = millis * 1000000L;
+	}
+
+	/**
+	 * Sets the time budget of given listener, overriding the default budget.
+	 *
+	 * @param listener Listener to set the budget for
+	 * @param millis Budget in milliseconds, zero to disable timing.
+	 * @throws IllegalArgumentException If budget is negative.
+	 * @see #setListenerBudget(int)
+	 */
+	public void setListenerBudget(SentenceListener listener, int millis) {
+		if (millis < 0) {
+			throw new IllegalArgumentException("Budget cannot be negative");
+		}
+		budgets.put(listener, millis * 1000000L);
+	}
+
+	/**
+	 * Sets the metrics collector. Metrics are disabled by default; when
+	 * disabled, the reader does not measure time or count events.
+	 *
+	 * @param metrics Metrics to set, <code>null</code> to disable.
+	 * @see DefaultReaderMetrics
+	 */
+	public void setMetrics(ReaderMetrics metrics) {
+		this.metrics = metrics;
+	}
+
 	/**
 	 * Sets the InputStream to be used as data source. If reader is running, it
 	 * is first stopped and you must call {@link #start()} to resume reading.
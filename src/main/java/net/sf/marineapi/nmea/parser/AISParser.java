@@ -123,4 +123,43 @@ abstract class AISParser extends SentenceParser implements AISSentence {
             return false;
         }
     }
+
+    @Override
+    public void setNumberOfFragments(int n) {
+        if (n < 1 || n > 9) {
+            throw new IllegalArgumentException("Number of fragments must be in range 1 - 9");
+        }
+        setIntValue(NUMBER_OF_FRAGMENTS, n);
+    }
+
+    @Override
+    public void setFragmentNumber(int n) {
+        if (n < 1 || n > 9) {
+            throw new IllegalArgumentException("Fragment number must be in range 1 - 9");
+        }
+        setIntValue(FRAGMENT_NUMBER, n);
+    }
+
+    @Override
+    public void setMessageId(String id) {
+        setStringValue(MESSAGE_ID, id);
+    }
+
+    @Override
+    public void setRadioChannel(String channel) {
+        setStringValue(RADIO_CHANNEL, channel);
+    }
+
+    @Override
+    public void setPayload(String payload) {
+        setStringValue(PAYLOAD, payload);
+    }
+
+    @Override
+    public void setFillBits(int bits) {
+        if (bits < 0 || bits > 5) {
+            throw new IllegalArgumentException("Fill bits must be in range 0 - 5");
+        }
+        setIntValue(FILL_BITS, bits);
+    }
 }
@@ -89,7 +89,7 @@ public final class SentenceFactory {
 	 * interface, for which the type should first be checked by using the
 	 * {@link Sentence#getSentenceId()} method.
 	 *
-	 * @param nmea NMEA 0183 sentence String
+	 * @param nmea NMEA 0183 sentence String, optionally preceded by a tag block
 	 * @return Sentence parser instance for specified sentence
 	 * @throws IllegalArgumentException If there is no parser registered for the
 	 *             given sentence type
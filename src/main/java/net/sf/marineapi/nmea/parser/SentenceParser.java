@@ -30,6 +30,7 @@ import net.sf.marineapi.nmea.sentence.Checksum;
 import net.sf.marineapi.nmea.sentence.Sentence;
 import net.sf.marineapi.nmea.sentence.SentenceId;
 import net.sf.marineapi.nmea.sentence.SentenceValidator;
+import net.sf.marineapi.nmea.sentence.TagBlock;
 import net.sf.marineapi.nmea.sentence.TalkerId;
 
 /**
@@ -73,11 +74,15 @@ public class SentenceParser implements Sentence {
 	// actual data fields (sentence id and checksum omitted)
 	private List<String> fields = new ArrayList<String>();
 
+	// NMEA 4.0 tag block preceding the sentence, if any
+	private TagBlock tagBlock;
+
 	/**
 	 * Creates a new instance of SentenceParser. Validates the input String and
 	 * resolves talker id and sentence type.
 	 * 
-	 * @param nmea A valid NMEA 0183 sentence
+	 * @param nmea A valid NMEA 0183 sentence, optionally preceded by a tag
+	 *            block.
 	 * @throws IllegalArgumentException If the specified sentence is invalid or
 	 *             if sentence type is not supported.
 	 */
@@ -88,12 +93,18 @@ public class SentenceParser implements Sentence {
 			throw new IllegalArgumentException(msg);
 		}
 
-		beginChar = nmea.charAt(0);
+		int offset = TagBlock.indexOf(nmea);
+		if (offset > 0) {
+			tagBlock = TagBlock.parse(nmea);
+		}
+
+		beginChar = nmea.charAt(offset);
 		talkerId = TalkerId.parse(nmea);
 		sentenceId = SentenceId.parseStr(nmea);
 		
-		int begin = nmea.indexOf(Sentence.FIELD_DELIMITER) + 1;
-		int end = Checksum.index(nmea);
+		int begin = nmea.indexOf(Sentence.FIELD_DELIMITER, offset) + 1;
+		int end = nmea.indexOf(Sentence.CHECKSUM_DELIMITER, offset);
+		end = end < 0 ? nmea.length() : end;
 		
 		String csv = nmea.substring(begin, end);
 		String[] values = csv.split(String.valueOf(FIELD_DELIMITER), -1);
@@ -243,6 +254,14 @@ public class SentenceParser implements Sentence {
 		return sentenceId;
 	}
 
+	/*
+	 * (non-Javadoc)
+	 * @see net.sf.marineapi.nmea.sentence.Sentence#getTagBlock()
+	 */
+	public final TagBlock getTagBlock() {
+		return tagBlock;
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see net.sf.marineapi.nmea.sentence.Sentence#getTalkerId()
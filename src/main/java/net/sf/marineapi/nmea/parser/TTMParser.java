@@ -140,6 +140,16 @@ class TTMParser extends SentenceParser implements TTMSentence {
 		return getDoubleValue(BEARING);
 	}
 
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see net.sf.marineapi.nmea.sentence.TTMSentence#isBearingTrue()
+	 */
+	@Override
+	public boolean isBearingTrue() {
+		return getCharValue(BEARING_TRUE_REL) == 'T';
+	}
+
 	/*
 	 * (non-Javadoc)
 	 *
@@ -160,6 +170,16 @@ class TTMParser extends SentenceParser implements TTMSentence {
 		return getDoubleValue(COURSE);
 	}
 
+	/*
+	 * (non-Javadoc)
+	 *
+	 * @see net.sf.marineapi.nmea.sentence.TTMSentence#isCourseTrue()
+	 */
+	@Override
+	public boolean isCourseTrue() {
+		return getCharValue(COURSE_TRUE_REL) == 'T';
+	}
+
 	/*
 	 * (non-Javadoc)
 	 *
@@ -125,4 +125,49 @@ public interface AISSentence extends Sentence {
 	 */
 	public boolean isPartOfMessage(AISSentence sentence);
 
+	/**
+	 * Sets the number of fragments in message.
+	 *
+	 * @param n Number of fragments, 1 - 9.
+	 * @throws IllegalArgumentException If value is out of range.
+	 */
+	public void setNumberOfFragments(int n);
+
+	/**
+	 * Sets the fragment number of this sentence (1-based).
+	 *
+	 * @param n Fragment number, 1 - 9.
+	 * @throws IllegalArgumentException If value is out of range.
+	 */
+	public void setFragmentNumber(int n);
+
+	/**
+	 * Sets the sequential message ID for multi-sentence messages.
+	 *
+	 * @param id Message ID, empty String for single sentence messages.
+	 */
+	public void setMessageId(String id);
+
+	/**
+	 * Sets the radio channel of the message.
+	 *
+	 * @param channel Radio channel, e.g. "A" or "B".
+	 */
+	public void setRadioChannel(String channel);
+
+	/**
+	 * Sets the 6-bit encoded payload.
+	 *
+	 * @param payload Armored payload
+	 */
+	public void setPayload(String payload);
+
+	/**
+	 * Sets the number of fill bits in payload.
+	 *
+	 * @param bits Fill bits, 0 - 5.
+	 * @throws IllegalArgumentException If value is out of range.
+	 */
+	public void setFillBits(int bits);
+
 }
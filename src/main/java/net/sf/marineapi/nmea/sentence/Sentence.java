@@ -84,6 +84,17 @@ public interface Sentence {
 	 */
 	String getSentenceId();
 
+	/**
+	 * Returns the NMEA 4.0 tag block that preceded the sentence when it was
+	 * parsed, e.g. the source and time of reception in aggregated AIS feeds.
+	 * Tag block is not included in the String representation of sentence.
+	 *
+	 * @return TagBlock or <code>null</code> if sentence had no tag block.
+	 */
+	default TagBlock getTagBlock() {
+		return null;
+	}
+
 	/**
 	 * Gets the talker ID of the sentence. Talker ID is the next two characters
 	 * after <code>$</code> in sentence address field. For example, in case of
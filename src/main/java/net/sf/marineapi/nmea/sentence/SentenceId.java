@@ -146,10 +146,11 @@ public enum SentenceId {
 		}
 
 		String id = null;
-		if (nmea.startsWith("$P")) {
-			id = nmea.substring(2, nmea.indexOf(','));
+		int begin = TagBlock.indexOf(nmea);
+		if (nmea.startsWith("$P", begin)) {
+			id = nmea.substring(begin + 2, nmea.indexOf(',', begin));
 		} else {
-			id = nmea.substring(3, nmea.indexOf(','));
+			id = nmea.substring(begin + 3, nmea.indexOf(',', begin));
 		}
 		return id;
 	}
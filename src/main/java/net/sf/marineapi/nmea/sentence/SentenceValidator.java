@@ -51,6 +51,9 @@ public final class SentenceValidator {
 	 * <li>Data is followed by '*' and a two-char hex checksum (may be omitted)
 	 * </ul>
 	 * <p>
+	 * Sentence may be preceded by an NMEA 4.0 tag block, which is then
+	 * skipped by this method. See {@link TagBlock}.
+	 * <p>
 	 * Notice that format matching is not strict; although NMEA 0183 defines a
 	 * maximum length of 80 chars, the sentence length is not checked. This is
 	 * due to fact that it seems quite common that devices violate this rule,
@@ -68,18 +71,33 @@ public final class SentenceValidator {
 			return false;
 		}
 
-		if (Checksum.index(nmea) == nmea.length()) {
-			return reNoChecksum.matcher(nmea).matches();
+		return isSentence(nmea, TagBlock.indexOf(nmea));
+	}
+
+	/**
+	 * Tells if the specified String matches the sentence format, starting
+	 * from given index.
+	 */
+	private static boolean isSentence(String nmea, int begin) {
+
+		if (begin < 0) {
+			return false;
+		}
+
+		if (nmea.indexOf(Sentence.CHECKSUM_DELIMITER, begin) < 0) {
+			return reNoChecksum.matcher(nmea).region(begin, nmea.length()).matches();
 		}
 
-		return reChecksum.matcher(nmea).matches();
+		return reChecksum.matcher(nmea).region(begin, nmea.length()).matches();
 	}
 
 	/**
 	 * Tells if the specified String is a valid NMEA 0183 sentence. String is
 	 * considered as valid sentence if it passes the {@link #isSentence(String)}
 	 * test and contains correct checksum. Sentences without checksum are
-	 * validated only by checking the general sentence characteristics.
+	 * validated only by checking the general sentence characteristics. If
+	 * sentence is preceded by a tag block, it must have a correct checksum;
+	 * the tag block fields are parsed later by the sentence parser.
 	 *
 	 * @param nmea String to validate
 	 * @return <code>true</code> if valid, otherwise <code>false</code>.
@@ -88,11 +106,19 @@ public final class SentenceValidator {
 
 		boolean isValid = false;
 
-		if (SentenceValidator.isSentence(nmea)) {
-			int i = nmea.indexOf(Sentence.CHECKSUM_DELIMITER);
+		if (nmea == null || "".equals(nmea)) {
+			return false;
+		}
+
+		final int begin = TagBlock.indexOf(nmea);
+		if (isSentence(nmea, begin)) {
+			if (begin > 0 && !TagBlock.hasValidChecksum(nmea, begin)) {
+				return false;
+			}
+			int i = nmea.indexOf(Sentence.CHECKSUM_DELIMITER, begin);
 			if (i > 0) {
 				String sum = nmea.substring(++i, nmea.length());
-				isValid = sum.equals(Checksum.calculate(nmea));
+				isValid = sum.equals(Checksum.calculate(begin == 0 ? nmea : nmea.substring(begin)));
 			} else {
 				// no checksum
 				isValid = true;
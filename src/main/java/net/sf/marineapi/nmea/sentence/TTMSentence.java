@@ -53,12 +53,22 @@ public interface TTMSentence extends TimeSentence {
 	double getDistance();
 
 	/**
-	 * Get the true bearing from the radar to the target.
+	 * Get the bearing from the radar to the target.
 	 *
-	 * @return True bearing in degrees.
+	 * @return Bearing in degrees, true or relative to own heading.
+	 * @see #isBearingTrue()
 	 */
 	double getBearing();
 
+	/**
+	 * Tells if the bearing is true or relative to own heading.
+	 *
+	 * @return <code>true</code> if true, <code>false</code> if relative.
+	 */
+	default boolean isBearingTrue() {
+		return true;
+	}
+
 	/**
 	 * Get the speed the target.
 	 *
@@ -69,10 +79,20 @@ public interface TTMSentence extends TimeSentence {
 	/**
 	 * Get the course the target is maintaining.
 	 *
-	 * @return True course in degrees.
+	 * @return Course in degrees, true or relative.
+	 * @see #isCourseTrue()
 	 */
 	double getCourse();
 
+	/**
+	 * Tells if the course and speed are true or relative to own ship.
+	 *
+	 * @return <code>true</code> if true, <code>false</code> if relative.
+	 */
+	default boolean isCourseTrue() {
+		return true;
+	}
+
 	/**
 	 * Get the distance at the Closest Point of Approach (CPA).
 	 *
@@ -0,0 +1,392 @@
+/*
+ * TagBlock.java
+ * Copyright (C) 2026 Kimmo Tuukkanen
+ *
+ * This file is part of Java Marine API.
+ * <http://ktuukkan.github.io/marine-api/>
+ *
+ * Java Marine API is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * Java Marine API is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Java Marine API. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sf.marineapi.nmea.sentence;
+
+/**
+ * <p>
+ * NMEA 4.0 tag block, i.e. the optional metadata prefix of a sentence. Tag
+ * blocks are used especially by aggregated AIS feeds for the time of
+ * reception and identifier of receiving station, for example:</p>
+ * <p>
+ * <code>\s:2573345,c:1697040000*00\!AIVDM,1,1,,A,13KF5P@01sQj:;0RKO=:THLt0000,0*01</code></p>
+ * <p>
+ * Block is delimited by backslashes and consists of comma separated
+ * <code>code:value</code> pairs followed by a mandatory checksum calculated
+ * like for sentences; blocks without checksum are rejected. Supported codes are <code>c</code> (UNIX time), <code>d</code>
+ * (destination), <code>g</code> (sentence grouping), <code>n</code> (line
+ * count), <code>r</code> (relative time), <code>s</code> (source) and
+ * <code>t</code> (text). Unknown codes are ignored.</p>
+ * <p>
+ * Tag block is parsed in a single pass without splitting the line; only the
+ * text values are extracted as Strings.</p>
+ *
+ * @author Kimmo Tuukkanen
+ * @see Sentence#getTagBlock()
+ */
+public final class TagBlock {
+
+	/** Tag block delimiter */
+	public static final char DELIMITER = '\\';
+
+	// UNIX times greater than this are in milliseconds instead of seconds
+	private static final long MAX_SECONDS = 100000000000L;
+
+	private final int length;
+	private long time = -1;
+	private long relativeTime = -1;
+	private int lineCount = -1;
+	private int groupLine;
+	private int groupSize;
+	private int groupId;
+	private String source;
+	private String destination;
+	private String text;
+
+	/**
+	 * Parses the tag block in the beginning of given line.
+	 *
+	 * @param line Tag block followed by sentence
+	 * @throws IllegalArgumentException If tag block is malformed or the
+	 *             checksum is missing or does not match.
+	 */
+	private TagBlock(String line) {
+
+		final int end = line.indexOf(DELIMITER, 1);
+		if (line.charAt(0) != DELIMITER || end < 0) {
+			throw new IllegalArgumentException("Tag block not found");
+		}
+		length = end + 1;
+
+		int sum = 0;
+		int field = 1;
+		int stop = end;
+		for (int i = 1; i <= end; i++) {
+			char ch = line.charAt(i);
+			if (ch == Sentence.CHECKSUM_DELIMITER) {
+				stop = i;
+				break;
+			}
+			if (ch == ',' || i == end) {
+				parseField(line, field, i);
+				field = i + 1;
+			}
+			sum ^= ch;
+		}
+
+		if (stop == end) {
+			throw new IllegalArgumentException("Tag block checksum missing");
+		}
+		parseField(line, field, stop);
+		if (end - stop != 3 || parseHex(line, stop + 1, end) != sum) {
+			throw new IllegalArgumentException("Tag block checksum mismatch");
+		}
+	}
+
+	/**
+	 * Returns the index of sentence begin char in given line, i.e. the length
+	 * of tag block or zero if line has no tag block.
+	 *
+	 * @param line NMEA line with or without tag block
+	 * @return Index of sentence, or -1 if tag block is not terminated.
+	 */
+	public static int indexOf(String line) {
+		if (line == null || line.length() == 0 || line.charAt(0) != DELIMITER) {
+			return 0;
+		}
+		int end = line.indexOf(DELIMITER, 1);
+		return end < 0 ? -1 : end + 1;
+	}
+
+	/**
+	 * Tells if the tag block of given line ends with correct checksum. Only
+	 * the checksum is verified, the fields are not parsed.
+	 *
+	 * @param line NMEA line with tag block
+	 * @param index Index of sentence as returned by {@link #indexOf(String)}
+	 * @return <code>true</code> if checksum is present and matches.
+	 */
+	static boolean hasValidChecksum(String line, int index) {
+		final int star = index - 4;
+		if (star < 1 || line.charAt(star) != Sentence.CHECKSUM_DELIMITER) {
+			return false;
+		}
+		int sum = 0;
+		for (int i = 1; i < star; i++) {
+			sum ^= line.charAt(i);
+		}
+		return parseHex(line, star + 1, index - 1) == sum;
+	}
+
+	/**
+	 * Parses the tag block of given line.
+	 *
+	 * @param line NMEA line with or without tag block
+	 * @return TagBlock or <code>null</code> if line has no tag block.
+	 * @throws IllegalArgumentException If tag block is malformed or the
+	 *             checksum is missing or does not match.
+	 */
+	public static TagBlock parse(String line) {
+		if (indexOf(line) == 0) {
+			return null;
+		}
+		return new TagBlock(line);
+	}
+
+	/**
+	 * Tells if given line has a tag block with correct checksum.
+	 *
+	 * @param line NMEA line to inspect
+	 * @return <code>true</code> if valid tag block is found, otherwise
+	 *         <code>false</code>.
+	 */
+	public static boolean isValid(String line) {
+		try {
+			return parse(line) != null;
+		} catch (IllegalArgumentException e) {
+			return false;
+		}
+	}
+
+	/**
+	 * Returns the source identifier, e.g. receiving station.
+	 *
+	 * @return Source or <code>null</code> if not present.
+	 */
+	public String getSource() {
+		return source;
+	}
+
+	/**
+	 * Returns the destination identifier.
+	 *
+	 * @return Destination or <code>null</code> if not present.
+	 */
+	public String getDestination() {
+		return destination;
+	}
+
+	/**
+	 * Returns the text string.
+	 *
+	 * @return Text or <code>null</code> if not present.
+	 */
+	public String getText() {
+		return text;
+	}
+
+	/**
+	 * Returns the UNIX time of the sentence, typically time of reception.
+	 * Times given in seconds are converted to milliseconds.
+	 *
+	 * @return Milliseconds since epoch, or -1 if not present.
+	 */
+	public long getTime() {
+		return time;
+	}
+
+	/**
+	 * Tells if the tag block contains UNIX time.
+	 */
+	public boolean hasTime() {
+		return time >= 0;
+	}
+
+	/**
+	 * Returns the relative time.
+	 *
+	 * @return Relative time or -1 if not present.
+	 */
+	public long getRelativeTime() {
+		return relativeTime;
+	}
+
+	/**
+	 * Returns the line count.
+	 *
+	 * @return Line count or -1 if not present.
+	 */
+	public int getLineCount() {
+		return lineCount;
+	}
+
+	/**
+	 * Tells if the sentence is part of a sentence group, i.e. the tag block
+	 * contains grouping parameters.
+	 */
+	public boolean isGrouped() {
+		return groupSize > 0;
+	}
+
+	/**
+	 * Returns the number of sentence within its group.
+	 *
+	 * @return Sentence number, starting from 1, or 0 if not grouped.
+	 */
+	public int getGroupLine() {
+		return groupLine;
+	}
+
+	/**
+	 * Returns the total number of sentences in group.
+	 *
+	 * @return Group size or 0 if not grouped.
+	 */
+	public int getGroupSize() {
+		return groupSize;
+	}
+
+	/**
+	 * Returns the group identifier, shared by all sentences of the group.
+	 *
+	 * @return Group id or 0 if not grouped.
+	 */
+	public int getGroupId() {
+		return groupId;
+	}
+
+	/**
+	 * Returns the length of tag block, including both delimiters.
+	 *
+	 * @return Number of characters
+	 */
+	public int length() {
+		return length;
+	}
+
+	/**
+	 * Returns the tag block in NMEA format, with checksum and delimiters.
+	 */
+	@Override
+	public String toString() {
+		StringBuilder sb = new StringBuilder(64);
+		if (isGrouped()) {
+			append(sb, 'g', groupLine + "-" + groupSize + "-" + groupId);
+		}
+		if (source != null) {
+			append(sb, 's', source);
+		}
+		if (destination != null) {
+			append(sb, 'd', destination);
+		}
+		if (lineCount >= 0) {
+			append(sb, 'n', String.valueOf(lineCount));
+		}
+		if (hasTime()) {
+			append(sb, 'c', String.valueOf(time % 1000 == 0 ? time / 1000 : time));
+		}
+		if (relativeTime >= 0) {
+			append(sb, 'r', String.valueOf(relativeTime));
+		}
+		if (text != null) {
+			append(sb, 't', text);
+		}
+		String sum = Checksum.xor(sb.toString());
+		return DELIMITER + sb.toString() + Sentence.CHECKSUM_DELIMITER + sum + DELIMITER;
+	}
+
+	private static void append(StringBuilder sb, char code, String value) {
+		if (sb.length() > 0) {
+			sb.append(',');
+		}
+		sb.append(code).append(':').append(value);
+	}
+
+	/**
+	 * Parses one <code>code:value</code> pair between given indices.
+	 */
+	private void parseField(String line, int from, int to) {
+		if (to - from < 2 || line.charAt(from + 1) != ':') {
+			if (to > from) {
+				throw new IllegalArgumentException("Malformed tag block field");
+			}
+			return;
+		}
+		final int v = from + 2;
+		switch (line.charAt(from)) {
+			case 'c':
+				time = parseLong(line, v, to);
+				if (time < MAX_SECONDS) {
+					time *= 1000;
+				}
+				break;
+			case 'd':
+				destination = line.substring(v, to);
+				break;
+			case 'g':
+				int d1 = line.indexOf('-', v);
+				int d2 = d1 < 0 ? -1 : line.indexOf('-', d1 + 1);
+				if (d2 < 0 || d2 >= to) {
+					throw new IllegalArgumentException("Malformed tag block group");
+				}
+				groupLine = (int) parseLong(line, v, d1);
+				groupSize = (int) parseLong(line, d1 + 1, d2);
+				groupId = (int) parseLong(line, d2 + 1, to);
+				break;
+			case 'n':
+				lineCount = (int) parseLong(line, v, to);
+				break;
+			case 'r':
+				relativeTime = parseLong(line, v, to);
+				break;
+			case 's':
+				source = line.substring(v, to);
+				break;
+			case 't':
+				text = line.substring(v, to);
+				break;
+			default:
+				break;
+		}
+	}
+
+	/**
+	 * Parses non-negative decimal number between given indices.
+	 */
+	private static long parseLong(String s, int from, int to) {
+		if (from >= to) {
+			throw new IllegalArgumentException("Missing tag block value");
+		}
+		long value = 0;
+		for (int i = from; i < to; i++) {
+			int digit = s.charAt(i) - '0';
+			if (digit < 0 || digit > 9) {
+				throw new IllegalArgumentException("Invalid tag block value");
+			}
+			value = value * 10 + digit;
+		}
+		return value;
+	}
+
+	/**
+	 * Parses two-digit hexadecimal checksum, returns -1 if invalid.
+	 */
+	private static int parseHex(String s, int from, int to) {
+		int value = 0;
+		for (int i = from; i < to; i++) {
+			int digit = Character.digit(s.charAt(i), 16);
+			if (digit < 0) {
+				return -1;
+			}
+			value = (value << 4) | digit;
+		}
+		return value;
+	}
+}
@@ -213,10 +213,11 @@ public enum TalkerId {
 		}
 
 		String tid = "";
-		if (nmea.startsWith("$P")) {
+		int begin = TagBlock.indexOf(nmea);
+		if (nmea.startsWith("$P", begin)) {
 			tid = "P";
 		} else {
-			tid = nmea.substring(1, 3);
+			tid = nmea.substring(begin + 1, begin + 3);
 		}
 		return TalkerId.valueOf(tid);
 	}
@@ -20,17 +20,27 @@
  */
 package net.sf.marineapi.provider;
 
+import java.time.Clock;
 import java.util.ArrayList;
-import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
 
+import net.sf.marineapi.jfr.FlightRecording;
+import net.sf.marineapi.jfr.ProviderUpdateEvent;
 import net.sf.marineapi.nmea.event.SentenceEvent;
 import net.sf.marineapi.nmea.event.SentenceListener;
 import net.sf.marineapi.nmea.io.SentenceReader;
+import net.sf.marineapi.nmea.parser.DataNotAvailableException;
 import net.sf.marineapi.nmea.sentence.Sentence;
 import net.sf.marineapi.nmea.sentence.SentenceId;
+import net.sf.marineapi.nmea.sentence.TimeSentence;
+import net.sf.marineapi.provider.event.EventFilter;
 import net.sf.marineapi.provider.event.ProviderEvent;
 import net.sf.marineapi.provider.event.ProviderListener;
+import net.sf.marineapi.provider.event.ProviderSnapshot;
 
 /**
  * <p>Abstract base class for providers. Defines methods that all providers must
@@ -38,16 +48,62 @@ import net.sf.marineapi.provider.event.ProviderListener;
  * required sentences.</p>
  * <p>When constructing {@link net.sf.marineapi.provider.event.PositionEvent},
  * the maximum age for all captured sentences is 1000 ms, i.e. all sentences are
- * from within the default NMEA update rate (1/s).</p>
+ * from within the default NMEA update rate (1/s). The age is measured by the
+ * provider's clock, which may be replaced e.g. when replaying recorded data.</p>
+ * <p>Alternatively, sentences may be grouped in fix epochs by event time, see
+ * {@link #setEpochTolerance(long)}. The UTC time of each time sentence (e.g.
+ * RMC, GGA, GLL or ZDA) is then compared to the time of current epoch and a
+ * sentence outside the tolerance starts a new epoch, discarding the sentences
+ * captured so far. Sentences without time join the current epoch. In this
+ * mode the age is not checked, thus events are created correctly regardless
+ * of the replay speed.</p>
+ * <p>Latest event is published as {@link ProviderSnapshot}, which may be
+ * polled from any thread by {@link #getLatest()} without locking. Listeners
+ * may be added and removed while events are being dispatched.</p>
+ * <p>Each listener may be subscribed with a maximum update rate and an
+ * {@link EventFilter} for change-based dispatching. When no listener is due
+ * for an update, the event is not created at all, in which case also the
+ * latest snapshot is not updated.</p>
+ * <p>Captured sentences are held in fixed slots, one per sentence type, and
+ * a bit mask of the captured types. Thus, checking the readiness and looking
+ * up the sentences takes constant time and no objects are allocated per
+ * sentence. When a type is received more than once before an event is
+ * created, the latest sentence replaces the previous one.</p>
  *
  * @author Kimmo Tuukkanen
  */
 public abstract class AbstractProvider<T extends ProviderEvent> implements
 		SentenceListener {
 
+	// milliseconds per day, for comparing times over midnight
+	private static final long DAY = 24 * 3600 * 1000L;
+
+	// sentence types by ID, for resolving the slot of captured sentences
+	private static final Map<String, SentenceId> TYPES = new HashMap<String, SentenceId>();
+
+	static {
+		if (SentenceId.values().length > Long.SIZE) {
+			throw new IllegalStateException(
+				"Sentence types do not fit in captured mask: " + SentenceId.values().length);
+		}
+		for (SentenceId id : SentenceId.values()) {
+			TYPES.put(id.name(), id);
+		}
+	}
+
 	private SentenceReader reader;
-	private List<SentenceEvent> events = new ArrayList<SentenceEvent>();
-	private List<ProviderListener<T>> listeners = new ArrayList<ProviderListener<T>>();
+	private final SentenceEvent[] slots = new SentenceEvent[SentenceId.values().length];
+	private final Map<String, SentenceEvent> others = new LinkedHashMap<String, SentenceEvent>();
+	// bit n set when slot n is in use, i.e. at most 64 sentence types
+	private long captured;
+	private long oldest = Long.MAX_VALUE;
+	private Clock clock = Clock.systemDefaultZone();
+	private long tolerance = -1;
+	// UTC time of current epoch in ms of day, or -1 if not started
+	private long epoch = -1;
+	private final List<Subscription<T>> listeners = new CopyOnWriteArrayList<Subscription<T>>();
+	private volatile ProviderSnapshot<T> latest;
+	private long sequence;
 
 	/**
 	 * Creates a new instance of AbstractProvider.
@@ -81,7 +137,84 @@ public abstract class AbstractProvider<T extends ProviderEvent> implements
 	 * @param listener Listener to add
 	 */
 	public void addListener(ProviderListener<T> listener) {
-		listeners.add(listener);
+		addListener(listener, 0, null);
+	}
+
+	/**
+	 * Inserts a listener to provider with update rate limit and optional
+	 * filter. Events created within the minimum interval from the event last
+	 * dispatched to listener are skipped, as well as events not accepted by
+	 * the filter. Interval is measured by the provider's clock.
+	 * 
+	 * @param listener Listener to add
+	 * @param minInterval Minimum interval of events in milliseconds, zero
+	 *            for no limit.
+	 * @param filter Filter for change-based dispatching, or
+	 *            <code>null</code> to dispatch all events.
+	 * @throws IllegalArgumentException If interval is negative.
+	 */
+	public void addListener(ProviderListener<T> listener, long minInterval,
+		EventFilter<T> filter) {
+		if (minInterval < 0) {
+			throw new IllegalArgumentException("Interval cannot be negative");
+		}
+		listeners.add(new Subscription<T>(listener, minInterval, filter));
+	}
+
+	/**
+	 * Returns the clock used for checking the age of sentences.
+	 *
+	 * @return Clock
+	 */
+	public Clock getClock() {
+		return clock;
+	}
+
+	/**
+	 * Returns the latest event created by provider. This method does not
+	 * lock and may be called from any thread.
+	 *
+	 * @return Snapshot of latest event, or <code>null</code> if no events
+	 *         have been created.
+	 */
+	public ProviderSnapshot<T> getLatest() {
+		return latest;
+	}
+
+	/**
+	 * Returns the tolerance of grouping sentences in fix epochs.
+	 *
+	 * @return Tolerance in milliseconds, negative if disabled.
+	 */
+	public long getEpochTolerance() {
+		return tolerance;
+	}
+
+	/**
+	 * Sets the clock used for checking the age of sentences. By default, the
+	 * system clock in default time zone is used.
+	 *
+	 * @param clock Clock to set
+	 * @throws IllegalArgumentException If clock is <code>null</code>.
+	 */
+	public void setClock(Clock clock) {
+		if (clock == null) {
+			throw new IllegalArgumentException("Clock cannot be null");
+		}
+		this.clock = clock;
+	}
+
+	/**
+	 * Enables or disables grouping of sentences in fix epochs by their UTC
+	 * time. When enabled, sentences are not checked against the clock.
+	 * Disabled by default.
+	 *
+	 * @param tolerance Maximum difference in milliseconds of sentence times
+	 *            within one epoch, or negative value to disable.
+	 */
+	public void setEpochTolerance(long tolerance) {
+		this.tolerance = tolerance < 0 ? -1 : tolerance;
+		reset();
 	}
 
 	/**
@@ -92,24 +225,82 @@ public abstract class AbstractProvider<T extends ProviderEvent> implements
 	protected abstract T createProviderEvent();
 
 	/**
-	 * Dispatch the TPV event to all listeners.
+	 * Dispatch the TPV event to all listeners that are due for an update and
+	 * accept the event.
 	 * 
 	 * @param event TPVUpdateEvent to dispatch
+	 * @param now Current time of provider's clock
+	 */
+	private void fireProviderEvent(T event, long now) {
+		ProviderUpdateEvent update = FlightRecording.ENABLED ? ProviderUpdateEvent.start() : null;
+		int count = 0;
+		for (Subscription<T> s : listeners) {
+			if (s.isDue(now) && s.accept(event)) {
+				s.last = event;
+				s.time = now;
+				s.listener.providerUpdate(event);
+				count++;
+			}
+		}
+		if (update != null) {
+			update.finish(this, count);
+		}
+	}
+
+	/**
+	 * Tells if any of the listeners is due for an update, or if there are
+	 * no listeners at all.
+	 */
+	private boolean isDue(long now) {
+		if (listeners.isEmpty()) {
+			return true;
+		}
+		for (Subscription<T> s : listeners) {
+			if (s.isDue(now)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	/**
+	 * Returns the bit mask of given sentence types, to be used with
+	 * {@link #hasOne(long)} and {@link #hasAll(long)}. Extending classes
+	 * should compute the masks once, e.g. in static constants.
+	 *
+	 * @param ids Sentence types to include
+	 * @return Bit mask of types
 	 */
-	private void fireProviderEvent(T event) {
-		for (ProviderListener<T> listener : listeners) {
-			listener.providerUpdate(event);
+	protected static long mask(SentenceId... ids) {
+		long mask = 0;
+		for (SentenceId id : ids) {
+			mask |= bit(id);
 		}
+		return mask;
 	}
 
 	/**
-	 * Returns the collected sentences.
+	 * Returns the captured sentence of given type.
+	 *
+	 * @param id Sentence type
+	 * @return Latest captured sentence, or <code>null</code> if none.
+	 */
+	protected final Sentence getSentence(SentenceId id) {
+		SentenceEvent e = slots[id.ordinal()];
+		return e == null ? null : e.getSentence();
+	}
+
+	/**
+	 * Returns the collected sentences, one per sentence type.
 	 * 
 	 * @return List of sentences.
 	 */
 	protected final List<Sentence> getSentences() {
 		List<Sentence> s = new ArrayList<Sentence>();
-		for (SentenceEvent e : events) {
+		for (long m = captured; m != 0; m &= m - 1) {
+			s.add(slots[Long.numberOfTrailingZeros(m)].getSentence());
+		}
+		for (SentenceEvent e : others.values()) {
 			s.add(e.getSentence());
 		}
 		return s;
@@ -130,6 +321,17 @@ public abstract class AbstractProvider<T extends ProviderEvent> implements
 		return true;
 	}
 
+	/**
+	 * Tells if the provider has captured all sentences of given mask.
+	 *
+	 * @param mask Bit mask of sentence types
+	 * @return True if all types in mask have been captured.
+	 * @see #mask(SentenceId...)
+	 */
+	protected final boolean hasAll(long mask) {
+		return (captured & mask) == mask;
+	}
+
 	/**
 	 * Tells if the provider has captured at least one of the specified
 	 * sentences.
@@ -139,15 +341,26 @@ public abstract class AbstractProvider<T extends ProviderEvent> implements
 	 *         captured sentences.
 	 */
 	protected final boolean hasOne(String... id) {
-		List<String> ids = Arrays.asList(id);
-		for (Sentence s : getSentences()) {
-			if (ids.contains(s.getSentenceId())) {
+		for (String s : id) {
+			SentenceId type = TYPES.get(s);
+			if (type != null ? (captured & bit(type)) != 0 : others.containsKey(s)) {
 				return true;
 			}
 		}
 		return false;
 	}
 
+	/**
+	 * Tells if the provider has captured at least one sentence of given mask.
+	 *
+	 * @param mask Bit mask of sentence types
+	 * @return True if any of the types in mask has been captured.
+	 * @see #mask(SentenceId...)
+	 */
+	protected final boolean hasOne(long mask) {
+		return (captured & mask) != 0;
+	}
+
 	/**
 	 * Tells if provider has captured the required sentences for creating new
 	 * ProviderEvent.
@@ -195,14 +408,25 @@ public abstract class AbstractProvider<T extends ProviderEvent> implements
 	 * @param listener Listener to remove
 	 */
 	public void removeListener(ProviderListener<T> listener) {
-		listeners.remove(listener);
+		for (Subscription<T> s : listeners) {
+			if (s.listener == listener) {
+				listeners.remove(s);
+			}
+		}
 	}
 
 	/**
-	 * Clears the list of collected events.
+	 * Clears the collected events. Extending classes that collect sentences
+	 * of their own should override this and call the super implementation.
 	 */
-	private void reset() {
-		events.clear();
+	protected void reset() {
+		for (long m = captured; m != 0; m &= m - 1) {
+			slots[Long.numberOfTrailingZeros(m)] = null;
+		}
+		captured = 0;
+		others.clear();
+		oldest = Long.MAX_VALUE;
+		epoch = -1;
 	}
 
 	/*
@@ -211,31 +435,108 @@ public abstract class AbstractProvider<T extends ProviderEvent> implements
 	 * net.sf.marineapi.nmea.event.SentenceEvent)
 	 */
 	public void sentenceRead(SentenceEvent event) {
-		events.add(event);
+		capture(event);
 		if (isReady()) {
-			if (validate()) {
+			long now = clock.millis();
+			if (isDue(now) && validate()) {
 				T pEvent = createProviderEvent();
-				fireProviderEvent(pEvent);
+				if (pEvent != null) {
+					latest = new ProviderSnapshot<T>(pEvent, ++sequence, clock);
+					fireProviderEvent(pEvent, now);
+				}
 			}
 			reset();
 		}
 	}
 
 	/**
-	 * Validates the collected sentences by checking the ages of each sentence
-	 * and then by calling {@link #isValid()}. If extending implementation has
-	 * no validation criteria, it should return always <code>true</code>.
+	 * Stores the event in the slot of its sentence type.
+	 */
+	private void capture(SentenceEvent event) {
+		if (tolerance >= 0) {
+			updateEpoch(event.getSentence());
+		}
+		String sid = event.getSentence().getSentenceId();
+		SentenceId type = TYPES.get(sid);
+		if (type != null) {
+			slots[type.ordinal()] = event;
+			captured |= bit(type);
+		} else {
+			others.put(sid, event);
+		}
+		oldest = Math.min(oldest, event.getTimeStamp());
+	}
+
+	/**
+	 * Validates the collected sentences by checking the age of oldest
+	 * captured sentence and then by calling {@link #isValid()}. If extending
+	 * implementation has no validation criteria, it should return always
+	 * <code>true</code>.
 	 * 
 	 * @return true if valid, otherwise false
 	 */
 	private boolean validate() {
-		long now = System.currentTimeMillis();
-		for (SentenceEvent se : events) {
-			long age = now - se.getTimeStamp();
-			if (age > 1000) {
-				return false;
-			}
+		if (tolerance < 0 && clock.millis() - oldest > 1000) {
+			return false;
 		}
 		return isValid();
 	}
+
+	/**
+	 * Starts a new epoch if the time of given sentence is not within the
+	 * tolerance of current epoch.
+	 */
+	private void updateEpoch(Sentence s) {
+		if (!(s instanceof TimeSentence)) {
+			return;
+		}
+		long t;
+		try {
+			t = ((TimeSentence) s).getTime().getMilliseconds();
+		} catch (DataNotAvailableException e) {
+			return;
+		} catch (IllegalArgumentException e) {
+			return;
+		}
+		if (epoch >= 0) {
+			long diff = Math.abs(t - epoch) % DAY;
+			if (Math.min(diff, DAY - diff) <= tolerance) {
+				return;
+			}
+			reset();
+		}
+		epoch = t;
+	}
+
+	private static long bit(SentenceId id) {
+		return 1L << id.ordinal();
+	}
+
+	/**
+	 * Listener with its update options and dispatching state.
+	 */
+	private static final class Subscription<T extends ProviderEvent> {
+
+		final ProviderListener<T> listener;
+		final long interval;
+		final EventFilter<T> filter;
+
+		// last dispatched event and its time, accessed by reader thread only
+		T last;
+		long time;
+
+		Subscription(ProviderListener<T> listener, long interval, EventFilter<T> filter) {
+			this.listener = listener;
+			this.interval = interval;
+			this.filter = filter;
+		}
+
+		boolean isDue(long now) {
+			return last == null || now - time >= interval;
+		}
+
+		boolean accept(T event) {
+			return last == null || filter == null || filter.accept(last, event);
+		}
+	}
 }
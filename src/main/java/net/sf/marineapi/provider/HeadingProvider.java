@@ -36,6 +36,8 @@ import net.sf.marineapi.provider.event.HeadingEvent;
  */
 public class HeadingProvider extends AbstractProvider<HeadingEvent> {
 
+	private static final long HEADING = mask(SentenceId.HDT, SentenceId.HDM, SentenceId.HDG);
+
 	/**
 	 * Creates a new intance of HeadingProvider.
 	 *
@@ -51,12 +53,14 @@ public class HeadingProvider extends AbstractProvider<HeadingEvent> {
 	 */
 	@Override
 	protected HeadingEvent createProviderEvent() {
-		for (Sentence s : getSentences()) {
-			if (s instanceof HeadingSentence) {
-				return new HeadingEvent(this, (HeadingSentence) s);
-			}
+		Sentence s = getSentence(SentenceId.HDT);
+		if (s == null) {
+			s = getSentence(SentenceId.HDM);
+		}
+		if (s == null) {
+			s = getSentence(SentenceId.HDG);
 		}
-		return null;
+		return s == null ? null : new HeadingEvent(this, (HeadingSentence) s);
 	}
 
 	/*
@@ -65,7 +69,7 @@ public class HeadingProvider extends AbstractProvider<HeadingEvent> {
 	 */
 	@Override
 	protected boolean isReady() {
-		return hasOne("HDT", "HDM", "HDG");
+		return hasOne(HEADING);
 	}
 
 	/*
@@ -0,0 +1,391 @@
+/*
+ * PositionInterpolator.java
+ * Copyright (C) 2026 Kimmo Tuukkanen
+ *
+ * This file is part of Java Marine API.
+ * <http://ktuukkan.github.io/marine-api/>
+ *
+ * Java Marine API is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * Java Marine API is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Java Marine API. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sf.marineapi.provider;
+
+import net.sf.marineapi.nmea.event.AbstractSentenceListener;
+import net.sf.marineapi.nmea.io.SentenceReader;
+import net.sf.marineapi.nmea.sentence.HDTSentence;
+import net.sf.marineapi.nmea.sentence.ROTSentence;
+import net.sf.marineapi.nmea.sentence.SentenceId;
+import net.sf.marineapi.nmea.util.DataStatus;
+import net.sf.marineapi.nmea.util.Position;
+import net.sf.marineapi.provider.event.PositionEvent;
+import net.sf.marineapi.provider.event.PositionListener;
+
+/**
+ * <p>
+ * Provides own-ship position and heading at arbitrary times between and
+ * after the discrete fixes, e.g. for georeferencing high-rate sensor data.
+ * Keeps a short history of fixes with speed and course over ground, and the
+ * latest true heading and rate of turn. Positions between fixes are
+ * interpolated linearly; after the latest fix, position is dead reckoned
+ * using speed, course and rate of turn, up to the maximum extrapolation
+ * time.</p>
+ * <p>
+ * Times are expressed in nanoseconds. Fixes received from
+ * {@link PositionProvider} are stamped with {@link System#nanoTime()} on
+ * arrival, thus queries should use the same time base. Alternatively, the
+ * <code>update</code> methods may be called directly with any monotonic
+ * time.</p>
+ * <p>
+ * Updates are expected from a single thread, e.g. the reader thread. Queries
+ * may be done concurrently from any number of threads; they do not lock and
+ * {@link #positionAt(long, double[])} and {@link #headingAt(long)} do not
+ * allocate any objects. Each update publishes a new immutable history, thus
+ * queries always see a consistent state.</p>
+ *
+ * @author Kimmo Tuukkanen
+ * @see PositionProvider
+ */
+public class PositionInterpolator implements PositionListener {
+
+	/** Default number of fixes in history */
+	public static final int DEFAULT_CAPACITY = 32;
+
+	// meters per degree of latitude
+	private static final double METERS_PER_DEGREE = 1852.0 * 60;
+	private static final double NANOS_PER_SECOND = 1e9;
+
+	private final int capacity;
+	private final long maxExtrapolation;
+	private volatile History history = new History(new long[0],
+		new double[0], new double[0], new double[0], new double[0]);
+	private volatile Heading heading = new Heading(0, Double.NaN, 0, Double.NaN);
+
+	/**
+	 * Creates an interpolator to be updated by the application or used as
+	 * listener of {@link PositionProvider}.
+	 *
+	 * @param capacity Maximum number of fixes in history
+	 * @param maxExtrapolation Maximum time in nanoseconds to dead reckon
+	 *            after the latest fix.
+	 * @throws IllegalArgumentException If capacity is less than two or time
+	 *             is negative.
+	 */
+	public PositionInterpolator(int capacity, long maxExtrapolation) {
+		if (capacity < 2) {
+			throw new IllegalArgumentException("Capacity must be at least two");
+		}
+		if (maxExtrapolation < 0) {
+			throw new IllegalArgumentException("Extrapolation time cannot be negative");
+		}
+		this.capacity = capacity;
+		this.maxExtrapolation = maxExtrapolation;
+	}
+
+	/**
+	 * Creates an interpolator that captures positions from given reader by
+	 * {@link PositionProvider}, and heading and rate of turn from HDT and ROT
+	 * sentences.
+	 *
+	 * @param reader Reader providing the sentences
+	 * @param capacity Maximum number of fixes in history
+	 * @param maxExtrapolation Maximum time in nanoseconds to dead reckon
+	 *            after the latest fix.
+	 * @throws IllegalArgumentException If capacity is less than two or time
+	 *             is negative.
+	 */
+	public PositionInterpolator(SentenceReader reader, int capacity,
+		long maxExtrapolation) {
+		this(capacity, maxExtrapolation);
+		new PositionProvider(reader).addListener(this);
+		reader.addSentenceListener(new AbstractSentenceListener<HDTSentence>(HDTSentence.class) {
+			public void sentenceRead(HDTSentence hdt) {
+				updateHeading(System.nanoTime(), hdt.getHeading());
+			}
+		}, SentenceId.HDT);
+		reader.addSentenceListener(new AbstractSentenceListener<ROTSentence>(ROTSentence.class) {
+			public void sentenceRead(ROTSentence rot) {
+				if (rot.getStatus() == DataStatus.ACTIVE) {
+					updateRateOfTurn(System.nanoTime(), rot.getRateOfTurn());
+				}
+			}
+		}, SentenceId.ROT);
+	}
+
+	/**
+	 * Appends a fix to history. Fixes must be appended in time order; fix
+	 * older than the latest one is ignored.
+	 *
+	 * @param time Time of fix in nanoseconds
+	 * @param lat Latitude in degrees
+	 * @param lon Longitude in degrees
+	 * @param sog Speed over ground in knots, or <code>NaN</code> if not
+	 *            available.
+	 * @param cog Course over ground in degrees, or <code>NaN</code> if not
+	 *            available.
+	 * @return <code>true</code> if fix was appended, otherwise
+	 *         <code>false</code>.
+	 */
+	public boolean update(long time, double lat, double lon, double sog, double cog) {
+		final History h = history;
+		final int n = h.time.length;
+		if (n > 0 && time < h.time[n - 1]) {
+			return false;
+		}
+		final int keep = Math.min(n, capacity - 1);
+		final int from = n - keep;
+		long[] t = new long[keep + 1];
+		double[] y = new double[keep + 1];
+		double[] x = new double[keep + 1];
+		double[] v = new double[keep + 1];
+		double[] c = new double[keep + 1];
+		System.arraycopy(h.time, from, t, 0, keep);
+		System.arraycopy(h.lat, from, y, 0, keep);
+		System.arraycopy(h.lon, from, x, 0, keep);
+		System.arraycopy(h.sog, from, v, 0, keep);
+		System.arraycopy(h.cog, from, c, 0, keep);
+		t[keep] = time;
+		y[keep] = lat;
+		x[keep] = lon;
+		v[keep] = sog;
+		c[keep] = cog;
+		history = new History(t, y, x, v, c);
+		return true;
+	}
+
+	/**
+	 * Updates the true heading.
+	 *
+	 * @param time Time of heading in nanoseconds
+	 * @param degrees True heading in degrees
+	 */
+	public void updateHeading(long time, double degrees) {
+		Heading h = heading;
+		heading = new Heading(time, degrees, h.rotTime, h.rot);
+	}
+
+	/**
+	 * Updates the rate of turn.
+	 *
+	 * @param time Time of rate of turn in nanoseconds
+	 * @param rot Rate of turn in degrees per minute, negative value
+	 *            indicates turning to port.
+	 */
+	public void updateRateOfTurn(long time, double rot) {
+		Heading h = heading;
+		heading = new Heading(h.time, h.heading, time, rot);
+	}
+
+	/**
+	 * Computes the position at given time.
+	 *
+	 * @param time Time in nanoseconds
+	 * @param result Array of at least two elements to receive the latitude
+	 *            and longitude in degrees, in this order.
+	 * @return <code>true</code> if position was computed, or
+	 *         <code>false</code> if time is before the oldest fix or beyond
+	 *         the maximum extrapolation time.
+	 */
+	public boolean positionAt(long time, double[] result) {
+		final History h = history;
+		final int n = h.time.length;
+		if (n == 0 || time < h.time[0]) {
+			return false;
+		}
+		final int last = n - 1;
+		if (time >= h.time[last]) {
+			long dt = time - h.time[last];
+			if (dt > maxExtrapolation) {
+				return false;
+			}
+			reckon(h.lat[last], h.lon[last], h.sog[last], h.cog[last],
+				dt / NANOS_PER_SECOND, rateAt(time), result);
+			return true;
+		}
+
+		// first fix after given time
+		int lo = 1;
+		int hi = last;
+		while (lo < hi) {
+			int mid = (lo + hi) >>> 1;
+			if (h.time[mid] <= time) {
+				lo = mid + 1;
+			} else {
+				hi = mid;
+			}
+		}
+		final int p = lo - 1;
+		final double f = (double) (time - h.time[p]) / (h.time[lo] - h.time[p]);
+		double dLon = h.lon[lo] - h.lon[p];
+		if (Math.abs(dLon) > 180) {
+			dLon -= Math.signum(dLon) * 360;
+		}
+		result[0] = h.lat[p] + f * (h.lat[lo] - h.lat[p]);
+		result[1] = wrap(h.lon[p] + f * dLon);
+		return true;
+	}
+
+	/**
+	 * Computes the position at given time.
+	 *
+	 * @param time Time in nanoseconds
+	 * @return Position or <code>null</code> if not available.
+	 * @see #positionAt(long, double[])
+	 */
+	public Position getPosition(long time) {
+		double[] result = new double[2];
+		return positionAt(time, result) ? new Position(result[0], result[1]) : null;
+	}
+
+	/**
+	 * Computes the true heading at given time, extrapolating the latest
+	 * heading with rate of turn.
+	 *
+	 * @param time Time in nanoseconds
+	 * @return Heading in degrees, or <code>NaN</code> if heading is not
+	 *         available or older than the maximum extrapolation time.
+	 */
+	public double headingAt(long time) {
+		final Heading h = heading;
+		if (Double.isNaN(h.heading) || time - h.time > maxExtrapolation) {
+			return Double.NaN;
+		}
+		double dt = (time - h.time) / NANOS_PER_SECOND;
+		double hdg = (h.heading + rateAt(time) * dt) % 360;
+		return hdg < 0 ? hdg + 360 : hdg;
+	}
+
+	/**
+	 * Returns the number of fixes in history.
+	 */
+	public int size() {
+		return history.time.length;
+	}
+
+	/**
+	 * Removes all fixes, heading and rate of turn.
+	 */
+	public void clear() {
+		history = new History(new long[0], new double[0], new double[0],
+			new double[0], new double[0]);
+		heading = new Heading(0, Double.NaN, 0, Double.NaN);
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see net.sf.marineapi.provider.event.ProviderListener#providerUpdate(
+	 * net.sf.marineapi.provider.event.ProviderEvent)
+	 */
+	public void providerUpdate(PositionEvent evt) {
+		Position p = evt.getPosition();
+		if (p == null) {
+			return;
+		}
+		// speed of event is in km/h
+		Double sog = evt.getSpeed();
+		Double cog = evt.getCourse();
+		update(System.nanoTime(), p.getLatitude(), p.getLongitude(),
+			sog == null ? Double.NaN : sog / 1.852,
+			cog == null ? Double.NaN : cog);
+	}
+
+	/**
+	 * Returns the rate of turn in degrees per second, or zero if not
+	 * available at given time.
+	 */
+	private double rateAt(long time) {
+		final Heading h = heading;
+		if (Double.isNaN(h.rot) || time - h.rotTime > maxExtrapolation) {
+			return 0;
+		}
+		return h.rot / 60;
+	}
+
+	/**
+	 * Dead reckons from given position with constant speed and rate of turn,
+	 * using flat-earth approximation.
+	 */
+	private static void reckon(double lat, double lon, double sog, double cog,
+		double dt, double rot, double[] result) {
+
+		result[0] = lat;
+		result[1] = lon;
+		if (Double.isNaN(sog) || Double.isNaN(cog) || sog == 0 || dt == 0) {
+			return;
+		}
+
+		final double v = sog * 1852 / 3600;
+		final double c0 = Math.toRadians(cog);
+		double north;
+		double east;
+		if (Math.abs(rot) < 1e-6) {
+			north = v * dt * Math.cos(c0);
+			east = v * dt * Math.sin(c0);
+		} else {
+			final double w = Math.toRadians(rot);
+			final double c1 = c0 + w * dt;
+			north = v / w * (Math.sin(c1) - Math.sin(c0));
+			east = v / w * (Math.cos(c0) - Math.cos(c1));
+		}
+
+		result[0] = lat + north / METERS_PER_DEGREE;
+		result[1] = wrap(lon + east / (METERS_PER_DEGREE * Math.cos(Math.toRadians(lat))));
+	}
+
+	private static double wrap(double lon) {
+		if (lon > 180) {
+			return lon - 360;
+		}
+		if (lon < -180) {
+			return lon + 360;
+		}
+		return lon;
+	}
+
+	/**
+	 * Immutable history of fixes in time order.
+	 */
+	private static final class History {
+
+		final long[] time;
+		final double[] lat;
+		final double[] lon;
+		final double[] sog;
+		final double[] cog;
+
+		History(long[] time, double[] lat, double[] lon, double[] sog, double[] cog) {
+			this.time = time;
+			this.lat = lat;
+			this.lon = lon;
+			this.sog = sog;
+			this.cog = cog;
+		}
+	}
+
+	/**
+	 * Immutable heading and rate of turn with their times.
+	 */
+	private static final class Heading {
+
+		final long time;
+		final double heading;
+		final long rotTime;
+		final double rot;
+
+		Heading(long time, double heading, long rotTime, double rot) {
+			this.time = time;
+			this.heading = heading;
+			this.rotTime = rotTime;
+			this.rot = rot;
+		}
+	}
+}
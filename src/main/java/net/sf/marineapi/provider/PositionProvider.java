@@ -20,13 +20,15 @@
  */
 package net.sf.marineapi.provider;
 
+import java.time.LocalDate;
+
 import net.sf.marineapi.nmea.io.SentenceReader;
 import net.sf.marineapi.nmea.parser.DataNotAvailableException;
 import net.sf.marineapi.nmea.sentence.GGASentence;
 import net.sf.marineapi.nmea.sentence.GLLSentence;
 import net.sf.marineapi.nmea.sentence.RMCSentence;
 import net.sf.marineapi.nmea.sentence.VTGSentence;
-import net.sf.marineapi.nmea.sentence.Sentence;
+import net.sf.marineapi.nmea.sentence.ZDASentence;
 import net.sf.marineapi.nmea.sentence.SentenceId;
 import net.sf.marineapi.nmea.util.DataStatus;
 import net.sf.marineapi.nmea.util.Date;
@@ -39,15 +41,17 @@ import net.sf.marineapi.provider.event.PositionEvent;
 /**
  * <p>
  * Provides Time, Position and Velocity reports from GPS. Data is captured from
- * RMC, GGA and GLL sentences. RMC is used for date/time, speed and course. GGA
- * is used as primary source for position as it contains also the altitude. When
- * GGA is not available, position may be taken from GLL or RMC. If this is the
- * case, there is no altitude included in the
+ * RMC, VTG, GGA and GLL sentences. RMC is used for date/time, speed and course,
+ * or VTG for speed and course when RMC is not available. GGA is used as
+ * primary source for position as it contains also the altitude. When GGA is
+ * not available, position is taken from GLL. If this is the case, there is no
+ * altitude included in the
  * {@link net.sf.marineapi.nmea.util.Position}. GPS data statuses are also
  * captured and events are dispatched only when sentences report
  * {@link net.sf.marineapi.nmea.util.DataStatus#ACTIVE}. FAA mode transmitted in
  * RMC is also checked and captured when available, but may be <code>null</code>
- * depending on used NMEA version.
+ * depending on used NMEA version. When RMC is not available, date is taken
+ * from ZDA or, if neither is available, from the provider's clock.
  *  
  * @author Kimmo Tuukkanen
  * @see net.sf.marineapi.provider.event.PositionListener
@@ -56,13 +60,17 @@ import net.sf.marineapi.provider.event.PositionEvent;
  */
 public class PositionProvider extends AbstractProvider<PositionEvent> {
 
+	private static final long VELOCITY = mask(SentenceId.RMC, SentenceId.VTG);
+	private static final long POSITION = mask(SentenceId.GGA, SentenceId.GLL);
+
 	/**
 	 * Creates a new instance of PositionProvider.
 	 * 
 	 * @param reader SentenceReader that provides the required sentences.
 	 */
 	public PositionProvider(SentenceReader reader) {
-		super(reader, SentenceId.RMC, SentenceId.GGA, SentenceId.GLL, SentenceId.VTG);
+		super(reader, SentenceId.RMC, SentenceId.GGA, SentenceId.GLL,
+			SentenceId.VTG, SentenceId.ZDA);
 	}
 
 	/*
@@ -79,51 +87,55 @@ public class PositionProvider extends AbstractProvider<PositionEvent> {
 		FaaMode mode = null;
 		GpsFixQuality fix = null;
 
-		for (Sentence s : getSentences()) {
-			if (s instanceof RMCSentence) {
-				RMCSentence rmc = (RMCSentence) s;
-				sog = rmc.getSpeed();
-				try {
-					cog = rmc.getCourse();
-				} catch (DataNotAvailableException e) {
-					// If we are not moving, cource can be undefined. Leave null in that case.
-				}
-				d = rmc.getDate();
-				t = rmc.getTime();
-				if (p == null) {
-					p = rmc.getPosition();
-					if(rmc.getFieldCount() > 11) {
-						mode = rmc.getMode();
-					}
-				}
-			} else if (s instanceof VTGSentence) {
-				VTGSentence vtg = (VTGSentence) s;
-				sog = vtg.getSpeedKnots();
-				try {
-					cog = vtg.getTrueCourse();
-				} catch (DataNotAvailableException e) {
-					// If we are not moving, cource can be undefined. Leave null in that case.
-				}
-			} else if (s instanceof GGASentence) {
-				// Using GGA as primary position source as it contains both
-				// position and altitude
-				GGASentence gga = (GGASentence) s;
-				p = gga.getPosition();
-				fix = gga.getFixQuality();
-
-				// Some receivers do not provide RMC message
-				if (t == null) {
-					t = gga.getTime();
-				}
-			} else if (s instanceof GLLSentence && p == null) {
-				GLLSentence gll = (GLLSentence) s;
-				p = gll.getPosition();
+		RMCSentence rmc = (RMCSentence) getSentence(SentenceId.RMC);
+		GGASentence gga = (GGASentence) getSentence(SentenceId.GGA);
+
+		if (rmc != null) {
+			sog = rmc.getSpeed();
+			try {
+				cog = rmc.getCourse();
+			} catch (DataNotAvailableException e) {
+				// If we are not moving, cource can be undefined. Leave null in that case.
+			}
+			d = rmc.getDate();
+			t = rmc.getTime();
+			if (rmc.getFieldCount() > 11) {
+				mode = rmc.getMode();
+			}
+		} else {
+			VTGSentence vtg = (VTGSentence) getSentence(SentenceId.VTG);
+			sog = vtg.getSpeedKnots();
+			try {
+				cog = vtg.getTrueCourse();
+			} catch (DataNotAvailableException e) {
+				// If we are not moving, cource can be undefined. Leave null in that case.
 			}
 		}
 
+		if (gga != null) {
+			// Using GGA as primary position source as it contains both
+			// position and altitude
+			p = gga.getPosition();
+			fix = gga.getFixQuality();
+
+			// Some receivers do not provide RMC message
+			if (t == null) {
+				t = gga.getTime();
+			}
+		} else {
+			GLLSentence gll = (GLLSentence) getSentence(SentenceId.GLL);
+			p = gll.getPosition();
+		}
+
+		ZDASentence zda = (ZDASentence) getSentence(SentenceId.ZDA);
+		if (d == null && zda != null) {
+			d = zda.getDate();
+		}
+
 		// Ag-Star reciever does not provide RMC sentence. So we have to guess what date it is
 		if (d == null) {
-			d = new Date();
+			LocalDate now = LocalDate.now(getClock());
+			d = new Date(now.getYear(), now.getMonthValue(), now.getDayOfMonth());
 		}
 
 		return new PositionEvent(this, p, sog, cog, d, t, mode, fix);
@@ -135,7 +147,7 @@ public class PositionProvider extends AbstractProvider<PositionEvent> {
 	 */
 	@Override
 	protected boolean isReady() {
-		return hasOne("RMC", "VTG") && hasOne("GGA", "GLL");
+		return hasOne(VELOCITY) && hasOne(POSITION);
 	}
 
 	/*
@@ -145,28 +157,25 @@ public class PositionProvider extends AbstractProvider<PositionEvent> {
 	@Override
 	protected boolean isValid() {
 
-		for (Sentence s : getSentences()) {
-
-			if (s instanceof RMCSentence) {
-				RMCSentence rmc = (RMCSentence)s;
-				DataStatus ds = rmc.getStatus();
-				if (DataStatus.VOID.equals(ds) ||
-					(rmc.getFieldCount() > 11 && FaaMode.NONE.equals(rmc.getMode()))) {
-					return false;
-				}
-			} else if (s instanceof GGASentence) {
-				GpsFixQuality fq = ((GGASentence) s).getFixQuality();
-				if (GpsFixQuality.INVALID.equals(fq)) {
-					return false;
-				}
-			} else if (s instanceof GLLSentence) {
-				DataStatus ds = ((GLLSentence) s).getStatus();
-				if (DataStatus.VOID.equals(ds)) {
-					return false;
-				}
+		RMCSentence rmc = (RMCSentence) getSentence(SentenceId.RMC);
+		if (rmc != null) {
+			DataStatus ds = rmc.getStatus();
+			if (DataStatus.VOID.equals(ds) ||
+				(rmc.getFieldCount() > 11 && FaaMode.NONE.equals(rmc.getMode()))) {
+				return false;
 			}
 		}
 
+		GGASentence gga = (GGASentence) getSentence(SentenceId.GGA);
+		if (gga != null && GpsFixQuality.INVALID.equals(gga.getFixQuality())) {
+			return false;
+		}
+
+		GLLSentence gll = (GLLSentence) getSentence(SentenceId.GLL);
+		if (gll != null && DataStatus.VOID.equals(gll.getStatus())) {
+			return false;
+		}
+
 		return true;
 	}
 }
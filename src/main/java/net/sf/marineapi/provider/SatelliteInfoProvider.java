@@ -21,23 +21,57 @@
 package net.sf.marineapi.provider;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 
+import net.sf.marineapi.nmea.event.SentenceEvent;
 import net.sf.marineapi.nmea.io.SentenceReader;
 import net.sf.marineapi.nmea.sentence.GSASentence;
 import net.sf.marineapi.nmea.sentence.GSVSentence;
 import net.sf.marineapi.nmea.sentence.Sentence;
+import net.sf.marineapi.nmea.sentence.SentenceId;
+import net.sf.marineapi.nmea.sentence.TalkerId;
 import net.sf.marineapi.nmea.util.SatelliteInfo;
 import net.sf.marineapi.provider.event.SatelliteInfoEvent;
 
 /**
+ * <p>
  * SatelliteInfoProvider collects GPS satellite information from sequence of GSV sentences
- * and reports all the information in a single event.
+ * and reports all the information in a single event.</p>
+ * <p>
+ * GSV cycles are tracked separately for each talker, thus interleaved cycles
+ * of multiple constellations (e.g. <code>$GPGSV</code>, <code>$GLGSV</code>,
+ * <code>$GAGSV</code> and <code>$GBGSV</code>) are reported in one event per
+ * epoch. The set of constellations is learned from the received data; an
+ * epoch ends when a talker that has already completed its cycle starts a new
+ * one. Event is dispatched when all constellations of the previous epoch have
+ * completed their cycles in the current epoch. Before the constellations
+ * have been learned, one event is dispatched for the first completed cycle,
+ * followed by one event per epoch.</p>
+ * <p>
+ * Satellite status is taken from the latest GSA sentence received.</p>
  * 
  * @author Kimmo Tuukkanen
  */
 public class SatelliteInfoProvider extends AbstractProvider<SatelliteInfoEvent> {
 
+	private static final long GSA = mask(SentenceId.GSA);
+
+	// cycles by talker ordinal and in order of appearance
+	private final Cycle[] cycles = new Cycle[TalkerId.values().length];
+	private final List<Cycle> talkers = new ArrayList<Cycle>();
+
+	// number of cycles reported in each epoch, as learned on last epoch
+	private int active;
+	// number of active cycles completed in current epoch
+	private int done;
+	// number of all cycles completed in current epoch
+	private int complete;
+	// true when set of active cycles has been learned
+	private boolean learned;
+	// true when event has been created in current epoch
+	private boolean emitted;
+
 	/**
 	 * Creates a new instance of SatelliteInfoProvider with specified reader.
 	 * 
@@ -54,15 +88,21 @@ public class SatelliteInfoProvider extends AbstractProvider<SatelliteInfoEvent>
 	@Override
 	protected SatelliteInfoEvent createProviderEvent() {
 
-		GSASentence gsa = null;
-		List<SatelliteInfo> info = new ArrayList<SatelliteInfo>();
+		GSASentence gsa = (GSASentence) getSentence(SentenceId.GSA);
 
-		for (Sentence sentence : getSentences()) {
-			if ("GSA".equals(sentence.getSentenceId())) {
-				gsa = (GSASentence) sentence;
-			} else if ("GSV".equals(sentence.getSentenceId())) {
-				GSVSentence gsv = (GSVSentence) sentence;
-				info.addAll(gsv.getSatelliteInfo());
+		int count = 0;
+		for (Cycle c : talkers) {
+			if (c.done) {
+				count += c.sequence[0].getSatelliteCount();
+			}
+		}
+
+		List<SatelliteInfo> info = new ArrayList<SatelliteInfo>(count);
+		for (Cycle c : talkers) {
+			if (c.done) {
+				for (int i = 0; i < c.expected; i++) {
+					info.addAll(c.sequence[i].getSatelliteInfo());
+				}
 			}
 		}
 
@@ -75,26 +115,12 @@ public class SatelliteInfoProvider extends AbstractProvider<SatelliteInfoEvent>
 	 */
 	@Override
 	protected boolean isReady() {
-
-		boolean hasFirstGSV = false;
-		boolean hasLastGSV = false;
-		boolean hasAllGSV = false;
-		int count = 0;
-		
-		for (Sentence s : getSentences()) {
-			if ("GSV".equals(s.getSentenceId())) {
-				GSVSentence gsv = (GSVSentence) s;
-				if (!hasFirstGSV) {
-					hasFirstGSV = gsv.isFirst();
-				}
-				if (!hasLastGSV) {
-					hasLastGSV = gsv.isLast();
-				}
-				hasAllGSV = (gsv.getSentenceCount() == ++count);
-			}
+		if (emitted || !hasOne(GSA)) {
+			return false;
 		}
-
-		return hasOne("GSA") && hasAllGSV && hasFirstGSV && hasLastGSV;
+		// no further events in current epoch once it has been evaluated
+		emitted = learned ? active > 0 && done == active : complete > 0;
+		return emitted;
 	}
 
 	/*
@@ -105,4 +131,108 @@ public class SatelliteInfoProvider extends AbstractProvider<SatelliteInfoEvent>
 	protected boolean isValid() {
 		return true;
 	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see net.sf.marineapi.provider.AbstractProvider#sentenceRead(
+	 * net.sf.marineapi.nmea.event.SentenceEvent)
+	 */
+	@Override
+	public void sentenceRead(SentenceEvent event) {
+		Sentence s = event.getSentence();
+		if (s instanceof GSVSentence) {
+			collect((GSVSentence) s);
+		}
+		super.sentenceRead(event);
+	}
+
+	/**
+	 * Stores GSV sentence in the cycle of its talker.
+	 */
+	private void collect(GSVSentence gsv) {
+		final TalkerId tid = gsv.getTalkerId();
+		Cycle c = cycles[tid.ordinal()];
+		if (c == null) {
+			c = new Cycle();
+			cycles[tid.ordinal()] = c;
+			talkers.add(c);
+		}
+		if (c.done) {
+			if (!gsv.isFirst()) {
+				// repeated sentence of completed cycle
+				return;
+			}
+			nextEpoch();
+		}
+		if (c.add(gsv)) {
+			c.done = true;
+			complete++;
+			if (c.active) {
+				done++;
+			}
+		}
+	}
+
+	/**
+	 * Starts a new epoch, learning the active cycles from the ended one.
+	 */
+	private void nextEpoch() {
+		active = 0;
+		done = 0;
+		complete = 0;
+		for (Cycle c : talkers) {
+			c.active = c.done;
+			if (c.active) {
+				active++;
+			}
+			c.clear();
+		}
+		learned = true;
+		emitted = false;
+	}
+
+	/**
+	 * GSV cycle of one talker, sentences stored by sentence index.
+	 */
+	private static final class Cycle {
+
+		GSVSentence[] sequence = new GSVSentence[9];
+		int expected;
+		int received;
+		boolean active;
+		boolean done;
+
+		/**
+		 * Adds sentence to cycle. First sentence or a change in sentence
+		 * count starts a new cycle.
+		 *
+		 * @return true if the cycle was completed by given sentence.
+		 */
+		boolean add(GSVSentence gsv) {
+			final int count = gsv.getSentenceCount();
+			final int index = gsv.getSentenceIndex();
+			if (gsv.isFirst() || count != expected) {
+				clear();
+				expected = count;
+			}
+			if (index < 1 || index > count) {
+				return false;
+			}
+			if (count > sequence.length) {
+				sequence = Arrays.copyOf(sequence, count);
+			}
+			if (sequence[index - 1] == null) {
+				received++;
+			}
+			sequence[index - 1] = gsv;
+			return received == expected;
+		}
+
+		void clear() {
+			Arrays.fill(sequence, null);
+			expected = 0;
+			received = 0;
+			done = false;
+		}
+	}
 }
@@ -0,0 +1,42 @@
+/*
+ * EventFilter.java
+ * Copyright (C) 2026 Kimmo Tuukkanen
+ *
+ * This file is part of Java Marine API.
+ * <http://ktuukkan.github.io/marine-api/>
+ *
+ * Java Marine API is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * Java Marine API is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Java Marine API. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sf.marineapi.provider.event;
+
+/**
+ * Filter for change-based dispatching of provider events. The current event
+ * is compared to the event last dispatched to the same listener, thus small
+ * changes accumulate until they exceed the filter's thresholds.
+ * 
+ * @author Kimmo Tuukkanen
+ * @see net.sf.marineapi.provider.AbstractProvider#addListener(ProviderListener, long, EventFilter)
+ */
+public interface EventFilter<T extends ProviderEvent> {
+
+	/**
+	 * Tells if the current event differs enough from the previous one to be
+	 * dispatched.
+	 * 
+	 * @param previous Event last dispatched to listener
+	 * @param current Event to be dispatched
+	 * @return true if event should be dispatched, otherwise false.
+	 */
+	boolean accept(T previous, T current);
+}
@@ -0,0 +1,76 @@
+/*
+ * HeadingFilter.java
+ * Copyright (C) 2026 Kimmo Tuukkanen
+ *
+ * This file is part of Java Marine API.
+ * <http://ktuukkan.github.io/marine-api/>
+ *
+ * Java Marine API is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * Java Marine API is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Java Marine API. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sf.marineapi.provider.event;
+
+/**
+ * Dispatches heading events when the heading has changed by given threshold
+ * since the last dispatched event, or when the reference changes between
+ * true and magnetic north.
+ * 
+ * @author Kimmo Tuukkanen
+ * @see net.sf.marineapi.provider.HeadingProvider
+ */
+public class HeadingFilter implements EventFilter<HeadingEvent> {
+
+	private final double degrees;
+
+	/**
+	 * Creates a new filter.
+	 * 
+	 * @param degrees Minimum change of heading in degrees
+	 * @throws IllegalArgumentException If threshold is negative.
+	 */
+	public HeadingFilter(double degrees) {
+		if (degrees < 0) {
+			throw new IllegalArgumentException("Threshold cannot be negative");
+		}
+		this.degrees = degrees;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see net.sf.marineapi.provider.event.EventFilter#accept(
+	 * net.sf.marineapi.provider.event.ProviderEvent,
+	 * net.sf.marineapi.provider.event.ProviderEvent)
+	 */
+	public boolean accept(HeadingEvent previous, HeadingEvent current) {
+		return previous.isTrue() != current.isTrue()
+			|| difference(previous.getHeading(), current.getHeading()) >= degrees;
+	}
+
+	/**
+	 * Returns the minimum change of heading.
+	 * 
+	 * @return Degrees
+	 */
+	public double getDegrees() {
+		return degrees;
+	}
+
+	/**
+	 * Returns the absolute difference of two directions, taking the
+	 * wrap-around at north into account.
+	 */
+	static double difference(double a, double b) {
+		double d = Math.abs(a - b) % 360;
+		return d > 180 ? 360 - d : d;
+	}
+}
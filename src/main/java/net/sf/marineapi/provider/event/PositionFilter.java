@@ -0,0 +1,119 @@
+/*
+ * PositionFilter.java
+ * Copyright (C) 2026 Kimmo Tuukkanen
+ *
+ * This file is part of Java Marine API.
+ * <http://ktuukkan.github.io/marine-api/>
+ *
+ * Java Marine API is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * Java Marine API is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Java Marine API. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sf.marineapi.provider.event;
+
+import net.sf.marineapi.nmea.util.Position;
+
+/**
+ * Dispatches position events when the position, speed or course has changed
+ * by given threshold since the last dispatched event. Threshold of zero
+ * disables the criterion; if all thresholds are zero, all events are
+ * accepted.
+ * 
+ * @author Kimmo Tuukkanen
+ * @see net.sf.marineapi.provider.PositionProvider
+ */
+public class PositionFilter implements EventFilter<PositionEvent> {
+
+	private final double distance;
+	private final double speed;
+	private final double course;
+
+	/**
+	 * Creates a new filter.
+	 * 
+	 * @param distance Minimum change of position in meters
+	 * @param speed Minimum change of speed over ground in km/h, as reported
+	 *            by {@link PositionEvent#getSpeed()}.
+	 * @param course Minimum change of course over ground in degrees
+	 * @throws IllegalArgumentException If any of the thresholds is negative.
+	 */
+	public PositionFilter(double distance, double speed, double course) {
+		if (distance < 0 || speed < 0 || course < 0) {
+			throw new IllegalArgumentException("Thresholds cannot be negative");
+		}
+		this.distance = distance;
+		this.speed = speed;
+		this.course = course;
+	}
+
+	/*
+	 * (non-Javadoc)
+	 * @see net.sf.marineapi.provider.event.EventFilter#accept(
+	 * net.sf.marineapi.provider.event.ProviderEvent,
+	 * net.sf.marineapi.provider.event.ProviderEvent)
+	 */
+	public boolean accept(PositionEvent previous, PositionEvent current) {
+		if (distance == 0 && speed == 0 && course == 0) {
+			return true;
+		}
+		if (distance > 0) {
+			Position p0 = previous.getPosition();
+			Position p1 = current.getPosition();
+			if (p0 == null || p1 == null) {
+				if (p0 != p1) {
+					return true;
+				}
+			} else if (p0.distanceTo(p1) >= distance) {
+				return true;
+			}
+		}
+		if (speed > 0 && Math.abs(current.getSpeed() - previous.getSpeed()) >= speed) {
+			return true;
+		}
+		if (course > 0) {
+			Double c0 = previous.getCourse();
+			Double c1 = current.getCourse();
+			if (c0 == null || c1 == null) {
+				return c0 != c1;
+			}
+			return HeadingFilter.difference(c0, c1) >= course;
+		}
+		return false;
+	}
+
+	/**
+	 * Returns the minimum change of course over ground.
+	 * 
+	 * @return Degrees
+	 */
+	public double getCourse() {
+		return course;
+	}
+
+	/**
+	 * Returns the minimum change of position.
+	 * 
+	 * @return Meters
+	 */
+	public double getDistance() {
+		return distance;
+	}
+
+	/**
+	 * Returns the minimum change of speed over ground.
+	 * 
+	 * @return km/h
+	 */
+	public double getSpeed() {
+		return speed;
+	}
+}
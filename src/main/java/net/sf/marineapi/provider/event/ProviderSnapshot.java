@@ -0,0 +1,90 @@
+/*
+ * ProviderSnapshot.java
+ * Copyright (C) 2026 Kimmo Tuukkanen
+ *
+ * This file is part of Java Marine API.
+ * <http://ktuukkan.github.io/marine-api/>
+ *
+ * Java Marine API is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * Java Marine API is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Java Marine API. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sf.marineapi.provider.event;
+
+import java.time.Clock;
+
+/**
+ * Immutable snapshot of the latest event created by a provider, with a
+ * sequence number and the time of creation. Polling consumers may compare
+ * the sequence numbers to detect new events without registering a listener.
+ *
+ * @author Kimmo Tuukkanen
+ * @see net.sf.marineapi.provider.AbstractProvider#getLatest()
+ */
+public final class ProviderSnapshot<T extends ProviderEvent> {
+
+	private final T event;
+	private final long sequence;
+	private final long timestamp;
+	private final Clock clock;
+
+	/**
+	 * Creates a new snapshot.
+	 *
+	 * @param event Event to hold
+	 * @param sequence Sequence number of event
+	 * @param clock Clock for measuring the age of snapshot
+	 */
+	public ProviderSnapshot(T event, long sequence, Clock clock) {
+		this.event = event;
+		this.sequence = sequence;
+		this.clock = clock;
+		this.timestamp = clock.millis();
+	}
+
+	/**
+	 * Returns the age of snapshot, measured by the provider's clock.
+	 *
+	 * @return Milliseconds since the event was created.
+	 */
+	public long getAge() {
+		return clock.millis() - timestamp;
+	}
+
+	/**
+	 * Returns the event.
+	 *
+	 * @return Provider event
+	 */
+	public T getEvent() {
+		return event;
+	}
+
+	/**
+	 * Returns the sequence number of event, starting from 1 for the first
+	 * event created by provider.
+	 *
+	 * @return Sequence number
+	 */
+	public long getSequence() {
+		return sequence;
+	}
+
+	/**
+	 * Returns the time when the event was created.
+	 *
+	 * @return Milliseconds timestamp
+	 */
+	public long getTimeStamp() {
+		return timestamp;
+	}
+}
@@ -0,0 +1,256 @@
+/*
+ * IntObjectMap.java
+ * Copyright (C) 2026 Kimmo Tuukkanen
+ *
+ * This file is part of Java Marine API.
+ * <http://ktuukkan.github.io/marine-api/>
+ *
+ * Java Marine API is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * Java Marine API is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Java Marine API. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sf.marineapi.util;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * <p>
+ * Hash map with primitive <code>int</code> keys, implemented with open
+ * addressing and linear probing. Keys are stored in a plain int array, thus no
+ * boxing or entry objects are needed and the footprint of map is predictable;
+ * 8 bytes per slot with compressed references, two to four slots per entry.</p>
+ * <p>
+ * Reads are lock-free and may run concurrently with a writer. Writes must be
+ * serialized by the caller, i.e. only one thread may modify the map at a time.
+ * Values are published with volatile semantics, so readers always see fully
+ * constructed values. Removed entries leave their key in the table until the
+ * next resize, which keeps the probe sequences valid for concurrent readers.</p>
+ * <p>
+ * Zero is reserved for marking empty slots and cannot be used as key.</p>
+ *
+ * @author Kimmo Tuukkanen
+ * @param <V> Value type
+ */
+public class IntObjectMap<V> {
+
+	private static final int MIN_CAPACITY = 16;
+
+	private static final class Table<V> {
+		final int[] keys;
+		final AtomicReferenceArray<V> values;
+		final int mask;
+
+		Table(int capacity) {
+			keys = new int[capacity];
+			values = new AtomicReferenceArray<V>(capacity);
+			mask = capacity - 1;
+		}
+	}
+
+	private volatile Table<V> table;
+	private volatile int size;
+	private int used;
+
+	/**
+	 * Creates a new empty map.
+	 */
+	public IntObjectMap() {
+		this(MIN_CAPACITY);
+	}
+
+	/**
+	 * Creates a new map sized for given number of entries.
+	 *
+	 * @param expectedSize Expected number of entries
+	 */
+	public IntObjectMap(int expectedSize) {
+		table = new Table<V>(capacityFor(expectedSize));
+	}
+
+	/**
+	 * Returns the value mapped to given key.
+	 *
+	 * @param key Key to look up
+	 * @return Value or <code>null</code> if not found.
+	 */
+	public V get(int key) {
+		final Table<V> t = table;
+		int i = index(key, t.mask);
+		int k;
+		while ((k = t.keys[i]) != 0) {
+			if (k == key) {
+				return t.values.get(i);
+			}
+			i = (i + 1) & t.mask;
+		}
+		return null;
+	}
+
+	/**
+	 * Tells if the map contains given key.
+	 *
+	 * @param key Key to look up
+	 * @return true if found, otherwise false
+	 */
+	public boolean containsKey(int key) {
+		return get(key) != null;
+	}
+
+	/**
+	 * Maps the given value to key.
+	 *
+	 * @param key Key, must not be zero.
+	 * @param value Value, must not be <code>null</code>.
+	 * @return Previous value or <code>null</code> if none.
+	 * @throws IllegalArgumentException If key is zero or value is null.
+	 */
+	public V put(int key, V value) {
+		if (key == 0) {
+			throw new IllegalArgumentException("Key cannot be zero");
+		}
+		if (value == null) {
+			throw new IllegalArgumentException("Value cannot be null");
+		}
+		Table<V> t = table;
+		int i = index(key, t.mask);
+		int k;
+		while ((k = t.keys[i]) != 0) {
+			if (k == key) {
+				V previous = t.values.getAndSet(i, value);
+				if (previous == null) {
+					size++;
+				}
+				return previous;
+			}
+			i = (i + 1) & t.mask;
+		}
+		if ((used + 1) * 4 > t.keys.length * 3) {
+			rehash(size + 1);
+			return put(key, value);
+		}
+		t.values.set(i, value);
+		t.keys[i] = key;
+		used++;
+		size++;
+		return null;
+	}
+
+	/**
+	 * Removes the mapping of given key.
+	 *
+	 * @param key Key to remove
+	 * @return Removed value or <code>null</code> if key was not found.
+	 */
+	public V remove(int key) {
+		final Table<V> t = table;
+		int i = index(key, t.mask);
+		int k;
+		while ((k = t.keys[i]) != 0) {
+			if (k == key) {
+				V previous = t.values.getAndSet(i, null);
+				if (previous != null) {
+					size--;
+				}
+				return previous;
+			}
+			i = (i + 1) & t.mask;
+		}
+		return null;
+	}
+
+	/**
+	 * Removes all entries.
+	 */
+	public void clear() {
+		table = new Table<V>(MIN_CAPACITY);
+		used = 0;
+		size = 0;
+	}
+
+	/**
+	 * Returns the number of entries in map.
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * Tells if the map is empty.
+	 */
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * Returns the current number of slots in map.
+	 */
+	public int capacity() {
+		return table.keys.length;
+	}
+
+	/**
+	 * Returns the keys currently in map. The array is a snapshot; it is not
+	 * updated when the map changes.
+	 *
+	 * @return Array of keys
+	 */
+	public int[] keys() {
+		final Table<V> t = table;
+		int[] result = new int[t.keys.length];
+		int n = 0;
+		for (int i = 0; i < t.keys.length; i++) {
+			if (t.keys[i] != 0 && t.values.get(i) != null) {
+				result[n++] = t.keys[i];
+			}
+		}
+		int[] keys = new int[n];
+		System.arraycopy(result, 0, keys, 0, n);
+		return keys;
+	}
+
+	/**
+	 * Copies the entries into a new table, dropping removed keys.
+	 */
+	private void rehash(int expectedSize) {
+		final Table<V> old = table;
+		final Table<V> t = new Table<V>(capacityFor(expectedSize));
+		int n = 0;
+		for (int i = 0; i < old.keys.length; i++) {
+			V value = old.values.get(i);
+			if (value != null) {
+				int j = index(old.keys[i], t.mask);
+				while (t.keys[j] != 0) {
+					j = (j + 1) & t.mask;
+				}
+				t.keys[j] = old.keys[i];
+				t.values.set(j, value);
+				n++;
+			}
+		}
+		used = n;
+		table = t;
+	}
+
+	private static int capacityFor(int expectedSize) {
+		// at most half full, leaving room for growth before next rehash
+		int capacity = MIN_CAPACITY;
+		while (capacity < expectedSize * 2) {
+			capacity <<= 1;
+		}
+		return capacity;
+	}
+
+	private static int index(int key, int mask) {
+		int h = key * 0x9E3779B9;
+		return (h ^ (h >>> 16)) & mask;
+	}
+}
@@ -0,0 +1,171 @@
+/*
+ * LatencyHistogram.java
+ * Copyright (C) 2026 Kimmo Tuukkanen
+ *
+ * This file is part of Java Marine API.
+ * <http://ktuukkan.github.io/marine-api/>
+ *
+ * Java Marine API is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * Java Marine API is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Java Marine API. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sf.marineapi.util;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <p>
+ * Histogram of non-negative <code>long</code> values, e.g. latencies in
+ * nanoseconds, with log-linear buckets in the manner of HdrHistogram. Each
+ * power of two is divided in {@value #SUB_BUCKETS} buckets, thus values are
+ * recorded with relative error of less than 1/{@value #SUB_BUCKETS} over the
+ * whole range of <code>long</code>, in a fixed array of 960 counters.</p>
+ * <p>
+ * Recording is lock-free and does not allocate. Values may be read while
+ * recording is in progress, in which case the results are approximate.</p>
+ *
+ * @author Kimmo Tuukkanen
+ */
+public class LatencyHistogram {
+
+	/** Number of buckets per power of two */
+	public static final int SUB_BUCKETS = 16;
+
+	// log2 of SUB_BUCKETS
+	private static final int SUB_BITS = 4;
+
+	// exponents 4 - 62 and the linear range below SUB_BUCKETS
+	private static final int BUCKETS = (63 - SUB_BITS + 1) * SUB_BUCKETS;
+
+	private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+	private final LongAdder count = new LongAdder();
+	private final LongAdder sum = new LongAdder();
+	private final AtomicLong max = new AtomicLong();
+
+	/**
+	 * Creates an empty histogram.
+	 */
+	public LatencyHistogram() {
+	}
+
+	/**
+	 * Records a value. Negative values are recorded as zero.
+	 *
+	 * @param value Value to record
+	 */
+	public void record(long value) {
+		final long v = Math.max(0, value);
+		counts.incrementAndGet(index(v));
+		count.increment();
+		sum.add(v);
+		long m = max.get();
+		while (v > m && !max.compareAndSet(m, v)) {
+			m = max.get();
+		}
+	}
+
+	/**
+	 * Returns the number of recorded values.
+	 */
+	public long getCount() {
+		return count.sum();
+	}
+
+	/**
+	 * Returns the largest recorded value.
+	 *
+	 * @return Maximum value, or 0 if histogram is empty.
+	 */
+	public long getMax() {
+		return max.get();
+	}
+
+	/**
+	 * Returns the mean of recorded values.
+	 *
+	 * @return Mean value, or 0 if histogram is empty.
+	 */
+	public double getMean() {
+		long n = count.sum();
+		return n == 0 ? 0 : (double) sum.sum() / n;
+	}
+
+	/**
+	 * Returns the value at given percentile, i.e. the highest value that is
+	 * equivalent, within the precision of histogram, to the recorded value
+	 * below which the given percentage of values fall.
+	 *
+	 * @param percentile Percentile, 0 - 100.
+	 * @return Value at percentile, or 0 if histogram is empty.
+	 * @throws IllegalArgumentException If percentile is out of range.
+	 */
+	public long getValueAtPercentile(double percentile) {
+		if (percentile < 0 || percentile > 100) {
+			throw new IllegalArgumentException("Percentile must be in range 0 - 100");
+		}
+		long total = 0;
+		for (int i = 0; i < BUCKETS; i++) {
+			total += counts.get(i);
+		}
+		if (total == 0) {
+			return 0;
+		}
+		long target = Math.max(1, (long) Math.ceil(percentile / 100 * total));
+		long seen = 0;
+		for (int i = 0; i < BUCKETS; i++) {
+			seen += counts.get(i);
+			if (seen >= target) {
+				return Math.min(highestEquivalent(i), max.get());
+			}
+		}
+		return max.get();
+	}
+
+	/**
+	 * Removes all recorded values.
+	 */
+	public void reset() {
+		for (int i = 0; i < BUCKETS; i++) {
+			counts.set(i, 0);
+		}
+		count.reset();
+		sum.reset();
+		max.set(0);
+	}
+
+	/**
+	 * Returns the bucket index of given value.
+	 */
+	static int index(long value) {
+		if (value < SUB_BUCKETS) {
+			return (int) value;
+		}
+		int exp = 63 - Long.numberOfLeadingZeros(value);
+		int sub = (int) (value >>> (exp - SUB_BITS)) & (SUB_BUCKETS - 1);
+		return (exp - SUB_BITS + 1) * SUB_BUCKETS + sub;
+	}
+
+	/**
+	 * Returns the highest value recorded in given bucket.
+	 */
+	static long highestEquivalent(int index) {
+		if (index < SUB_BUCKETS) {
+			return index;
+		}
+		int exp = index / SUB_BUCKETS + SUB_BITS - 1;
+		long sub = index % SUB_BUCKETS;
+		long lowest = (SUB_BUCKETS + sub) << (exp - SUB_BITS);
+		return lowest + (1L << (exp - SUB_BITS)) - 1;
+	}
+}
@@ -0,0 +1,246 @@
+/*
+ * AISConflationQueueTest.java
+ * Copyright (C) 2026 Kimmo Tuukkanen
+ *
+ * This file is part of Java Marine API.
+ * <http://ktuukkan.github.io/marine-api/>
+ *
+ * Java Marine API is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * Java Marine API is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Java Marine API. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sf.marineapi.ais.event;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import net.sf.marineapi.ais.message.AISMessage;
+import net.sf.marineapi.ais.parser.AISMessageFactory;
+import net.sf.marineapi.nmea.parser.SentenceFactory;
+import net.sf.marineapi.nmea.sentence.AISSentence;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author Kimmo Tuukkanen
+ */
+public class AISConflationQueueTest {
+
+	private final SentenceFactory sf = SentenceFactory.getInstance();
+	private final AISMessageFactory mf = AISMessageFactory.getInstance();
+	private AISConflationQueue queue;
+
+	@Before
+	public void setUp() {
+		queue = new AISConflationQueue();
+	}
+
+	/**
+	 * Creates a minimal message with given type and MMSI; the queue reads
+	 * only the header.
+	 */
+	private static AISMessage message(final int type, final int mmsi) {
+		return new AISMessage() {
+			public int getMessageType() { return type; }
+			public int getRepeatIndicator() { return 0; }
+			public int getMMSI() { return mmsi; }
+			public AISMessage toRecord() { return this; }
+		};
+	}
+
+	@Test
+	public void testEmpty() {
+		assertEquals(0, queue.size());
+		assertNull(queue.poll());
+	}
+
+	@Test
+	public void testLatestValueWins() {
+		AISMessage p1 = message(1, 100);
+		AISMessage p2 = message(3, 100);
+		AISMessage p3 = message(18, 100);
+		assertFalse(queue.offer(p1));
+		assertTrue(queue.offer(p2));
+		assertTrue(queue.offer(p3));
+		assertEquals(1, queue.size());
+		assertEquals(3, queue.getOfferedCount());
+		assertEquals(2, queue.getConflatedCount());
+		assertSame(p3, queue.poll());
+		assertNull(queue.poll());
+	}
+
+	@Test
+	public void testStaticKeptSeparately() {
+		AISMessage pos = message(1, 100);
+		AISMessage stat = message(5, 100);
+		queue.offer(pos);
+		queue.offer(stat);
+		queue.offer(message(1, 100));
+		assertEquals(2, queue.size());
+		queue.poll();
+		assertSame(stat, queue.poll());
+	}
+
+	@Test
+	public void testOtherTypesNotConflated() {
+		int[] types = { 6, 7, 8, 8, 12, 13, 14, 14, 25, 26 };
+		List<AISMessage> offered = new ArrayList<AISMessage>();
+		for (int type : types) {
+			AISMessage msg = message(type, 100);
+			offered.add(msg);
+			assertFalse(queue.offer(msg));
+			queue.offer(message(1, 100));
+		}
+		assertEquals(types.length + 1, queue.size());
+		assertEquals(types.length - 1, queue.getConflatedCount());
+
+		List<AISMessage> drained = new ArrayList<AISMessage>();
+		queue.drainTo(drained);
+		assertEquals(1, drained.remove(1).getMessageType());
+		assertEquals(offered, drained);
+	}
+
+	@Test
+	public void testOtherTypesBounded() {
+		queue = new AISConflationQueue(10);
+		AISMessage position = message(1, 100);
+		queue.offer(position);
+		List<AISMessage> offered = new ArrayList<AISMessage>();
+		for (int i = 0; i < 1000; i++) {
+			AISMessage msg = message(8, 100 + i);
+			offered.add(msg);
+			queue.offer(msg);
+			assertTrue(queue.size() <= 11);
+		}
+		assertEquals(11, queue.size());
+		assertEquals(990, queue.getDroppedCount());
+
+		// oldest are dropped, conflated messages are kept
+		assertSame(position, queue.poll());
+		for (int i = 990; i < 1000; i++) {
+			assertSame(offered.get(i), queue.poll());
+		}
+		assertNull(queue.poll());
+
+		// capacity is available again after draining
+		for (int i = 0; i < 10; i++) {
+			queue.offer(message(8, 100));
+		}
+		assertEquals(10, queue.size());
+		assertEquals(990, queue.getDroppedCount());
+		queue.clear();
+		queue.offer(message(8, 100));
+		assertEquals(1, queue.size());
+		assertEquals(990, queue.getDroppedCount());
+	}
+
+	@Test
+	public void testInvalidCapacity() {
+		try {
+			new AISConflationQueue(0);
+			fail("Did not throw IllegalArgumentException");
+		} catch (IllegalArgumentException e) {
+			assertEquals("Capacity must be positive", e.getMessage());
+		}
+	}
+
+	@Test
+	public void testStaticDataReportParts() {
+		AISMessage a = mf.create((AISSentence) sf.createParser("!AIVDM,1,1,,A,H42O55i18tMET00000000000000,2*6D"));
+		AISMessage b = mf.create((AISSentence) sf.createParser("!AIVDM,1,1,,A,H42O55lti4hhhilD3nink000?050,0*40"));
+		assertFalse(queue.offer(a));
+		assertFalse(queue.offer(b));
+		assertEquals(2, queue.size());
+		assertTrue(queue.offer(a));
+	}
+
+	@Test
+	public void testOrderOfFirstUpdate() {
+		AISMessage a1 = message(1, 100);
+		AISMessage b1 = message(1, 200);
+		AISMessage a2 = message(1, 100);
+		queue.offer(a1);
+		queue.offer(b1);
+		queue.offer(a2);
+		assertSame(a2, queue.poll());
+		assertSame(b1, queue.poll());
+	}
+
+	@Test
+	public void testBoundedByVessels() {
+		for (int i = 0; i < 10000; i++) {
+			queue.offer(message(1, 1 + i % 50));
+		}
+		assertEquals(50, queue.size());
+		assertEquals(9950, queue.getConflatedCount());
+		queue.resetStatistics();
+		assertEquals(0, queue.getOfferedCount());
+		assertEquals(0, queue.getConflatedCount());
+	}
+
+	@Test
+	public void testDrainTo() {
+		queue.offer(message(1, 100));
+		queue.offer(message(1, 200));
+		List<AISMessage> list = new ArrayList<AISMessage>();
+		assertEquals(2, queue.drainTo(list));
+		assertEquals(2, list.size());
+		assertEquals(100, list.get(0).getMMSI());
+		assertEquals(0, queue.size());
+	}
+
+	@Test
+	public void testPollWithTimeout() throws InterruptedException {
+		assertNull(queue.poll(10, TimeUnit.MILLISECONDS));
+
+		final AISMessage msg = message(1, 100);
+		Thread producer = new Thread(new Runnable() {
+			public void run() {
+				try {
+					Thread.sleep(20);
+				} catch (InterruptedException e) {
+					return;
+				}
+				queue.offer(msg);
+			}
+		});
+		producer.start();
+		assertSame(msg, queue.poll(5, TimeUnit.SECONDS));
+		producer.join();
+	}
+
+	@Test
+	public void testListener() {
+		AISSentence s = (AISSentence) sf.createParser("!AIVDM,1,1,,A,13aEOK?P00PD2wVMdLDRhgvL289?,0*26");
+		queue.getListener().sentenceRead(s);
+		queue.getListener().sentenceRead(s);
+		assertEquals(1, queue.size());
+		assertEquals(1, queue.getConflatedCount());
+		assertEquals(244670316, queue.poll().getMMSI());
+	}
+
+	@Test
+	public void testClear() {
+		queue.offer(message(1, 100));
+		queue.clear();
+		assertEquals(0, queue.size());
+	}
+}
@@ -4,6 +4,10 @@ import net.sf.marineapi.ais.message.AISMessage;
 import net.sf.marineapi.ais.message.AISMessage01;
 import net.sf.marineapi.ais.message.AISMessage05;
 import net.sf.marineapi.ais.parser.AISMessageFactory;
+import net.sf.marineapi.ais.parser.AISMessageEncoder;
+import net.sf.marineapi.ais.parser.AISMessageFilter;
+import net.sf.marineapi.ais.parser.AISPlausibilityFilter;
+import net.sf.marineapi.ais.util.SixbitEncoder;
 import net.sf.marineapi.nmea.parser.SentenceFactory;
 import net.sf.marineapi.nmea.sentence.AISSentence;
 import net.sf.marineapi.util.GenericTypeResolver;
@@ -126,6 +130,51 @@ public class AbstractAISMessageListenerTest {
         }
     }
 
+    @Test
+    public void testSequenceListenerWithFilter() {
+
+        SequenceListener sl = new SequenceListener();
+        AISMessageFilter filter = new AISMessageFilter();
+        filter.addMMSI(MSG_05.getMMSI() + 1);
+        sl.setFilter(filter);
+
+        sl.sentenceRead(AIS_05_1);
+        sl.sentenceRead(AIS_05_2);
+        assertNull(sl.received);
+
+        filter.addMMSI(MSG_05.getMMSI());
+        sl.sentenceRead(AIS_05_1);
+        sl.sentenceRead(AIS_05_2);
+        assertEquals(sl.received.toString(), MSG_05.toString());
+    }
+
+    @Test
+    public void testListenerWithPlausibilityFilter() {
+
+        BasicListener bl = new BasicListener();
+        AISPlausibilityFilter filter = new AISPlausibilityFilter();
+        bl.setPlausibilityFilter(filter);
+        assertEquals(filter, bl.getPlausibilityFilter());
+
+        bl.sentenceRead(AIS_01);
+        assertEquals(MSG_01.toString(), bl.received.toString());
+
+        // same MMSI reported far away at the same moment
+        SixbitEncoder out = new SixbitEncoder();
+        out.putInt(1, 6).putInt(0, 2).putInt(MSG_01.getMMSI(), 30);
+        out.putInt(0, 4).putInt(0, 8).putInt(0, 10).putBoolean(false);
+        out.putInt(0, 28).putInt(0, 27).putInt(0, 12).putInt(511, 9);
+        out.putInt(14, 6).skip(25);
+        AISSentence jump = new AISMessageEncoder().createSentences(
+            out.getPayload(), out.getFillBits())[0];
+        bl.sentenceRead(jump);
+        assertEquals(MSG_01.toString(), bl.received.toString());
+        assertEquals(1, filter.getCount(AISPlausibilityFilter.Result.POSITION_JUMP));
+
+        bl.setPlausibilityFilter(null);
+        bl.sentenceRead(jump);
+        assertEquals(0, bl.received.getLatitudeInDegrees(), 0.0);
+    }
 
     /** Listeners **/
 
@@ -0,0 +1,222 @@
+/*
+ * AISApplicationDecoderTest.java
+ * Copyright (C) 2026 Kimmo Tuukkanen
+ *
+ * This file is part of Java Marine API.
+ * <http://ktuukkan.github.io/marine-api/>
+ *
+ * Java Marine API is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * Java Marine API is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Java Marine API. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sf.marineapi.ais.parser;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import net.sf.marineapi.ais.message.AISApplicationMessage;
+import net.sf.marineapi.ais.message.AISMessage06;
+import net.sf.marineapi.ais.message.AISMessage08;
+import net.sf.marineapi.ais.message.AISMeteoHydroData;
+import net.sf.marineapi.ais.util.Sixbit;
+import net.sf.marineapi.ais.util.SixbitEncoder;
+
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * @author Kimmo Tuukkanen
+ */
+public class AISApplicationDecoderTest {
+
+	private final AISMessageFactory mf = AISMessageFactory.getInstance();
+
+	@After
+	public void tearDown() {
+		mf.unregisterDecoder(200, 10);
+		mf.registerDecoder(AISMeteoHydroData.DAC, AISMeteoHydroData.FI, AISMeteoHydroParser.DECODER);
+	}
+
+	private static void putMeteoHydro(SixbitEncoder out) {
+		out.putInt(AISMeteoHydroData.DAC, 10).putInt(AISMeteoHydroData.FI, 6);
+		out.putInt(1481700, 25);	// 24.695 E
+		out.putInt(3617400, 24);	// 60.29 N
+		out.putBoolean(true);
+		out.putInt(15, 5).putInt(12, 5).putInt(30, 6);
+		out.putInt(14, 7).putInt(21, 7).putInt(225, 9).putInt(230, 9);
+		out.putInt(-35, 11);		// -3.5 C
+		out.putInt(85, 7);
+		out.putInt(501, 10);		// dew point not available
+		out.putInt(214, 9);			// 1013 hPa
+		out.putInt(1, 2);
+		out.putBoolean(false).putInt(52, 7);
+		out.putInt(1025, 12);		// 0.25 m
+		out.putInt(2, 2);
+		out.putInt(12, 8).putInt(90, 9);
+		out.putInt(255, 8).putInt(360, 9).putInt(31, 5);
+		out.putInt(255, 8).putInt(360, 9).putInt(31, 5);
+		out.putInt(15, 8).putInt(6, 6).putInt(220, 9);
+		out.putInt(255, 8).putInt(63, 6).putInt(360, 9);
+		out.putInt(4, 4);
+		out.putInt(42, 10);			// 4.2 C
+		out.putInt(7, 3);
+		out.putInt(65, 9);
+		out.putInt(0, 2);
+		out.skip(10);
+	}
+
+	private static Sixbit message8() {
+		SixbitEncoder out = new SixbitEncoder(360);
+		out.putInt(8, 6).putInt(0, 2).putInt(2300061, 30).skip(2);
+		putMeteoHydro(out);
+		return new Sixbit(out.getPayload(), out.getFillBits());
+	}
+
+	@Test
+	public void testMeteoHydroBroadcast() {
+		Sixbit content = message8();
+		assertEquals(360, content.length());
+		AISMessage08 msg = new AISMessage08Parser(content);
+		AISApplicationMessage app = msg.getApplicationMessage();
+		assertTrue(app instanceof AISMeteoHydroData);
+		assertEquals(1, app.getDAC());
+		assertEquals(31, app.getFI());
+		assertEquals(304, app.getDataLength());
+
+		AISMeteoHydroData m = (AISMeteoHydroData) app;
+		assertEquals(24.695, m.getLongitudeInDegrees(), 1e-9);
+		assertEquals(60.29, m.getLatitudeInDegrees(), 1e-9);
+		assertTrue(m.getPositionAccuracy());
+		assertEquals(15, m.getUtcDay());
+		assertEquals(12, m.getUtcHour());
+		assertEquals(30, m.getUtcMinute());
+		assertEquals(14, m.getWindSpeed());
+		assertEquals(21, m.getWindGust());
+		assertEquals(225, m.getWindDirection());
+		assertEquals(230, m.getWindGustDirection());
+		assertEquals(-3.5, m.getAirTemperature(), 1e-9);
+		assertEquals(85, m.getRelativeHumidity());
+		assertTrue(Double.isNaN(m.getDewPoint()));
+		assertEquals(1013.0, m.getAirPressure(), 1e-9);
+		assertEquals(1, m.getAirPressureTendency());
+		assertFalse(m.isVisibilityGreaterThan());
+		assertEquals(5.2, m.getVisibility(), 1e-9);
+		assertEquals(0.25, m.getWaterLevel(), 1e-9);
+		assertEquals(2, m.getWaterLevelTrend());
+		assertEquals(1.2, m.getSurfaceCurrentSpeed(), 1e-9);
+		assertEquals(90, m.getSurfaceCurrentDirection());
+		assertTrue(Double.isNaN(m.getCurrent2Speed()));
+		assertEquals(360, m.getCurrent2Direction());
+		assertEquals(31, m.getCurrent3Level());
+		assertEquals(1.5, m.getWaveHeight(), 1e-9);
+		assertEquals(6, m.getWavePeriod());
+		assertEquals(220, m.getWaveDirection());
+		assertTrue(Double.isNaN(m.getSwellHeight()));
+		assertEquals(63, m.getSwellPeriod());
+		assertEquals(4, m.getSeaState());
+		assertEquals(4.2, m.getWaterTemperature(), 1e-9);
+		assertEquals(7, m.getPrecipitationType());
+		assertEquals(6.5, m.getSalinity(), 1e-9);
+		assertEquals(0, m.getIce());
+	}
+
+	@Test
+	public void testMeteoHydroAddressed() {
+		SixbitEncoder out = new SixbitEncoder(392);
+		out.putInt(6, 6).putInt(0, 2).putInt(2300061, 30);
+		out.putInt(0, 2).putInt(230123456, 30).putBoolean(false).skip(1);
+		putMeteoHydro(out);
+		AISMessage06 msg = new AISMessage06Parser(new Sixbit(out.getPayload(), out.getFillBits()));
+		AISMeteoHydroData m = (AISMeteoHydroData) msg.getApplicationMessage();
+		assertEquals(60.29, m.getLatitudeInDegrees(), 1e-9);
+		assertEquals(6.5, m.getSalinity(), 1e-9);
+	}
+
+	@Test
+	public void testRawFallback() {
+		SixbitEncoder out = new SixbitEncoder();
+		out.putInt(8, 6).putInt(0, 2).putInt(2300061, 30).skip(2);
+		out.putInt(200, 10).putInt(10, 6).putInt(0xABCD, 16);
+		AISMessage08 msg = new AISMessage08Parser(new Sixbit(out.getPayload(), out.getFillBits()));
+		AISApplicationMessage app = msg.getApplicationMessage();
+		assertFalse(app instanceof AISMeteoHydroData);
+		assertEquals(200, app.getDAC());
+		assertEquals(10, app.getFI());
+		assertEquals(16, app.getDataLength());
+		byte[] data = app.getData();
+		assertEquals((byte) 0xAB, data[0]);
+		assertEquals((byte) 0xCD, data[1]);
+	}
+
+	@Test
+	public void testFallbackOnShortData() {
+		SixbitEncoder out = new SixbitEncoder();
+		out.putInt(8, 6).putInt(0, 2).putInt(2300061, 30).skip(2);
+		out.putInt(1, 10).putInt(31, 6).putInt(1481700, 25);
+		AISMessage08 msg = new AISMessage08Parser(new Sixbit(out.getPayload(), out.getFillBits()));
+		AISApplicationMessage app = msg.getApplicationMessage();
+		assertFalse(app instanceof AISMeteoHydroData);
+		assertEquals(25, app.getDataLength());
+	}
+
+	@Test
+	public void testRegisterDecoder() {
+		final AISApplicationMessage[] decoded = new AISApplicationMessage[1];
+		assertFalse(mf.hasDecoder(200, 10));
+		mf.registerDecoder(200, 10, new AISApplicationDecoder() {
+			public AISApplicationMessage decode(int dac, int fi, Sixbit content, int from, int to) {
+				decoded[0] = new AISApplicationParser(dac, fi, content, from, to);
+				return decoded[0];
+			}
+		});
+		assertTrue(mf.hasDecoder(200, 10));
+
+		SixbitEncoder out = new SixbitEncoder();
+		out.putInt(8, 6).putInt(0, 2).putInt(2300061, 30).skip(2);
+		out.putInt(200, 10).putInt(10, 6).putInt(1, 8);
+		AISMessage08 msg = new AISMessage08Parser(new Sixbit(out.getPayload(), out.getFillBits()));
+		AISApplicationMessage app = msg.getApplicationMessage();
+		assertSame(decoded[0], app);
+		assertEquals(8, app.getDataLength());
+
+		mf.unregisterDecoder(200, 10);
+		assertFalse(mf.hasDecoder(200, 10));
+	}
+
+	@Test
+	public void testMeteoHydroRegisteredByDefault() {
+		assertTrue(mf.hasDecoder(1, 31));
+		mf.unregisterDecoder(1, 31);
+		assertFalse(mf.hasDecoder(1, 31));
+		AISMessage08 msg = new AISMessage08Parser(message8());
+		assertFalse(msg.getApplicationMessage() instanceof AISMeteoHydroData);
+	}
+
+	@Test
+	public void testInvalidKey() {
+		try {
+			mf.hasDecoder(1024, 0);
+			fail("Did not throw IllegalArgumentException");
+		} catch (IllegalArgumentException e) {
+			// pass
+		}
+		try {
+			mf.hasDecoder(1, 64);
+			fail("Did not throw IllegalArgumentException");
+		} catch (IllegalArgumentException e) {
+			// pass
+		}
+	}
+}
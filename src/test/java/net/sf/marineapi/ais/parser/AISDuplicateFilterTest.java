@@ -0,0 +1,128 @@
+/*
+ * AISDuplicateFilterTest.java
+ * Copyright (C) 2026 Kimmo Tuukkanen
+ *
+ * This file is part of Java Marine API.
+ * <http://ktuukkan.github.io/marine-api/>
+ *
+ * Java Marine API is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * Java Marine API is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Java Marine API. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sf.marineapi.ais.parser;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import net.sf.marineapi.ais.message.AISMessage;
+import net.sf.marineapi.nmea.parser.SentenceFactory;
+import net.sf.marineapi.nmea.sentence.AISSentence;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author Kimmo Tuukkanen
+ */
+public class AISDuplicateFilterTest {
+
+	private static final String POSITION = "!AIVDM,1,1,,A,13KF5P@01sQj:;0RKO=:THLt0000,0*01";
+	private static final String STATIC = "!AIVDM,1,1,,A,53KF5P@2<hW4t`8<000l58TpF050T00000000016<PD:<6b<NEB1C4jCRj@000000000000,2*62";
+
+	private AISDuplicateFilter filter;
+
+	private static AISSentence sentence(String nmea) {
+		return (AISSentence) SentenceFactory.getInstance().createParser(nmea);
+	}
+
+	@Before
+	public void setUp() {
+		filter = new AISDuplicateFilter(1000, 10);
+	}
+
+	@Test
+	public void testConstructorWithNegativeWindow() {
+		try {
+			new AISDuplicateFilter(-1, 10);
+			fail("Did not throw with negative window");
+		} catch (IllegalArgumentException iae) {
+			// pass
+		}
+	}
+
+	@Test
+	public void testDuplicateWithinWindow() {
+		AISMessage msg = filter.create("A", 0, sentence(POSITION));
+		assertNotNull(msg);
+		assertEquals(1, msg.getMessageType());
+		assertNull(filter.create("B", 500, sentence(POSITION)));
+		assertNull(filter.create("B", 1000, sentence(POSITION)));
+
+		assertEquals(1, filter.getUniqueCount("A"));
+		assertEquals(0, filter.getDuplicateCount("A"));
+		assertEquals(0, filter.getUniqueCount("B"));
+		assertEquals(2, filter.getDuplicateCount("B"));
+		assertEquals(1.0, filter.getDuplicateRatio("B"), 0.0);
+	}
+
+	@Test
+	public void testRepeatedAfterWindow() {
+		AISMessage first = filter.create(null, 0, sentence(POSITION));
+		AISMessage second = filter.create(null, 1001, sentence(POSITION));
+		assertNotNull(second);
+		assertNotSame(first, second);
+		assertEquals(2, filter.getUniqueCount(null));
+		assertEquals(0.0, filter.getDuplicateRatio(null), 0.0);
+	}
+
+	@Test
+	public void testStaticMessageMemoized() {
+		AISMessage first = filter.create("A", 0, sentence(STATIC));
+		assertEquals(5, first.getMessageType());
+		assertNull(filter.create("A", 10, sentence(STATIC)));
+		assertSame(first, filter.create("A", 5000, sentence(STATIC)));
+		assertEquals(1, filter.getCacheHits());
+		assertEquals(1.0 / 3, filter.getDuplicateRatio("A"), 1e-9);
+	}
+
+	@Test
+	public void testCacheDisabled() {
+		filter = new AISDuplicateFilter(0, 0);
+		AISMessage first = filter.create("A", 0, sentence(STATIC));
+		assertNotSame(first, filter.create("A", 1, sentence(STATIC)));
+		assertEquals(0, filter.getCacheHits());
+	}
+
+	@Test
+	public void testReceivers() {
+		filter.create("B", 0, sentence(POSITION));
+		filter.create("A", 0, sentence(POSITION));
+		assertEquals("[A, B]", filter.getReceivers().toString());
+		filter.resetStatistics();
+		assertTrue(filter.getReceivers().isEmpty());
+	}
+
+	@Test
+	public void testUnknownReceiver() {
+		filter.create("A", 0, sentence(POSITION));
+		assertEquals(0, filter.getUniqueCount("X"));
+		assertEquals(0, filter.getDuplicateCount("X"));
+		assertEquals(0.0, filter.getDuplicateRatio("X"), 0.0);
+		assertEquals(0, filter.getUniqueCount(null));
+		assertEquals("[A]", filter.getReceivers().toString());
+	}
+}
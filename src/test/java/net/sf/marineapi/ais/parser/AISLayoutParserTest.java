@@ -0,0 +1,328 @@
+package net.sf.marineapi.ais.parser;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import net.sf.marineapi.ais.message.AISMessage;
+import net.sf.marineapi.ais.message.AISMessage07;
+import net.sf.marineapi.ais.message.AISMessage08;
+import net.sf.marineapi.ais.message.AISMessage13;
+import net.sf.marineapi.ais.message.AISMessage14;
+import net.sf.marineapi.ais.util.AISField;
+import net.sf.marineapi.ais.util.AISLayout;
+import net.sf.marineapi.ais.util.Sixbit;
+import net.sf.marineapi.nmea.parser.SentenceFactory;
+import net.sf.marineapi.nmea.sentence.AISSentence;
+
+import org.junit.Test;
+
+/**
+ * Tests the table-driven parsers of AIS messages 6 - 27 and the position
+ * accuracy flag of position reports.
+ *
+ * @author Kimmo Tuukkanen
+ */
+public class AISLayoutParserTest {
+
+    private final SentenceFactory sf = SentenceFactory.getInstance();
+    private final AISMessageFactory amf = AISMessageFactory.getInstance();
+
+    /**
+     * Builds test payloads bit by bit.
+     */
+    private static class Bits {
+
+        private final StringBuilder bits = new StringBuilder();
+
+        Bits(int type, int mmsi) {
+            add(type, 6).add(0, 2).add(mmsi, 30);
+        }
+
+        Bits add(int value, int width) {
+            for (int i = width - 1; i >= 0; i--) {
+                bits.append((value >>> i & 1) == 1 ? '1' : '0');
+            }
+            return this;
+        }
+
+        Sixbit toSixbit() {
+            int fill = (6 - bits.length() % 6) % 6;
+            StringBuilder payload = new StringBuilder();
+            for (int i = 0; i < bits.length(); i += 6) {
+                String chunk = bits.substring(i, Math.min(i + 6, bits.length()));
+                while (chunk.length() < 6) {
+                    chunk += "0";
+                }
+                int v = Integer.parseInt(chunk, 2);
+                payload.append((char) (v < 40 ? v + 48 : v + 56));
+            }
+            return new Sixbit(payload.toString(), fill);
+        }
+    }
+
+    @Test
+    public void testLayoutDecode() {
+        AISLayout layout = new AISLayout(40, 48,
+            new AISField("A", 38, 1, AISField.Type.BOOLEAN),
+            new AISField("B", 39, 4, AISField.Type.INT),
+            new AISField("C", 43, 5, AISField.Type.UINT),
+            new AISField("D", 42, AISField.TO_END, AISField.Type.TEXT));
+
+        int[] values = new int[layout.size()];
+        layout.decode(new Bits(1, 1).add(1, 1).add(-3, 4).add(17, 5).toSixbit(), values);
+        assertEquals(1, values[0]);
+        assertEquals(-3, values[1]);
+        assertEquals(17, values[2]);
+        assertEquals(48, values[3]);
+
+        try {
+            layout.decode(new Bits(1, 1).toSixbit(), values);
+            fail("Did not throw on short message");
+        } catch (IllegalArgumentException iae) {
+            assertEquals("Wrong message length", iae.getMessage());
+        }
+    }
+
+    @Test
+    public void testFieldValidation() {
+        try {
+            new AISField("X", 0, 33, AISField.Type.UINT);
+            fail("Did not throw on too wide integer");
+        } catch (IllegalArgumentException iae) {
+            // pass
+        }
+        try {
+            new AISField("X", 0, 2, AISField.Type.BOOLEAN);
+            fail("Did not throw on wide boolean");
+        } catch (IllegalArgumentException iae) {
+            // pass
+        }
+    }
+
+    @Test
+    public void testMessage06() {
+        Sixbit content = new Bits(6, 123456789).add(2, 2).add(987654321, 30)
+            .add(1, 1).add(0, 1).add(1, 10).add(0, 6).add(0xCAFE, 16).toSixbit();
+
+        AISMessage06Parser msg = new AISMessage06Parser(content);
+        assertEquals(2, msg.getSequenceNumber());
+        assertEquals(987654321, msg.getDestinationMMSI());
+        assertTrue(msg.getRetransmitFlag());
+        assertEquals(1, msg.getDAC());
+        assertEquals(0, msg.getFI());
+        assertEquals(16, msg.getDataLength());
+        assertArrayEquals(new byte[] { (byte) 0xCA, (byte) 0xFE }, msg.getData());
+    }
+
+    @Test
+    public void testMessage07() {
+        Sixbit content = new Bits(7, 123456789).add(0, 2)
+            .add(111111111, 30).add(1, 2).add(222222222, 30).add(3, 2).toSixbit();
+
+        AISMessage07Parser msg = new AISMessage07Parser(content);
+        assertEquals(2, msg.getNumberOfAcknowledgements());
+        assertEquals(111111111, msg.getDestinationMMSI(0));
+        assertEquals(1, msg.getSequenceNumber(0));
+        assertEquals(222222222, msg.getDestinationMMSI(1));
+        assertEquals(3, msg.getSequenceNumber(1));
+        try {
+            msg.getDestinationMMSI(2);
+            fail("Did not throw on missing acknowledgement");
+        } catch (IndexOutOfBoundsException e) {
+            // pass
+        }
+    }
+
+    @Test
+    public void testMessage08() {
+        AISSentence s = (AISSentence) sf.createParser(
+            "!AIVDM,1,1,,A,85Mwp`1Kf3aCnsNvBWLi=wQuNhA5t43N`5nCuI=p<IBfVqnMgPGs,0*47");
+
+        AISMessage msg = amf.create(s);
+        assertTrue(msg instanceof AISMessage08);
+        AISMessage08 m8 = (AISMessage08) msg;
+        assertEquals(366999712, m8.getMMSI());
+        assertEquals(366, m8.getDAC());
+        assertEquals(56, m8.getFI());
+        assertEquals(256, m8.getDataLength());
+        assertEquals(32, m8.getData().length);
+    }
+
+    @Test
+    public void testPositionReportAccuracy() {
+        Sixbit content = new Bits(1, 230123456).add(0, 4).add(0, 8)
+            .add(100, 10).add(1, 1).add(0, 28).add(0, 27).add(0, 12)
+            .add(511, 9).add(60, 6).add(0, 25).toSixbit();
+
+        AISMessage01Parser msg = new AISMessage01Parser(content);
+        assertEquals(100, msg.getSpeedOverGround());
+        assertTrue(msg.getPositionAccuracy());
+        assertEquals(511, msg.getTrueHeading());
+    }
+
+    @Test
+    public void testClassBPositionReportAccuracy() {
+        Sixbit content = new Bits(18, 230123456).add(0, 8).add(100, 10)
+            .add(1, 1).add(0, 28).add(0, 27).add(0, 12).add(511, 9)
+            .add(60, 6).add(0, 30).toSixbit();
+
+        AISMessage18Parser msg = new AISMessage18Parser(content);
+        assertEquals(100, msg.getSpeedOverGround());
+        assertTrue(msg.getPositionAccuracy());
+        assertEquals(511, msg.getTrueHeading());
+    }
+
+    @Test
+    public void testMessage11() {
+        Sixbit content = new Bits(11, 123456789).add(2026, 14).add(10, 4)
+            .add(19, 5).add(12, 5).add(30, 6).add(15, 6).add(1, 1)
+            .add(0, 28).add(0, 27).add(1, 4).add(0, 30).toSixbit();
+
+        AISMessage11Parser msg = new AISMessage11Parser(content);
+        assertEquals(2026, msg.getUtcYear());
+        assertEquals(10, msg.getUtcMonth());
+        assertEquals(19, msg.getUtcDay());
+        assertEquals(12, msg.getUtcHour());
+        assertEquals(30, msg.getUtcMinute());
+        assertEquals(15, msg.getUtcSecond());
+        assertTrue(msg.getPositionAccuracy());
+        assertEquals(1, msg.getTypeOfEPFD());
+    }
+
+    @Test
+    public void testMessage14() {
+        AISSentence s = (AISSentence) sf.createParser(
+            "!AIVDM,1,1,,A,>5?Per18=HB1U:1@E=B0m<L,2*51");
+
+        AISMessage msg = amf.create(s);
+        assertTrue(msg instanceof AISMessage14);
+        assertEquals(351809000, msg.getMMSI());
+        assertEquals("RCVD YR TEST MSG", ((AISMessage14) msg).getText());
+    }
+
+    @Test
+    public void testMessage15() {
+        Sixbit content = new Bits(15, 123456789).add(0, 2)
+            .add(987654321, 30).add(5, 6).add(100, 12).add(0, 2)
+            .add(24, 6).add(200, 12).toSixbit();
+
+        AISMessage15Parser msg = new AISMessage15Parser(content);
+        assertEquals(2, msg.getNumberOfRequests());
+        assertEquals(987654321, msg.getInterrogatedMMSI(0));
+        assertEquals(987654321, msg.getInterrogatedMMSI(1));
+        assertEquals(5, msg.getRequestedMessageType(0));
+        assertEquals(24, msg.getRequestedMessageType(1));
+        assertEquals(100, msg.getSlotOffset(0));
+        assertEquals(200, msg.getSlotOffset(1));
+    }
+
+    @Test
+    public void testMessage17() {
+        Sixbit content = new Bits(17, 2734450).add(0, 2)
+            .add(-600, 18).add(1200, 17).add(0, 5).add(0xAB, 8).toSixbit();
+
+        AISMessage17Parser msg = new AISMessage17Parser(content);
+        assertEquals(-1.0, msg.getLongitudeInDegrees(), 0.0001);
+        assertEquals(2.0, msg.getLatitudeInDegrees(), 0.0001);
+        assertEquals(8, msg.getDataLength());
+        assertArrayEquals(new byte[] { (byte) 0xAB }, msg.getData());
+    }
+
+    @Test
+    public void testMessage20() {
+        Sixbit content = new Bits(20, 3669702).add(0, 2)
+            .add(2049, 12).add(5, 4).add(7, 3).add(225, 11)
+            .add(0, 2).toSixbit();
+
+        AISMessage20Parser msg = new AISMessage20Parser(content);
+        assertEquals(1, msg.getNumberOfReservations());
+        assertEquals(2049, msg.getOffset(0));
+        assertEquals(5, msg.getNumberOfSlots(0));
+        assertEquals(7, msg.getTimeout(0));
+        assertEquals(225, msg.getIncrement(0));
+    }
+
+    @Test
+    public void testMessage22() {
+        Sixbit content = new Bits(22, 3160048).add(0, 2)
+            .add(2087, 12).add(2088, 12).add(0, 4).add(0, 1)
+            .add(111111111, 30).add(0, 5).add(222222222, 30).add(0, 5)
+            .add(1, 1).add(0, 1).add(1, 1).add(4, 3).add(0, 23).toSixbit();
+
+        AISMessage22Parser msg = new AISMessage22Parser(content);
+        assertEquals(2087, msg.getChannelA());
+        assertEquals(2088, msg.getChannelB());
+        assertTrue(msg.getAddressedFlag());
+        assertEquals(111111111, msg.getFirstDestinationMMSI());
+        assertEquals(222222222, msg.getSecondDestinationMMSI());
+        assertFalse(msg.getChannelABandwidthFlag());
+        assertTrue(msg.getChannelBBandwidthFlag());
+        assertEquals(4, msg.getZoneSize());
+    }
+
+    @Test
+    public void testMessage25Addressed() {
+        Sixbit content = new Bits(25, 123456789).add(1, 1).add(1, 1)
+            .add(987654321, 30).add(200, 10).add(10, 6).add(0x0F, 8).toSixbit();
+
+        AISMessage25Parser msg = new AISMessage25Parser(content);
+        assertTrue(msg.getAddressedFlag());
+        assertTrue(msg.getStructuredFlag());
+        assertEquals(987654321, msg.getDestinationMMSI());
+        assertEquals(200, msg.getDAC());
+        assertEquals(10, msg.getFI());
+        assertEquals(8, msg.getDataLength());
+        assertArrayEquals(new byte[] { 0x0F }, msg.getData());
+    }
+
+    @Test
+    public void testMessage26Broadcast() {
+        Sixbit content = new Bits(26, 123456789).add(0, 1).add(0, 1)
+            .add(0xFF, 8).add(0x12345, 20).toSixbit();
+
+        AISMessage26Parser msg = new AISMessage26Parser(content);
+        assertFalse(msg.getAddressedFlag());
+        assertFalse(msg.getStructuredFlag());
+        assertEquals(0, msg.getDestinationMMSI());
+        assertEquals(8, msg.getDataLength());
+        assertArrayEquals(new byte[] { (byte) 0xFF }, msg.getData());
+        assertEquals(0x12345, msg.getRadioStatus());
+    }
+
+    @Test
+    public void testMessage27() {
+        Sixbit content = new Bits(27, 206914217).add(1, 1).add(0, 1)
+            .add(5, 4).add(-6000, 18).add(36000, 17).add(12, 6).add(90, 9)
+            .add(1, 1).add(0, 1).toSixbit();
+
+        AISMessage27Parser msg = new AISMessage27Parser(content);
+        assertTrue(msg.getPositionAccuracy());
+        assertFalse(msg.getRAIMFlag());
+        assertEquals(5, msg.getNavigationalStatus());
+        assertEquals(-10.0, msg.getLongitudeInDegrees(), 0.0001);
+        assertEquals(60.0, msg.getLatitudeInDegrees(), 0.0001);
+        assertEquals(12, msg.getSpeedOverGround());
+        assertEquals(90, msg.getCourseOverGround());
+        assertTrue(msg.getPositionLatency());
+        assertEquals(0, msg.getNrOfViolations());
+    }
+
+    @Test
+    public void testFactorySupportsAllTypes() {
+        for (int type = 1; type <= 27; type++) {
+            assertTrue("type " + type, amf.isSupported(type));
+        }
+        assertFalse(amf.isSupported(0));
+        assertFalse(amf.isSupported(28));
+    }
+
+    @Test
+    public void testAcknowledgementTypes() {
+        Sixbit content = new Bits(13, 1).add(0, 2).add(2, 30).add(0, 2).toSixbit();
+        assertTrue(new AISMessage13Parser(content) instanceof AISMessage13);
+        assertTrue(new AISMessage07Parser(content) instanceof AISMessage07);
+    }
+}
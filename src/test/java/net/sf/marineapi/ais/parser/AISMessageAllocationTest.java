@@ -0,0 +1,81 @@
+/*
+ * AISMessageAllocationTest.java
+ * Copyright (C) 2026 Kimmo Tuukkanen
+ *
+ * This file is part of Java Marine API.
+ * <http://ktuukkan.github.io/marine-api/>
+ *
+ * Java Marine API is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * Java Marine API is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Java Marine API. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sf.marineapi.ais.parser;
+
+import java.util.concurrent.Callable;
+
+import net.sf.marineapi.nmea.parser.SentenceFactory;
+import net.sf.marineapi.nmea.sentence.AISSentence;
+import net.sf.marineapi.test.util.AllocationMeter;
+
+import org.junit.Test;
+
+/**
+ * Allocation budgets of AIS message decoding, in bytes per message, including
+ * the decoding of all fields. Budgets are set about 30% above the measured
+ * allocation; lower them when decoding is improved.
+ */
+public class AISMessageAllocationTest {
+
+	private final AISMessageFactory factory = AISMessageFactory.getInstance();
+
+	@Test
+	public void testPositionReport() throws Exception {
+		assertDecodeBudget(600, "!AIVDM,1,1,,A,13aEOK?P00PD2wVMdLDRhgvL289?,0*26");
+	}
+
+	@Test
+	public void testUTCReport() throws Exception {
+		assertDecodeBudget(650, "!AIVDM,1,1,,A,400TcdiuiT7VDR>3nIfr6>i00000,0*78");
+	}
+
+	@Test
+	public void testStaticAndVoyageData() throws Exception {
+		assertDecodeBudget(1250,
+			"!AIVDM,2,1,3,B,55P5TL01VIaAL@7WKO@mBplU@<PDhh000000001S;AJ::4A80?4i@E53,0*3E",
+			"!AIVDM,2,2,3,B,1@0000000000000,2*55");
+	}
+
+	@Test
+	public void testPositionReportB() throws Exception {
+		assertDecodeBudget(600, "!AIVDM,1,1,,A,B6CdCm0t3`tba35f@V9faHi7kP06,0*58");
+	}
+
+	@Test
+	public void testStaticDataReport() throws Exception {
+		assertDecodeBudget(620, "!AIVDM,1,1,,A,H42O55i18tMET00000000000000,2*6D");
+	}
+
+	private void assertDecodeBudget(long budget, String... nmea) throws Exception {
+		SentenceFactory sf = SentenceFactory.getInstance();
+		final AISSentence[] sentences = new AISSentence[nmea.length];
+		for (int i = 0; i < nmea.length; i++) {
+			sentences[i] = (AISSentence) sf.createParser(nmea[i]);
+		}
+		int type = factory.create(sentences).getMessageType();
+		AllocationMeter.assertBudget("Decoding type " + type, budget, new Callable<Object>() {
+			@Override
+			public Object call() {
+				return factory.create(sentences).toRecord();
+			}
+		});
+	}
+}
@@ -0,0 +1,262 @@
+/*
+ * AISMessageEncoderTest.java
+ * Copyright (C) 2026 Kimmo Tuukkanen
+ *
+ * This file is part of Java Marine API.
+ * <http://ktuukkan.github.io/marine-api/>
+ *
+ * Java Marine API is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * Java Marine API is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Java Marine API. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sf.marineapi.ais.parser;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import net.sf.marineapi.ais.message.AISMessage;
+import net.sf.marineapi.ais.message.AISMessage05;
+import net.sf.marineapi.ais.message.AISPositionReport;
+import net.sf.marineapi.ais.message.AISPositionReportB;
+import net.sf.marineapi.ais.util.Sixbit;
+import net.sf.marineapi.ais.util.SixbitEncoder;
+import net.sf.marineapi.nmea.parser.SentenceFactory;
+import net.sf.marineapi.nmea.sentence.AISSentence;
+import net.sf.marineapi.nmea.sentence.Checksum;
+import net.sf.marineapi.nmea.sentence.SentenceId;
+import net.sf.marineapi.nmea.sentence.SentenceValidator;
+import net.sf.marineapi.nmea.sentence.TalkerId;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author Kimmo Tuukkanen
+ */
+public class AISMessageEncoderTest {
+
+	private static final String[] MESSAGES = {
+		"!AIVDM,1,1,,A,13KF5P@01sQj:;0RKO=:THLt0000,0*01",
+		"!AIVDM,1,1,,A,403OviQuMGCqWrRO9>E6fE700@GO,0*4D",
+		"!AIVDM,1,1,,A,53KF5P@2<hW4t`8<000l58TpF050T00000000016<PD:<6b<NEB1C4jCRj@000000000000,2*62",
+		"!AIVDM,1,1,,A,B3KF5PP0=hLW3P8UD@0pCwU00000,0*0A",
+		"!AIVDM,1,1,,A,H42O55i18tMET00000000000000,2*6D",
+		"!AIVDM,1,1,,A,H42O55lti4hhhilD3nink000?050,0*40"
+	};
+
+	// bit ranges of MESSAGES not exposed by the message interfaces
+	private static final int[][] HIDDEN = {
+		{ 145, 168 },
+		{ 138, 168 },
+		{ 422, 424 },
+		{ 38, 46, 139, 168 },
+		{ 160, 168 },
+		{ 162, 168 }
+	};
+
+	private final SentenceFactory sf = SentenceFactory.getInstance();
+	private final AISMessageFactory mf = AISMessageFactory.getInstance();
+	private AISMessageEncoder encoder;
+
+	@Before
+	public void setUp() {
+		encoder = new AISMessageEncoder();
+	}
+
+	private AISMessage decode(String nmea) {
+		return mf.create((AISSentence) sf.createParser(nmea));
+	}
+
+	private AISMessage decode(AISSentence... sentences) {
+		AISSentence[] parsed = new AISSentence[sentences.length];
+		for (int i = 0; i < sentences.length; i++) {
+			String nmea = sentences[i].toSentence();
+			assertTrue(SentenceValidator.isValid(nmea));
+			parsed[i] = (AISSentence) sf.createParser(nmea);
+		}
+		return mf.create(parsed);
+	}
+
+	private AISSentence[] sentences(String... nmea) {
+		AISSentence[] parsed = new AISSentence[nmea.length];
+		for (int i = 0; i < nmea.length; i++) {
+			parsed[i] = (AISSentence) sf.createParser(nmea[i]);
+		}
+		return parsed;
+	}
+
+	private static Sixbit sixbit(AISSentence... sentences) {
+		StringBuilder payload = new StringBuilder();
+		for (AISSentence s : sentences) {
+			payload.append(s.getPayload());
+		}
+		return new Sixbit(payload.toString(), sentences[sentences.length - 1].getFillBits());
+	}
+
+	/**
+	 * Returns the first bits of given content as String, with the hidden
+	 * ranges cleared.
+	 */
+	private static String bits(Sixbit content, int length, int[] hidden) {
+		StringBuilder sb = new StringBuilder(length);
+		for (int i = 0; i < length; i++) {
+			sb.append(content.getInt(i, i + 1));
+		}
+		for (int i = 0; i < hidden.length; i += 2) {
+			for (int j = hidden[i]; j < Math.min(hidden[i + 1], length); j++) {
+				sb.setCharAt(j, '0');
+			}
+		}
+		return sb.toString();
+	}
+
+	@Test
+	public void testSixbitEncoder() {
+		SixbitEncoder out = new SixbitEncoder();
+		out.putInt(5, 6).putInt(-3, 8).putBoolean(true).putString("ab1", 18).putInt(0x3FF, 10);
+		assertEquals(43, out.length());
+		assertEquals(5, out.getFillBits());
+
+		Sixbit in = new Sixbit(out.getPayload(), out.getFillBits());
+		assertEquals(43, in.length());
+		assertEquals(5, in.getInt(0, 6));
+		assertEquals(-3, in.getSignedInt(6, 14));
+		assertTrue(in.getBoolean(14));
+		assertEquals("AB1", in.getString(15, 33));
+		assertEquals(0x3FF, in.getInt(33, 43));
+
+		out.reset();
+		assertEquals(0, out.length());
+		assertEquals("", out.getPayload());
+	}
+
+	@Test
+	public void testRoundTrip() {
+		for (String nmea : MESSAGES) {
+			AISMessage expected = decode(nmea);
+			AISMessage actual = decode(encoder.createSentences(expected));
+			assertEquals(nmea, expected.getMessageType(), actual.getMessageType());
+			assertEquals(nmea, expected.getMMSI(), actual.getMMSI());
+			assertEquals(nmea, expected.toString(), actual.toString());
+		}
+	}
+
+	@Test
+	public void testRoundTripPayload() {
+		for (int i = 0; i < MESSAGES.length; i++) {
+			AISSentence[] original = sentences(MESSAGES[i]);
+			AISMessage msg = mf.create(original);
+			Sixbit expected = sixbit(original);
+			Sixbit actual = sixbit(encoder.createSentences(msg));
+			assertTrue(MESSAGES[i], actual.length() >= expected.length());
+			assertEquals(MESSAGES[i],
+				bits(expected, expected.length(), HIDDEN[i]),
+				bits(actual, expected.length(), HIDDEN[i]));
+		}
+	}
+
+	@Test
+	public void testRoundTripAccuracy() {
+		// type 1 with accuracy flag and speed of 10 knots
+		SixbitEncoder out = new SixbitEncoder();
+		out.putInt(1, 6).putInt(0, 2).putInt(230123456, 30).putInt(0, 4)
+			.putInt(0, 8).putInt(100, 10).putBoolean(true)
+			.putInt(15000000, 28).putInt(36000000, 27).putInt(900, 12)
+			.putInt(90, 9).putInt(30, 6).putInt(0, 2).skip(23);
+
+		AISPositionReport a = (AISPositionReport) roundTrip(out.getPayload());
+		assertTrue(a.getPositionAccuracy());
+		assertEquals(100, a.getSpeedOverGround());
+		assertEquals(25.0, a.getLongitudeInDegrees(), 1e-9);
+		assertEquals(60.0, a.getLatitudeInDegrees(), 1e-9);
+
+		// type 18, same fields
+		out.reset();
+		out.putInt(18, 6).putInt(0, 2).putInt(230123456, 30).skip(8)
+			.putInt(100, 10).putBoolean(true).putInt(15000000, 28)
+			.putInt(36000000, 27).putInt(900, 12).putInt(90, 9)
+			.putInt(30, 6).skip(29);
+
+		AISPositionReportB b = (AISPositionReportB) roundTrip(out.getPayload());
+		assertTrue(b.getPositionAccuracy());
+		assertEquals(100, b.getSpeedOverGround());
+		assertEquals(25.0, b.getLongitudeInDegrees(), 1e-9);
+		assertEquals(60.0, b.getLatitudeInDegrees(), 1e-9);
+	}
+
+	/**
+	 * Decodes the given single sentence payload, asserts that encoding the
+	 * message yields the same payload and returns the message.
+	 */
+	private AISMessage roundTrip(String payload) {
+		AISMessage msg = decode(Checksum.add("!AIVDM,1,1,,A," + payload + ",0*00"));
+		assertEquals(payload, AISMessageEncoder.encode(msg).getPayload());
+		return msg;
+	}
+
+	@Test
+	public void testRoundTripStaticData() {
+		AISMessage05 expected = (AISMessage05) decode(MESSAGES[2]);
+		AISMessage05 actual = (AISMessage05) decode(encoder.createSentences(expected));
+		assertEquals(expected.getAISVersionIndicator(), actual.getAISVersionIndicator());
+		assertEquals(expected.getIMONumber(), actual.getIMONumber());
+		assertEquals(expected.getCallSign(), actual.getCallSign());
+		assertEquals(expected.getName(), actual.getName());
+		assertEquals(expected.getDestination(), actual.getDestination());
+		assertEquals(expected.getETAMinute(), actual.getETAMinute());
+		assertEquals(expected.getMaximumDraught(), actual.getMaximumDraught());
+	}
+
+	@Test
+	public void testFragments() {
+		AISMessage msg = decode(MESSAGES[2]);
+		AISSentence[] first = encoder.createSentences(msg);
+		AISSentence[] second = encoder.createSentences(msg);
+
+		assertEquals(2, first.length);
+		assertEquals(AISMessageEncoder.MAX_PAYLOAD, first[0].getPayload().length());
+		assertEquals(2, first[1].getNumberOfFragments());
+		assertEquals(2, first[1].getFragmentNumber());
+		assertEquals(0, first[0].getFillBits());
+		assertEquals(2, first[1].getFillBits());
+		assertEquals("0", first[0].getMessageId());
+		assertEquals("0", first[1].getMessageId());
+		assertEquals("1", second[0].getMessageId());
+		assertTrue(first[0].isPartOfMessage(first[1]));
+		assertFalse(first[0].isLastFragment());
+
+		AISSentence[] single = encoder.createSentences(decode(MESSAGES[0]));
+		assertEquals(1, single.length);
+		assertTrue(single[0].toSentence().startsWith("!AIVDM,1,1,,A,"));
+	}
+
+	@Test
+	public void testVDO() {
+		encoder = new AISMessageEncoder(TalkerId.AB, SentenceId.VDO, "B");
+		AISSentence[] s = encoder.createSentences(decode(MESSAGES[0]));
+		assertTrue(s[0].toSentence().startsWith("!ABVDO,1,1,,B,"));
+	}
+
+	@Test
+	public void testUnsupportedType() {
+		AISMessage msg = decode("!AIVDM,1,1,,A,85Mwp`1Kf3aCnsNvBWLi=wQuNhA5t43N`5nCuI=p<IBfVqnMgPGs,0*47");
+		assertFalse(AISMessageEncoder.isSupported(msg.getMessageType()));
+		try {
+			encoder.createSentences(msg);
+			fail("Did not throw with unsupported type");
+		} catch (IllegalArgumentException iae) {
+			assertEquals("no encoder for message type 8", iae.getMessage());
+		}
+	}
+}
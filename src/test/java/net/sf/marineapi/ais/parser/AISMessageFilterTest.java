@@ -0,0 +1,119 @@
+/*
+ * AISMessageFilterTest.java
+ * Copyright (C) 2026 Kimmo Tuukkanen
+ *
+ * This file is part of Java Marine API.
+ * <http://ktuukkan.github.io/marine-api/>
+ *
+ * Java Marine API is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * Java Marine API is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Java Marine API. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sf.marineapi.ais.parser;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import net.sf.marineapi.ais.message.AISMessage;
+import net.sf.marineapi.nmea.parser.SentenceFactory;
+import net.sf.marineapi.nmea.sentence.AISSentence;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author Kimmo Tuukkanen
+ */
+public class AISMessageFilterTest {
+
+	private final SentenceFactory sf = SentenceFactory.getInstance();
+	private final AISMessageFactory mf = AISMessageFactory.getInstance();
+
+	private final AISSentence position = (AISSentence) sf.createParser(
+		"!AIVDM,1,1,,A,13KF5P@01sQj:;0RKO=:THLt0000,0*01");
+	private final AISSentence first = (AISSentence) sf.createParser(
+		"!AIVDM,2,1,3,B,55P5TL01VIaAL@7WKO@mBplU@<PDhh000000001S;AJ::4A80?4i@E53,0*3E");
+	private final AISSentence second = (AISSentence) sf.createParser(
+		"!AIVDM,2,2,3,B,1@0000000000000,2*55");
+
+	private AISMessageFilter filter;
+
+	@Before
+	public void setUp() {
+		filter = new AISMessageFilter();
+	}
+
+	@Test
+	public void testHeaderMatchesDecoder() {
+		AISMessage msg = mf.create(position);
+		String payload = position.getPayload();
+		assertEquals(msg.getMessageType(), AISMessageFilter.getMessageType(payload));
+		assertEquals(msg.getRepeatIndicator(), AISMessageFilter.getRepeatIndicator(payload));
+		assertEquals(msg.getMMSI(), AISMessageFilter.getMMSI(payload));
+
+		msg = mf.create(first, second);
+		assertEquals(msg.getMMSI(), AISMessageFilter.getMMSI(first.getPayload()));
+	}
+
+	@Test
+	public void testInvalidHeader() {
+		assertEquals(-1, AISMessageFilter.getMessageType(""));
+		assertEquals(-1, AISMessageFilter.getMMSI("13KF5"));
+		assertEquals(-1, AISMessageFilter.getMMSI("13KF5P "));
+	}
+
+	@Test
+	public void testAcceptAll() {
+		assertTrue(filter.accept(position));
+		assertTrue(filter.accept(first));
+		assertTrue(filter.accept(""));
+	}
+
+	@Test
+	public void testAcceptByType() {
+		filter.addType(5);
+		assertFalse(filter.accept(position));
+		assertTrue(filter.accept(first));
+		assertTrue(filter.accept(second));
+
+		filter.removeType(5);
+		filter.addType(1);
+		assertTrue(filter.accept(position));
+		assertFalse(filter.accept(first));
+	}
+
+	@Test
+	public void testAcceptByMMSI() {
+		filter.addMMSI(230000001);
+		assertTrue(filter.accept(position));
+		assertFalse(filter.accept(first));
+
+		filter.removeMMSI(230000001);
+		filter.addMMSI(1);
+		assertFalse(filter.accept(position));
+
+		filter.clear();
+		assertTrue(filter.accept(position));
+	}
+
+	@Test
+	public void testAddInvalidType() {
+		try {
+			filter.addType(28);
+			fail("Did not throw with invalid type");
+		} catch (IllegalArgumentException iae) {
+			// pass
+		}
+	}
+}
@@ -0,0 +1,212 @@
+/*
+ * AISPlausibilityFilterTest.java
+ * Copyright (C) 2026 Kimmo Tuukkanen
+ *
+ * This file is part of Java Marine API.
+ * <http://ktuukkan.github.io/marine-api/>
+ *
+ * Java Marine API is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * Java Marine API is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Java Marine API. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sf.marineapi.ais.parser;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import net.sf.marineapi.ais.message.AISMessage;
+import net.sf.marineapi.ais.parser.AISPlausibilityFilter.Result;
+import net.sf.marineapi.nmea.parser.SentenceFactory;
+import net.sf.marineapi.nmea.sentence.AISSentence;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author Kimmo Tuukkanen
+ */
+public class AISPlausibilityFilterTest {
+
+	private static final int MMSI = 230123456;
+	private static final long MINUTE = 60000L;
+
+	// one minute at 10 knots, in degrees of latitude
+	private static final double TEN_KNOTS = 10.0 / 60 / 60;
+
+	private AISPlausibilityFilter filter;
+
+	@Before
+	public void setUp() {
+		filter = new AISPlausibilityFilter();
+	}
+
+	@Test
+	public void testConstructor() {
+		try {
+			new AISPlausibilityFilter(0, 10, 0, 1000, 1);
+			fail("Did not throw IllegalArgumentException");
+		} catch (IllegalArgumentException e) {
+			// pass
+		}
+		try {
+			new AISPlausibilityFilter(100, -1, 0, 1000, 1);
+			fail("Did not throw IllegalArgumentException");
+		} catch (IllegalArgumentException e) {
+			// pass
+		}
+	}
+
+	@Test
+	public void testConsistentTrack() {
+		for (int i = 0; i < 10; i++) {
+			double lat = 60.0 + i * TEN_KNOTS;
+			assertEquals(Result.ACCEPTED, filter.check(MMSI, i * MINUTE, lat, 25.0, 100, 0));
+		}
+		assertEquals(10, filter.getCount(Result.ACCEPTED));
+		assertEquals(1, filter.size());
+	}
+
+	@Test
+	public void testPositionNotAvailable() {
+		assertEquals(Result.ACCEPTED, filter.check(MMSI, 0, 91, 181, 1023, 60));
+		assertEquals(0, filter.size());
+	}
+
+	@Test
+	public void testInvalidTimeStamp() {
+		assertEquals(Result.INVALID_TIMESTAMP, filter.check(MMSI, 0, 60.0, 25.0, 100, 63));
+		assertEquals(0, filter.size());
+		assertEquals(1, filter.getCount(Result.INVALID_TIMESTAMP));
+	}
+
+	@Test
+	public void testTimeStampSkew() {
+		AISPlausibilityFilter f = new AISPlausibilityFilter(100, 10, 5, MINUTE * 60, 4);
+		assertEquals(Result.ACCEPTED, f.check(MMSI, 12000, 60.0, 25.0, 100, 10));
+		assertEquals(Result.INVALID_TIMESTAMP, f.check(MMSI, 32000, 60.0, 25.0, 100, 10));
+		assertEquals(Result.ACCEPTED, f.check(MMSI, 61000, 60.0, 25.0, 100, 58));
+		assertEquals(Result.ACCEPTED, f.check(MMSI, 90000, 60.0, 25.0, 100, 60));
+	}
+
+	@Test
+	public void testSpeedMismatch() {
+		assertEquals(Result.ACCEPTED, filter.check(MMSI, 0, 60.0, 25.0, 50, 0));
+		// 30 knots reported as 5 knots
+		double lat = 60.0 + 3 * TEN_KNOTS;
+		assertEquals(Result.SPEED_MISMATCH, filter.check(MMSI, MINUTE, lat, 25.0, 50, 0));
+		// position was updated
+		lat += 0.5 * TEN_KNOTS;
+		assertEquals(Result.ACCEPTED, filter.check(MMSI, 2 * MINUTE, lat, 25.0, 50, 0));
+	}
+
+	@Test
+	public void testSpeedNotAvailable() {
+		assertEquals(Result.ACCEPTED, filter.check(MMSI, 0, 60.0, 25.0, 1023, 0));
+		double lat = 60.0 + 3 * TEN_KNOTS;
+		assertEquals(Result.ACCEPTED, filter.check(MMSI, MINUTE, lat, 25.0, 1023, 0));
+	}
+
+	@Test
+	public void testPositionJump() {
+		assertEquals(Result.ACCEPTED, filter.check(MMSI, 0, 60.0, 25.0, 100, 0));
+		assertEquals(Result.POSITION_JUMP, filter.check(MMSI, MINUTE, 61.0, 25.0, 100, 0));
+		assertEquals(Result.ACCEPTED, filter.check(MMSI, 2 * MINUTE, 60.0 + 2 * TEN_KNOTS, 25.0, 100, 0));
+		assertEquals(1, filter.getCount(Result.POSITION_JUMP));
+	}
+
+	@Test
+	public void testRelocation() {
+		assertEquals(Result.ACCEPTED, filter.check(MMSI, 0, 60.0, 25.0, 100, 0));
+		assertEquals(Result.POSITION_JUMP, filter.check(MMSI, MINUTE, 55.0, 10.0, 100, 0));
+		assertEquals(Result.POSITION_JUMP, filter.check(MMSI, 2 * MINUTE, 55.0 + TEN_KNOTS, 10.0, 100, 0));
+		assertEquals(Result.ACCEPTED, filter.check(MMSI, 3 * MINUTE, 55.0 + 2 * TEN_KNOTS, 10.0, 100, 0));
+		assertEquals(Result.ACCEPTED, filter.check(MMSI, 4 * MINUTE, 55.0 + 3 * TEN_KNOTS, 10.0, 100, 0));
+	}
+
+	@Test
+	public void testDuplicateMMSI() {
+		assertEquals(Result.ACCEPTED, filter.check(MMSI, 0, 60.0, 25.0, 0, 0));
+		assertEquals(Result.POSITION_JUMP, filter.check(MMSI, 1000, 55.0, 10.0, 0, 0));
+		for (int i = 1; i < 5; i++) {
+			long t = i * MINUTE;
+			assertEquals(Result.ACCEPTED, filter.check(MMSI, t, 60.0, 25.0, 0, 0));
+			assertEquals(Result.DUPLICATE_MMSI, filter.check(MMSI, t + 1000, 55.0, 10.0, 0, 0));
+		}
+		assertEquals(4, filter.getCount(Result.DUPLICATE_MMSI));
+	}
+
+	@Test
+	public void testSameFixIsEvaluatedOnce() {
+		assertEquals(Result.ACCEPTED, filter.check(MMSI, 0, 60.0, 25.0, 100, 0));
+		assertEquals(Result.POSITION_JUMP, filter.check(MMSI, MINUTE, 61.0, 25.0, 100, 0));
+		assertEquals(Result.POSITION_JUMP, filter.check(MMSI, MINUTE, 61.0, 25.0, 100, 0));
+		assertEquals(Result.POSITION_JUMP, filter.check(MMSI, MINUTE, 61.0, 25.0, 100, 0));
+		assertEquals(1, filter.getCount(Result.POSITION_JUMP));
+	}
+
+	@Test
+	public void testJumpFromSeveralStations() {
+		assertEquals(Result.ACCEPTED, filter.check(MMSI, 0, 60.0, 25.0, 100, 0));
+		// same spoofed fix relayed by three stations
+		assertEquals(Result.POSITION_JUMP, filter.check(MMSI, MINUTE, 55.0, 10.0, 100, 0));
+		assertEquals(Result.POSITION_JUMP, filter.check(MMSI, MINUTE + 1, 55.0, 10.0, 100, 0));
+		assertEquals(Result.POSITION_JUMP, filter.check(MMSI, MINUTE + 2, 55.0, 10.0, 100, 0));
+		assertEquals(1, filter.getCount(Result.POSITION_JUMP));
+		assertEquals(Result.ACCEPTED, filter.check(MMSI, 2 * MINUTE, 60.0 + 2 * TEN_KNOTS, 25.0, 100, 0));
+	}
+
+	@Test
+	public void testCopiesDoNotConfirmRelocation() {
+		assertEquals(Result.ACCEPTED, filter.check(MMSI, 0, 60.0, 25.0, 100, 0));
+		assertEquals(Result.POSITION_JUMP, filter.check(MMSI, MINUTE, 55.0, 10.0, 100, 0));
+		assertEquals(Result.POSITION_JUMP, filter.check(MMSI, MINUTE + 10000, 55.001, 10.0, 100, 10));
+		// delayed copy of the first jump
+		assertEquals(Result.POSITION_JUMP, filter.check(MMSI, MINUTE + 11000, 55.0, 10.0, 100, 0));
+		assertEquals(Result.ACCEPTED, filter.check(MMSI, 2 * MINUTE, 60.0 + 2 * TEN_KNOTS, 25.0, 100, 0));
+	}
+
+	@Test
+	public void testStateExpires() {
+		assertEquals(Result.ACCEPTED, filter.check(MMSI, 0, 60.0, 25.0, 100, 0));
+		long t = AISPlausibilityFilter.DEFAULT_MAX_AGE + MINUTE;
+		assertEquals(Result.ACCEPTED, filter.check(MMSI, t, 30.0, 25.0, 100, 0));
+		assertEquals(0, filter.evict(t));
+		assertEquals(1, filter.evict(t + AISPlausibilityFilter.DEFAULT_MAX_AGE + 1));
+		assertEquals(0, filter.size());
+	}
+
+	@Test
+	public void testPartitions() {
+		AISPlausibilityFilter f = new AISPlausibilityFilter(100, 10, 0, MINUTE * 60, 3);
+		for (int i = 1; i <= 100; i++) {
+			assertEquals(Result.ACCEPTED, f.check(i, 0, 60.0, 25.0, 100, 0));
+			assertEquals(Result.POSITION_JUMP, f.check(i, MINUTE, 50.0, 25.0, 100, 0));
+		}
+		assertEquals(100, f.size());
+		assertEquals(100, f.getCount(Result.POSITION_JUMP));
+		f.resetStatistics();
+		assertEquals(0, f.getCount(Result.POSITION_JUMP));
+	}
+
+	@Test
+	public void testAcceptMessage() {
+		SentenceFactory sf = SentenceFactory.getInstance();
+		AISMessage msg = AISMessageFactory.getInstance().create(
+			(AISSentence) sf.createParser("!AIVDM,1,1,,A,13aEOK?P00PD2wVMdLDRhgvL289?,0*26"));
+		assertTrue(filter.accept(msg, 0));
+		assertEquals(Result.POSITION_JUMP, filter.check(msg.getMMSI(), 1000, 10.0, 10.0, 0, 0));
+		AISMessage base = AISMessageFactory.getInstance().create(
+			(AISSentence) sf.createParser("!AIVDM,1,1,,A,403OviQuMGCqWrRO9>E6fE700@GO,0*4D"));
+		assertTrue(filter.accept(base, 0));
+	}
+}
@@ -0,0 +1,280 @@
+/*
+ * AISRecordTest.java
+ * Copyright (C) 2026 Kimmo Tuukkanen
+ *
+ * This file is part of Java Marine API.
+ * <http://ktuukkan.github.io/marine-api/>
+ *
+ * Java Marine API is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * Java Marine API is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Java Marine API. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sf.marineapi.ais.parser;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import net.sf.marineapi.ais.message.AISMessage;
+import net.sf.marineapi.ais.message.AISMessage01;
+import net.sf.marineapi.ais.message.AISMessage03;
+import net.sf.marineapi.ais.message.AISMessage04;
+import net.sf.marineapi.ais.message.AISMessage05;
+import net.sf.marineapi.ais.message.AISMessage09;
+import net.sf.marineapi.ais.message.AISMessage18;
+import net.sf.marineapi.ais.message.AISMessage19;
+import net.sf.marineapi.ais.message.AISMessage21;
+import net.sf.marineapi.ais.message.AISMessage24;
+import net.sf.marineapi.ais.message.AISMessage27;
+import net.sf.marineapi.ais.util.Sixbit;
+import net.sf.marineapi.ais.util.SixbitEncoder;
+import net.sf.marineapi.nmea.parser.SentenceFactory;
+import net.sf.marineapi.nmea.sentence.AISSentence;
+
+import org.junit.Test;
+
+/**
+ * @author Kimmo Tuukkanen
+ */
+public class AISRecordTest {
+
+	private static final String[] MESSAGES = {
+		"!AIVDM,1,1,,A,13KF5P@01sQj:;0RKO=:THLt0000,0*01",
+		"!AIVDM,1,1,,A,403OviQuMGCqWrRO9>E6fE700@GO,0*4D",
+		"!AIVDM,1,1,,A,53KF5P@2<hW4t`8<000l58TpF050T00000000016<PD:<6b<NEB1C4jCRj@000000000000,2*62",
+		"!AIVDM,1,1,,A,B3KF5PP0=hLW3P8UD@0pCwU00000,0*0A",
+		"!AIVDM,1,1,,A,H42O55i18tMET00000000000000,2*6D",
+		"!AIVDM,1,1,,A,H42O55lti4hhhilD3nink000?050,0*40"
+	};
+
+	private final SentenceFactory sf = SentenceFactory.getInstance();
+	private final AISMessageFactory mf = AISMessageFactory.getInstance();
+
+	private AISMessage decode(String nmea) {
+		return mf.create((AISSentence) sf.createParser(nmea));
+	}
+
+	@Test
+	public void testRecordEqualsParser() {
+		for (String nmea : MESSAGES) {
+			AISMessage msg = decode(nmea);
+			AISMessage rec = msg.toRecord();
+			assertNotSame(msg, rec);
+			assertFalse(nmea, rec instanceof AISMessageParser);
+			assertEquals(msg.getMessageType(), rec.getMessageType());
+			assertEquals(msg.getRepeatIndicator(), rec.getRepeatIndicator());
+			assertEquals(msg.getMMSI(), rec.getMMSI());
+
+			// every field exposed by the interfaces is encoded
+			SixbitEncoder expected = AISMessageEncoder.encode(msg);
+			SixbitEncoder actual = AISMessageEncoder.encode(rec);
+			assertEquals(nmea, expected.getPayload(), actual.getPayload());
+		}
+	}
+
+	@Test
+	public void testPositionReport() {
+		AISMessage01 msg = (AISMessage01) decode(MESSAGES[0]);
+		AISMessage01 rec = (AISMessage01) msg.toRecord();
+		assertEquals(msg.getNavigationalStatus(), rec.getNavigationalStatus());
+		assertEquals(msg.getRateOfTurn(), rec.getRateOfTurn());
+		assertEquals(msg.getSpeedOverGround(), rec.getSpeedOverGround());
+		assertEquals(msg.getPositionAccuracy(), rec.getPositionAccuracy());
+		assertEquals(msg.getLatitudeInDegrees(), rec.getLatitudeInDegrees(), 0.0);
+		assertEquals(msg.getLongitudeInDegrees(), rec.getLongitudeInDegrees(), 0.0);
+		assertEquals(msg.getCourseOverGround(), rec.getCourseOverGround());
+		assertEquals(msg.getTrueHeading(), rec.getTrueHeading());
+		assertEquals(msg.getTimeStamp(), rec.getTimeStamp());
+		assertEquals(msg.getManouverIndicator(), rec.getManouverIndicator());
+		assertFalse(rec instanceof AISMessage03);
+	}
+
+	@Test
+	public void testUTCReport() {
+		AISMessage04 msg = (AISMessage04) decode(MESSAGES[1]);
+		AISMessage04 rec = (AISMessage04) msg.toRecord();
+		assertEquals(msg.getUtcYear(), rec.getUtcYear());
+		assertEquals(msg.getUtcSecond(), rec.getUtcSecond());
+		assertEquals(msg.getLatitudeInDegrees(), rec.getLatitudeInDegrees(), 0.0);
+		assertEquals(msg.getLongitudeInDegrees(), rec.getLongitudeInDegrees(), 0.0);
+		assertEquals(msg.getTypeOfEPFD(), rec.getTypeOfEPFD());
+	}
+
+	@Test
+	public void testStaticData() {
+		AISMessage05 msg = (AISMessage05) decode(MESSAGES[2]);
+		AISMessage05 rec = (AISMessage05) msg.toRecord();
+		assertEquals(msg.getName(), rec.getName());
+		assertEquals(msg.getCallSign(), rec.getCallSign());
+		assertEquals(msg.getDestination(), rec.getDestination());
+		assertEquals(msg.getIMONumber(), rec.getIMONumber());
+		assertEquals(msg.getMaximumDraught(), rec.getMaximumDraught());
+		assertEquals(msg.getTypeOfShipAndCargoType(), rec.getTypeOfShipAndCargoType());
+	}
+
+	@Test
+	public void testClassBReport() {
+		AISMessage18 msg = (AISMessage18) decode(MESSAGES[3]);
+		AISMessage18 rec = (AISMessage18) msg.toRecord();
+		assertEquals(msg.getSpeedOverGround(), rec.getSpeedOverGround());
+		assertEquals(msg.getLatitudeInDegrees(), rec.getLatitudeInDegrees(), 0.0);
+		assertEquals(msg.getLongitudeInDegrees(), rec.getLongitudeInDegrees(), 0.0);
+		assertEquals(msg.getTrueHeading(), rec.getTrueHeading());
+		assertFalse(rec instanceof AISMessage19);
+	}
+
+	@Test
+	public void testExtendedClassBReport() {
+		SixbitEncoder out = new SixbitEncoder(312);
+		out.putInt(19, 6).putInt(0, 2).putInt(230123456, 30);
+		out.skip(8).putInt(123, 10).putBoolean(true);
+		out.putInt(12345678, 28).putInt(-2345678, 27);
+		out.putInt(1234, 12).putInt(123, 9).putInt(42, 6).skip(4);
+		out.putString("EXTENDED", 120).putInt(37, 8);
+		out.putInt(10, 9).putInt(5, 9).putInt(2, 6).putInt(3, 6);
+		out.putInt(1, 4).skip(7);
+
+		AISMessage19 msg = new AISMessage19Parser(new Sixbit(out.getPayload(), out.getFillBits()));
+		AISMessage19 rec = (AISMessage19) msg.toRecord();
+		assertEquals(19, rec.getMessageType());
+		assertEquals(230123456, rec.getMMSI());
+		assertEquals(123, rec.getSpeedOverGround());
+		assertTrue(rec.getPositionAccuracy());
+		assertEquals(msg.getLatitudeInDegrees(), rec.getLatitudeInDegrees(), 0.0);
+		assertEquals(msg.getLongitudeInDegrees(), rec.getLongitudeInDegrees(), 0.0);
+		assertEquals(1234, rec.getCourseOverGround());
+		assertEquals(123, rec.getTrueHeading());
+		assertEquals(42, rec.getTimeStamp());
+		assertEquals(msg.getName(), rec.getName());
+		assertEquals(37, rec.getTypeOfShipAndCargoType());
+		assertEquals(10, rec.getBow());
+		assertEquals(5, rec.getStern());
+		assertEquals(2, rec.getPort());
+		assertEquals(3, rec.getStarboard());
+		assertEquals(1, rec.getTypeOfEPFD());
+	}
+
+	@Test
+	public void testStaticDataReport() {
+		AISMessage24 a = (AISMessage24) decode(MESSAGES[4]);
+		AISMessage24 ra = (AISMessage24) a.toRecord();
+		assertEquals(0, ra.getPartNumber());
+		assertEquals(a.getName(), ra.getName());
+
+		AISMessage24 b = (AISMessage24) decode(MESSAGES[5]);
+		AISMessage24 rb = (AISMessage24) b.toRecord();
+		assertEquals(1, rb.getPartNumber());
+		assertEquals(b.getCallSign(), rb.getCallSign());
+		assertEquals(b.getVendorId(), rb.getVendorId());
+		assertEquals(b.getSerialNumber(), rb.getSerialNumber());
+	}
+
+	@Test
+	public void testSARAircraftReport() {
+		SixbitEncoder out = new SixbitEncoder(168);
+		out.putInt(9, 6).putInt(0, 2).putInt(111232511, 30);
+		out.putInt(1500, 12).putInt(250, 10).putBoolean(true);
+		out.putInt(12345678, 28).putInt(-2345678, 27);
+		out.putInt(1234, 12).putInt(42, 6).skip(8).putBoolean(true);
+		out.skip(3).putBoolean(true).putBoolean(true).putInt(0x12345, 20);
+
+		AISMessage09 msg = new AISMessage09Parser(new Sixbit(out.getPayload(), out.getFillBits()));
+		AISMessage09 rec = (AISMessage09) msg.toRecord();
+		assertFalse(rec instanceof AISMessageParser);
+		assertEquals(9, rec.getMessageType());
+		assertEquals(111232511, rec.getMMSI());
+		assertEquals(1500, rec.getAltitude());
+		assertEquals(250, rec.getSpeedOverGround());
+		assertTrue(rec.getPositionAccuracy());
+		assertEquals(msg.getLatitudeInDegrees(), rec.getLatitudeInDegrees(), 0.0);
+		assertEquals(msg.getLongitudeInDegrees(), rec.getLongitudeInDegrees(), 0.0);
+		assertEquals(1234, rec.getCourseOverGround());
+		assertEquals(42, rec.getTimeStamp());
+		assertEquals(msg.getDTEFlag(), rec.getDTEFlag());
+		assertEquals(msg.getAssignedModeFlag(), rec.getAssignedModeFlag());
+		assertEquals(msg.getRAIMFlag(), rec.getRAIMFlag());
+		assertEquals(msg.getRadioStatus(), rec.getRadioStatus());
+	}
+
+	@Test
+	public void testAidToNavigationReport() {
+		SixbitEncoder out = new SixbitEncoder(290);
+		out.putInt(21, 6).putInt(0, 2).putInt(992309000, 30);
+		out.putInt(13, 5).putString("NORTH BUOY", 120).putBoolean(true);
+		out.putInt(12345678, 28).putInt(-2345678, 27);
+		out.putInt(10, 9).putInt(5, 9).putInt(2, 6).putInt(3, 6);
+		out.putInt(7, 4).putInt(61, 6).putBoolean(true).putInt(200, 8);
+		out.putBoolean(true).putBoolean(true).putBoolean(false).skip(1);
+		out.putString("EXT", 18);
+
+		AISMessage21 msg = new AISMessage21Parser(new Sixbit(out.getPayload(), out.getFillBits()));
+		AISMessage21 rec = (AISMessage21) msg.toRecord();
+		assertFalse(rec instanceof AISMessageParser);
+		assertEquals(21, rec.getMessageType());
+		assertEquals(992309000, rec.getMMSI());
+		assertEquals(13, rec.getAidType());
+		assertEquals(msg.getName(), rec.getName());
+		assertTrue(rec.getPositionAccuracy());
+		assertEquals(msg.getLatitudeInDegrees(), rec.getLatitudeInDegrees(), 0.0);
+		assertEquals(msg.getLongitudeInDegrees(), rec.getLongitudeInDegrees(), 0.0);
+		assertEquals(10, rec.getBow());
+		assertEquals(5, rec.getStern());
+		assertEquals(2, rec.getPort());
+		assertEquals(3, rec.getStarboard());
+		assertEquals(7, rec.getTypeOfEPFD());
+		assertEquals(61, rec.getUtcSecond());
+		assertEquals(msg.getOffPositionIndicator(), rec.getOffPositionIndicator());
+		assertEquals(200, rec.getRegional());
+		assertEquals(msg.getRAIMFlag(), rec.getRAIMFlag());
+		assertEquals(msg.getVirtualAidFlag(), rec.getVirtualAidFlag());
+		assertEquals(msg.getAssignedModeFlag(), rec.getAssignedModeFlag());
+		assertEquals(msg.getNameExtension(), rec.getNameExtension());
+	}
+
+	@Test
+	public void testLongRangeReport() {
+		SixbitEncoder out = new SixbitEncoder(96);
+		out.putInt(27, 6).putInt(0, 2).putInt(206914217, 30);
+		out.putBoolean(true).putBoolean(false).putInt(5, 4);
+		out.putInt(-6000, 18).putInt(36000, 17).putInt(12, 6).putInt(90, 9);
+		out.putBoolean(true).skip(1);
+
+		AISMessage27 msg = new AISMessage27Parser(new Sixbit(out.getPayload(), out.getFillBits()));
+		AISMessage27 rec = (AISMessage27) msg.toRecord();
+		assertFalse(rec instanceof AISMessageParser);
+		assertEquals(27, rec.getMessageType());
+		assertEquals(206914217, rec.getMMSI());
+		assertTrue(rec.getPositionAccuracy());
+		assertFalse(rec.getRAIMFlag());
+		assertEquals(5, rec.getNavigationalStatus());
+		assertEquals(-10.0, rec.getLongitudeInDegrees(), 1e-9);
+		assertEquals(60.0, rec.getLatitudeInDegrees(), 1e-9);
+		assertEquals(12, rec.getSpeedOverGround());
+		assertEquals(90, rec.getCourseOverGround());
+		assertTrue(rec.getPositionLatency());
+	}
+
+	@Test
+	public void testRecordOfRecord() {
+		AISMessage rec = decode(MESSAGES[0]).toRecord();
+		assertSame(rec, rec.toRecord());
+	}
+
+	@Test
+	public void testNoCompactForm() {
+		AISMessageParser msg = new AISMessageParser(
+			(AISSentence) sf.createParser("!AIVDM,1,1,,A,13KF5P@01sQj:;0RKO=:THLt0000,0*01"));
+		assertSame(msg, msg.toRecord());
+	}
+}
@@ -0,0 +1,141 @@
+/*
+ * SixbitStringCacheTest.java
+ * Copyright (C) 2026 Kimmo Tuukkanen
+ *
+ * This file is part of Java Marine API.
+ * <http://ktuukkan.github.io/marine-api/>
+ *
+ * Java Marine API is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * Java Marine API is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Java Marine API. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sf.marineapi.ais.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.fail;
+
+import org.junit.After;
+import org.junit.Test;
+
+/**
+ * @author Kimmo Tuukkanen
+ */
+public class SixbitStringCacheTest {
+
+	@After
+	public void tearDown() {
+		SixbitStringCache.setInstance(new SixbitStringCache(SixbitStringCache.DEFAULT_SIZE));
+	}
+
+	private Sixbit encode(String text, int width) {
+		SixbitEncoder out = new SixbitEncoder();
+		out.putInt(5, 6).putString(text, width).putInt(1, 6);
+		return new Sixbit(out.getPayload(), out.getFillBits());
+	}
+
+	@Test
+	public void testConstructor() {
+		assertEquals(16, new SixbitStringCache(16).size());
+		assertEquals(32, new SixbitStringCache(17).size());
+		assertEquals(2, new SixbitStringCache(1).size());
+		try {
+			new SixbitStringCache(0);
+			fail("Did not throw IllegalArgumentException");
+		} catch (IllegalArgumentException e) {
+			// pass
+		}
+	}
+
+	@Test
+	public void testGetString() {
+		Sixbit sb = encode("MARINE API 1-2.3", 120);
+		assertEquals("MARINE API 1-2.3", sb.getString(6, 126));
+		assertEquals("MARINE", sb.getString(6, 42));
+		assertEquals("A", sb.getString(12, 18));
+		assertEquals("", sb.getString(6, 6));
+	}
+
+	@Test
+	public void testGetStringAllCharacters() {
+		StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < 64; i++) {
+			sb.append(SixbitStringCache.toContent(i));
+		}
+		String all = sb.toString().substring(1);
+		Sixbit six = encode(all, all.length() * 6);
+		assertEquals(all, six.getString(6, 6 + all.length() * 6));
+	}
+
+	@Test
+	public void testStripsTrailingAtSigns() {
+		Sixbit sb = encode("CALL", 42);
+		assertEquals("CALL", sb.getString(6, 48));
+
+		Sixbit empty = encode("", 42);
+		assertEquals(Sixbit.stripAtSigns("@@@@@@@"), empty.getString(6, 48));
+	}
+
+	@Test
+	public void testInterning() {
+		String a = encode("SEA SERPENT", 120).getString(6, 126);
+		String b = encode("SEA SERPENT", 120).getString(6, 126);
+		assertEquals("SEA SERPENT", a);
+		assertSame(a, b);
+
+		// same text in field of different length has different bits
+		String c = encode("SEA SERPENT", 114).getString(6, 120);
+		assertEquals(a, c);
+	}
+
+	@Test
+	public void testLongFieldNotCached() {
+		String text = "THIS FIELD IS TOO LONG FOR CACHE";
+		int width = text.length() * 6;
+		String a = encode(text, width).getString(6, 6 + width);
+		String b = encode(text, width).getString(6, 6 + width);
+		assertEquals(text, a);
+		assertNotSame(a, b);
+	}
+
+	@Test
+	public void testDisabled() {
+		SixbitStringCache.setInstance(null);
+		assertNull(SixbitStringCache.getInstance());
+		String a = encode("NO CACHE", 120).getString(6, 126);
+		String b = encode("NO CACHE", 120).getString(6, 126);
+		assertEquals("NO CACHE", a);
+		assertNotSame(a, b);
+	}
+
+	@Test
+	public void testCollisionsReplaceEntries() {
+		SixbitStringCache cache = new SixbitStringCache(2);
+		SixbitStringCache.setInstance(cache);
+		for (int i = 0; i < 100; i++) {
+			String name = "VESSEL " + i;
+			assertEquals(name, encode(name, 120).getString(6, 126));
+		}
+		assertEquals(2, cache.size());
+	}
+
+	@Test
+	public void testClear() {
+		String a = encode("CLEARED", 120).getString(6, 126);
+		SixbitStringCache.getInstance().clear();
+		String b = encode("CLEARED", 120).getString(6, 126);
+		assertEquals(a, b);
+		assertNotSame(a, b);
+	}
+}
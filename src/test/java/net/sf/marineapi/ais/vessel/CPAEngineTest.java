@@ -0,0 +1,207 @@
+package net.sf.marineapi.ais.vessel;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import net.sf.marineapi.nmea.parser.SentenceFactory;
+import net.sf.marineapi.nmea.sentence.TTMSentence;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author Kimmo Tuukkanen
+ */
+public class CPAEngineTest implements CPAListener {
+
+	private CPAEngine engine;
+	private List<CPAEvent> events;
+
+	@Before
+	public void setUp() {
+		// 20 km range, alarm within 1 nm in 30 minutes
+		engine = new CPAEngine(20000, 1852, 1800);
+		engine.addListener(this);
+		events = new ArrayList<CPAEvent>();
+	}
+
+	public void cpaChanged(CPAEvent event) {
+		events.add(event);
+	}
+
+	@Test
+	public void testHeadOn() {
+		// 0.2 degrees of longitude at 60N is about 11.1 km
+		engine.update(1, 60.0, 25.0, 10, 90, 0);
+		engine.update(2, 60.0, 25.2, 10, 270, 0);
+
+		assertEquals(1, events.size());
+		CPAEvent e = events.get(0);
+		assertTrue(e.isAlarm());
+		assertEquals(1, e.getFirst());
+		assertEquals(2, e.getSecond());
+		assertEquals(11112, e.getDistance(), 1);
+		assertEquals(0, e.getCPA(), 1);
+		assertEquals(11112 / (20 * 1852.0 / 3600), e.getTCPA(), 1);
+		assertTrue(engine.isAlarm(1, 2));
+		assertTrue(engine.isAlarm(2, 1));
+	}
+
+	@Test
+	public void testParallelCourses() {
+		engine.update(1, 60.0, 25.0, 10, 0, 0);
+		engine.update(2, 60.0, 25.1, 10, 0, 0);
+
+		assertTrue(events.isEmpty());
+		CPAEvent e = engine.getEncounter(1, 2);
+		assertNotNull(e);
+		assertEquals(e.getDistance(), e.getCPA(), 0.001);
+		assertFalse(e.isAlarm());
+	}
+
+	@Test
+	public void testDeadReckoning() {
+		engine.update(1, 60.0, 25.0, 10, 90, 0);
+		// 10 minutes later, 1 has closed in by about 3 km
+		engine.update(2, 60.0, 25.2, 0, 0, 600000);
+
+		CPAEvent e = engine.getEncounter(1, 2);
+		assertEquals(11112 - 10 * 1852 / 6.0, e.getDistance(), 1);
+		assertEquals(0, e.getCPA(), 1);
+	}
+
+	@Test
+	public void testAlarmCleared() {
+		engine.update(1, 60.0, 25.0, 10, 90, 0);
+		engine.update(2, 60.0, 25.2, 10, 270, 0);
+		assertTrue(engine.isAlarm(1, 2));
+
+		// 2 turns away
+		engine.update(2, 60.0, 25.2, 10, 90, 1000);
+		assertEquals(2, events.size());
+		assertFalse(events.get(1).isAlarm());
+		assertFalse(engine.isAlarm(1, 2));
+	}
+
+	@Test
+	public void testAlarmClearedOutOfRange() {
+		engine.update(1, 60.0, 25.0, 10, 90, 0);
+		engine.update(2, 60.0, 25.2, 10, 270, 0);
+		engine.update(2, 61.0, 25.2, 10, 270, 1000);
+
+		assertEquals(2, events.size());
+		assertFalse(events.get(1).isAlarm());
+	}
+
+	@Test
+	public void testRemove() {
+		engine.update(1, 60.0, 25.0, 10, 90, 0);
+		engine.update(2, 60.0, 25.2, 10, 270, 0);
+
+		assertTrue(engine.remove(2));
+		assertFalse(engine.remove(2));
+		assertEquals(2, events.size());
+		assertFalse(events.get(1).isAlarm());
+		assertFalse(engine.isAlarm(1, 2));
+		assertNull(engine.getEncounter(1, 2));
+		assertEquals(1, engine.size());
+	}
+
+	@Test
+	public void testVessel() {
+		VesselTable table = new VesselTable();
+		engine.update(table.update(VesselTableTest.message(VesselTableTest.POSITION), 1000));
+		engine.update(table.update(VesselTableTest.message(VesselTableTest.CLASS_B), 1000));
+
+		CPAEvent e = engine.getEncounter(230000001, 230000002);
+		assertNotNull(e);
+		assertTrue(e.getDistance() > 0);
+	}
+
+	@Test
+	public void testRadarTargetWithoutOwnShip() {
+		SentenceFactory sf = SentenceFactory.getInstance();
+		TTMSentence ttm = (TTMSentence) sf.createParser(
+			"$RATTM,11,1.0,90.0,T,10.0,270.0,T,0.0,6.0,N,NAME,T,,175550.24,A*0F");
+		try {
+			engine.update(ttm, 0);
+			fail("Did not throw without own ship");
+		} catch (IllegalStateException ise) {
+			assertEquals("Own ship position not set", ise.getMessage());
+		}
+	}
+
+	@Test
+	public void testRadarTarget() {
+		SentenceFactory sf = SentenceFactory.getInstance();
+		TTMSentence ttm = (TTMSentence) sf.createParser(
+			"$RATTM,11,1.0,90.0,T,10.0,270.0,T,0.0,6.0,N,NAME,T,,175550.24,A*0F");
+
+		engine.setOwnShip(60.0, 25.0, 0, 0, 0);
+		engine.update(ttm, 0);
+
+		assertEquals(1, events.size());
+		CPAEvent e = events.get(0);
+		assertEquals(CPAEngine.getRadarTargetId(11), e.getFirst());
+		assertEquals(CPAEngine.OWN_SHIP, e.getSecond());
+		assertEquals(1852, e.getDistance(), 1);
+		assertEquals(360, e.getTCPA(), 1);
+	}
+
+	@Test
+	public void testRadarTargetRelative() {
+		SentenceFactory sf = SentenceFactory.getInstance();
+		engine.setOwnShip(60.0, 25.0, 0, 0, 0);
+		String[] relative = {
+			"$RATTM,11,1.0,90.0,R,10.0,270.0,T,0.0,6.0,N,NAME,T,,175550.24,A*09",
+			"$RATTM,11,1.0,90.0,T,10.0,270.0,R,0.0,6.0,N,NAME,T,,175550.24,A*09"
+		};
+		for (String nmea : relative) {
+			TTMSentence ttm = (TTMSentence) sf.createParser(nmea);
+			try {
+				engine.update(ttm, 0);
+				fail("Did not throw with relative values");
+			} catch (IllegalArgumentException iae) {
+				assertEquals("Relative bearing or course not supported", iae.getMessage());
+			}
+		}
+		assertTrue(events.isEmpty());
+		assertEquals(1, engine.size());
+	}
+
+	@Test
+	public void testIncrementalMatchesFullEvaluation() {
+		// converging traffic on a grid, updated one by one
+		int n = 0;
+		for (int i = 0; i < 20; i++) {
+			for (int j = 0; j < 20; j++) {
+				n++;
+				engine.update(n, 60 + i * 0.05, 25 + j * 0.1, 12, (i * 37 + j * 53) % 360, 0);
+			}
+		}
+		int alarms = 0;
+		for (CPAEvent e : events) {
+			alarms += e.isAlarm() ? 1 : -1;
+		}
+		int expected = 0;
+		for (int a = 1; a <= n; a++) {
+			for (int b = a + 1; b <= n; b++) {
+				CPAEvent e = engine.getEncounter(a, b);
+				if (e.getDistance() <= 20000 && e.getCPA() <= 1852
+					&& e.getTCPA() >= 0 && e.getTCPA() <= 1800) {
+					expected++;
+					assertTrue(engine.isAlarm(a, b));
+				}
+			}
+		}
+		assertTrue(expected > 0);
+		assertEquals(expected, alarms);
+	}
+}
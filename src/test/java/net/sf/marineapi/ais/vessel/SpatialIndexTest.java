@@ -0,0 +1,124 @@
+package net.sf.marineapi.ais.vessel;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import net.sf.marineapi.nmea.util.Position;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author Kimmo Tuukkanen
+ */
+public class SpatialIndexTest {
+
+	private SpatialIndex index;
+
+	@Before
+	public void setUp() {
+		index = new SpatialIndex();
+		index.update(1, 60.0, 25.0);
+		index.update(2, 60.05, 25.05);
+		index.update(3, 60.5, 25.0);
+		index.update(4, 59.0, 24.0);
+		index.update(5, 10.0, 179.95);
+		index.update(6, 10.0, -179.95);
+	}
+
+	private static int[] sorted(int[] a) {
+		Arrays.sort(a);
+		return a;
+	}
+
+	@Test
+	public void testFindWithinBox() {
+		assertArrayEquals(new int[] { 1, 2 }, sorted(index.findWithin(59.9, 24.9, 60.1, 25.1)));
+		assertArrayEquals(new int[] { 1, 2, 3, 4 }, sorted(index.findWithin(58, 20, 61, 30)));
+		assertEquals(0, index.findWithin(0, 0, 1, 1).length);
+	}
+
+	@Test
+	public void testFindWithinBoxAcrossAntimeridian() {
+		assertArrayEquals(new int[] { 5, 6 }, sorted(index.findWithin(9, 179, 11, -179)));
+		assertArrayEquals(new int[] { 5 }, sorted(index.findWithin(9, 179, 11, 180)));
+	}
+
+	@Test
+	public void testFindWithinRadius() {
+		// 1 and 2 are about 3.6 nm apart
+		assertArrayEquals(new int[] { 1 }, sorted(index.findWithin(60.0, 25.0, 1000)));
+		assertArrayEquals(new int[] { 1, 2 }, sorted(index.findWithin(60.0, 25.0, 10 * 1852)));
+		assertArrayEquals(new int[] { 1, 2, 3 }, sorted(index.findWithin(60.0, 25.0, 40 * 1852)));
+		assertArrayEquals(new int[] { 5, 6 }, sorted(index.findWithin(10.0, 180.0, 6000)));
+	}
+
+	@Test
+	public void testFindNearest() {
+		assertArrayEquals(new int[] { 1, 2, 3 }, index.findNearest(60.01, 25.0, 3));
+		assertArrayEquals(new int[] { 6, 5 }, index.findNearest(10.0, -179.99, 2));
+		assertEquals(6, index.findNearest(0, 0, 10).length);
+		assertEquals(0, index.findNearest(0, 0, 0).length);
+	}
+
+	@Test
+	public void testUpdateMovesBetweenCells() {
+		index.update(1, 0.5, 0.5);
+		assertArrayEquals(new int[] { 2 }, index.findWithin(59.9, 24.9, 60.1, 25.1));
+		assertArrayEquals(new int[] { 1 }, index.findWithin(0, 0, 1, 1));
+		assertEquals(6, index.size());
+	}
+
+	@Test
+	public void testRemove() {
+		assertTrue(index.remove(1));
+		assertFalse(index.remove(1));
+		assertFalse(index.contains(1));
+		assertEquals(5, index.size());
+
+		index.update(2, 91.0, 181.0);
+		assertFalse(index.contains(2));
+	}
+
+	@Test
+	public void testDistanceMatchesPosition() {
+		Position p1 = new Position(60.0, 25.0);
+		Position p2 = new Position(60.5, 26.0);
+		assertEquals(p1.distanceTo(p2), SpatialIndex.distance(60.0, 25.0, 60.5, 26.0), 0.01);
+	}
+
+	@Test
+	public void testAgainstLinearScan() {
+		Random rnd = new Random(1);
+		SpatialIndex idx = new SpatialIndex(0.5);
+		double[] lat = new double[2000];
+		double[] lon = new double[2000];
+		for (int i = 0; i < lat.length; i++) {
+			lat[i] = 55 + rnd.nextDouble() * 10;
+			lon[i] = 15 + rnd.nextDouble() * 15;
+			idx.update(i + 1, lat[i], lon[i]);
+		}
+
+		final double radius = 30000;
+		int expected = 0;
+		int nearest = 0;
+		double best = Double.MAX_VALUE;
+		for (int i = 0; i < lat.length; i++) {
+			double d = SpatialIndex.distance(60, 20, lat[i], lon[i]);
+			if (d <= radius) {
+				expected++;
+			}
+			if (d < best) {
+				best = d;
+				nearest = i + 1;
+			}
+		}
+		assertEquals(expected, idx.findWithin(60, 20, radius).length);
+		assertEquals(nearest, idx.findNearest(60, 20, 1)[0]);
+	}
+}
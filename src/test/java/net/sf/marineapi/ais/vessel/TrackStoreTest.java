@@ -0,0 +1,178 @@
+/*
+ * TrackStoreTest.java
+ * Copyright (C) 2026 Kimmo Tuukkanen
+ *
+ * This file is part of Java Marine API.
+ * <http://ktuukkan.github.io/marine-api/>
+ *
+ * Java Marine API is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * Java Marine API is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Java Marine API. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sf.marineapi.ais.vessel;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.List;
+
+import net.sf.marineapi.nmea.util.Position;
+
+import org.junit.Test;
+
+/**
+ * @author Kimmo Tuukkanen
+ */
+public class TrackStoreTest {
+
+	@Test
+	public void testConstructorWithInvalidCapacity() {
+		try {
+			new TrackStore(0, 0);
+			fail("Did not throw with zero capacity");
+		} catch (IllegalArgumentException iae) {
+			// pass
+		}
+	}
+
+	@Test
+	public void testAdd() {
+		TrackStore store = new TrackStore(10, 0);
+		assertTrue(store.add(1, 1000, 60.0, 25.0, 100, 900, 90));
+		assertTrue(store.add(1, 2000, 60.1, 25.1, 101, 901, 91));
+		assertFalse(store.add(1, 1500, 60.2, 25.2, 0, 0, 0));
+
+		Track t = store.getTrack(1);
+		assertEquals(2, t.size());
+		assertEquals(1, t.getMMSI());
+		assertEquals(1000, t.getStartTime());
+		assertEquals(2000, t.getEndTime());
+		assertEquals(60.1, t.getLatitude(1), 1e-6);
+		assertEquals(25.1, t.getLongitude(1), 1e-6);
+		assertEquals(101, t.getSpeedOverGround(1));
+		assertEquals(901, t.getCourseOverGround(1));
+		assertEquals(91, t.getTrueHeading(1));
+		assertNull(store.getTrack(2));
+	}
+
+	@Test
+	public void testAddVessel() {
+		TrackStore store = new TrackStore(10, 0);
+		VesselTable table = new VesselTable();
+		Vessel v = table.update(VesselTableTest.message(VesselTableTest.POSITION), 1000);
+		assertTrue(store.add(v));
+		Track t = store.getTrack(v.getMMSI());
+		assertEquals(v.getLatitude(), t.getLatitude(0), 1e-6);
+		assertEquals(v.getSpeedOverGround(), t.getSpeedOverGround(0));
+	}
+
+	@Test
+	public void testRingBuffer() {
+		TrackStore store = new TrackStore(3, 0);
+		for (int i = 0; i < 5; i++) {
+			store.add(1, i * 1000, 60 + i * 0.01, 25, 0, 0, 0);
+		}
+		Track t = store.getTrack(1);
+		assertEquals(3, t.size());
+		assertEquals(2000, t.getStartTime());
+		assertEquals(4000, t.getEndTime());
+		assertEquals(60.02, t.getLatitude(0), 1e-6);
+		try {
+			t.getTime(3);
+			fail("Did not throw with index out of range");
+		} catch (IndexOutOfBoundsException e) {
+			// pass
+		}
+	}
+
+	@Test
+	public void testTimeRange() {
+		TrackStore store = new TrackStore(100, 0);
+		for (int i = 0; i < 10; i++) {
+			store.add(1, i * 1000, 60, 25 + i * 0.01, 0, 0, 0);
+		}
+		Track t = store.getTrack(1);
+		assertEquals(0, t.indexOf(-1));
+		assertEquals(3, t.indexOf(2500));
+		assertEquals(10, t.indexOf(9001));
+
+		List<Position> p = t.getPositions(2500, 5000);
+		assertEquals(3, p.size());
+		assertEquals(25.03, p.get(0).getLongitude(), 1e-6);
+		assertEquals(25.05, p.get(2).getLongitude(), 1e-6);
+	}
+
+	@Test
+	public void testInterpolation() {
+		TrackStore store = new TrackStore(10, 0);
+		store.add(1, 0, 60.0, 179.9, 0, 0, 0);
+		store.add(1, 1000, 60.1, -179.9, 0, 0, 0);
+
+		Track t = store.getTrack(1);
+		Position p = t.getPosition(500);
+		assertEquals(60.05, p.getLatitude(), 1e-6);
+		assertEquals(180.0, Math.abs(p.getLongitude()), 1e-6);
+		assertEquals(60.1, t.getPosition(1000).getLatitude(), 1e-6);
+		assertNull(t.getPosition(-1));
+		assertNull(t.getPosition(1001));
+	}
+
+	@Test
+	public void testMinInterval() {
+		TrackStore store = new TrackStore(10, 0, 10000, 0, 0);
+		assertTrue(store.add(1, 0, 60, 25, 0, 0, 0));
+		assertFalse(store.add(1, 5000, 60, 25.001, 0, 0, 0));
+		assertTrue(store.add(1, 10000, 60, 25.002, 0, 0, 0));
+		assertEquals(2, store.getTrack(1).size());
+	}
+
+	@Test
+	public void testSimplification() {
+		// 10 m tolerance, straight line with a turn in the middle
+		TrackStore store = new TrackStore(100, 0, 0, 10, 0);
+		for (int i = 0; i <= 10; i++) {
+			store.add(1, i * 1000, 60, 25 + i * 0.001, 0, 0, 0);
+		}
+		for (int i = 1; i <= 10; i++) {
+			store.add(1, 10000 + i * 1000, 60 + i * 0.001, 25.01, 0, 0, 0);
+		}
+		Track t = store.getTrack(1);
+		assertEquals(3, t.size());
+		assertEquals(10000, t.getTime(1));
+		assertEquals(20000, t.getEndTime());
+
+		// maximum interval limits the dropped points
+		store = new TrackStore(100, 0, 0, 10, 4000);
+		for (int i = 0; i <= 10; i++) {
+			store.add(1, i * 1000, 60, 25 + i * 0.001, 0, 0, 0);
+		}
+		assertEquals(4, store.getTrack(1).size());
+	}
+
+	@Test
+	public void testEvict() {
+		TrackStore store = new TrackStore(10, 5000);
+		store.add(1, 0, 60, 25, 0, 0, 0);
+		store.add(1, 4000, 60, 25, 0, 0, 0);
+		store.add(2, 1000, 60, 25, 0, 0, 0);
+
+		assertEquals(1, store.evict(7000));
+		assertEquals(1, store.size());
+		assertEquals(1, store.getTrack(1).size());
+		assertEquals(4000, store.getTrack(1).getStartTime());
+		assertEquals(1, store.remove(1).getMMSI());
+		assertEquals(0, store.size());
+	}
+}
@@ -0,0 +1,130 @@
+package net.sf.marineapi.ais.vessel;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import net.sf.marineapi.ais.message.AISMessage;
+import net.sf.marineapi.ais.parser.AISMessageFactory;
+import net.sf.marineapi.nmea.parser.SentenceFactory;
+import net.sf.marineapi.nmea.sentence.AISSentence;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author Kimmo Tuukkanen
+ */
+public class VesselTableTest {
+
+	// MMSI 230000001, type 1 and type 5
+	public static final String POSITION = "!AIVDM,1,1,,A,13KF5P@01sQj:;0RKO=:THLt0000,0*01";
+	public static final String STATIC = "!AIVDM,1,1,,A,53KF5P@2<hW4t`8<000l58TpF050T00000000016<PD:<6b<NEB1C4jCRj@000000000000,2*62";
+
+	// MMSI 230000002, type 18
+	public static final String CLASS_B = "!AIVDM,1,1,,A,B3KF5PP0=hLW3P8UD@0pCwU00000,0*0A";
+
+	private VesselTable table;
+
+	public static AISMessage message(String nmea) {
+		SentenceFactory sf = SentenceFactory.getInstance();
+		AISSentence s = (AISSentence) sf.createParser(nmea);
+		return AISMessageFactory.getInstance().create(s);
+	}
+
+	@Before
+	public void setUp() {
+		table = new VesselTable(60000);
+	}
+
+	@Test
+	public void testPositionUpdate() {
+		Vessel v = table.update(message(POSITION), 1000);
+		assertNotNull(v);
+		assertEquals(230000001, v.getMMSI());
+		assertTrue(v.hasPosition());
+		assertEquals(60.1699, v.getLatitude(), 0.0001);
+		assertEquals(24.9384, v.getLongitude(), 0.0001);
+		assertEquals(123, v.getSpeedOverGround());
+		assertEquals(2705, v.getCourseOverGround());
+		assertEquals(270, v.getTrueHeading());
+		assertEquals(1000, v.getPositionTime());
+		assertEquals(-1, v.getStaticTime());
+		assertNull(v.getName());
+		assertSame(v, table.get(230000001));
+	}
+
+	@Test
+	public void testStaticMerge() {
+		table.update(message(POSITION), 1000);
+		Vessel v = table.update(message(STATIC), 2000);
+
+		assertEquals(1, table.size());
+		assertEquals("MARINE API", v.getName());
+		assertEquals("OJBC", v.getCallSign());
+		assertEquals("HELSINKI", v.getDestination());
+		assertEquals(9224817, v.getIMONumber());
+		assertEquals(70, v.getTypeOfShipAndCargoType());
+		assertEquals(100, v.getBow());
+		assertEquals(12, v.getStarboard());
+		assertEquals(85, v.getMaximumDraught());
+		assertEquals(60.1699, v.getLatitude(), 0.0001);
+		assertEquals(1000, v.getPositionTime());
+		assertEquals(2000, v.getStaticTime());
+		assertEquals(2000, v.getLastUpdate());
+	}
+
+	@Test
+	public void testStaticOnly() {
+		Vessel v = table.update(message(STATIC), 2000);
+		assertFalse(v.hasPosition());
+		assertEquals(Vessel.NO_HEADING, v.getTrueHeading());
+		assertEquals(Vessel.NO_SPEED, v.getSpeedOverGround());
+	}
+
+	@Test
+	public void testClassB() {
+		table.update(message(POSITION), 1000);
+		Vessel v = table.update(message(CLASS_B), 1000);
+		assertEquals(230000002, v.getMMSI());
+		assertEquals(55, v.getSpeedOverGround());
+		assertEquals(Vessel.NO_HEADING, v.getTrueHeading());
+		assertEquals(2, table.size());
+		assertEquals(2, table.getVessels().size());
+	}
+
+	@Test
+	public void testEvict() {
+		table.update(message(POSITION), 1000);
+		table.update(message(CLASS_B), 50000);
+
+		assertEquals(0, table.evict(60000));
+		assertEquals(1, table.evict(61001));
+		assertFalse(table.contains(230000001));
+		assertTrue(table.contains(230000002));
+		assertEquals(1, table.size());
+	}
+
+	@Test
+	public void testEvictWithoutTimeToLive() {
+		VesselTable t = new VesselTable();
+		t.update(message(POSITION), 1000);
+		assertEquals(0, t.evict(Long.MAX_VALUE));
+		assertEquals(1, t.size());
+	}
+
+	@Test
+	public void testRemoveAndClear() {
+		table.update(message(POSITION), 1000);
+		table.update(message(CLASS_B), 1000);
+		assertNotNull(table.remove(230000001));
+		assertNull(table.remove(230000001));
+		assertEquals(1, table.size());
+		table.clear();
+		assertEquals(0, table.size());
+		assertNull(table.get(230000002));
+	}
+}
@@ -0,0 +1,184 @@
+/*
+ * FlightRecordingTest.java
+ * Copyright (C) 2026 Kimmo Tuukkanen
+ *
+ * This file is part of Java Marine API.
+ * <http://ktuukkan.github.io/marine-api/>
+ *
+ * Java Marine API is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * Java Marine API is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Java Marine API. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sf.marineapi.jfr;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import net.sf.marineapi.ais.event.AbstractAISMessageListener;
+import net.sf.marineapi.ais.message.AISMessage;
+import net.sf.marineapi.nmea.event.AbstractSentenceListener;
+import net.sf.marineapi.nmea.event.SentenceEvent;
+import net.sf.marineapi.nmea.io.SentenceReader;
+import net.sf.marineapi.nmea.parser.GGATest;
+import net.sf.marineapi.nmea.parser.HDTTest;
+import net.sf.marineapi.nmea.parser.SentenceFactory;
+import net.sf.marineapi.nmea.sentence.AISSentence;
+import net.sf.marineapi.nmea.sentence.GGASentence;
+import net.sf.marineapi.provider.HeadingProvider;
+import net.sf.marineapi.provider.event.HeadingEvent;
+import net.sf.marineapi.provider.event.HeadingListener;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+public class FlightRecordingTest {
+
+	private Recording recording;
+
+	@Before
+	public void setUp() {
+		recording = new Recording();
+		recording.enable("net.sf.marineapi.Read");
+		recording.enable("net.sf.marineapi.Validate");
+		recording.enable("net.sf.marineapi.Parse");
+		recording.enable("net.sf.marineapi.Dispatch");
+		recording.enable("net.sf.marineapi.AISDecode");
+		recording.enable("net.sf.marineapi.ProviderUpdate");
+		recording.start();
+	}
+
+	@After
+	public void tearDown() {
+		recording.close();
+	}
+
+	@Test
+	public void testEnabled() {
+		assertTrue(FlightRecording.ENABLED);
+	}
+
+	@Test
+	public void testReaderEvents() throws Exception {
+
+		String data = "invalid\r\n" + GGATest.EXAMPLE + "\r\n";
+		SentenceReader reader = new SentenceReader(new ByteArrayInputStream(data.getBytes()));
+		final CountDownLatch done = new CountDownLatch(1);
+		reader.addSentenceListener(new AbstractSentenceListener<GGASentence>() {
+			@Override
+			public void sentenceRead(GGASentence sentence) {
+				done.countDown();
+			}
+		});
+		reader.start();
+		assertTrue(done.await(5, TimeUnit.SECONDS));
+		reader.stop();
+
+		List<RecordedEvent> events = stop();
+
+		RecordedEvent parse = find(events, "net.sf.marineapi.Parse");
+		assertEquals("GP", parse.getString("talkerId"));
+		assertEquals("GGA", parse.getString("sentenceId"));
+		assertEquals(GGATest.EXAMPLE.length(), parse.getInt("length"));
+
+		RecordedEvent dispatch = find(events, "net.sf.marineapi.Dispatch");
+		assertEquals("GGA", dispatch.getString("sentenceId"));
+
+		int valid = 0;
+		int invalid = 0;
+		for (RecordedEvent e : events) {
+			if ("net.sf.marineapi.Validate".equals(e.getEventType().getName())) {
+				if (e.getBoolean("valid")) {
+					valid++;
+				} else {
+					invalid++;
+				}
+			}
+		}
+		assertEquals(1, valid);
+		assertEquals(1, invalid);
+
+		find(events, "net.sf.marineapi.Read");
+	}
+
+	@Test
+	public void testAISDecodeEvent() throws Exception {
+
+		SentenceFactory sf = SentenceFactory.getInstance();
+		AbstractAISMessageListener<AISMessage> listener = new AbstractAISMessageListener<AISMessage>() {
+			@Override
+			public void onMessage(AISMessage msg) {
+			}
+		};
+		listener.sentenceRead((AISSentence) sf.createParser(
+			"!AIVDM,2,1,3,B,55P5TL01VIaAL@7WKO@mBplU@<PDhh000000001S;AJ::4A80?4i@E53,0*3E"));
+		listener.sentenceRead((AISSentence) sf.createParser(
+			"!AIVDM,2,2,3,B,1@0000000000000,2*55"));
+
+		RecordedEvent e = find(stop(), "net.sf.marineapi.AISDecode");
+		assertEquals(5, e.getInt("messageType"));
+		assertEquals(2, e.getInt("fragments"));
+	}
+
+	@Test
+	public void testProviderUpdateEvent() throws Exception {
+
+		SentenceReader reader = new SentenceReader(new ByteArrayInputStream(new byte[0]));
+		HeadingProvider provider = new HeadingProvider(reader);
+		provider.addListener(new HeadingListener() {
+			@Override
+			public void providerUpdate(HeadingEvent evt) {
+			}
+		});
+		SentenceFactory sf = SentenceFactory.getInstance();
+		provider.sentenceRead(new SentenceEvent(this, sf.createParser(HDTTest.EXAMPLE)));
+
+		RecordedEvent e = find(stop(), "net.sf.marineapi.ProviderUpdate");
+		assertEquals(HeadingProvider.class.getName(), e.getClass("provider").getName());
+		assertEquals(1, e.getInt("listeners"));
+	}
+
+	private List<RecordedEvent> stop() throws Exception {
+		recording.stop();
+		Path file = Files.createTempFile("marineapi", ".jfr");
+		try {
+			recording.dump(file);
+			return RecordingFile.readAllEvents(file);
+		} finally {
+			Files.delete(file);
+		}
+	}
+
+	private static RecordedEvent find(List<RecordedEvent> events, String name) {
+		List<RecordedEvent> found = new ArrayList<RecordedEvent>();
+		for (RecordedEvent e : events) {
+			if (name.equals(e.getEventType().getName())) {
+				found.add(e);
+			}
+		}
+		assertFalse("No events of type " + name, found.isEmpty());
+		return found.get(0);
+	}
+}
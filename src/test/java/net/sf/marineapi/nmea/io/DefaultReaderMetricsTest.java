@@ -0,0 +1,159 @@
+/*
+ * DefaultReaderMetricsTest.java
+ * Copyright (C) 2026 Kimmo Tuukkanen
+ *
+ * This file is part of Java Marine API.
+ * <http://ktuukkan.github.io/marine-api/>
+ *
+ * Java Marine API is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * Java Marine API is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Java Marine API. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sf.marineapi.nmea.io;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import net.sf.marineapi.nmea.sentence.TalkerId;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class DefaultReaderMetricsTest {
+
+	private DefaultReaderMetrics metrics;
+
+	@Before
+	public void setUp() {
+		metrics = new DefaultReaderMetrics();
+	}
+
+	@Test
+	public void testCounters() {
+		metrics.lineRead();
+		metrics.lineRead();
+		metrics.checksumFailed();
+		metrics.nonNmeaDataRead();
+		metrics.unknownSentence("XYZ");
+		metrics.parseFailed("GGA");
+		metrics.listenerFailed("GGA");
+		assertEquals(2, metrics.getLinesRead());
+		assertEquals(1, metrics.getChecksumFailures());
+		assertEquals(1, metrics.getNonNmeaData());
+		assertEquals(1, metrics.getUnknownSentences());
+		assertEquals(1, metrics.getParseFailures());
+		assertEquals(1, metrics.getListenerFailures());
+		assertEquals(0, metrics.getSentencesParsed());
+	}
+
+	@Test
+	public void testCountsBySentenceId() {
+		metrics.unknownSentence("XYZ");
+		metrics.unknownSentence("XYZ");
+		metrics.unknownSentence("ABC");
+		metrics.parseFailed("GGA");
+		metrics.parseFailed("RMC");
+		metrics.listenerFailed("GGA");
+		metrics.listenerFailed("GGA");
+
+		Map<String, Long> unknown = metrics.getUnknownSentenceCounts();
+		assertEquals(2, unknown.size());
+		assertEquals(Long.valueOf(2), unknown.get("XYZ"));
+		assertEquals(Long.valueOf(1), unknown.get("ABC"));
+
+		Map<String, Long> parse = metrics.getParseFailureCounts();
+		assertEquals(2, parse.size());
+		assertEquals(Long.valueOf(1), parse.get("GGA"));
+		assertEquals(Long.valueOf(1), parse.get("RMC"));
+
+		Map<String, Long> listener = metrics.getListenerFailureCounts();
+		assertEquals(1, listener.size());
+		assertEquals(Long.valueOf(2), listener.get("GGA"));
+		assertEquals(3, metrics.getUnknownSentences());
+	}
+
+	@Test
+	public void testSentenceParsed() {
+		metrics.sentenceParsed(TalkerId.GP, "GGA", 1000);
+		metrics.sentenceParsed(TalkerId.GP, "GGA", 3000);
+		metrics.sentenceParsed(TalkerId.GL, "GSV", 2000);
+		assertEquals(3, metrics.getSentencesParsed());
+		assertEquals(2, metrics.getSentenceCount(TalkerId.GP, "GGA"));
+		assertEquals(1, metrics.getSentenceCount(TalkerId.GL, "GSV"));
+		assertEquals(0, metrics.getSentenceCount(TalkerId.GP, "GSV"));
+		assertEquals(3, metrics.getParseTime().getCount());
+		assertEquals(3000, metrics.getParseTimeMax());
+
+		Map<String, Long> counts = metrics.getSentenceCounts();
+		assertEquals(2, counts.size());
+		assertEquals(Long.valueOf(2), counts.get("GPGGA"));
+		assertEquals(Long.valueOf(1), counts.get("GLGSV"));
+	}
+
+	@Test
+	public void testSentenceDispatched() {
+		metrics.sentenceDispatched("GGA", 500);
+		assertEquals(1, metrics.getDispatchTime().getCount());
+		assertEquals(500, metrics.getDispatchTimeMax());
+		assertTrue(metrics.getDispatchTimeMedian() >= 500);
+	}
+
+	@Test
+	public void testReset() {
+		metrics.lineRead();
+		metrics.sentenceParsed(TalkerId.GP, "RMC", 1000);
+		metrics.sentenceDispatched("RMC", 1000);
+		metrics.unknownSentence("XYZ");
+		metrics.parseFailed("RMC");
+		metrics.listenerFailed("RMC");
+		metrics.reset();
+		assertEquals(0, metrics.getLinesRead());
+		assertEquals(0, metrics.getSentencesParsed());
+		assertEquals(0, metrics.getSentenceCount(TalkerId.GP, "RMC"));
+		assertTrue(metrics.getSentenceCounts().isEmpty());
+		assertTrue(metrics.getUnknownSentenceCounts().isEmpty());
+		assertTrue(metrics.getParseFailureCounts().isEmpty());
+		assertTrue(metrics.getListenerFailureCounts().isEmpty());
+		assertEquals(0, metrics.getParseFailures());
+		assertEquals(0, metrics.getParseTimeMax());
+		assertEquals(0, metrics.getDispatchTime().getCount());
+	}
+
+	@Test
+	public void testRegister() throws Exception {
+		MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+		ObjectName name = metrics.register("test");
+		try {
+			assertEquals(new ObjectName("net.sf.marineapi:type=SentenceReader,name=test"), name);
+			assertTrue(server.isRegistered(name));
+			metrics.lineRead();
+			assertEquals(Long.valueOf(1), server.getAttribute(name, "LinesRead"));
+			try {
+				metrics.register("other");
+				fail("Did not throw IllegalStateException");
+			} catch (IllegalStateException e) {
+				// pass
+			}
+		} finally {
+			metrics.unregister();
+		}
+		assertFalse(server.isRegistered(name));
+	}
+}
@@ -0,0 +1,98 @@
+/*
+ * SentenceReaderAllocationTest.java
+ * Copyright (C) 2026 Kimmo Tuukkanen
+ *
+ * This file is part of Java Marine API.
+ * <http://ktuukkan.github.io/marine-api/>
+ *
+ * Java Marine API is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * Java Marine API is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Java Marine API. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sf.marineapi.nmea.io;
+
+import java.io.ByteArrayInputStream;
+import java.util.concurrent.Callable;
+
+import net.sf.marineapi.nmea.event.AbstractSentenceListener;
+import net.sf.marineapi.nmea.event.SentenceEvent;
+import net.sf.marineapi.nmea.event.SentenceListener;
+import net.sf.marineapi.nmea.parser.GGATest;
+import net.sf.marineapi.nmea.parser.SentenceFactory;
+import net.sf.marineapi.nmea.sentence.GGASentence;
+import net.sf.marineapi.nmea.sentence.Sentence;
+import net.sf.marineapi.test.util.AllocationMeter;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * Allocation budgets of sentence dispatching, in bytes per sentence. Budgets
+ * are set about 30% above the measured allocation; lower them when
+ * dispatching is improved.
+ */
+public class SentenceReaderAllocationTest {
+
+	private SentenceReader reader;
+	private Sentence sentence;
+
+	@Before
+	public void setUp() {
+		reader = new SentenceReader(new ByteArrayInputStream(new byte[0]));
+		sentence = SentenceFactory.getInstance().createParser(GGATest.EXAMPLE);
+	}
+
+	@Test
+	public void testDispatchWithoutListeners() throws Exception {
+		assertDispatchBudget("Dispatching to no listeners", 160);
+	}
+
+	@Test
+	public void testDispatchToTypedListener() throws Exception {
+		reader.addSentenceListener(new AbstractSentenceListener<GGASentence>() {
+			@Override
+			public void sentenceRead(GGASentence gga) {
+			}
+		});
+		assertDispatchBudget("Dispatching to one listener", 440);
+	}
+
+	@Test
+	public void testDispatchToTwoListeners() throws Exception {
+		reader.addSentenceListener(new AbstractSentenceListener<GGASentence>() {
+			@Override
+			public void sentenceRead(GGASentence gga) {
+			}
+		});
+		reader.addSentenceListener(new SentenceListener() {
+			public void readingPaused() {
+			}
+			public void readingStarted() {
+			}
+			public void readingStopped() {
+			}
+			public void sentenceRead(SentenceEvent event) {
+			}
+		});
+		assertDispatchBudget("Dispatching to two listeners", 580);
+	}
+
+	private void assertDispatchBudget(String name, long budget) throws Exception {
+		AllocationMeter.assertBudget(name, budget, new Callable<Object>() {
+			@Override
+			public Object call() {
+				reader.fireSentenceEvent(sentence);
+				return null;
+			}
+		});
+	}
+}
@@ -10,6 +10,10 @@ import static org.junit.Assert.fail;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.InputStream;
+import java.util.List;
+import java.util.Vector;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 
 import net.sf.marineapi.nmea.event.SentenceEvent;
 import net.sf.marineapi.nmea.event.SentenceListener;
@@ -18,6 +22,7 @@ import net.sf.marineapi.nmea.parser.GGATest;
 import net.sf.marineapi.nmea.parser.SentenceFactory;
 import net.sf.marineapi.nmea.sentence.Sentence;
 import net.sf.marineapi.nmea.sentence.SentenceId;
+import net.sf.marineapi.nmea.sentence.TalkerId;
 
 import org.junit.Before;
 import org.junit.Ignore;
@@ -187,6 +192,188 @@ public class SentenceReaderTest {
 		reader.start();
 	}
 
+	@Test
+	public void testMetricsDisabledByDefault() {
+		assertNull(reader.getMetrics());
+	}
+
+	@Test
+	public void testFireSentenceEventWithMetrics() {
+		DefaultReaderMetrics metrics = new DefaultReaderMetrics();
+		reader.setMetrics(metrics);
+		reader.addSentenceListener(new DummySentenceListener() {
+			@Override
+			public void sentenceRead(SentenceEvent event) {
+				throw new IllegalStateException("test");
+			}
+		});
+		SentenceFactory sf = SentenceFactory.getInstance();
+		reader.fireSentenceEvent(sf.createParser(GGATest.EXAMPLE));
+		assertNotNull(sentence);
+		assertEquals(1, metrics.getListenerFailures());
+		assertEquals(1, metrics.getDispatchTime().getCount());
+	}
+
+	@Test
+	public void testReadWithMetrics() throws Exception {
+		DefaultReaderMetrics metrics = new DefaultReaderMetrics();
+		reader.setMetrics(metrics);
+		reader.start();
+		for (int i = 0; i < 100 && metrics.getLinesRead() < 217; i++) {
+			Thread.sleep(50);
+		}
+		reader.stop();
+
+		assertEquals(217, metrics.getLinesRead());
+		assertEquals(2, metrics.getNonNmeaData());
+		assertEquals(215, metrics.getSentencesParsed()
+			+ metrics.getChecksumFailures());
+		assertEquals(38, metrics.getSentenceCount(TalkerId.GP, "GGA"));
+		assertEquals(metrics.getSentencesParsed(), metrics.getParseTime().getCount());
+		assertEquals(metrics.getSentencesParsed(), metrics.getDispatchTime().getCount());
+	}
+
+	@Test
+	public void testSetListenerBudget() {
+		assertEquals(0, reader.getListenerBudget());
+		reader.setListenerBudget(50);
+		assertEquals(50, reader.getListenerBudget());
+		try {
+			reader.setListenerBudget(-1);
+			fail("Did not throw IllegalArgumentException");
+		} catch (IllegalArgumentException e) {
+			// pass
+		}
+	}
+
+	@Test
+	public void testSetIsolationThreshold() {
+		assertEquals(0, reader.getIsolationThreshold());
+		reader.setIsolationThreshold(3);
+		assertEquals(3, reader.getIsolationThreshold());
+		try {
+			reader.setIsolationThreshold(-1);
+			fail("Did not throw IllegalArgumentException");
+		} catch (IllegalArgumentException e) {
+			// pass
+		}
+	}
+
+	@Test
+	public void testSlowListenerIsolated() throws Exception {
+
+		final List<Thread> threads = new Vector<Thread>();
+		final CountDownLatch done = new CountDownLatch(3);
+		SentenceListener slow = new DummySentenceListener() {
+			@Override
+			public void sentenceRead(SentenceEvent event) {
+				threads.add(Thread.currentThread());
+				try {
+					Thread.sleep(10);
+				} catch (InterruptedException e) {
+					// ignore
+				}
+				done.countDown();
+			}
+		};
+
+		reader.addSentenceListener(slow);
+		reader.setListenerBudget(1);
+		reader.setIsolationThreshold(2);
+
+		Sentence s = SentenceFactory.getInstance().createParser(GGATest.EXAMPLE);
+		for (int i = 0; i < 3; i++) {
+			reader.fireSentenceEvent(s);
+		}
+		assertTrue(done.await(1, TimeUnit.SECONDS));
+		assertEquals(s, sentence);
+
+		assertEquals(Thread.currentThread(), threads.get(0));
+		assertEquals(Thread.currentThread(), threads.get(1));
+		assertFalse(Thread.currentThread().equals(threads.get(2)));
+
+		reader.removeSentenceListener(slow);
+		reader.fireSentenceEvent(s);
+		Thread.sleep(50);
+		assertEquals(3, threads.size());
+	}
+
+	@Test
+	public void testIsolatedListenerStopped() throws Exception {
+
+		final List<Thread> threads = new Vector<Thread>();
+		final CountDownLatch done = new CountDownLatch(2);
+		final CountDownLatch stop = new CountDownLatch(1);
+		SentenceListener slow = new DummySentenceListener() {
+			@Override
+			public void readingStopped() {
+				threads.add(Thread.currentThread());
+				stop.countDown();
+			}
+			@Override
+			public void sentenceRead(SentenceEvent event) {
+				threads.add(Thread.currentThread());
+				try {
+					Thread.sleep(10);
+				} catch (InterruptedException e) {
+					// ignore
+				}
+				done.countDown();
+			}
+		};
+
+		reader.addSentenceListener(slow);
+		reader.setListenerBudget(1);
+		reader.setIsolationThreshold(1);
+
+		Sentence s = SentenceFactory.getInstance().createParser(GGATest.EXAMPLE);
+		reader.fireSentenceEvent(s);
+		reader.fireSentenceEvent(s);
+		assertTrue(done.await(1, TimeUnit.SECONDS));
+		Thread isolated = threads.get(1);
+		assertFalse(Thread.currentThread().equals(isolated));
+
+		reader.fireReadingStopped();
+		assertTrue(stop.await(1, TimeUnit.SECONDS));
+		assertEquals(isolated, threads.get(2));
+		isolated.join(1000);
+		assertFalse(isolated.isAlive());
+
+		// restored listener is called from the reader thread
+		reader.setIsolationThreshold(0);
+		reader.fireSentenceEvent(s);
+		assertEquals(Thread.currentThread(), threads.get(3));
+	}
+
+	@Test
+	public void testListenerSpecificBudget() {
+
+		final List<Thread> threads = new Vector<Thread>();
+		SentenceListener slow = new DummySentenceListener() {
+			@Override
+			public void sentenceRead(SentenceEvent event) {
+				threads.add(Thread.currentThread());
+				try {
+					Thread.sleep(5);
+				} catch (InterruptedException e) {
+					// ignore
+				}
+			}
+		};
+
+		reader.addSentenceListener(slow);
+		reader.setListenerBudget(1);
+		reader.setListenerBudget(slow, 0);
+		reader.setIsolationThreshold(1);
+
+		Sentence s = SentenceFactory.getInstance().createParser(GGATest.EXAMPLE);
+		reader.fireSentenceEvent(s);
+		reader.fireSentenceEvent(s);
+
+		assertEquals(2, threads.size());
+		assertEquals(Thread.currentThread(), threads.get(1));
+	}
+
 	public class DummySentenceListener implements SentenceListener {
 		public void readingPaused() {
 		}
@@ -0,0 +1,96 @@
+/*
+ * ParserAllocationTest.java
+ * Copyright (C) 2026 Kimmo Tuukkanen
+ *
+ * This file is part of Java Marine API.
+ * <http://ktuukkan.github.io/marine-api/>
+ *
+ * Java Marine API is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * Java Marine API is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Java Marine API. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sf.marineapi.nmea.parser;
+
+import java.util.concurrent.Callable;
+
+import net.sf.marineapi.test.util.AllocationMeter;
+
+import org.junit.Test;
+
+/**
+ * Allocation budgets of parsing, in bytes per sentence. Budgets are set about
+ * 30% above the measured allocation; lower them when parsing is improved.
+ */
+public class ParserAllocationTest {
+
+	private final SentenceFactory factory = SentenceFactory.getInstance();
+
+	@Test
+	public void testGGA() throws Exception {
+		assertParseBudget(GGATest.EXAMPLE, 4200);
+	}
+
+	@Test
+	public void testRMC() throws Exception {
+		assertParseBudget(RMCTest.EXAMPLE, 4200);
+	}
+
+	@Test
+	public void testGSV() throws Exception {
+		assertParseBudget(GSVTest.EXAMPLE, 4800);
+	}
+
+	@Test
+	public void testGSA() throws Exception {
+		assertParseBudget(GSATest.EXAMPLE, 4200);
+	}
+
+	@Test
+	public void testVTG() throws Exception {
+		assertParseBudget(VTGTest.EXAMPLE, 2700);
+	}
+
+	@Test
+	public void testGLL() throws Exception {
+		assertParseBudget(GLLTest.EXAMPLE, 3500);
+	}
+
+	@Test
+	public void testHDT() throws Exception {
+		assertParseBudget(HDTTest.EXAMPLE, 2100);
+	}
+
+	@Test
+	public void testZDA() throws Exception {
+		assertParseBudget(ZDATest.EXAMPLE, 3500);
+	}
+
+	@Test
+	public void testMWV() throws Exception {
+		assertParseBudget(MWVTest.EXAMPLE, 2400);
+	}
+
+	@Test
+	public void testDBT() throws Exception {
+		assertParseBudget(DBTTest.EXAMPLE, 3500);
+	}
+
+	private void assertParseBudget(final String nmea, long budget) throws Exception {
+		String type = nmea.substring(3, 6);
+		AllocationMeter.assertBudget("Parsing " + type, budget, new Callable<Object>() {
+			@Override
+			public Object call() {
+				return factory.createParser(nmea);
+			}
+		});
+	}
+}
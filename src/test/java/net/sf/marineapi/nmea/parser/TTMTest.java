@@ -1,6 +1,7 @@
 package net.sf.marineapi.nmea.parser;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
@@ -71,6 +72,22 @@ public class TTMTest {
 	 * Test method for
 	 * {@link net.sf.marineapi.nmea.parser.TTMParser#getSpeed()} .
 	 */
+	@Test
+	public void testIsBearingTrue() {
+		assertTrue(ttm.isBearingTrue());
+		TTMParser rel = new TTMParser(
+			"$RATTM,11,25.3,13.7,R,7.0,20.0,R,10.1,20.2,N,NAME,Q,,175550.24,A*34");
+		assertFalse(rel.isBearingTrue());
+	}
+
+	@Test
+	public void testIsCourseTrue() {
+		assertTrue(ttm.isCourseTrue());
+		TTMParser rel = new TTMParser(
+			"$RATTM,11,25.3,13.7,R,7.0,20.0,R,10.1,20.2,N,NAME,Q,,175550.24,A*34");
+		assertFalse(rel.isCourseTrue());
+	}
+
 	@Test
 	public void testGetSpeed() {
 		assertEquals(7.0, ttm.getSpeed(), 0.001);
@@ -182,4 +182,18 @@ public class SentenceValidatorTest {
 		nmea = "$GPRMC,142312.000,V,,,,,,,080514,,\r\n\r\n";
 		assertFalse(SentenceValidator.isSentence(nmea));
 	}
+
+	@Test
+	public void testIsValidWithTagBlock() {
+
+		String ais = "!AIVDM,1,1,,A,13KF5P@01sQj:;0RKO=:THLt0000,0*01";
+		assertTrue(SentenceValidator.isValid("\\s:rBASE*2E\\" + ais));
+		assertFalse(SentenceValidator.isValid("\\s:rBASE\\" + ais));
+		assertFalse(SentenceValidator.isValid("\\s:rBASE*2\\" + ais));
+		assertFalse(SentenceValidator.isValid("\\*2E\\" + ais));
+		assertTrue(SentenceValidator.isSentence("\\s:rBASE*2F\\" + ais));
+		assertFalse(SentenceValidator.isValid("\\s:rBASE*2F\\" + ais));
+		assertFalse(SentenceValidator.isValid("\\s:rBASE*2E" + ais));
+		assertFalse(SentenceValidator.isValid("\\s:rBASE*2E\\"));
+	}
 }
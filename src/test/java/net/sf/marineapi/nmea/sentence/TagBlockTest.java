@@ -0,0 +1,110 @@
+/*
+ * TagBlockTest.java
+ * Copyright (C) 2026 Kimmo Tuukkanen
+ *
+ * This file is part of Java Marine API.
+ * <http://ktuukkan.github.io/marine-api/>
+ *
+ * Java Marine API is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * Java Marine API is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Java Marine API. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sf.marineapi.nmea.sentence;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import net.sf.marineapi.nmea.parser.SentenceFactory;
+
+import org.junit.Test;
+
+/**
+ * @author Kimmo Tuukkanen
+ */
+public class TagBlockTest {
+
+	public static final String AIS = "!AIVDM,1,1,,A,13KF5P@01sQj:;0RKO=:THLt0000,0*01";
+
+	public static final String EXAMPLE = "\\g:1-2-1234,s:rORBCOMM999,c:1697040000123*6F\\" + AIS;
+
+	@Test
+	public void testParse() {
+		TagBlock tb = TagBlock.parse(EXAMPLE);
+		assertEquals("rORBCOMM999", tb.getSource());
+		assertEquals(1697040000123L, tb.getTime());
+		assertTrue(tb.isGrouped());
+		assertEquals(1, tb.getGroupLine());
+		assertEquals(2, tb.getGroupSize());
+		assertEquals(1234, tb.getGroupId());
+		assertNull(tb.getDestination());
+		assertNull(tb.getText());
+		assertEquals(-1, tb.getLineCount());
+		assertEquals(EXAMPLE.indexOf('!'), tb.length());
+	}
+
+	@Test
+	public void testParseTimeInSeconds() {
+		TagBlock tb = TagBlock.parse("\\s:2573345,c:1697040000*00\\" + AIS);
+		assertEquals("2573345", tb.getSource());
+		assertEquals(1697040000000L, tb.getTime());
+		assertFalse(tb.isGrouped());
+	}
+
+	@Test
+	public void testParseWithoutTagBlock() {
+		assertNull(TagBlock.parse(AIS));
+		assertEquals(0, TagBlock.indexOf(AIS));
+		assertEquals(-1, TagBlock.indexOf("\\s:rBASE*2E"));
+	}
+
+	@Test
+	public void testParseWithInvalidChecksum() {
+		try {
+			TagBlock.parse("\\s:rBASE*2F\\" + AIS);
+			fail("Did not throw with invalid checksum");
+		} catch (IllegalArgumentException iae) {
+			assertEquals("Tag block checksum mismatch", iae.getMessage());
+		}
+		assertFalse(TagBlock.isValid("\\c:abc*00\\" + AIS));
+		assertFalse(TagBlock.isValid("\\foo\\" + AIS));
+	}
+
+	@Test
+	public void testParseWithoutChecksum() {
+		try {
+			TagBlock.parse("\\s:rBASE\\" + AIS);
+			fail("Did not throw without checksum");
+		} catch (IllegalArgumentException iae) {
+			assertEquals("Tag block checksum missing", iae.getMessage());
+		}
+		assertFalse(TagBlock.isValid("\\s:rBASE\\" + AIS));
+		assertTrue(TagBlock.isValid("\\s:rBASE*2E\\" + AIS));
+	}
+
+	@Test
+	public void testToString() {
+		TagBlock tb = TagBlock.parse(EXAMPLE);
+		assertEquals(EXAMPLE.substring(0, tb.length()), tb.toString());
+	}
+
+	@Test
+	public void testSentenceWithTagBlock() {
+		Sentence s = SentenceFactory.getInstance().createParser(EXAMPLE);
+		assertTrue(s instanceof AISSentence);
+		assertEquals(AIS, s.toString());
+		assertEquals("rORBCOMM999", s.getTagBlock().getSource());
+		assertNull(SentenceFactory.getInstance().createParser(AIS).getTagBlock());
+	}
+}
@@ -4,10 +4,15 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 import java.io.File;
 import java.io.FileInputStream;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneOffset;
 
 import net.sf.marineapi.nmea.event.SentenceEvent;
 import net.sf.marineapi.nmea.io.SentenceReader;
@@ -15,9 +20,12 @@ import net.sf.marineapi.nmea.parser.HDGTest;
 import net.sf.marineapi.nmea.parser.HDMTest;
 import net.sf.marineapi.nmea.parser.HDTTest;
 import net.sf.marineapi.nmea.parser.SentenceFactory;
+import net.sf.marineapi.nmea.sentence.HeadingSentence;
 import net.sf.marineapi.nmea.sentence.Sentence;
 import net.sf.marineapi.provider.event.HeadingEvent;
+import net.sf.marineapi.provider.event.HeadingFilter;
 import net.sf.marineapi.provider.event.HeadingListener;
+import net.sf.marineapi.provider.event.ProviderSnapshot;
 
 import org.junit.After;
 import org.junit.Before;
@@ -107,6 +115,107 @@ public class HeadingProviderTest implements HeadingListener {
 		assertFalse(event.isTrue());
 	}
 
+	@Test
+	public void testGetLatest() {
+
+		assertNull(instance.getLatest());
+
+		instance.setClock(Clock.fixed(Instant.ofEpochMilli(1000), ZoneOffset.UTC));
+		Sentence s = factory.createParser(HDTTest.EXAMPLE);
+		instance.sentenceRead(new SentenceEvent(this, s));
+
+		ProviderSnapshot<HeadingEvent> first = instance.getLatest();
+		assertNotNull(first);
+		assertSame(event, first.getEvent());
+		assertEquals(1, first.getSequence());
+		assertEquals(1000, first.getTimeStamp());
+		assertEquals(0, first.getAge());
+
+		s = factory.createParser(HDMTest.EXAMPLE);
+		instance.sentenceRead(new SentenceEvent(this, s));
+
+		ProviderSnapshot<HeadingEvent> second = instance.getLatest();
+		assertSame(event, second.getEvent());
+		assertEquals(2, second.getSequence());
+		assertEquals(1, first.getSequence());
+	}
+
+	@Test
+	public void testRemoveListenerWhileDispatching() {
+
+		final int[] count = new int[1];
+		instance.addListener(new HeadingListener() {
+			public void providerUpdate(HeadingEvent evt) {
+				count[0]++;
+				instance.removeListener(this);
+			}
+		});
+
+		Sentence s = factory.createParser(HDTTest.EXAMPLE);
+		instance.sentenceRead(new SentenceEvent(this, s));
+		instance.sentenceRead(new SentenceEvent(this, s));
+
+		assertEquals(1, count[0]);
+		assertNotNull(event);
+	}
+
+	@Test
+	public void testAddListenerWithInterval() {
+
+		final int[] count = new int[1];
+		instance.removeListener(this);
+		instance.addListener(new HeadingListener() {
+			public void providerUpdate(HeadingEvent evt) {
+				count[0]++;
+			}
+		}, 1000, null);
+
+		Sentence s = factory.createParser(HDTTest.EXAMPLE);
+		for (long t = 0; t < 3000; t += 100) {
+			instance.setClock(Clock.fixed(Instant.ofEpochMilli(t), ZoneOffset.UTC));
+			instance.sentenceRead(new SentenceEvent(this, s));
+		}
+
+		assertEquals(3, count[0]);
+		// events are not created when not dispatched
+		assertEquals(3, instance.getLatest().getSequence());
+	}
+
+	@Test
+	public void testAddListenerWithFilter() {
+
+		instance.removeListener(this);
+		instance.addListener(this, 0, new HeadingFilter(0.5));
+
+		HeadingSentence s = (HeadingSentence) factory.createParser(HDTTest.EXAMPLE);
+		s.setHeading(359.9);
+		instance.sentenceRead(new SentenceEvent(this, s));
+		assertEquals(359.9, event.getHeading(), 0.01);
+
+		// small changes accumulate from the last dispatched heading
+		for (double h : new double[] { 0.1, 0.3 }) {
+			s.setHeading(h);
+			instance.sentenceRead(new SentenceEvent(this, s));
+			assertEquals(359.9, event.getHeading(), 0.01);
+		}
+		s.setHeading(0.4);
+		instance.sentenceRead(new SentenceEvent(this, s));
+		assertEquals(0.4, event.getHeading(), 0.01);
+
+		// change of reference is always dispatched
+		Sentence hdm = factory.createParser(HDMTest.EXAMPLE);
+		((HeadingSentence) hdm).setHeading(0.4);
+		instance.sentenceRead(new SentenceEvent(this, hdm));
+		assertFalse(event.isTrue());
+
+		try {
+			new HeadingFilter(-1);
+			fail("Did not throw IllegalArgumentException");
+		} catch (IllegalArgumentException e) {
+			// pass
+		}
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see
@@ -0,0 +1,203 @@
+/*
+ * PositionInterpolatorTest.java
+ * Copyright (C) 2026 Kimmo Tuukkanen
+ *
+ * This file is part of Java Marine API.
+ * <http://ktuukkan.github.io/marine-api/>
+ *
+ * Java Marine API is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * Java Marine API is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Java Marine API. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sf.marineapi.provider;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.io.File;
+import java.io.FileInputStream;
+
+import net.sf.marineapi.nmea.event.SentenceEvent;
+import net.sf.marineapi.nmea.io.SentenceReader;
+import net.sf.marineapi.nmea.parser.GGATest;
+import net.sf.marineapi.nmea.parser.RMCTest;
+import net.sf.marineapi.nmea.parser.SentenceFactory;
+import net.sf.marineapi.nmea.util.Position;
+import net.sf.marineapi.provider.event.PositionEvent;
+
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author Kimmo Tuukkanen
+ */
+public class PositionInterpolatorTest {
+
+	static final long SECOND = 1000000000L;
+
+	private PositionInterpolator instance;
+	private double[] result;
+
+	@Before
+	public void setUp() {
+		instance = new PositionInterpolator(4, 2 * SECOND);
+		result = new double[2];
+	}
+
+	@Test
+	public void testConstructor() {
+		try {
+			new PositionInterpolator(1, SECOND);
+			fail("Did not throw IllegalArgumentException");
+		} catch (IllegalArgumentException e) {
+			// pass
+		}
+		try {
+			new PositionInterpolator(2, -1);
+			fail("Did not throw IllegalArgumentException");
+		} catch (IllegalArgumentException e) {
+			// pass
+		}
+	}
+
+	@Test
+	public void testPositionAtWithoutFixes() {
+		assertFalse(instance.positionAt(0, result));
+		assertNull(instance.getPosition(0));
+	}
+
+	@Test
+	public void testInterpolation() {
+		instance.update(10 * SECOND, 60.0, 25.0, 10, 0);
+		instance.update(11 * SECOND, 60.1, 25.2, 10, 0);
+		instance.update(12 * SECOND, 60.3, 25.2, 10, 0);
+
+		assertFalse(instance.positionAt(10 * SECOND - 1, result));
+
+		assertTrue(instance.positionAt(10 * SECOND, result));
+		assertEquals(60.0, result[0], 1e-9);
+		assertEquals(25.0, result[1], 1e-9);
+
+		assertTrue(instance.positionAt(10 * SECOND + SECOND / 4, result));
+		assertEquals(60.025, result[0], 1e-9);
+		assertEquals(25.05, result[1], 1e-9);
+
+		assertTrue(instance.positionAt(11 * SECOND + SECOND / 2, result));
+		assertEquals(60.2, result[0], 1e-9);
+		assertEquals(25.2, result[1], 1e-9);
+	}
+
+	@Test
+	public void testInterpolationOverDateLine() {
+		instance.update(0, 0.0, 179.9, 10, 90);
+		instance.update(SECOND, 0.0, -179.9, 10, 90);
+		assertTrue(instance.positionAt(SECOND / 4, result));
+		assertEquals(179.95, result[1], 1e-9);
+		assertTrue(instance.positionAt(SECOND * 3 / 4, result));
+		assertEquals(-179.95, result[1], 1e-9);
+	}
+
+	@Test
+	public void testDeadReckoning() {
+		instance.update(0, 60.0, 25.0, 10, 0);
+		instance.update(SECOND, 60.0, 25.0, 36, 90);
+
+		// 36 knots east for one second, i.e. 18.52 meters
+		Position p = instance.getPosition(2 * SECOND);
+		assertNotNull(p);
+		assertEquals(60.0, p.getLatitude(), 1e-9);
+		Position start = new Position(60.0, 25.0);
+		assertEquals(18.52, start.distanceTo(p), 0.05);
+
+		// beyond maximum extrapolation time
+		assertTrue(instance.positionAt(3 * SECOND, result));
+		assertFalse(instance.positionAt(3 * SECOND + 1, result));
+	}
+
+	@Test
+	public void testDeadReckoningWithRateOfTurn() {
+		instance.update(0, 0.0, 0.0, 36, 0);
+
+		// turning 90 degrees in one second
+		instance.updateRateOfTurn(0, 5400);
+		assertTrue(instance.positionAt(SECOND, result));
+
+		// quarter circle of 18.52 m, radius 11.79 m
+		double r = 18.52 * 2 / Math.PI;
+		Position p = new Position(result[0], result[1]);
+		Position origin = new Position(0.0, 0.0);
+		assertEquals(r * Math.sqrt(2), origin.distanceTo(p), 0.05);
+		assertEquals(result[0] * 1852 * 60, result[1] * 1852 * 60, 0.01);
+	}
+
+	@Test
+	public void testHeadingAt() {
+		assertTrue(Double.isNaN(instance.headingAt(0)));
+
+		instance.updateHeading(0, 359.0);
+		assertEquals(359.0, instance.headingAt(SECOND), 1e-9);
+
+		instance.updateRateOfTurn(0, 120);
+		assertEquals(1.0, instance.headingAt(SECOND), 1e-9);
+		assertTrue(Double.isNaN(instance.headingAt(3 * SECOND)));
+	}
+
+	@Test
+	public void testUpdate() {
+		for (int i = 0; i < 10; i++) {
+			assertTrue(instance.update(i * SECOND, 60.0, 25.0, 0, 0));
+		}
+		assertEquals(4, instance.size());
+		assertFalse(instance.update(SECOND, 60.0, 25.0, 0, 0));
+		assertFalse(instance.positionAt(5 * SECOND, result));
+		assertTrue(instance.positionAt(6 * SECOND, result));
+
+		instance.clear();
+		assertEquals(0, instance.size());
+	}
+
+	@Test
+	public void testProviderUpdate() throws Exception {
+		File f = new File("target/test-classes/data/Navibe-GM720.txt");
+		SentenceReader reader = new SentenceReader(new FileInputStream(f));
+		PositionProvider provider = new PositionProvider(reader);
+		instance = new PositionInterpolator(4, Long.MAX_VALUE);
+		provider.addListener(instance);
+
+		SentenceFactory sf = SentenceFactory.getInstance();
+		provider.sentenceRead(new SentenceEvent(this, sf.createParser(GGATest.EXAMPLE)));
+		provider.sentenceRead(new SentenceEvent(this, sf.createParser(RMCTest.EXAMPLE)));
+
+		assertEquals(1, instance.size());
+		PositionEvent evt = provider.getLatest().getEvent();
+		Position p = instance.getPosition(System.nanoTime());
+		assertEquals(evt.getPosition().getLatitude(), p.getLatitude(), 1e-9);
+		assertEquals(evt.getPosition().getLongitude(), p.getLongitude(), 1e-9);
+	}
+
+	@Test
+	public void testProviderUpdateSpeed() {
+		instance = new PositionInterpolator(4, Long.MAX_VALUE);
+		Position start = new Position(60.0, 25.0);
+		long time = System.nanoTime();
+		instance.providerUpdate(new PositionEvent(this, start, 36, 90.0,
+			null, null, null, null));
+
+		// 36 knots east for ten seconds, i.e. 185.2 meters
+		Position p = instance.getPosition(time + 10 * SECOND);
+		assertEquals(185.2, start.distanceTo(p), 1.0);
+	}
+}
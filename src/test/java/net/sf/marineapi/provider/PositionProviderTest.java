@@ -20,11 +20,15 @@
  */
 package net.sf.marineapi.provider;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.fail;
 
 import java.io.File;
 import java.io.FileInputStream;
+import java.time.Clock;
+import java.time.Duration;
 
 import net.sf.marineapi.nmea.event.SentenceEvent;
 import net.sf.marineapi.nmea.io.SentenceReader;
@@ -32,8 +36,14 @@ import net.sf.marineapi.nmea.parser.GGATest;
 import net.sf.marineapi.nmea.parser.GLLTest;
 import net.sf.marineapi.nmea.parser.RMCTest;
 import net.sf.marineapi.nmea.parser.SentenceFactory;
+import net.sf.marineapi.nmea.parser.VTGTest;
+import net.sf.marineapi.nmea.parser.ZDATest;
+import net.sf.marineapi.nmea.sentence.GLLSentence;
+import net.sf.marineapi.nmea.sentence.RMCSentence;
 import net.sf.marineapi.nmea.sentence.Sentence;
+import net.sf.marineapi.nmea.util.Time;
 import net.sf.marineapi.provider.event.PositionEvent;
+import net.sf.marineapi.provider.event.PositionFilter;
 import net.sf.marineapi.provider.event.PositionListener;
 
 import org.junit.After;
@@ -128,6 +138,149 @@ public class PositionProviderTest implements PositionListener {
 
 	}
 
+	@Test
+	public void testSentenceReadWithVTG() {
+
+		SentenceFactory sf = SentenceFactory.getInstance();
+		Sentence vtg = sf.createParser(VTGTest.EXAMPLE);
+
+		instance.sentenceRead(new SentenceEvent(this, vtg));
+		assertNull(event);
+
+		Sentence gga = sf.createParser(GGATest.EXAMPLE);
+		instance.sentenceRead(new SentenceEvent(this, gga));
+		assertNotNull(event);
+		assertEquals(16.89 * 1.852, event.getSpeed(), 0.001);
+		assertEquals(360.0, event.getCourse(), 0.001);
+		assertEquals(60.1925, event.getPosition().getLatitude(), 0.0001);
+	}
+
+	@Test
+	public void testSentenceReadAfterDispatch() {
+
+		SentenceFactory sf = SentenceFactory.getInstance();
+		Sentence gga = sf.createParser(GGATest.EXAMPLE);
+		Sentence rmc = sf.createParser(RMCTest.EXAMPLE);
+
+		instance.sentenceRead(new SentenceEvent(this, gga));
+		instance.sentenceRead(new SentenceEvent(this, rmc));
+		assertNotNull(event);
+
+		event = null;
+		instance.sentenceRead(new SentenceEvent(this, rmc));
+		assertNull(event);
+		instance.sentenceRead(new SentenceEvent(this, gga));
+		assertNotNull(event);
+	}
+
+	@Test
+	public void testSentenceReadWithZDA() {
+
+		SentenceFactory sf = SentenceFactory.getInstance();
+		instance.sentenceRead(new SentenceEvent(this, sf.createParser(ZDATest.EXAMPLE)));
+		instance.sentenceRead(new SentenceEvent(this, sf.createParser(VTGTest.EXAMPLE)));
+		assertNull(event);
+
+		instance.sentenceRead(new SentenceEvent(this, sf.createParser(GGATest.EXAMPLE)));
+		assertNotNull(event);
+		assertEquals(2004, event.getDate().getYear());
+		assertEquals(8, event.getDate().getMonth());
+		assertEquals(7, event.getDate().getDay());
+	}
+
+	@Test
+	public void testSetClock() {
+
+		SentenceFactory sf = SentenceFactory.getInstance();
+		Sentence gga = sf.createParser(GGATest.EXAMPLE);
+		Sentence rmc = sf.createParser(RMCTest.EXAMPLE);
+
+		instance.setClock(Clock.offset(Clock.systemUTC(), Duration.ofSeconds(5)));
+		instance.sentenceRead(new SentenceEvent(this, gga));
+		instance.sentenceRead(new SentenceEvent(this, rmc));
+		assertNull(event);
+
+		try {
+			instance.setClock(null);
+			fail("Did not throw IllegalArgumentException");
+		} catch (IllegalArgumentException e) {
+			// pass
+		}
+	}
+
+	@Test
+	public void testEpochTolerance() {
+
+		SentenceFactory sf = SentenceFactory.getInstance();
+		Sentence gll = sf.createParser(GLLTest.EXAMPLE);
+		Sentence rmc = sf.createParser(RMCTest.EXAMPLE);
+
+		// stale by wall-clock time, but ignored in epoch mode
+		instance.setClock(Clock.offset(Clock.systemUTC(), Duration.ofHours(1)));
+		instance.setEpochTolerance(500);
+		assertEquals(500, instance.getEpochTolerance());
+
+		// RMC at 12:00:44.567 and GLL at 12:00:45
+		instance.sentenceRead(new SentenceEvent(this, rmc));
+		instance.sentenceRead(new SentenceEvent(this, gll));
+		assertNotNull(event);
+
+		// GLL outside tolerance starts a new epoch
+		event = null;
+		instance.setEpochTolerance(100);
+		instance.sentenceRead(new SentenceEvent(this, rmc));
+		instance.sentenceRead(new SentenceEvent(this, gll));
+		assertNull(event);
+		instance.sentenceRead(new SentenceEvent(this, rmc));
+		assertNull(event);
+
+		instance.setEpochTolerance(-10);
+		assertEquals(-1, instance.getEpochTolerance());
+	}
+
+	@Test
+	public void testEpochToleranceOverMidnight() {
+
+		SentenceFactory sf = SentenceFactory.getInstance();
+		GLLSentence gll = (GLLSentence) sf.createParser(GLLTest.EXAMPLE);
+		RMCSentence rmc = (RMCSentence) sf.createParser(RMCTest.EXAMPLE);
+		gll.setTime(new Time(0, 0, 0.2));
+		rmc.setTime(new Time(23, 59, 59.9));
+
+		instance.setEpochTolerance(500);
+		instance.sentenceRead(new SentenceEvent(this, rmc));
+		instance.sentenceRead(new SentenceEvent(this, gll));
+		assertNotNull(event);
+	}
+
+	@Test
+	public void testAddListenerWithFilter() {
+
+		SentenceFactory sf = SentenceFactory.getInstance();
+		RMCSentence rmc = (RMCSentence) sf.createParser(RMCTest.EXAMPLE);
+		Sentence gga = sf.createParser(GGATest.EXAMPLE);
+
+		instance.removeListener(this);
+		instance.addListener(this, 0, new PositionFilter(10, 5, 0));
+
+		instance.sentenceRead(new SentenceEvent(this, gga));
+		instance.sentenceRead(new SentenceEvent(this, rmc));
+		assertNotNull(event);
+
+		// same position, speed change below threshold
+		event = null;
+		rmc.setSpeed(2.0);
+		instance.sentenceRead(new SentenceEvent(this, gga));
+		instance.sentenceRead(new SentenceEvent(this, rmc));
+		assertNull(event);
+
+		rmc.setSpeed(3.0);
+		instance.sentenceRead(new SentenceEvent(this, gga));
+		instance.sentenceRead(new SentenceEvent(this, rmc));
+		assertNotNull(event);
+		assertEquals(3.0 * 1.852, event.getSpeed(), 0.001);
+	}
+
 	/*
 	 * (non-Javadoc)
 	 * @see
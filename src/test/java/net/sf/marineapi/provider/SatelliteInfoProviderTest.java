@@ -0,0 +1,184 @@
+/*
+ * SatelliteInfoProviderTest.java
+ * Copyright (C) 2026 Kimmo Tuukkanen
+ *
+ * This file is part of Java Marine API.
+ * <http://ktuukkan.github.io/marine-api/>
+ *
+ * Java Marine API is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * Java Marine API is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Java Marine API. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sf.marineapi.provider;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+import java.io.File;
+import java.io.FileInputStream;
+
+import net.sf.marineapi.nmea.event.SentenceEvent;
+import net.sf.marineapi.nmea.io.SentenceReader;
+import net.sf.marineapi.nmea.parser.GSATest;
+import net.sf.marineapi.nmea.parser.SentenceFactory;
+import net.sf.marineapi.nmea.sentence.Sentence;
+import net.sf.marineapi.provider.event.SatelliteInfoEvent;
+import net.sf.marineapi.provider.event.SatelliteInfoListener;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+/**
+ * @author Kimmo Tuukkanen
+ */
+public class SatelliteInfoProviderTest implements SatelliteInfoListener {
+
+	static final String GSV1 = "$GPGSV,2,1,08,01,40,083,46,02,17,308,41,12,07,344,39,14,22,228,45";
+	static final String GSV2 = "$GPGSV,2,2,08,15,56,182,51,17,38,163,47,18,63,058,50,21,53,329,47";
+	static final String GLGSV = "$GLGSV,1,1,03,65,40,083,46,66,17,308,41,72,07,344,39";
+
+	private SentenceFactory factory;
+	private SatelliteInfoProvider instance;
+	private SatelliteInfoEvent event;
+
+	@Before
+	public void setUp() throws Exception {
+		factory = SentenceFactory.getInstance();
+		File file = new File("target/test-classes/data/sample1.txt");
+		FileInputStream str = new FileInputStream(file);
+		SentenceReader r = new SentenceReader(str);
+		instance = new SatelliteInfoProvider(r);
+		instance.addListener(this);
+		event = null;
+	}
+
+	@After
+	public void tearDown() {
+		instance.removeListener(this);
+	}
+
+	@Test
+	public void testSentenceRead() {
+
+		read(GSATest.EXAMPLE);
+		read(GSV1);
+		assertNull(event);
+
+		read(GSV2);
+		assertNotNull(event);
+		assertEquals(8, event.getSatelliteInfo().size());
+		assertEquals("01", event.getSatelliteInfo().get(0).getId());
+		assertEquals("21", event.getSatelliteInfo().get(7).getId());
+		assertEquals(1.6, event.getPositionPrecision(), 0.01);
+	}
+
+	@Test
+	public void testSentenceReadAfterReadingStarted() {
+
+		instance.readingStarted();
+		read(GSATest.EXAMPLE);
+		read(GSV1);
+		read(GSV2);
+		assertNotNull(event);
+		assertEquals(8, event.getSatelliteInfo().size());
+	}
+
+	@Test
+	public void testSentenceReadWithoutGSA() {
+		read(GSV1);
+		read(GSV2);
+		assertNull(event);
+		read(GSATest.EXAMPLE);
+		assertNotNull(event);
+		assertEquals(8, event.getSatelliteInfo().size());
+	}
+
+	@Test
+	public void testSentenceReadWithIncompleteSequence() {
+
+		read(GSATest.EXAMPLE);
+		read(GSV2);
+		assertNull(event);
+
+		// first sentence restarts the sequence
+		read(GSV1);
+		assertNull(event);
+		read(GSV1);
+		assertNull(event);
+
+		read(GSV2);
+		assertNotNull(event);
+		assertEquals(8, event.getSatelliteInfo().size());
+	}
+
+	@Test
+	public void testSentenceReadWithMultipleConstellations() {
+
+		// first epoch, constellations not yet known
+		read(GSATest.EXAMPLE);
+		read(GSV1);
+		read(GSV2);
+		assertNotNull(event);
+		assertEquals(8, event.getSatelliteInfo().size());
+		event = null;
+		read(GLGSV);
+		assertNull(event);
+
+		// interleaved cycles of second epoch
+		read(GSATest.EXAMPLE);
+		read(GSV1);
+		read(GLGSV);
+		assertNull(event);
+		read(GSV2);
+		assertNotNull(event);
+		assertEquals(11, event.getSatelliteInfo().size());
+		assertEquals("01", event.getSatelliteInfo().get(0).getId());
+		assertEquals("65", event.getSatelliteInfo().get(8).getId());
+
+		// GLONASS cycle is lost
+		event = null;
+		read(GSATest.EXAMPLE);
+		read(GSV1);
+		read(GSV2);
+		assertNull(event);
+
+		read(GSATest.EXAMPLE);
+		read(GSV1);
+		read(GSV2);
+		assertNotNull(event);
+		assertEquals(8, event.getSatelliteInfo().size());
+	}
+
+	@Test
+	public void testSentenceReadWithRepeatedSentence() {
+		read(GSATest.EXAMPLE);
+		read(GSV1);
+		read(GSV2);
+		assertNotNull(event);
+
+		event = null;
+		read(GSATest.EXAMPLE);
+		read(GSV2);
+		assertNull(event);
+	}
+
+	public void providerUpdate(SatelliteInfoEvent evt) {
+		event = evt;
+	}
+
+	private void read(String nmea) {
+		Sentence s = factory.createParser(nmea);
+		instance.sentenceRead(new SentenceEvent(this, s));
+	}
+}
@@ -0,0 +1,169 @@
+/*
+ * AllocationMeter.java
+ * Copyright (C) 2026 Kimmo Tuukkanen
+ *
+ * This file is part of Java Marine API.
+ * <http://ktuukkan.github.io/marine-api/>
+ *
+ * Java Marine API is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * Java Marine API is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Java Marine API. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sf.marineapi.test.util;
+
+import static org.junit.Assert.assertTrue;
+
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.Callable;
+
+import com.sun.management.HotSpotDiagnosticMXBean;
+
+import org.junit.Assume;
+
+/**
+ * Measures the number of bytes allocated by the current thread per
+ * operation, using the HotSpot extension of <code>ThreadMXBean</code>. Used for
+ * asserting allocation budgets of hot paths, so that paths made
+ * allocation-light stay that way.
+ * <p>
+ * The operation is first run to warm up, then measured in several rounds of
+ * which the lowest result is taken, to filter out allocations of the class
+ * loading and JIT compiler. Budgets should be set with some headroom above
+ * the measured value, as the results vary slightly between JVMs.
+ * <p>
+ * Budgets are given for the default configuration of 64-bit HotSpot, with
+ * compressed object pointers and compact strings. Without them, object
+ * headers, references and string contents take more space and the budgets
+ * are scaled up by {@link #getBudgetFactor()}.
+ *
+ * @author Kimmo Tuukkanen
+ */
+public final class AllocationMeter {
+
+	private static final int WARMUP = 2000;
+	private static final int ROUNDS = 5;
+	private static final int ITERATIONS = 1000;
+
+	// budget factors for configurations that widen references or strings
+	private static final double WIDE_OOPS = 1.4;
+	private static final double WIDE_STRINGS = 1.5;
+
+	private static final com.sun.management.ThreadMXBean THREADS = threads();
+	private static final double FACTOR = factor();
+
+	// keeps the results reachable so that operations are not optimized away
+	private static volatile Object sink;
+
+	private AllocationMeter() {
+	}
+
+	/**
+	 * Tells if allocation measurement is supported by the JVM.
+	 */
+	public static boolean isSupported() {
+		return THREADS != null;
+	}
+
+	/**
+	 * Returns the factor by which budgets are scaled for the configuration
+	 * of current JVM, 1.0 for the default configuration.
+	 */
+	public static double getBudgetFactor() {
+		return FACTOR;
+	}
+
+	/**
+	 * Returns the number of bytes allocated per operation.
+	 *
+	 * @param op Operation to measure
+	 * @return Bytes per operation
+	 */
+	public static long measure(Callable<?> op) throws Exception {
+		for (int i = 0; i < WARMUP; i++) {
+			sink = op.call();
+		}
+		final long id = Thread.currentThread().getId();
+		long overhead = THREADS.getThreadAllocatedBytes(id);
+		overhead = THREADS.getThreadAllocatedBytes(id) - overhead;
+
+		long min = Long.MAX_VALUE;
+		for (int r = 0; r < ROUNDS; r++) {
+			long before = THREADS.getThreadAllocatedBytes(id);
+			for (int i = 0; i < ITERATIONS; i++) {
+				sink = op.call();
+			}
+			long bytes = THREADS.getThreadAllocatedBytes(id) - before - overhead;
+			min = Math.min(min, bytes);
+		}
+		sink = null;
+		return Math.max(0, min / ITERATIONS);
+	}
+
+	/**
+	 * Asserts that the operation allocates at most the given number of bytes,
+	 * scaled by {@link #getBudgetFactor()}. Skips the test if measurement is
+	 * not supported.
+	 *
+	 * @param name Name of operation for failure message
+	 * @param budget Maximum bytes per operation in default configuration
+	 * @param op Operation to measure
+	 */
+	public static void assertBudget(String name, long budget, Callable<?> op) throws Exception {
+		Assume.assumeTrue(isSupported());
+		long scaled = (long) (budget * FACTOR);
+		long bytes = measure(op);
+		assertTrue(String.format("%s allocated %d bytes per operation, budget is %d",
+			name, bytes, scaled), bytes <= scaled);
+	}
+
+	private static com.sun.management.ThreadMXBean threads() {
+		try {
+			java.lang.management.ThreadMXBean mx = ManagementFactory.getThreadMXBean();
+			if (mx instanceof com.sun.management.ThreadMXBean) {
+				com.sun.management.ThreadMXBean t = (com.sun.management.ThreadMXBean) mx;
+				if (t.isThreadAllocatedMemorySupported()) {
+					t.setThreadAllocatedMemoryEnabled(true);
+					return t;
+				}
+			}
+		} catch (LinkageError e) {
+			// not HotSpot
+		}
+		return null;
+	}
+
+	private static double factor() {
+		double f = 1.0;
+		if (!isEnabled("UseCompressedOops")) {
+			f *= WIDE_OOPS;
+		}
+		if (!isEnabled("CompactStrings")) {
+			// also Java 8, which has no compact strings
+			f *= WIDE_STRINGS;
+		}
+		return f;
+	}
+
+	private static boolean isEnabled(String option) {
+		try {
+			HotSpotDiagnosticMXBean hs = ManagementFactory.getPlatformMXBean(
+				HotSpotDiagnosticMXBean.class);
+			return hs != null && Boolean.parseBoolean(hs.getVMOption(option).getValue());
+		} catch (IllegalArgumentException e) {
+			// unknown option
+			return false;
+		} catch (LinkageError e) {
+			// not HotSpot
+			return true;
+		}
+	}
+}
@@ -0,0 +1,84 @@
+package net.sf.marineapi.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+
+/**
+ * @author Kimmo Tuukkanen
+ */
+public class IntObjectMapTest {
+
+	@Test
+	public void testPutAndGet() {
+		IntObjectMap<String> map = new IntObjectMap<String>();
+		assertNull(map.put(230000001, "a"));
+		assertEquals("a", map.put(230000001, "b"));
+		assertEquals("b", map.get(230000001));
+		assertNull(map.get(230000002));
+		assertEquals(1, map.size());
+		assertFalse(map.isEmpty());
+	}
+
+	@Test
+	public void testZeroKey() {
+		IntObjectMap<String> map = new IntObjectMap<String>();
+		try {
+			map.put(0, "a");
+			fail("Did not throw on zero key");
+		} catch (IllegalArgumentException iae) {
+			// pass
+		}
+	}
+
+	@Test
+	public void testGrowth() {
+		IntObjectMap<Integer> map = new IntObjectMap<Integer>();
+		for (int i = 1; i <= 10000; i++) {
+			map.put(i * 7919, i);
+		}
+		assertEquals(10000, map.size());
+		assertTrue(map.capacity() >= 10000 * 4 / 3);
+		for (int i = 1; i <= 10000; i++) {
+			assertEquals(Integer.valueOf(i), map.get(i * 7919));
+		}
+	}
+
+	@Test
+	public void testRemove() {
+		IntObjectMap<String> map = new IntObjectMap<String>();
+		map.put(1, "a");
+		map.put(17, "b");
+		map.put(33, "c");
+		assertEquals("b", map.remove(17));
+		assertNull(map.remove(17));
+		assertFalse(map.containsKey(17));
+		assertEquals("c", map.get(33));
+		assertEquals(2, map.size());
+
+		map.put(17, "d");
+		assertEquals("d", map.get(17));
+		assertEquals(3, map.size());
+
+		int[] keys = map.keys();
+		Arrays.sort(keys);
+		assertEquals("[1, 17, 33]", Arrays.toString(keys));
+	}
+
+	@Test
+	public void testRemovedKeysAreReclaimed() {
+		IntObjectMap<String> map = new IntObjectMap<String>();
+		for (int i = 1; i <= 100000; i++) {
+			map.put(i, "x");
+			map.remove(i);
+		}
+		assertEquals(0, map.size());
+		assertTrue(map.capacity() <= 64);
+	}
+}
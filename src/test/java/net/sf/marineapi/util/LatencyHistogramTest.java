@@ -0,0 +1,104 @@
+/*
+ * LatencyHistogramTest.java
+ * Copyright (C) 2026 Kimmo Tuukkanen
+ *
+ * This file is part of Java Marine API.
+ * <http://ktuukkan.github.io/marine-api/>
+ *
+ * Java Marine API is free software: you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by the
+ * Free Software Foundation, either version 3 of the License, or (at your
+ * option) any later version.
+ *
+ * Java Marine API is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY or
+ * FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public License
+ * for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public License
+ * along with Java Marine API. If not, see <http://www.gnu.org/licenses/>.
+ */
+package net.sf.marineapi.util;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import org.junit.Test;
+
+public class LatencyHistogramTest {
+
+	@Test
+	public void testEmpty() {
+		LatencyHistogram h = new LatencyHistogram();
+		assertEquals(0, h.getCount());
+		assertEquals(0, h.getMax());
+		assertEquals(0.0, h.getMean(), 0.0);
+		assertEquals(0, h.getValueAtPercentile(50));
+	}
+
+	@Test
+	public void testRecord() {
+		LatencyHistogram h = new LatencyHistogram();
+		for (int i = 1; i <= 100; i++) {
+			h.record(i * 1000L);
+		}
+		assertEquals(100, h.getCount());
+		assertEquals(100000, h.getMax());
+		assertEquals(50500.0, h.getMean(), 0.001);
+		assertWithinPrecision(50000, h.getValueAtPercentile(50));
+		assertWithinPrecision(99000, h.getValueAtPercentile(99));
+		assertEquals(100000, h.getValueAtPercentile(100));
+		assertWithinPrecision(1000, h.getValueAtPercentile(0));
+	}
+
+	@Test
+	public void testSmallValuesAreExact() {
+		LatencyHistogram h = new LatencyHistogram();
+		h.record(3);
+		h.record(7);
+		h.record(-5);
+		assertEquals(0, h.getValueAtPercentile(10));
+		assertEquals(3, h.getValueAtPercentile(50));
+		assertEquals(7, h.getValueAtPercentile(100));
+	}
+
+	@Test
+	public void testBuckets() {
+		long[] values = { 0, 1, 15, 16, 17, 31, 32, 1000, 123456789L,
+			Long.MAX_VALUE };
+		for (long v : values) {
+			int i = LatencyHistogram.index(v);
+			long high = LatencyHistogram.highestEquivalent(i);
+			assertTrue(v <= high);
+			assertTrue(high - v <= v / LatencyHistogram.SUB_BUCKETS);
+			assertEquals(i, LatencyHistogram.index(high));
+		}
+		assertEquals(959, LatencyHistogram.index(Long.MAX_VALUE));
+	}
+
+	@Test
+	public void testReset() {
+		LatencyHistogram h = new LatencyHistogram();
+		h.record(100);
+		h.reset();
+		assertEquals(0, h.getCount());
+		assertEquals(0, h.getMax());
+		assertEquals(0, h.getValueAtPercentile(99));
+	}
+
+	@Test
+	public void testPercentileOutOfRange() {
+		try {
+			new LatencyHistogram().getValueAtPercentile(101);
+			fail("Did not throw IllegalArgumentException");
+		} catch (IllegalArgumentException e) {
+			// pass
+		}
+	}
+
+	private static void assertWithinPrecision(long expected, long actual) {
+		assertTrue(actual >= expected);
+		assertTrue(actual - expected <= expected / LatencyHistogram.SUB_BUCKETS);
+	}
+}